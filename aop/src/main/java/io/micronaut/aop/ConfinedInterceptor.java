@@ -0,0 +1,29 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.aop;
+
+/**
+ * A marker for {@link Interceptor} implementations that do not use the {@link InvocationContext} once
+ * {@link Interceptor#intercept(InvocationContext)} returned: the context is neither retained nor proceeded from
+ * another thread or a deferred callback.
+ *
+ * <p>When all the interceptors of a method that does not return a reactive or asynchronous type are confined, the
+ * framework reuses a thread-local context for each invocation instead of allocating a new one.</p>
+ *
+ * @since 4.9.0
+ */
+public interface ConfinedInterceptor {
+}
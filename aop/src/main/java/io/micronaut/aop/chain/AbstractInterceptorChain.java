@@ -55,9 +55,9 @@ abstract class AbstractInterceptorChain<B, R> implements InvocationContext<B, R>
      */
     protected static final Logger LOG = LoggerFactory.getLogger(InterceptorChain.class);
 
-    protected final Interceptor<B, R>[] interceptors;
-    protected final Object[] originalParameters;
-    protected final int interceptorCount;
+    protected Interceptor<B, R>[] interceptors;
+    protected Object[] originalParameters;
+    protected int interceptorCount;
     protected volatile MutableConvertibleValues<Object> attributes;
     protected int index = 0;
     protected volatile Map<String, MutableArgumentValue<?>> parameters;
@@ -68,6 +68,21 @@ abstract class AbstractInterceptorChain<B, R> implements InvocationContext<B, R>
         this.originalParameters = originalParameters;
     }
 
+    /**
+     * Resets the chain so that it can be reused for another invocation.
+     *
+     * @param interceptors       The interceptors
+     * @param originalParameters The parameters
+     */
+    void reset(Interceptor<B, R>[] interceptors, Object[] originalParameters) {
+        this.interceptors = interceptors;
+        this.interceptorCount = interceptors.length;
+        this.originalParameters = originalParameters;
+        this.index = 0;
+        this.attributes = null;
+        this.parameters = null;
+    }
+
     @Override
     public @NonNull Object[] getParameterValues() {
         return originalParameters;
@@ -16,6 +16,7 @@
 package io.micronaut.aop.chain;
 
 import io.micronaut.aop.Adapter;
+import io.micronaut.aop.ConfinedInterceptor;
 import io.micronaut.aop.MethodInterceptor;
 import io.micronaut.aop.MethodInvocationContext;
 import io.micronaut.context.BeanContext;
@@ -38,7 +39,7 @@ import static io.micronaut.aop.Adapter.InternalAttributes.ADAPTED_QUALIFIER;
  * @since 1.0
  */
 @Internal
-final class AdapterIntroduction implements MethodInterceptor<Object, Object> {
+final class AdapterIntroduction implements MethodInterceptor<Object, Object>, ConfinedInterceptor {
 
     private final ExecutionHandle<?, ?> executionHandle;
 
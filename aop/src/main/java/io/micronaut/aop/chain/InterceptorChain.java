@@ -25,6 +25,7 @@ import io.micronaut.aop.InvocationContext;
 import io.micronaut.aop.exceptions.UnimplementedAdviceException;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.BeanContext;
+import io.micronaut.context.BeanContextConfigurable;
 import io.micronaut.context.BeanRegistration;
 import io.micronaut.context.EnvironmentConfigurable;
 import io.micronaut.context.annotation.Type;
@@ -57,9 +58,9 @@ import java.util.Set;
 @Internal
 public class InterceptorChain<B, R> extends AbstractInterceptorChain<B, R> implements InvocationContext<B, R> {
 
-    protected final B target;
-    protected final ExecutableMethod<B, R> executionHandle;
-    private final AnnotationMetadata annotationMetadata;
+    protected B target;
+    protected ExecutableMethod<B, R> executionHandle;
+    private AnnotationMetadata annotationMetadata;
 
     /**
      * Constructor.
@@ -79,12 +80,30 @@ public class InterceptorChain<B, R> extends AbstractInterceptorChain<B, R> imple
         }
         this.target = target;
         this.executionHandle = method;
-        AnnotationMetadata metadata = executionHandle.getAnnotationMetadata();
+        this.annotationMetadata = resolveAnnotationMetadata(target, method, originalParameters);
+    }
+
+    /**
+     * Resets the chain so that it can be reused for another invocation.
+     *
+     * @param interceptors       The interceptors
+     * @param target             The target
+     * @param method             The method
+     * @param originalParameters The parameters
+     */
+    final void reset(Interceptor<B, R>[] interceptors, B target, ExecutableMethod<B, R> method, Object[] originalParameters) {
+        reset(interceptors, originalParameters);
+        this.target = target;
+        this.executionHandle = method;
+        this.annotationMetadata = method == null ? null : resolveAnnotationMetadata(target, method, originalParameters);
+    }
+
+    private static AnnotationMetadata resolveAnnotationMetadata(Object target, ExecutableMethod<?, ?> method, Object[] originalParameters) {
+        AnnotationMetadata metadata = method.getAnnotationMetadata();
         if (metadata instanceof EvaluatedAnnotationMetadata eam) {
-            this.annotationMetadata = eam.withArguments(target, originalParameters);
-        } else {
-            this.annotationMetadata = metadata;
+            return eam.withArguments(target, originalParameters);
         }
+        return metadata;
     }
 
     @NonNull
@@ -207,6 +226,59 @@ public class InterceptorChain<B, R> extends AbstractInterceptorChain<B, R> imple
         return ArrayUtils.concat(aroundInterceptors, introductionInterceptors);
     }
 
+    /**
+     * Resolves the interceptors of all the methods of a proxy. The methods with the same interceptor bindings form a
+     * group at compile time, only the first method of a group is matched against the interceptor beans and the other
+     * methods share its interceptors. The result is cached by the proxy class and reused for the following instances
+     * that are created with the same interceptor beans.
+     *
+     * @param beanContext         The bean context
+     * @param interceptorRegistry The interceptor registry
+     * @param methods             The proxied methods
+     * @param introduction        Whether each method is introduced
+     * @param bindingGroups       The index of the first method with the same bindings as each method
+     * @param interceptors        The interceptor beans
+     * @param cache               The cache of the proxy class
+     * @return The interceptors of each method
+     * @since 4.9.0
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    @Internal
+    @UsedByGeneratedCode
+    public static Interceptor[][] resolveInterceptors(BeanContext beanContext,
+                                                      InterceptorRegistry interceptorRegistry,
+                                                      ExecutableMethod[] methods,
+                                                      boolean[] introduction,
+                                                      int[] bindingGroups,
+                                                      List<BeanRegistration<Interceptor<?, ?>>> interceptors,
+                                                      InterceptorResolutionCache cache) {
+        Object[] interceptorBeans = new Object[interceptors.size()];
+        for (int i = 0; i < interceptorBeans.length; i++) {
+            interceptorBeans[i] = interceptors.get(i).getBean();
+        }
+        Interceptor[][] resolved = cache.get(interceptorBeans);
+        if (resolved != null && resolved.length == methods.length) {
+            for (ExecutableMethod method : methods) {
+                configureMethod(beanContext, method);
+            }
+            return resolved;
+        }
+        resolved = new Interceptor[methods.length][];
+        for (int i = 0; i < methods.length; i++) {
+            int group = bindingGroups[i];
+            if (group != i) {
+                configureMethod(beanContext, methods[i]);
+                resolved[i] = resolved[group];
+            } else if (introduction[i]) {
+                resolved[i] = resolveIntroductionInterceptors(interceptorRegistry, methods[i], (List) interceptors);
+            } else {
+                resolved[i] = resolveAroundInterceptors(interceptorRegistry, methods[i], (List) interceptors);
+            }
+        }
+        cache.put(interceptorBeans, resolved);
+        return resolved;
+    }
+
     /**
      * Resolves the {@link Around} interceptors for a method.
      *
@@ -276,6 +348,19 @@ public class InterceptorChain<B, R> extends AbstractInterceptorChain<B, R> imple
         );
     }
 
+    /**
+     * Configures a method the way the interceptor registry does when it resolves its interceptors.
+     *
+     * @param beanContext The bean context
+     * @param method      The method
+     */
+    private static void configureMethod(BeanContext beanContext, ExecutableMethod<?, ?> method) {
+        if (method instanceof BeanContextConfigurable ctxConfigurable) {
+            ctxConfigurable.configure(beanContext);
+        }
+        instrumentAnnotationMetadata(beanContext, method);
+    }
+
     private static void instrumentAnnotationMetadata(BeanContext beanContext, ExecutableMethod<?, ?> method) {
         if (beanContext instanceof ApplicationContext context && method instanceof EnvironmentConfigurable m) {
             if (m.hasPropertyExpressions()) {
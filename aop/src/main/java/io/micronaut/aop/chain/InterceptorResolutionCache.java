@@ -0,0 +1,91 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.aop.chain;
+
+import io.micronaut.aop.Interceptor;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.annotation.UsedByGeneratedCode;
+
+import java.lang.ref.SoftReference;
+
+/**
+ * Caches the interceptors resolved for the methods of a proxy class, so that they are shared by the instances of
+ * the proxy, for example a prototype bean, rather than matched against the interceptor beans again for each instance.
+ * The interceptors are reused as long as the proxy is created with the same interceptor bean instances.
+ *
+ * <p>The proxy classes hold an instance in a static field, the interceptors are softly referenced so that a closed
+ * context can be collected.</p>
+ *
+ * @since 4.9.0
+ */
+@Internal
+@UsedByGeneratedCode
+public final class InterceptorResolutionCache {
+
+    @Nullable
+    private volatile SoftReference<Entry> entry;
+
+    /**
+     * Default constructor.
+     */
+    @UsedByGeneratedCode
+    public InterceptorResolutionCache() {
+    }
+
+    /**
+     * Finds the interceptors resolved from the given interceptor beans.
+     *
+     * @param interceptorBeans The interceptor beans
+     * @return The interceptors or {@code null} if the beans differ from the cached ones
+     */
+    @Nullable
+    @SuppressWarnings("rawtypes")
+    Interceptor[][] get(Object[] interceptorBeans) {
+        SoftReference<Entry> ref = entry;
+        Entry e = ref != null ? ref.get() : null;
+        if (e == null || e.interceptorBeans.length != interceptorBeans.length) {
+            return null;
+        }
+        for (int i = 0; i < interceptorBeans.length; i++) {
+            if (e.interceptorBeans[i] != interceptorBeans[i]) {
+                return null;
+            }
+        }
+        return e.interceptors;
+    }
+
+    /**
+     * Caches the interceptors resolved from the given interceptor beans.
+     *
+     * @param interceptorBeans The interceptor beans
+     * @param interceptors     The interceptors of each method of the proxy
+     */
+    @SuppressWarnings("rawtypes")
+    void put(Object[] interceptorBeans, Interceptor[][] interceptors) {
+        entry = new SoftReference<>(new Entry(interceptorBeans, interceptors));
+    }
+
+    /**
+     * The interceptors resolved from the interceptor beans.
+     *
+     * @param interceptorBeans The interceptor beans
+     * @param interceptors     The interceptors
+     */
+    @SuppressWarnings("rawtypes")
+    private record Entry(Object[] interceptorBeans, Interceptor[][] interceptors) {
+    }
+}
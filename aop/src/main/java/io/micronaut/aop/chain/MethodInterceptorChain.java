@@ -15,6 +15,7 @@
  */
 package io.micronaut.aop.chain;
 
+import io.micronaut.aop.ConfinedInterceptor;
 import io.micronaut.aop.Interceptor;
 import io.micronaut.aop.InterceptorKind;
 import io.micronaut.aop.InterceptorRegistry;
@@ -57,7 +58,12 @@ import static io.micronaut.core.util.ArrayUtils.EMPTY_OBJECT_ARRAY;
 @UsedByGeneratedCode
 public final class MethodInterceptorChain<T, R> extends InterceptorChain<T, R> implements MethodInvocationContext<T, R> {
 
+    @SuppressWarnings("rawtypes")
+    private static final Interceptor[] NO_INTERCEPTORS = new Interceptor[0];
+    private static final ThreadLocal<MethodInterceptorChain<?, ?>> CONFINED_CHAIN = new ThreadLocal<>();
+
     private final @Nullable InterceptorKind kind;
+    private boolean inUse;
 
     /**
      * Constructor for empty parameters.
@@ -103,6 +109,72 @@ public final class MethodInterceptorChain<T, R> extends InterceptorChain<T, R> i
         this.kind = null;
     }
 
+    /**
+     * Proceeds with the interceptors of a method without parameters, reusing the chain of the current thread if all
+     * the interceptors are {@link ConfinedInterceptor confined}.
+     *
+     * @param interceptors    The interceptors
+     * @param target          The target
+     * @param executionHandle The method
+     * @param <T1>            The declaring type
+     * @param <R1>            The result type
+     * @return The result
+     * @since 4.9.0
+     */
+    @Internal
+    @UsedByGeneratedCode
+    public static <T1, R1> R1 proceedConfined(Interceptor<T1, R1>[] interceptors, T1 target, ExecutableMethod<T1, R1> executionHandle) {
+        return proceedConfined(interceptors, target, executionHandle, EMPTY_OBJECT_ARRAY);
+    }
+
+    /**
+     * Proceeds with the interceptors of a method, reusing the chain of the current thread if all the interceptors are
+     * {@link ConfinedInterceptor confined}. Falls back to a new chain otherwise, or if the method is invoked again by
+     * one of the interceptors or the target.
+     *
+     * @param interceptors       The interceptors
+     * @param target             The target
+     * @param executionHandle    The method
+     * @param originalParameters The parameters
+     * @param <T1>               The declaring type
+     * @param <R1>               The result type
+     * @return The result
+     * @since 4.9.0
+     */
+    @Internal
+    @UsedByGeneratedCode
+    @SuppressWarnings("unchecked")
+    public static <T1, R1> R1 proceedConfined(Interceptor<T1, R1>[] interceptors,
+                                              T1 target,
+                                              ExecutableMethod<T1, R1> executionHandle,
+                                              Object... originalParameters) {
+        for (Interceptor<T1, R1> interceptor : interceptors) {
+            if (!(interceptor instanceof ConfinedInterceptor)) {
+                return new MethodInterceptorChain<>(interceptors, target, executionHandle, originalParameters).proceed();
+            }
+        }
+        MethodInterceptorChain<T1, R1> chain = (MethodInterceptorChain<T1, R1>) CONFINED_CHAIN.get();
+        if (chain == null) {
+            chain = new MethodInterceptorChain<>(interceptors, target, executionHandle, originalParameters);
+            CONFINED_CHAIN.set(chain);
+        } else if (chain.inUse) {
+            return new MethodInterceptorChain<>(interceptors, target, executionHandle, originalParameters).proceed();
+        } else {
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Intercepted method [{}] invocation on target: {}", executionHandle, target);
+            }
+            chain.reset(interceptors, target, executionHandle, originalParameters);
+        }
+        chain.inUse = true;
+        try {
+            return chain.proceed();
+        } finally {
+            // drop the references to the invocation, the chain outlives it
+            chain.reset(NO_INTERCEPTORS, null, null, EMPTY_OBJECT_ARRAY);
+            chain.inUse = false;
+        }
+    }
+
     @Override
     @NonNull
     public InterceptorKind getKind() {
@@ -175,7 +247,7 @@ public final class MethodInterceptorChain<T, R> extends InterceptorChain<T, R> i
 
     @Override
     public String toString() {
-        return executionHandle.toString();
+        return String.valueOf(executionHandle);
     }
 
     @NonNull
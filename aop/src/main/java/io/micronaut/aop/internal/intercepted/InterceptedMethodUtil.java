@@ -28,7 +28,6 @@ import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.convert.ConversionService;
-import io.micronaut.core.type.ReturnType;
 
 import java.lang.annotation.Annotation;
 import java.util.List;
@@ -43,6 +42,13 @@ import java.util.concurrent.Future;
  */
 @Internal
 public final class InterceptedMethodUtil {
+
+    /**
+     * The kind of the non-suspend return types, computed once per type. Replaced when another reactive type is
+     * registered with {@code Publishers}, which can change the kind of the types computed so far.
+     */
+    private static volatile ReturnKinds returnKinds = new ReturnKinds(PublisherInterceptedMethod.reactiveTypeRegistrations());
+
     private InterceptedMethodUtil() {
     }
 
@@ -62,23 +68,13 @@ public final class InterceptedMethodUtil {
                 return kotlinInterceptedMethod;
             }
             return new SynchronousInterceptedMethod(context);
-        } else {
-            ReturnType<?> returnType = context.getReturnType();
-            Class<?> returnTypeClass = returnType.getType();
-            if (returnTypeClass == void.class || returnTypeClass == String.class) {
-                // Micro Optimization
-                return new SynchronousInterceptedMethod(context);
-            } else if (CompletionStage.class.isAssignableFrom(returnTypeClass) || Future.class.isAssignableFrom(returnTypeClass)) {
-                return new CompletionStageInterceptedMethod(context, conversionService);
-            } else if (PublisherInterceptedMethod.isConvertibleToPublisher(returnTypeClass)) {
-                if (ReactorInterceptedMethod.REACTOR_AVAILABLE) {
-                    return new ReactorInterceptedMethod(context, conversionService);
-                }
-                return new PublisherInterceptedMethod(context, conversionService);
-            } else {
-                return new SynchronousInterceptedMethod(context);
-            }
         }
+        return switch (returnKinds().get(context.getReturnType().getType())) {
+            case COMPLETION_STAGE -> new CompletionStageInterceptedMethod(context, conversionService);
+            case REACTOR -> new ReactorInterceptedMethod(context, conversionService);
+            case PUBLISHER -> new PublisherInterceptedMethod(context, conversionService);
+            case SYNCHRONOUS -> new SynchronousInterceptedMethod(context);
+        };
     }
 
     /**
@@ -164,4 +160,48 @@ public final class InterceptedMethodUtil {
         return annotationsValues
             .stream().anyMatch(av -> av.enumValue("kind", InterceptorKind.class).orElse(InterceptorKind.AROUND) == kind);
     }
+
+    private static ReturnKinds returnKinds() {
+        ReturnKinds kinds = returnKinds;
+        int registrations = PublisherInterceptedMethod.reactiveTypeRegistrations();
+        if (kinds.registrations != registrations) {
+            kinds = new ReturnKinds(registrations);
+            returnKinds = kinds;
+        }
+        return kinds;
+    }
+
+    /**
+     * The kinds of the return types, for the reactive types registered at the time of creation.
+     */
+    private static final class ReturnKinds extends ClassValue<ReturnKind> {
+
+        private final int registrations;
+
+        ReturnKinds(int registrations) {
+            this.registrations = registrations;
+        }
+
+        @Override
+        protected ReturnKind computeValue(Class<?> returnTypeClass) {
+            if (returnTypeClass == void.class || returnTypeClass == String.class) {
+                return ReturnKind.SYNCHRONOUS;
+            } else if (CompletionStage.class.isAssignableFrom(returnTypeClass) || Future.class.isAssignableFrom(returnTypeClass)) {
+                return ReturnKind.COMPLETION_STAGE;
+            } else if (PublisherInterceptedMethod.isConvertibleToPublisher(returnTypeClass)) {
+                return ReactorInterceptedMethod.REACTOR_AVAILABLE ? ReturnKind.REACTOR : ReturnKind.PUBLISHER;
+            }
+            return ReturnKind.SYNCHRONOUS;
+        }
+    }
+
+    /**
+     * The kind of the return type of an intercepted method.
+     */
+    private enum ReturnKind {
+        SYNCHRONOUS,
+        COMPLETION_STAGE,
+        REACTOR,
+        PUBLISHER
+    }
 }
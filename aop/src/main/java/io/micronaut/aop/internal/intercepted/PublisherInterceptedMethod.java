@@ -110,6 +110,14 @@ sealed class PublisherInterceptedMethod implements InterceptedMethod permits Rea
         return AVAILABLE && Publishers.isConvertibleToPublisher(reactiveType);
     }
 
+    /**
+     * @return The number of the reactive types registered so far, which changes the result of
+     * {@link #isConvertibleToPublisher(Class)}
+     */
+    static int reactiveTypeRegistrations() {
+        return AVAILABLE ? Publishers.getReactiveTypeRegistrations() : 0;
+    }
+
     protected Object convertPublisherResult(ReturnType<?> returnType, Object result) {
         if (returnType.getType().isInstance(result)) {
             return result;
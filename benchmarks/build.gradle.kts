@@ -59,6 +59,9 @@ jmh {
 }
 
 tasks {
+    withType<JavaCompile>().configureEach {
+        options.compilerArgs.add("-Amicronaut.processing.bean.index=true")
+    }
     processJmhResources {
         duplicatesStrategy = DuplicatesStrategy.WARN
     }
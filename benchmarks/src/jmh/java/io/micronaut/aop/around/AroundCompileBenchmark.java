@@ -16,16 +16,26 @@
 package io.micronaut.aop.around;
 
 import io.micronaut.annotation.processing.test.JavaParser;
+import io.micronaut.aop.Around;
+import io.micronaut.aop.ConfinedInterceptor;
+import io.micronaut.aop.InterceptorBean;
+import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.naming.NameUtils;
 import io.micronaut.core.reflect.InstantiationUtils;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.inject.BeanDefinition;
 import io.micronaut.inject.writer.BeanDefinitionWriter;
+import jakarta.inject.Singleton;
 import org.codehaus.groovy.runtime.IOGroovyMethods;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
@@ -33,6 +43,9 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 import javax.tools.JavaFileObject;
 import java.io.IOException;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Map;
 import java.util.Objects;
 
 @State(Scope.Benchmark)
@@ -72,6 +85,22 @@ public class AroundCompileBenchmark {
         Objects.requireNonNull(beanDefinition);
     }
 
+    /**
+     * Invokes a method whose interceptors are all confined, the chain of the thread is reused.
+     */
+    @Benchmark
+    public int invokeConfined(InvocationState state) {
+        return state.bean.confined(state.value);
+    }
+
+    /**
+     * Invokes a method with an interceptor that is not confined, a chain is allocated per invocation.
+     */
+    @Benchmark
+    public int invokeAllocating(InvocationState state) {
+        return state.bean.allocating(state.value);
+    }
+
     BeanDefinition buildBeanDefinition(String className, String cls) {
         String beanDefName= '$' + NameUtils.getSimpleName(className) + BeanDefinitionWriter.CLASS_SUFFIX;
         String packageName = NameUtils.getPackageName(className);
@@ -118,10 +147,72 @@ public class AroundCompileBenchmark {
                 .warmupIterations(3)
                 .measurementIterations(5)
                 .forks(1)
+                .addProfiler(GCProfiler.class)
 //                .jvmArgs("-agentpath:/Applications/YourKit-Java-Profiler-2018.04.app/Contents/Resources/bin/mac/libyjpagent.jnilib")
                 .build();
 
         new Runner(opt).run();
     }
 
+    @State(Scope.Benchmark)
+    public static class InvocationState {
+
+        ApplicationContext context;
+        AroundBean bean;
+        int value = 42;
+
+        @Setup
+        public void setUp() {
+            context = ApplicationContext.run(Map.of("spec.name", "AroundCompileBenchmark"));
+            bean = context.getBean(AroundBean.class);
+        }
+
+        @TearDown
+        public void tearDown() {
+            context.close();
+        }
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Around
+    public @interface Confined {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Around
+    public @interface Allocating {
+    }
+
+    @Requires(property = "spec.name", value = "AroundCompileBenchmark")
+    @InterceptorBean(Confined.class)
+    public static class ConfinedPassThroughInterceptor implements MethodInterceptor<Object, Object>, ConfinedInterceptor {
+        @Override
+        public Object intercept(MethodInvocationContext<Object, Object> context) {
+            return context.proceed();
+        }
+    }
+
+    @Requires(property = "spec.name", value = "AroundCompileBenchmark")
+    @InterceptorBean(Allocating.class)
+    public static class AllocatingPassThroughInterceptor implements MethodInterceptor<Object, Object> {
+        @Override
+        public Object intercept(MethodInvocationContext<Object, Object> context) {
+            return context.proceed();
+        }
+    }
+
+    @Requires(property = "spec.name", value = "AroundCompileBenchmark")
+    @Singleton
+    public static class AroundBean {
+
+        @Confined
+        public int confined(int value) {
+            return value + 1;
+        }
+
+        @Allocating
+        public int allocating(int value) {
+            return value + 1;
+        }
+    }
 }
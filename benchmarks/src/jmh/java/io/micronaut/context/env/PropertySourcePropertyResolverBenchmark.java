@@ -19,12 +19,15 @@ import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @State(Scope.Benchmark)
@@ -44,12 +47,110 @@ public class PropertySourcePropertyResolverBenchmark {
         new PropertySourcePropertyResolver(new EnvironmentPropertySource(props));
     }
 
+    /**
+     * Building a catalog of the size of a large set of configmaps, run with the GC profiler to compare the
+     * allocated memory.
+     */
+    @Benchmark
+    public Object benchmarkLargeCatalogConstruction(LargeCatalogState state) {
+        return new PropertySourcePropertyResolver(PropertySource.of("configmap", state.values));
+    }
+
+    /**
+     * Building a catalog and running a first prefix lookup, which sorts the keys of the catalog. The allocation
+     * compared to {@link #benchmarkLargeCatalogConstruction} is the size of the prefix index.
+     */
+    @Benchmark
+    public boolean benchmarkLargeCatalogConstructionAndLookup(LargeCatalogState state) {
+        return new PropertySourcePropertyResolver(PropertySource.of("configmap", state.values))
+                .containsProperties("micronaut.http.services.service100");
+    }
+
+    @Benchmark
+    public Object benchmarkLargeCatalogGetProperties(LargeCatalogState state) {
+        return state.resolver.getProperties("micronaut.http.services.service100");
+    }
+
+    @Benchmark
+    public Object benchmarkLargeCatalogGetPropertyEntries(LargeCatalogState state) {
+        return state.resolver.getPropertyEntries("micronaut.http.services");
+    }
+
+    @Benchmark
+    public boolean benchmarkLargeCatalogContainsProperties(LargeCatalogState state) {
+        return state.resolver.containsProperties("micronaut.http.services.service100");
+    }
+
+    /**
+     * A config push that changes a single property, followed by the lookups of the bound properties.
+     */
+    @Benchmark
+    public Object benchmarkRefreshSingleChange(RefreshState state) {
+        state.values.put(state.keys[0], "changed-" + state.counter++);
+        state.environment.refreshAndDiff();
+        Object last = null;
+        for (String key : state.keys) {
+            last = state.environment.getProperty(key, String.class);
+        }
+        return last;
+    }
+
+    @State(Scope.Benchmark)
+    public static class LargeCatalogState {
+        final Map<String, Object> values = new HashMap<>();
+        PropertySourcePropertyResolver resolver;
+
+        @Setup
+        public void prepare() {
+            // most properties share the first character, as with the keys of an application's own namespace
+            for (int i = 0; i < 4000; i++) {
+                String prefix = "micronaut.http.services.service" + i + '.';
+                values.put(prefix + "url", "http://service" + i);
+                values.put(prefix + "read-timeout", "10s");
+                values.put(prefix + "pool.max-connections", "50");
+                values.put(prefix + "pool.enabled", "true");
+                values.put("my-app.feature" + i + ".enabled", "true");
+            }
+            resolver = new PropertySourcePropertyResolver(PropertySource.of("configmap", values));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class RefreshState {
+        final Map<String, Object> values = new HashMap<>();
+        final String[] keys = new String[100];
+        DefaultEnvironment environment;
+        int counter;
+
+        @Setup
+        public void prepare() {
+            for (int i = 0; i < 600; i++) {
+                values.put("app.config" + i + ".value", "value" + i);
+            }
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = "app.config" + i + ".value";
+            }
+            environment = new DefaultEnvironment(() -> List.of("benchmark"));
+            environment.addPropertySource(MapPropertySource.of("config-server", values));
+            environment.start();
+            for (String key : keys) {
+                environment.getProperty(key, String.class);
+            }
+        }
+
+        @TearDown
+        public void tearDown() {
+            environment.stop();
+        }
+    }
+
     public static void main(String[] args) throws RunnerException {
         Options opt = new OptionsBuilder()
                 .include(".*" + PropertySourcePropertyResolverBenchmark.class.getSimpleName() + ".*")
                 .warmupIterations(3)
                 .measurementIterations(5)
                 .forks(1)
+                .addProfiler(GCProfiler.class)
 //                .jvmArgs("-agentpath:/Applications/YourKit-Java-Profiler-2018.04.app/Contents/Resources/bin/mac/libyjpagent.jnilib")
                 .build();
 
@@ -0,0 +1,141 @@
+package io.micronaut.core.beans;
+
+import io.micronaut.core.annotation.Introspected;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+public class PrimitivePropertyBenchmark {
+
+    Bean bean;
+    UnsafeBeanProperty<Bean, Integer> count;
+    UnsafeBeanProperty<Bean, Long> total;
+    UnsafeBeanProperty<Bean, Double> ratio;
+    UnsafeBeanProperty<Bean, Boolean> enabled;
+
+    public static void main(String[] args) throws RunnerException {
+        PrimitivePropertyBenchmark benchmark = new PrimitivePropertyBenchmark();
+        benchmark.setUp();
+        // verify the benchmark works
+        if (benchmark.getBoxed() != benchmark.getPrimitive() || benchmark.setBoxed() + 100_000L != benchmark.setPrimitive()) {
+            throw new AssertionError();
+        }
+
+        Options opt = new OptionsBuilder()
+            .include(PrimitivePropertyBenchmark.class.getName() + ".*")
+            .warmupIterations(5)
+            .measurementIterations(5)
+            .mode(Mode.AverageTime)
+            .timeUnit(TimeUnit.NANOSECONDS)
+            .addProfiler(GCProfiler.class)
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        BeanIntrospection<Bean> introspection = BeanIntrospector.SHARED.getIntrospection(Bean.class);
+        count = (UnsafeBeanProperty<Bean, Integer>) introspection.getRequiredProperty("count", int.class);
+        total = (UnsafeBeanProperty<Bean, Long>) introspection.getRequiredProperty("total", long.class);
+        ratio = (UnsafeBeanProperty<Bean, Double>) introspection.getRequiredProperty("ratio", double.class);
+        enabled = (UnsafeBeanProperty<Bean, Boolean>) introspection.getRequiredProperty("enabled", boolean.class);
+        bean = new Bean();
+        bean.setCount(1000);
+        bean.setTotal(100_000L);
+        bean.setRatio(0.5);
+        bean.setEnabled(true);
+    }
+
+    @Benchmark
+    public double getBoxed() {
+        Bean bean = this.bean;
+        int c = count.getUnsafe(bean);
+        long t = total.getUnsafe(bean);
+        double r = ratio.getUnsafe(bean);
+        return enabled.getUnsafe(bean) ? c + t + r : 0;
+    }
+
+    @Benchmark
+    public double getPrimitive() {
+        Bean bean = this.bean;
+        int c = count.getIntUnsafe(bean);
+        long t = total.getLongUnsafe(bean);
+        double r = ratio.getDoubleUnsafe(bean);
+        return enabled.getBooleanUnsafe(bean) ? c + t + r : 0;
+    }
+
+    @Benchmark
+    public long setBoxed() {
+        Bean bean = this.bean;
+        int next = bean.getCount() + 1000;
+        count.setUnsafe(bean, next);
+        total.setUnsafe(bean, next * 100L);
+        ratio.setUnsafe(bean, next / 2000.0);
+        enabled.setUnsafe(bean, next > 0);
+        return bean.getTotal();
+    }
+
+    @Benchmark
+    public long setPrimitive() {
+        Bean bean = this.bean;
+        int next = bean.getCount() + 1000;
+        count.setIntUnsafe(bean, next);
+        total.setLongUnsafe(bean, next * 100L);
+        ratio.setDoubleUnsafe(bean, next / 2000.0);
+        enabled.setBooleanUnsafe(bean, next > 0);
+        return bean.getTotal();
+    }
+
+    @Introspected
+    public static class Bean {
+        private int count;
+        private long total;
+        private double ratio;
+        private boolean enabled;
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+
+        public void setTotal(long total) {
+            this.total = total;
+        }
+
+        public double getRatio() {
+            return ratio;
+        }
+
+        public void setRatio(double ratio) {
+            this.ratio = ratio;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+}
@@ -19,12 +19,16 @@ import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 import java.net.URI;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.UUID;
 
 @State(Scope.Benchmark)
 public class ConversionServiceBenchmark {
@@ -46,6 +50,32 @@ public class ConversionServiceBenchmark {
         return conversionService.convert(URI.create("http://test.com"), Integer.class);
     }
 
+    @Benchmark
+    @Threads(4)
+    public Object convertCacheHitConcurrent() {
+        return conversionService.convert("10", Integer.class);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object convertCacheMissConcurrent() {
+        return conversionService.convert(URI.create("http://test.com"), Integer.class);
+    }
+
+    /**
+     * Several source and target types at once, as on the request binding path.
+     */
+    @Benchmark
+    @Threads(4)
+    public Object convertMixedConcurrent() {
+        conversionService.convert("10", Integer.class);
+        conversionService.convert("10", Long.class);
+        conversionService.convert("PT1S", Duration.class);
+        conversionService.convert("en", Locale.class);
+        conversionService.convert(10, String.class);
+        return conversionService.convert("3b241101-e2bb-4255-8caf-4136c566a962", UUID.class);
+    }
+
     public static void main(String[] args) throws RunnerException {
         Options opt = new OptionsBuilder()
                 .include(".*" + ConversionServiceBenchmark.class.getSimpleName() + ".*")
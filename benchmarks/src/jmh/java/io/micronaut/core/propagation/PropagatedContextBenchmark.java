@@ -0,0 +1,159 @@
+package io.micronaut.core.propagation;
+
+import io.netty.util.concurrent.DefaultThreadFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+public class PropagatedContextBenchmark {
+
+    private static final int BATCH = 1000;
+
+    /**
+     * The netty thread uses the {@code FastThreadLocal} of the {@code ThreadContext}.
+     */
+    @Param({"PLATFORM", "NETTY"})
+    ThreadType threadType;
+    @Param({"1", "4"})
+    int depth;
+
+    PropagatedContext base;
+    ExecutorService nettyThread;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(PropagatedContextBenchmark.class.getName() + ".*")
+            .warmupIterations(5)
+            .measurementIterations(5)
+            .mode(Mode.AverageTime)
+            .timeUnit(TimeUnit.NANOSECONDS)
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup
+    public void setUp() {
+        PropagatedContext context = PropagatedContext.empty();
+        for (int i = 0; i < depth; i++) {
+            context = context.plus(new OtherElement());
+        }
+        base = context.plus(new RequestElement());
+        if (threadType == ThreadType.NETTY) {
+            nettyThread = Executors.newSingleThreadExecutor(new DefaultThreadFactory("propagation-benchmark"));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (nettyThread != null) {
+            nettyThread.shutdown();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int pushPop() throws Exception {
+        return run(() -> {
+            int found = 0;
+            for (int i = 0; i < BATCH; i++) {
+                try (PropagatedContext.Scope ignore = PropagatedContext.getOrEmpty().plus(new TraceElement()).propagate()) {
+                    if (PropagatedContext.get().find(TraceElement.class).isPresent()) {
+                        found++;
+                    }
+                }
+            }
+            return found;
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int nestedPushPop() throws Exception {
+        return run(() -> {
+            int found = 0;
+            for (int i = 0; i < BATCH; i++) {
+                try (PropagatedContext.Scope ignore1 = base.propagate()) {
+                    try (PropagatedContext.Scope ignore2 = PropagatedContext.get().plus(new TraceElement()).propagate()) {
+                        found += PropagatedContext.get().get(RequestElement.class).id;
+                    }
+                }
+            }
+            return found;
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int lookup() throws Exception {
+        return run(() -> {
+            int found = 0;
+            try (PropagatedContext.Scope ignore = base.propagate()) {
+                for (int i = 0; i < BATCH; i++) {
+                    PropagatedContext context = PropagatedContext.get();
+                    found += context.get(RequestElement.class).id;
+                    if (context.find(TraceElement.class).isEmpty()) {
+                        found++;
+                    }
+                }
+            }
+            return found;
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int plusMinus() throws Exception {
+        return run(() -> {
+            int size = 0;
+            for (int i = 0; i < BATCH; i++) {
+                TraceElement element = new TraceElement();
+                size += base.plus(element).minus(element).get(RequestElement.class).id;
+            }
+            return size;
+        });
+    }
+
+    private int run(Callable<Integer> batch) throws Exception {
+        if (nettyThread == null) {
+            return batch.call();
+        }
+        try {
+            return nettyThread.submit(batch).get();
+        } catch (ExecutionException e) {
+            throw (Exception) e.getCause();
+        }
+    }
+
+    public enum ThreadType {
+        PLATFORM,
+        NETTY
+    }
+
+    static final class RequestElement implements PropagatedContextElement {
+        final int id = 1;
+    }
+
+    static final class TraceElement implements PropagatedContextElement {
+    }
+
+    static final class OtherElement implements PropagatedContextElement {
+    }
+}
@@ -0,0 +1,101 @@
+package io.micronaut.http.client;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Header;
+import io.micronaut.http.annotation.PathVariable;
+import io.micronaut.http.annotation.QueryValue;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.runtime.server.EmbeddedServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a declarative client call with the equivalent call of the low level client against a local stub server,
+ * the difference being the overhead of the declarative client.
+ */
+@State(Scope.Benchmark)
+public class DeclarativeClientBenchmark {
+
+    ApplicationContext ctx;
+    EmbeddedServer server;
+    StubClient stubClient;
+    BlockingHttpClient httpClient;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(DeclarativeClientBenchmark.class.getName() + ".*")
+            .warmupIterations(5)
+            .measurementIterations(5)
+            .mode(Mode.AverageTime)
+            .timeUnit(TimeUnit.MICROSECONDS)
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup
+    public void setUp() {
+        ctx = ApplicationContext.run(Map.of(
+            "spec.name", "DeclarativeClientBenchmark",
+            "micronaut.server.port", -1
+        ));
+        server = ctx.getBean(EmbeddedServer.class).start();
+        stubClient = ctx.getBean(StubClient.class);
+        httpClient = ctx.createBean(HttpClient.class, server.getURL()).toBlocking();
+        if (!declarative().equals(raw())) {
+            throw new IllegalStateException("Unexpected response");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        ctx.close();
+    }
+
+    @Benchmark
+    public String declarative() {
+        return stubClient.greet("foo", 10, "bar");
+    }
+
+    @Benchmark
+    public String raw() {
+        return httpClient.retrieve(HttpRequest.GET("/stub/foo?count=10")
+            .header("X-Trace", "bar")
+            .accept(MediaType.TEXT_PLAIN_TYPE), String.class);
+    }
+
+    @Requires(property = "spec.name", value = "DeclarativeClientBenchmark")
+    @Client("/")
+    public interface StubClient {
+
+        @Get(value = "/stub/{name}{?count}", consumes = MediaType.TEXT_PLAIN)
+        String greet(@PathVariable String name, @QueryValue int count, @Header("X-Trace") String trace);
+    }
+
+    @Requires(property = "spec.name", value = "DeclarativeClientBenchmark")
+    @Controller("/stub")
+    static class StubController {
+
+        @Get(value = "/{name}{?count}", produces = MediaType.TEXT_PLAIN)
+        String greet(String name, int count) {
+            return name + count;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package io.micronaut.http.netty.body;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.netty.NettyHttpHeaders;
+import io.micronaut.jackson.databind.JacksonDatabindMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads and writes bodies of different types through a single shared JSON handler, like a server with many routes.
+ */
+@State(Scope.Benchmark)
+public class JsonHandlerMixedTypesBenchmark {
+
+    private static final int BATCH = 60;
+
+    /**
+     * The number of the body types used in turn, {@code 1} always uses the same argument.
+     */
+    @Param({"1", "6"})
+    int typeCount;
+
+    NettyJsonHandler<Object> handler;
+    NettyHttpHeaders headers;
+    ByteArrayOutputStream outputStream;
+    Argument<Object>[] types;
+    Object[] values;
+    byte[][] payloads;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(JsonHandlerMixedTypesBenchmark.class.getName() + ".*")
+            .warmupIterations(5)
+            .measurementIterations(5)
+            .mode(Mode.AverageTime)
+            .timeUnit(TimeUnit.NANOSECONDS)
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void setUp() {
+        handler = new NettyJsonHandler<>(new JacksonDatabindMapper());
+        headers = new NettyHttpHeaders();
+        outputStream = new ByteArrayOutputStream();
+        Book book = new Book("The Stand", 1978, "Stephen King");
+        Author author = new Author("Stephen King", 1947);
+        Argument[] allTypes = {
+            Argument.of(Book.class),
+            Argument.of(Author.class),
+            Argument.listOf(Book.class),
+            Argument.mapOf(String.class, Author.class),
+            Argument.of(Library.class),
+            // Same type as the first one, but written with the JSON view
+            Argument.of(Book.class, BeanIntrospection.getIntrospection(PublicBook.class).getAnnotationMetadata(), (Class<?>[]) null)
+        };
+        Object[] allValues = {
+            book,
+            author,
+            List.of(book, book, book),
+            Map.of("king", author),
+            new Library("Central", List.of(book, book), List.of(author)),
+            book
+        };
+        types = new Argument[typeCount];
+        values = new Object[typeCount];
+        payloads = new byte[typeCount][];
+        for (int i = 0; i < typeCount; i++) {
+            types[i] = allTypes[i];
+            values[i] = allValues[i];
+            outputStream.reset();
+            handler.writeTo(types[i], MediaType.APPLICATION_JSON_TYPE, values[i], headers, outputStream);
+            payloads[i] = outputStream.toByteArray();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void write(Blackhole blackhole) {
+        for (int i = 0; i < BATCH; i++) {
+            int index = i % typeCount;
+            outputStream.reset();
+            handler.writeTo(types[index], MediaType.APPLICATION_JSON_TYPE, values[index], headers, outputStream);
+            blackhole.consume(outputStream.size());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void read(Blackhole blackhole) {
+        for (int i = 0; i < BATCH; i++) {
+            int index = i % typeCount;
+            blackhole.consume(handler.read(types[index], MediaType.APPLICATION_JSON_TYPE, headers, new ByteArrayInputStream(payloads[index])));
+        }
+    }
+
+    public interface Views {
+        interface Public {
+        }
+    }
+
+    @Introspected
+    public record Book(@JsonView(Views.Public.class) String title, int year, String author) {
+    }
+
+    @Introspected
+    public record Author(String name, int born) {
+    }
+
+    @Introspected
+    public record Library(String name, List<Book> books, List<Author> authors) {
+    }
+
+    @Introspected
+    @JsonView(Views.Public.class)
+    public static final class PublicBook {
+    }
+}
@@ -16,22 +16,55 @@
 package io.micronaut.http.server;
 
 import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.ApplicationContextConfiguration;
+import io.micronaut.context.DefaultApplicationContext;
+import io.micronaut.core.io.service.MicronautMetaServiceLoaderUtils;
 import io.micronaut.http.server.binding.TestController;
+import io.micronaut.inject.BeanDefinitionReference;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.infra.Blackhole;
 
+import java.util.List;
+
 @State(Scope.Benchmark)
 @BenchmarkMode(Mode.Throughput)
 public class StartupBenchmark {
 
+    /**
+     * Whether to use the generated bean definition index, the benchmark classes are compiled with
+     * {@code micronaut.processing.bean.index} enabled.
+     */
+    @Param({"true", "false"})
+    boolean beanIndex;
+
     @Benchmark
     public void startup(Blackhole blackhole) {
-        ApplicationContext context = ApplicationContext.run();
+        ApplicationContext context = beanIndex ? ApplicationContext.run() : new NonIndexedApplicationContext().start();
         final TestController controller = context.getBean(TestController.class);
         blackhole.consume(controller);
+        context.close();
+    }
+
+    /**
+     * Loads every bean definition reference, as without the index.
+     */
+    private static final class NonIndexedApplicationContext extends DefaultApplicationContext {
+        NonIndexedApplicationContext() {
+            super((ApplicationContextConfiguration) ApplicationContext.builder());
+        }
+
+        @Override
+        protected List<BeanDefinitionReference> resolveBeanDefinitionReferences() {
+            return MicronautMetaServiceLoaderUtils.findMetaMicronautServiceEntries(
+                getClassLoader(),
+                BeanDefinitionReference.class,
+                BeanDefinitionReference::isPresent
+            );
+        }
     }
 }
@@ -12,6 +12,8 @@ import io.micronaut.http.annotation.QueryValue;
 import io.micronaut.http.server.netty.NettyHttpServer;
 import io.micronaut.runtime.server.EmbeddedServer;
 import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
 import io.netty.handler.codec.http.FullHttpRequest;
@@ -25,7 +27,9 @@ import io.netty.handler.codec.http.HttpVersion;
 import jakarta.inject.Inject;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Assertions;
+import org.openjdk.jmh.annotations.AuxCounters;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
@@ -40,12 +44,17 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -66,7 +75,7 @@ public class ControllersBenchmark {
     }
 
     @Benchmark
-    public void test(Holder holder) {
+    public void test(Holder holder, ContextSwitches contextSwitches) {
         ByteBuf response = holder.exchange();
         if (!holder.responseBytes.equals(response)) {
             throw new AssertionError("Response did not match");
@@ -79,21 +88,37 @@ public class ControllersBenchmark {
         @Param
         Request request;
 
+        @Param
+        Dispatch dispatch;
+
         ApplicationContext ctx;
         EmbeddedChannel channel;
+        Semaphore flushes;
         ByteBuf requestBytes;
         ByteBuf responseBytes;
 
         @Setup
         public void setUp(Blackhole blackhole) {
-            ctx = ApplicationContext.run(Map.of(
-                "spec.name", "ControllersBenchmark",
-                "micronaut.server.date-header", false // disabling this makes the response identical each time
-            ));
+            Map<String, Object> properties = new HashMap<>(dispatch.properties);
+            properties.put("spec.name", "ControllersBenchmark");
+            properties.put("micronaut.server.date-header", false); // disabling this makes the response identical each time
+            ctx = ApplicationContext.run(properties);
             ctx.registerSingleton(Blackhole.class, blackhole);
             EmbeddedServer server = ctx.getBean(EmbeddedServer.class);
             channel = ((NettyHttpServer) server).buildEmbeddedChannel(false);
 
+            // when the controller runs off the event loop, the response is written from the worker
+            // thread (the embedded event loop accepts any thread). Wait for the flush before reading.
+            Semaphore flushes = new Semaphore(0);
+            channel.pipeline().addFirst(new ChannelOutboundHandlerAdapter() {
+                @Override
+                public void flush(ChannelHandlerContext ctx) {
+                    ctx.flush();
+                    flushes.release();
+                }
+            });
+            this.flushes = flushes;
+
             EmbeddedChannel clientChannel = new EmbeddedChannel();
             clientChannel.pipeline().addLast(new HttpClientCodec());
             clientChannel.pipeline().addLast(new HttpObjectAggregator(1000));
@@ -114,6 +139,8 @@ public class ControllersBenchmark {
         ByteBuf exchange() {
             channel.writeInbound(requestBytes.retainedDuplicate());
             channel.runPendingTasks();
+            flushes.acquireUninterruptibly();
+            flushes.drainPermits();
             return NettyUtil.readAllOutboundComposite(channel);
         }
 
@@ -125,6 +152,84 @@ public class ControllersBenchmark {
         }
     }
 
+    /**
+     * Where the controllers run.
+     */
+    public enum Dispatch {
+        /**
+         * On the event loop.
+         */
+        EVENT_LOOP(Map.of("micronaut.server.thread-selection", "MANUAL")),
+        /**
+         * On the shared IO pool.
+         */
+        IO_POOL(Map.of("micronaut.server.thread-selection", "IO")),
+        /**
+         * On the IO workers affine to the event loop.
+         */
+        EVENT_LOOP_AFFINE(Map.of(
+            "micronaut.server.thread-selection", "IO",
+            "micronaut.executors.io.type", "EVENT_LOOP_AFFINE"
+        ));
+
+        final Map<String, Object> properties;
+
+        Dispatch(Map<String, Object> properties) {
+            this.properties = properties;
+        }
+    }
+
+    /**
+     * Counts the context switches of all threads of the JVM during each iteration, as reported by
+     * {@code /proc/self/task/<tid>/status}. Only available on Linux, elsewhere the counters stay zero.
+     * Divide by the number of operations of the iteration to get the context switches per request.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ContextSwitches {
+        public long voluntary;
+        public long involuntary;
+
+        private long[] start;
+
+        @Setup(Level.Iteration)
+        public void start() {
+            voluntary = 0;
+            involuntary = 0;
+            start = read();
+        }
+
+        @TearDown(Level.Iteration)
+        public void stop() {
+            long[] end = read();
+            voluntary = end[0] - start[0];
+            involuntary = end[1] - start[1];
+        }
+
+        private static long[] read() {
+            long[] counts = new long[2];
+            // threads that terminate during the iteration are not counted, the workers of the executors are long-lived
+            try (DirectoryStream<Path> tasks = Files.newDirectoryStream(Path.of("/proc/self/task"))) {
+                for (Path task : tasks) {
+                    try {
+                        for (String line : Files.readAllLines(task.resolve("status"))) {
+                            if (line.startsWith("voluntary_ctxt_switches:")) {
+                                counts[0] += Long.parseLong(line.substring(line.indexOf(':') + 1).trim());
+                            } else if (line.startsWith("nonvoluntary_ctxt_switches:")) {
+                                counts[1] += Long.parseLong(line.substring(line.indexOf(':') + 1).trim());
+                            }
+                        }
+                    } catch (IOException e) {
+                        // thread terminated
+                    }
+                }
+            } catch (IOException e) {
+                // not Linux
+            }
+            return counts;
+        }
+    }
+
     public enum Request {
         TFB_LIKE {
             @Override
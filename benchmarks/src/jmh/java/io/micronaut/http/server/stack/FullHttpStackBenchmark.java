@@ -3,8 +3,11 @@ package io.micronaut.http.server.stack;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.http.server.netty.NettyHttpServer;
 import io.micronaut.runtime.server.EmbeddedServer;
+import io.micronaut.scheduling.executor.ThreadSelection;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
 import io.netty.handler.codec.http.FullHttpRequest;
@@ -32,6 +35,7 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
 public class FullHttpStackBenchmark {
@@ -83,8 +87,16 @@ public class FullHttpStackBenchmark {
         @Param({"MICRONAUT"/*, "PURE_NETTY"*/})
         StackFactory stack = StackFactory.MICRONAUT;
 
+        /**
+         * Where the controller runs: {@code MANUAL} on the event loop, {@code IO} on the IO pool,
+         * {@code VIRTUAL} on a new virtual thread per request.
+         */
+        @Param({"MANUAL", "IO", "VIRTUAL"})
+        ThreadSelection threadSelection = ThreadSelection.MANUAL;
+
         AutoCloseable ctx;
         EmbeddedChannel channel;
+        Semaphore flushes;
         ByteBuf requestBytes;
         ByteBuf responseBytes;
 
@@ -94,10 +106,22 @@ public class FullHttpStackBenchmark {
                 throw new IllegalStateException("Should run on a netty FTL thread");
             }
 
-            Stack stack = this.stack.openChannel();
+            Stack stack = this.stack.openChannel(threadSelection);
             ctx = stack.closeable;
             channel = stack.serverChannel;
 
+            // when the controller runs off the event loop, the response is written from the worker
+            // thread (the embedded event loop accepts any thread). Wait for the flush before reading.
+            Semaphore flushes = new Semaphore(0);
+            channel.pipeline().addFirst(new ChannelOutboundHandlerAdapter() {
+                @Override
+                public void flush(ChannelHandlerContext ctx) {
+                    ctx.flush();
+                    flushes.release();
+                }
+            });
+            this.flushes = flushes;
+
             channel.freezeTime();
 
             EmbeddedChannel clientChannel = new EmbeddedChannel();
@@ -136,6 +160,8 @@ public class FullHttpStackBenchmark {
         private ByteBuf exchange() {
             channel.writeInbound(requestBytes.retainedDuplicate());
             channel.runPendingTasks();
+            flushes.acquireUninterruptibly();
+            flushes.drainPermits();
             return NettyUtil.readAllOutboundComposite(channel);
         }
 
@@ -150,9 +176,10 @@ public class FullHttpStackBenchmark {
     public enum StackFactory {
         MICRONAUT {
             @Override
-            Stack openChannel() {
+            Stack openChannel(ThreadSelection threadSelection) {
                 ApplicationContext ctx = ApplicationContext.run(Map.of(
                     "spec.name", "FullHttpStackBenchmark",
+                    "micronaut.server.thread-selection", threadSelection,
                     //"micronaut.server.netty.server-type", NettyHttpServerConfiguration.HttpServerType.FULL_CONTENT,
                     "micronaut.server.date-header", false // disabling this makes the response identical each time
                 ));
@@ -163,7 +190,7 @@ public class FullHttpStackBenchmark {
         },
         PURE_NETTY {
             @Override
-            Stack openChannel() {
+            Stack openChannel(ThreadSelection threadSelection) {
                 HttpObjectAggregator aggregator = new HttpObjectAggregator(10_000_000);
                 aggregator.setMaxCumulationBufferComponents(100000);
                 EmbeddedChannel channel = new EmbeddedChannel();
@@ -175,7 +202,7 @@ public class FullHttpStackBenchmark {
             }
         };
 
-        abstract Stack openChannel();
+        abstract Stack openChannel(ThreadSelection threadSelection);
     }
 
     private record Stack(EmbeddedChannel serverChannel, AutoCloseable closeable) {
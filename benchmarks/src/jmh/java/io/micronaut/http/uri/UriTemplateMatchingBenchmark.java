@@ -0,0 +1,95 @@
+package io.micronaut.http.uri;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+public class UriTemplateMatchingBenchmark {
+
+    /**
+     * The templates and the URIs they are matched against: a literal, path variables, a length limited variable,
+     * a query expression and a variable with a regular expression constraint.
+     */
+    @Param({
+        "/books/list|/books/list",
+        "/books/{id}/chapters/{chapter}|/books/123/chapters/ch1",
+        "/books/{id:4}|/books/1234",
+        "/books/{id}{?max,offset}|/books/123?max=10&offset=100",
+        "/books/{id:\\d+}|/books/123",
+    })
+    String input;
+
+    UriMatchTemplate regexTemplate;
+    UriTemplateMatcher compiledTemplate;
+    String uri;
+    Map<String, Object> parameters;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(UriTemplateMatchingBenchmark.class.getName() + ".*")
+            .warmupIterations(5)
+            .measurementIterations(5)
+            .mode(Mode.AverageTime)
+            .timeUnit(TimeUnit.NANOSECONDS)
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup
+    public void setUp() {
+        int separator = input.indexOf('|');
+        String template = input.substring(0, separator);
+        uri = input.substring(separator + 1);
+        regexTemplate = UriMatchTemplate.of(template);
+        compiledTemplate = new UriTemplateMatcher(template);
+        UriMatchInfo matchInfo = compiledTemplate.tryMatch(uri);
+        if (matchInfo == null || !regexTemplate.match(uri).isPresent()) {
+            throw new IllegalStateException("The template " + template + " doesn't match " + uri);
+        }
+        parameters = matchInfo.getVariableValues();
+    }
+
+    @Benchmark
+    public void matchRegex(Blackhole blackhole) {
+        blackhole.consume(regexTemplate.match(uri));
+    }
+
+    @Benchmark
+    public void matchCompiled(Blackhole blackhole) {
+        blackhole.consume(compiledTemplate.tryMatch(uri));
+    }
+
+    @Benchmark
+    public void mismatchRegex(Blackhole blackhole) {
+        blackhole.consume(regexTemplate.match("/authors/123"));
+    }
+
+    @Benchmark
+    public void mismatchCompiled(Blackhole blackhole) {
+        blackhole.consume(compiledTemplate.tryMatch("/authors/123"));
+    }
+
+    @Benchmark
+    public String expandRegex() {
+        return regexTemplate.expand(parameters);
+    }
+
+    @Benchmark
+    public String expandCompiled() {
+        return compiledTemplate.expand(parameters);
+    }
+}
@@ -0,0 +1,138 @@
+package io.micronaut.runtime.beans;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.Mapper;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Introspected;
+import jakarta.inject.Singleton;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the mapping generated at compile time for a {@link Mapper} method, the introspection based mapping and
+ * a hand-written mapping of the same types.
+ */
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    ApplicationContext context;
+    ProductMapper mapper;
+    ProductDto dto;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(MapperBenchmark.class.getName() + ".*")
+            .warmupIterations(5)
+            .measurementIterations(5)
+            .mode(Mode.AverageTime)
+            .timeUnit(TimeUnit.NANOSECONDS)
+            .forks(1)
+            .addProfiler(GCProfiler.class)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup
+    public void setUp() {
+        context = ApplicationContext.run(Map.of("spec.name", "MapperBenchmark"));
+        mapper = context.getBean(ProductMapper.class);
+        dto = new ProductDto("MN-1", "Micronaut", "A framework", 42, 10L);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ProductEntity generated() {
+        return mapper.toEntity(dto);
+    }
+
+    @Benchmark
+    public ProductEntity introspection() {
+        return mapper.toEntityWithDefault(dto);
+    }
+
+    @Benchmark
+    public ProductEntity handWritten() {
+        ProductEntity entity = new ProductEntity(dto.sku(), dto.name(), dto.quantity());
+        entity.setDescription(dto.description());
+        entity.setVersion(dto.version());
+        return entity;
+    }
+
+    @Requires(property = "spec.name", value = "MapperBenchmark")
+    @Singleton
+    public abstract static class ProductMapper {
+
+        @Mapper
+        public abstract ProductEntity toEntity(ProductDto dto);
+
+        /**
+         * The default value is never used for the benchmark data, it only keeps the method on the runtime mapping.
+         */
+        @Mapper.Mapping(to = "name", from = "name", defaultValue = "unknown")
+        public abstract ProductEntity toEntityWithDefault(ProductDto dto);
+    }
+
+    @Introspected
+    public record ProductDto(String sku, String name, String description, int quantity, Long version) {
+    }
+
+    @Introspected
+    public static class ProductEntity {
+        private final String sku;
+        private final String name;
+        private final int quantity;
+        private String description;
+        private Long version;
+
+        public ProductEntity(String sku, String name, int quantity) {
+            this.sku = sku;
+            this.name = name;
+            this.quantity = quantity;
+        }
+
+        public String getSku() {
+            return sku;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public void setDescription(String description) {
+            this.description = description;
+        }
+
+        public Long getVersion() {
+            return version;
+        }
+
+        public void setVersion(Long version) {
+            this.version = version;
+        }
+    }
+}
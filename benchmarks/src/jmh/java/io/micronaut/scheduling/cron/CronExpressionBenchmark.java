@@ -0,0 +1,63 @@
+package io.micronaut.scheduling.cron;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+public class CronExpressionBenchmark {
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(CronExpressionBenchmark.class.getName() + ".*")
+            .warmupIterations(3)
+            .measurementIterations(5)
+            .mode(Mode.AverageTime)
+            .timeUnit(TimeUnit.NANOSECONDS)
+            .forks(1)
+            .addProfiler("gc")
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Benchmark
+    public ZonedDateTime compiled(S s) {
+        return s.expression.nextTimeAfter(s.afterTime, s.barrier);
+    }
+
+    @Benchmark
+    public ZonedDateTime walk(S s) {
+        return s.walkExpression.nextTimeAfter(s.afterTime, s.barrier);
+    }
+
+    @State(Scope.Thread)
+    public static class S {
+        @Param({"*/10 * * * * *", "0 */5 * * * ?", "0 30 2 * * MON-FRI", "0 0 8 ? * 5L", "0 0 0 1 1 ?"})
+        String cron;
+        @Param({"UTC", "Europe/Berlin"})
+        String zone;
+
+        private CronExpression expression;
+        private FieldByFieldCronExpression walkExpression;
+        private ZonedDateTime afterTime;
+        private ZonedDateTime barrier;
+
+        @Setup
+        public void setUp() {
+            expression = CronExpression.create(cron);
+            walkExpression = new FieldByFieldCronExpression(cron);
+            afterTime = ZonedDateTime.of(2024, 3, 30, 13, 17, 42, 0, ZoneId.of(zone));
+            barrier = afterTime.plusYears(4);
+        }
+    }
+}
@@ -15,6 +15,7 @@
  */
 package io.micronaut.runtime.beans;
 
+import io.micronaut.aop.ConfinedInterceptor;
 import io.micronaut.aop.InterceptorBean;
 import io.micronaut.aop.MethodInterceptor;
 import io.micronaut.aop.MethodInvocationContext;
@@ -39,6 +40,7 @@ import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.convert.format.Format;
 import io.micronaut.core.expressions.EvaluatedExpression;
 import io.micronaut.core.expressions.ExpressionEvaluationContext;
+import io.micronaut.core.reflect.InstantiationUtils;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.ObjectUtils;
 import io.micronaut.core.util.StringUtils;
@@ -46,6 +48,7 @@ import io.micronaut.inject.ExecutableMethod;
 import io.micronaut.inject.annotation.AnnotationMetadataHierarchy;
 import io.micronaut.inject.annotation.EvaluatedAnnotationMetadata;
 import io.micronaut.inject.annotation.MutableAnnotationMetadata;
+import io.micronaut.inject.beans.GeneratedMapping;
 import io.micronaut.inject.qualifiers.Qualifiers;
 
 import java.util.ArrayList;
@@ -64,7 +67,7 @@ import java.util.function.Function;
 @InterceptorBean(Mapper.class)
 @Internal
 @BootstrapContextCompatible
-final class MapperIntroduction implements MethodInterceptor<Object, Object> {
+final class MapperIntroduction implements MethodInterceptor<Object, Object>, ConfinedInterceptor {
 
     private final ApplicationContext applicationContext;
     private final ConversionService conversionService;
@@ -103,6 +106,10 @@ final class MapperIntroduction implements MethodInterceptor<Object, Object> {
     }
 
     private MapInvocation createMappingInvocation(MethodInvocationContext<Object, Object> context) {
+        GeneratedMapping generatedMapping = findGeneratedMapping(context);
+        if (generatedMapping != null) {
+            return callContext -> generatedMapping.map(callContext.getParameterValues()[0]);
+        }
         Argument<Object> toType = context.getReturnType().asArgument();
         BeanIntrospection<Object> toIntrospection = BeanIntrospection.getIntrospection(toType.getType());
 
@@ -116,6 +123,15 @@ final class MapperIntroduction implements MethodInterceptor<Object, Object> {
         return new DefaultMapInvocation(annotationMetadata, fromArgument, toIntrospection, 0, conflictStrategy);
     }
 
+    @Nullable
+    private static GeneratedMapping findGeneratedMapping(MethodInvocationContext<Object, Object> context) {
+        Class<?> type = context.getAnnotationMetadata().classValue(Mapper.class, Mapper.MEMBER_GENERATED_MAPPING).orElse(null);
+        if (type == null || !GeneratedMapping.class.isAssignableFrom(type)) {
+            return null;
+        }
+        return (GeneratedMapping) InstantiationUtils.tryInstantiate(type).orElse(null);
+    }
+
     private MapInvocation createMergingInvocation(MethodInvocationContext<Object, Object> context) {
         Argument<Object> toType = context.getReturnType().asArgument();
         BeanIntrospection<Object> toIntrospection = BeanIntrospection.getIntrospection(toType.getType());
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.runtime.checkpoint;
+
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.BeanRegistration;
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.order.OrderUtil;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Quiesces the {@link CheckpointResource resources} of the context before a checkpoint of the JVM and reopens them
+ * once it is restored.
+ *
+ * <p>If the CRaC API ({@code org.crac} or {@code jdk.crac}) is on the classpath, the coordinator registers itself with
+ * the global CRaC context on startup, so that checkpoints taken with {@code jcmd <pid> JDK.checkpoint} are coordinated
+ * without any additional setup. Otherwise, or to exercise the resources locally, {@link #checkpointAndRestore()}
+ * quiesces and restores them in the running JVM.</p>
+ *
+ * @since 4.9.0
+ */
+@Singleton
+public final class CheckpointCoordinator implements ApplicationEventListener<StartupEvent> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CheckpointCoordinator.class);
+    private static final String[] CRAC_PACKAGES = {"org.crac", "jdk.crac"};
+
+    private final BeanContext beanContext;
+    private final List<CheckpointResource> quiesced = new ArrayList<>();
+    private boolean checkpointed;
+    /**
+     * The resource registered with CRaC, which only references it weakly.
+     */
+    @Nullable
+    private Object cracResource;
+
+    /**
+     * @param beanContext The bean context
+     */
+    public CheckpointCoordinator(BeanContext beanContext) {
+        this.beanContext = beanContext;
+    }
+
+    @Override
+    public void onApplicationEvent(StartupEvent event) {
+        registerWithCrac();
+    }
+
+    /**
+     * @return Whether the resources are quiesced for a checkpoint
+     */
+    public synchronized boolean isCheckpointed() {
+        return checkpointed;
+    }
+
+    /**
+     * Quiesces the resources of the context. If one of them fails, the resources quiesced so far are restored and
+     * the checkpoint is aborted.
+     *
+     * @throws CheckpointException if a resource fails to be quiesced
+     */
+    public synchronized void beforeCheckpoint() {
+        if (checkpointed) {
+            return;
+        }
+        List<CheckpointResource> resources = new ArrayList<>();
+        for (BeanRegistration<CheckpointResource> registration : beanContext.getActiveBeanRegistrations(CheckpointResource.class)) {
+            resources.add(registration.getBean());
+        }
+        OrderUtil.sort(resources);
+        for (int i = resources.size() - 1; i >= 0; i--) {
+            CheckpointResource resource = resources.get(i);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Quiescing resource {} for checkpoint", resource);
+            }
+            try {
+                resource.beforeCheckpoint();
+            } catch (Exception e) {
+                CheckpointException exception = new CheckpointException("Error quiescing resource " + resource + " for checkpoint: " + e.getMessage(), e);
+                try {
+                    restoreQuiesced();
+                } catch (CheckpointException restoreFailure) {
+                    exception.addSuppressed(restoreFailure);
+                }
+                throw exception;
+            }
+            quiesced.add(resource);
+        }
+        checkpointed = true;
+    }
+
+    /**
+     * Restores the resources quiesced by {@link #beforeCheckpoint()}. All the resources are restored even if some of
+     * them fail.
+     *
+     * @throws CheckpointException if a resource fails to be restored
+     */
+    public synchronized void afterRestore() {
+        if (!checkpointed) {
+            return;
+        }
+        checkpointed = false;
+        restoreQuiesced();
+    }
+
+    /**
+     * Quiesces and restores the resources in the running JVM, as a checkpoint and restore would. Useful to test the
+     * resources of an application without a CRaC enabled JVM.
+     *
+     * @throws CheckpointException if a resource fails to be quiesced or restored
+     */
+    public void checkpointAndRestore() {
+        beforeCheckpoint();
+        afterRestore();
+    }
+
+    private void restoreQuiesced() {
+        CheckpointException failure = null;
+        for (int i = quiesced.size() - 1; i >= 0; i--) {
+            CheckpointResource resource = quiesced.get(i);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Restoring resource {}", resource);
+            }
+            try {
+                resource.afterRestore();
+            } catch (Exception e) {
+                if (failure == null) {
+                    failure = new CheckpointException("Error restoring resource " + resource + ": " + e.getMessage(), e);
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        quiesced.clear();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private synchronized void registerWithCrac() {
+        if (cracResource != null) {
+            return;
+        }
+        ClassLoader classLoader = CheckpointCoordinator.class.getClassLoader();
+        for (String cracPackage : CRAC_PACKAGES) {
+            Class<?> coreType;
+            Class<?> contextType;
+            Class<?> resourceType;
+            try {
+                coreType = Class.forName(cracPackage + ".Core", false, classLoader);
+                contextType = Class.forName(cracPackage + ".Context", false, classLoader);
+                resourceType = Class.forName(cracPackage + ".Resource", false, classLoader);
+            } catch (ClassNotFoundException | LinkageError e) {
+                continue;
+            }
+            try {
+                Object resource = Proxy.newProxyInstance(classLoader, new Class<?>[]{resourceType}, new CracResourceHandler());
+                Object context = coreType.getMethod("getGlobalContext").invoke(null);
+                contextType.getMethod("register", resourceType).invoke(context, resource);
+                cracResource = resource;
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Registered checkpoint coordinator with {}", contextType.getName());
+                }
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                if (LOG.isWarnEnabled()) {
+                    LOG.warn("Unable to register checkpoint coordinator with {}: {}", contextType.getName(), e.getMessage(), e);
+                }
+            }
+            return;
+        }
+    }
+
+    /**
+     * Implements the {@code Resource} interface of CRaC.
+     */
+    private final class CracResourceHandler implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            return switch (method.getName()) {
+                case "beforeCheckpoint" -> {
+                    beforeCheckpoint();
+                    yield null;
+                }
+                case "afterRestore" -> {
+                    afterRestore();
+                    yield null;
+                }
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "toString" -> toString();
+                default -> throw new UnsupportedOperationException(method.getName());
+            };
+        }
+
+        @Override
+        @NonNull
+        public String toString() {
+            return CheckpointCoordinator.class.getSimpleName();
+        }
+    }
+}
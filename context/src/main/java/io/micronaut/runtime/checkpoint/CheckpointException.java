@@ -0,0 +1,33 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.runtime.checkpoint;
+
+/**
+ * Thrown when a {@link CheckpointResource} fails to be quiesced or restored. The failures of the other resources are
+ * added as suppressed exceptions.
+ *
+ * @since 4.9.0
+ */
+public class CheckpointException extends RuntimeException {
+
+    /**
+     * @param message The message
+     * @param cause   The cause
+     */
+    public CheckpointException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
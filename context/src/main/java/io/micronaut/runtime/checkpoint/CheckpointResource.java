@@ -0,0 +1,46 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.runtime.checkpoint;
+
+import io.micronaut.core.order.Ordered;
+
+/**
+ * A component holding resources that cannot be part of a checkpoint of the JVM, such as open sockets, file watchers
+ * or pooled connections. The resources are released before the checkpoint and reopened once the JVM is restored.
+ *
+ * <p>Only the resources that were created by the context take part in a checkpoint. They are quiesced in the reverse
+ * of their {@link #getOrder() order} and restored in order, so that a resource with a higher precedence is restored
+ * before the resources that may depend on it.</p>
+ *
+ * @see CheckpointCoordinator
+ * @since 4.9.0
+ */
+public interface CheckpointResource extends Ordered {
+
+    /**
+     * Releases the resources before a checkpoint.
+     *
+     * @throws Exception if the resources cannot be released, the checkpoint is aborted
+     */
+    void beforeCheckpoint() throws Exception;
+
+    /**
+     * Reopens the resources after the JVM was restored, or after a checkpoint was aborted.
+     *
+     * @throws Exception if the resources cannot be reopened
+     */
+    void afterRestore() throws Exception;
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.runtime.checkpoint;
+
+import io.micronaut.context.annotation.Context;
+import io.micronaut.context.env.Environment;
+import io.micronaut.context.env.exp.RandomPropertyExpressionResolver;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.io.socket.SocketUtils;
+import io.micronaut.core.order.Ordered;
+import io.micronaut.runtime.context.scope.refresh.RefreshEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+
+/**
+ * Re-reads the property sources of the {@link Environment} after a restore, since environment variables, system
+ * properties and configuration files may differ from the ones at checkpoint time, and re-seeds the random generators
+ * so that restored JVMs do not share their sequences. A {@link RefreshEvent} is published if the configuration
+ * changed.
+ *
+ * <p>The resource is context scoped so that it always takes part in a checkpoint, and is restored before any other
+ * resource.</p>
+ *
+ * @since 4.9.0
+ */
+@Internal
+@Context
+final class EnvironmentCheckpointResource implements CheckpointResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EnvironmentCheckpointResource.class);
+
+    private final Environment environment;
+    private final ApplicationEventPublisher<RefreshEvent> refreshEventPublisher;
+
+    /**
+     * @param environment           The environment
+     * @param refreshEventPublisher The refresh event publisher
+     */
+    EnvironmentCheckpointResource(Environment environment, ApplicationEventPublisher<RefreshEvent> refreshEventPublisher) {
+        this.environment = environment;
+        this.refreshEventPublisher = refreshEventPublisher;
+    }
+
+    @Override
+    public void beforeCheckpoint() {
+        // nothing to release
+    }
+
+    @Override
+    public void afterRestore() {
+        SocketUtils.reseed();
+        RandomPropertyExpressionResolver.reseed();
+        Map<String, Object> changes = environment.refreshAndDiff();
+        if (!changes.isEmpty()) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Configuration changed after restore: {}", changes.keySet());
+            }
+            refreshEventPublisher.publishEvent(new RefreshEvent(changes));
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -15,6 +15,7 @@
  */
 package io.micronaut.runtime.context.env;
 
+import io.micronaut.aop.ConfinedInterceptor;
 import io.micronaut.aop.InterceptorBean;
 import io.micronaut.aop.MethodInterceptor;
 import io.micronaut.aop.MethodInvocationContext;
@@ -51,7 +52,7 @@ import java.util.Optional;
 @Internal
 @BootstrapContextCompatible
 @InterceptorBean(ConfigurationAdvice.class)
-public class ConfigurationIntroductionAdvice implements MethodInterceptor<Object, Object> {
+public class ConfigurationIntroductionAdvice implements MethodInterceptor<Object, Object>, ConfinedInterceptor {
 
     private static final String MEMBER_BEAN = "bean";
     private static final String MEMBER_NAME = "name";
@@ -15,6 +15,7 @@
  */
 package io.micronaut.runtime.context.scope.refresh;
 
+import io.micronaut.aop.ConfinedInterceptor;
 import io.micronaut.aop.MethodInterceptor;
 import io.micronaut.aop.MethodInvocationContext;
 import io.micronaut.context.annotation.Requires;
@@ -33,7 +34,7 @@ import java.util.concurrent.locks.Lock;
  */
 @Singleton
 @Requires(notEnv = {Environment.FUNCTION, Environment.ANDROID})
-public class RefreshInterceptor implements MethodInterceptor {
+public class RefreshInterceptor implements MethodInterceptor, ConfinedInterceptor {
 
     private final RefreshScope refreshScope;
 
@@ -177,11 +177,43 @@ public class RefreshScope implements CustomScope<Refreshable>, LifeCycle<Refresh
             Optional<String> value = definition.stringValue(ConfigurationReader.class, "prefix");
             if (value.isPresent()) {
                 String configPrefix = value.get();
-                if (keySet.stream().anyMatch(key -> key.startsWith(configPrefix))) {
-                    beanContext.refreshBean(registration);
+                for (String key : keySet) {
+                    if (isBoundTo(key, configPrefix)) {
+                        beanContext.refreshBean(registration);
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Whether the property is bound by configuration with the given prefix. A wildcard of the prefix, as used by
+     * {@link io.micronaut.context.annotation.EachProperty}, matches a single segment of the property name.
+     *
+     * @param key    The property name
+     * @param prefix The configuration prefix
+     * @return Whether the prefix matches the property name or one of its parents
+     */
+    static boolean isBoundTo(String key, String prefix) {
+        int k = 0;
+        for (int p = 0; p < prefix.length(); p++) {
+            char c = prefix.charAt(p);
+            if (c == '*') {
+                while (k < key.length() && !isSegmentEnd(key.charAt(k))) {
+                    k++;
                 }
+            } else if (k < key.length() && key.charAt(k) == c) {
+                k++;
+            } else {
+                return false;
             }
         }
+        return k == key.length() || key.charAt(k) == '.' || key.charAt(k) == '[';
+    }
+
+    private static boolean isSegmentEnd(char c) {
+        return c == '.' || c == '[' || c == ']';
     }
 
     private void refreshAllConfigurationProperties() {
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.runtime.warmup;
+
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.BeanRegistration;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.inject.BeanDefinition;
+import jakarta.inject.Singleton;
+
+/**
+ * Records the singletons created during the training run and creates them during the warm-up, so that they are not
+ * created by the first requests.
+ *
+ * @since 4.9.0
+ */
+@Internal
+@Singleton
+final class BeanWarmupParticipant implements WarmupParticipant {
+
+    private static final String KIND = "bean";
+
+    private final BeanContext beanContext;
+
+    /**
+     * @param beanContext The bean context
+     */
+    BeanWarmupParticipant(BeanContext beanContext) {
+        this.beanContext = beanContext;
+    }
+
+    @Override
+    @NonNull
+    public String getKind() {
+        return KIND;
+    }
+
+    @Override
+    public void record(@NonNull WarmupRecorder recorder) {
+        for (BeanRegistration<Object> registration : beanContext.getActiveBeanRegistrations(Object.class)) {
+            BeanDefinition<Object> definition = registration.getBeanDefinition();
+            Class<Object> beanType = definition.getBeanType();
+            if (definition.isSingleton() && !beanType.isArray() && !beanType.isPrimitive()) {
+                recorder.record(KIND, beanType.getName());
+            }
+        }
+    }
+
+    @Override
+    public void replay(@NonNull String entry) throws ClassNotFoundException {
+        Class<?> beanType = Class.forName(entry, false, beanContext.getClassLoader());
+        for (BeanDefinition<?> definition : beanContext.getBeanDefinitions(beanType)) {
+            if (definition.getBeanType() == beanType && definition.isSingleton()) {
+                beanContext.getBean(definition);
+            }
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        // beans first, the other participants use them
+        return HIGHEST_PRECEDENCE;
+    }
+}
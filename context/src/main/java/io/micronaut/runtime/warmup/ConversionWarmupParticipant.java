@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.runtime.warmup;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.env.DefaultEnvironment;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.reflect.ClassUtils;
+import jakarta.inject.Singleton;
+
+/**
+ * Records the source and target types converted during the training run and resolves their converters during the
+ * warm-up.
+ *
+ * @since 4.9.0
+ */
+@Internal
+@Singleton
+final class ConversionWarmupParticipant implements WarmupParticipant {
+
+    private static final String KIND = "conversion";
+    private static final char SEPARATOR = '>';
+
+    private final ApplicationContext applicationContext;
+
+    /**
+     * @param applicationContext The application context
+     */
+    ConversionWarmupParticipant(ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    @NonNull
+    public String getKind() {
+        return KIND;
+    }
+
+    @Override
+    public void record(@NonNull WarmupRecorder recorder) {
+        if (applicationContext.getEnvironment() instanceof DefaultEnvironment environment) {
+            environment.forEachResolvedConversion((sourceType, targetType) ->
+                recorder.record(KIND, sourceType.getName() + SEPARATOR + targetType.getName())
+            );
+        }
+    }
+
+    @Override
+    public void replay(@NonNull String entry) throws ClassNotFoundException {
+        int separator = entry.indexOf(SEPARATOR);
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Invalid conversion entry: " + entry);
+        }
+        ClassLoader classLoader = applicationContext.getClassLoader();
+        applicationContext.getConversionService().canConvert(
+            loadClass(entry.substring(0, separator), classLoader),
+            loadClass(entry.substring(separator + 1), classLoader)
+        );
+    }
+
+    private static Class<?> loadClass(String name, ClassLoader classLoader) throws ClassNotFoundException {
+        return ClassUtils.forName(name, classLoader).orElseThrow(() -> new ClassNotFoundException(name));
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.runtime.warmup;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.ArgumentUtils;
+import io.micronaut.core.util.Toggleable;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+/**
+ * Configuration of the warm-up. A training run with {@code micronaut.warmup.record} enabled writes the hot paths it
+ * exercised to the {@link #getFile() profile file} on shutdown, an application with {@code micronaut.warmup.enabled}
+ * replays them on startup.
+ *
+ * @since 4.9.0
+ */
+@ConfigurationProperties(WarmupConfiguration.PREFIX)
+public class WarmupConfiguration implements Toggleable {
+
+    /**
+     * The prefix to use to configure the warm-up.
+     */
+    public static final String PREFIX = "micronaut.warmup";
+
+    /**
+     * Setting to replay the profile on startup.
+     */
+    public static final String ENABLED = PREFIX + ".enabled";
+
+    /**
+     * Setting to record the profile.
+     */
+    public static final String RECORD = PREFIX + ".record";
+
+    /**
+     * The default time budget.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final Duration DEFAULT_TIME_BUDGET = Duration.ofSeconds(30);
+
+    /**
+     * The default number of iterations.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_ITERATIONS = 100;
+
+    /**
+     * The default maximum number of recorded entries of each kind.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    private boolean enabled = false;
+    private boolean record = false;
+    private Path file = Paths.get("warmup-profile.txt");
+    private Duration timeBudget = DEFAULT_TIME_BUDGET;
+    private int iterations = DEFAULT_ITERATIONS;
+    private int maxEntries = DEFAULT_MAX_ENTRIES;
+
+    /**
+     * Whether the profile is replayed on startup. Defaults to false.
+     *
+     * @return True if the warm-up is enabled
+     */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether the profile is replayed on startup.
+     *
+     * @param enabled True if the warm-up is enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Whether the hot paths are recorded and written to the profile on shutdown. Defaults to false.
+     *
+     * @return True if the profile is recorded
+     */
+    public boolean isRecord() {
+        return record;
+    }
+
+    /**
+     * Sets whether the hot paths are recorded.
+     *
+     * @param record True if the profile is recorded
+     */
+    public void setRecord(boolean record) {
+        this.record = record;
+    }
+
+    /**
+     * @return The profile file
+     */
+    public @NonNull Path getFile() {
+        return file;
+    }
+
+    /**
+     * Sets the profile file. Defaults to {@code warmup-profile.txt} in the working directory.
+     *
+     * @param file The profile file
+     */
+    public void setFile(@NonNull Path file) {
+        ArgumentUtils.requireNonNull("file", file);
+        this.file = file;
+    }
+
+    /**
+     * @return The maximum time spent replaying the profile
+     */
+    public @NonNull Duration getTimeBudget() {
+        return timeBudget;
+    }
+
+    /**
+     * Sets the maximum time spent replaying the profile, the application is reported ready once it elapsed even if
+     * not all the iterations ran. Defaults to 30 seconds.
+     *
+     * @param timeBudget The time budget
+     */
+    public void setTimeBudget(@NonNull Duration timeBudget) {
+        ArgumentUtils.requireNonNull("timeBudget", timeBudget);
+        this.timeBudget = timeBudget;
+    }
+
+    /**
+     * @return The number of times each entry of the profile is replayed
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Sets the number of times each entry of the profile is replayed. Defaults to {@value #DEFAULT_ITERATIONS}.
+     *
+     * @param iterations The number of iterations
+     */
+    public void setIterations(int iterations) {
+        this.iterations = iterations;
+    }
+
+    /**
+     * @return The maximum number of entries of each kind that are recorded
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Sets the maximum number of entries of each kind that are recorded. Defaults to {@value #DEFAULT_MAX_ENTRIES}.
+     *
+     * @param maxEntries The maximum number of entries
+     */
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+}
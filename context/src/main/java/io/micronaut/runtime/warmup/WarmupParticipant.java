@@ -0,0 +1,54 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.runtime.warmup;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.order.Ordered;
+
+/**
+ * Records and replays one kind of hot path, for example the routes or the conversions exercised by the application.
+ * The entries are either recorded as they happen, through {@link WarmupRecorder#record(String, String)}, or collected
+ * at the end of the training run by {@link #record(WarmupRecorder)}.
+ *
+ * <p>Participants are replayed in {@link #getOrder() order}, each iteration replays all the entries once.</p>
+ *
+ * @since 4.9.0
+ */
+public interface WarmupParticipant extends Ordered {
+
+    /**
+     * @return The kind of the entries replayed by this participant
+     */
+    @NonNull
+    String getKind();
+
+    /**
+     * Collects the entries of the training run before the profile is written.
+     *
+     * @param recorder The recorder
+     */
+    default void record(@NonNull WarmupRecorder recorder) {
+        // entries recorded as they happen
+    }
+
+    /**
+     * Replays an entry.
+     *
+     * @param entry The entry
+     * @throws Exception if the entry cannot be replayed, it is not replayed again
+     */
+    void replay(@NonNull String entry) throws Exception;
+}
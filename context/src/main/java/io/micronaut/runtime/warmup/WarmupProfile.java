@@ -0,0 +1,124 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.runtime.warmup;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The hot paths recorded during a training run, grouped by the kind of the {@link WarmupParticipant} that replays
+ * them. The profile is stored as a text file with one {@code kind<TAB>entry} line per entry.
+ *
+ * @since 4.9.0
+ */
+public final class WarmupProfile {
+
+    private static final char SEPARATOR = '\t';
+    private static final String HEADER = "# Micronaut warm-up profile";
+
+    private final Map<String, Set<String>> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Adds an entry to the profile.
+     *
+     * @param kind       The kind of the entry
+     * @param entry      The entry
+     * @param maxEntries The maximum number of entries of the kind
+     * @return Whether the entry was added
+     */
+    public boolean add(@NonNull String kind, @NonNull String entry, int maxEntries) {
+        if (kind.indexOf(SEPARATOR) >= 0 || entry.indexOf('\n') >= 0 || entry.indexOf('\r') >= 0) {
+            throw new IllegalArgumentException("Invalid warm-up entry: " + kind + " " + entry);
+        }
+        Set<String> kindEntries = entries.computeIfAbsent(kind, k -> ConcurrentHashMap.newKeySet());
+        return kindEntries.size() < maxEntries && kindEntries.add(entry);
+    }
+
+    /**
+     * @param kind The kind
+     * @return The entries of the given kind
+     */
+    public @NonNull Set<String> getEntries(@NonNull String kind) {
+        Set<String> kindEntries = entries.get(kind);
+        return kindEntries == null ? Collections.emptySet() : Collections.unmodifiableSet(kindEntries);
+    }
+
+    /**
+     * @return Whether the profile has no entries
+     */
+    public boolean isEmpty() {
+        return entries.values().stream().allMatch(Set::isEmpty);
+    }
+
+    /**
+     * Reads a profile.
+     *
+     * @param file The file
+     * @return The profile
+     * @throws IOException if the file cannot be read
+     */
+    public static @NonNull WarmupProfile read(@NonNull Path file) throws IOException {
+        WarmupProfile profile = new WarmupProfile();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int separator = line.indexOf(SEPARATOR);
+                if (line.isEmpty() || line.charAt(0) == '#' || separator <= 0) {
+                    continue;
+                }
+                profile.add(line.substring(0, separator), line.substring(separator + 1), Integer.MAX_VALUE);
+            }
+        }
+        return profile;
+    }
+
+    /**
+     * Writes the profile, sorted so that the profiles of different training runs can be compared.
+     *
+     * @param file The file
+     * @throws IOException if the file cannot be written
+     */
+    public void write(@NonNull Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            for (Map.Entry<String, Set<String>> kindEntries : new TreeMap<>(entries).entrySet()) {
+                for (String entry : new TreeSet<>(kindEntries.getValue())) {
+                    writer.write(kindEntries.getKey());
+                    writer.write(SEPARATOR);
+                    writer.write(entry);
+                    writer.newLine();
+                }
+            }
+        }
+    }
+}
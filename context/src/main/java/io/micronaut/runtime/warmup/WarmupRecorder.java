@@ -0,0 +1,94 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.runtime.warmup;
+
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.context.event.ShutdownEvent;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.StringUtils;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+
+/**
+ * Records the hot paths of a training run and writes them to the {@link WarmupConfiguration#getFile() profile file}
+ * when the application shuts down.
+ *
+ * @since 4.9.0
+ */
+@Singleton
+@Requires(property = WarmupConfiguration.RECORD, value = StringUtils.TRUE, defaultValue = StringUtils.FALSE)
+public final class WarmupRecorder implements ApplicationEventListener<ShutdownEvent> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WarmupRecorder.class);
+
+    private final WarmupConfiguration configuration;
+    private final BeanContext beanContext;
+    private final WarmupProfile profile = new WarmupProfile();
+
+    /**
+     * @param configuration The configuration
+     * @param beanContext   The bean context
+     */
+    WarmupRecorder(WarmupConfiguration configuration, BeanContext beanContext) {
+        this.configuration = configuration;
+        this.beanContext = beanContext;
+    }
+
+    /**
+     * Records an entry, entries beyond the {@link WarmupConfiguration#getMaxEntries() maximum} are ignored.
+     *
+     * @param kind  The kind of the participant that replays the entry
+     * @param entry The entry
+     */
+    public void record(@NonNull String kind, @NonNull String entry) {
+        profile.add(kind, entry, configuration.getMaxEntries());
+    }
+
+    /**
+     * @return The profile recorded so far
+     */
+    public @NonNull WarmupProfile getProfile() {
+        return profile;
+    }
+
+    @Override
+    public void onApplicationEvent(ShutdownEvent event) {
+        for (WarmupParticipant participant : beanContext.getBeansOfType(WarmupParticipant.class)) {
+            try {
+                participant.record(this);
+            } catch (Exception e) {
+                if (LOG.isWarnEnabled()) {
+                    LOG.warn("Error recording warm-up entries of kind [{}]: {}", participant.getKind(), e.getMessage(), e);
+                }
+            }
+        }
+        try {
+            profile.write(configuration.getFile());
+            if (LOG.isInfoEnabled()) {
+                LOG.info("Wrote warm-up profile to {}", configuration.getFile().toAbsolutePath());
+            }
+        } catch (IOException e) {
+            if (LOG.isErrorEnabled()) {
+                LOG.error("Error writing warm-up profile to {}: {}", configuration.getFile(), e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.runtime.warmup;
+
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.core.order.OrderUtil;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.runtime.event.annotation.EventListener;
+import io.micronaut.runtime.server.EmbeddedServer;
+import io.micronaut.runtime.server.event.ServerStartupEvent;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Replays the {@link WarmupProfile profile} of a training run once the application started, so that the hot paths are
+ * compiled before the application is reported ready. The replay runs in the background until all the
+ * {@link WarmupConfiguration#getIterations() iterations} ran or the {@link WarmupConfiguration#getTimeBudget() time
+ * budget} elapsed, readiness checks wait for it to {@link #isComplete() complete}.
+ *
+ * <p>If the application has an {@link EmbeddedServer}, the replay starts once the server is started so that routes can
+ * be replayed.</p>
+ *
+ * @since 4.9.0
+ */
+@Singleton
+@Requires(property = WarmupConfiguration.ENABLED, value = StringUtils.TRUE, defaultValue = StringUtils.FALSE)
+public final class WarmupRunner {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WarmupRunner.class);
+
+    private final WarmupConfiguration configuration;
+    private final BeanContext beanContext;
+    private final AtomicBoolean started = new AtomicBoolean();
+    private volatile boolean complete;
+
+    /**
+     * @param configuration The configuration
+     * @param beanContext   The bean context
+     */
+    WarmupRunner(WarmupConfiguration configuration, BeanContext beanContext) {
+        this.configuration = configuration;
+        this.beanContext = beanContext;
+    }
+
+    /**
+     * @return Whether the warm-up completed, or was skipped
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Starts the warm-up of applications without a server.
+     *
+     * @param event The event
+     */
+    @EventListener
+    void onStartup(StartupEvent event) {
+        if (!beanContext.containsBean(EmbeddedServer.class)) {
+            start();
+        }
+    }
+
+    /**
+     * Starts the warm-up once the server is started.
+     *
+     * @param event The event
+     */
+    @EventListener
+    void onServerStartup(ServerStartupEvent event) {
+        start();
+    }
+
+    private void start() {
+        if (started.compareAndSet(false, true)) {
+            Thread thread = new Thread(this::run, "micronaut-warmup");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * Replays the profile in the current thread.
+     */
+    void run() {
+        try {
+            Path file = configuration.getFile();
+            if (!Files.isReadable(file)) {
+                if (LOG.isWarnEnabled()) {
+                    LOG.warn("Warm-up profile {} not found, skipping warm-up", file.toAbsolutePath());
+                }
+                return;
+            }
+            replay(WarmupProfile.read(file));
+        } catch (Exception e) {
+            if (LOG.isErrorEnabled()) {
+                LOG.error("Error during warm-up: {}", e.getMessage(), e);
+            }
+        } finally {
+            complete = true;
+        }
+    }
+
+    private void replay(WarmupProfile profile) {
+        List<WarmupParticipant> participants = new ArrayList<>(beanContext.getBeansOfType(WarmupParticipant.class));
+        OrderUtil.sort(participants);
+        List<List<String>> entries = new ArrayList<>(participants.size());
+        for (WarmupParticipant participant : participants) {
+            entries.add(new ArrayList<>(profile.getEntries(participant.getKind())));
+        }
+        long start = System.nanoTime();
+        long deadline = start + configuration.getTimeBudget().toNanos();
+        int iteration = 0;
+        long replayed = 0;
+        while (iteration < configuration.getIterations()) {
+            long count = replayIteration(participants, entries, deadline);
+            if (count < 0) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Warm-up time budget of {} elapsed", configuration.getTimeBudget());
+                }
+                break;
+            }
+            replayed += count;
+            iteration++;
+        }
+        if (LOG.isInfoEnabled()) {
+            LOG.info("Warm-up replayed {} entries in {} iterations in {}ms", replayed, iteration, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    /**
+     * Replays all the entries once.
+     *
+     * @return The number of replayed entries, or -1 if the deadline passed
+     */
+    private long replayIteration(List<WarmupParticipant> participants, List<List<String>> entries, long deadline) {
+        long replayed = 0;
+        for (int i = 0; i < participants.size(); i++) {
+            WarmupParticipant participant = participants.get(i);
+            for (Iterator<String> iterator = entries.get(i).iterator(); iterator.hasNext(); ) {
+                if (System.nanoTime() - deadline > 0) {
+                    return -1;
+                }
+                String entry = iterator.next();
+                try {
+                    participant.replay(entry);
+                    replayed++;
+                } catch (Exception e) {
+                    iterator.remove();
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Error replaying warm-up entry [{}] of kind [{}], skipping it: {}", entry, participant.getKind(), e.getMessage(), e);
+                    }
+                }
+            }
+        }
+        return replayed;
+    }
+}
@@ -43,4 +43,14 @@ public @interface ExecuteOn {
      * @see io.micronaut.scheduling.TaskExecutors#IO
      */
     String value();
+
+    /**
+     * The maximum number of invocations of the annotated method that may run on the executor at the same time.
+     * Further invocations are queued until a running one completes. This is mostly useful together with
+     * {@link io.micronaut.scheduling.TaskExecutors#VIRTUAL virtual threads}, which are otherwise unbounded.
+     *
+     * @return The maximum concurrency, or a negative value for no limit
+     * @since 4.9.0
+     */
+    int maxConcurrency() default -1;
 }
@@ -22,8 +22,14 @@ package io.micronaut.scheduling.cron;
 import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
 import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -183,6 +189,7 @@ public final class CronExpression {
     private final DayOfWeekField dayOfWeekField;
     private final SimpleField monthField;
     private final DayOfMonthField dayOfMonthField;
+    private final CompiledSchedule schedule;
 
     private CronExpression(final String expr) {
         if (expr == null) {
@@ -204,6 +211,7 @@ public final class CronExpression {
         this.dayOfMonthField = new DayOfMonthField(parts[ix++]);
         this.monthField = new SimpleField(CronFieldType.MONTH, parts[ix++]);
         this.dayOfWeekField = new DayOfWeekField(parts[ix++]);
+        this.schedule = new CompiledSchedule(this);
     }
 
     /**
@@ -244,59 +252,37 @@ public final class CronExpression {
     /**
      * This will search for the next time within the given dateTimeBarrier.
      *
+     * <p>Local times that fall into a daylight saving gap are skipped. Local times that are repeated by a daylight
+     * saving overlap fire in both occurrences.</p>
+     *
      * @param afterTime       A date-time with a time-zone in the ISO-8601 calendar system
      * @param dateTimeBarrier The upper limit or maximum date-time to check for next time
      * @return The next time within given barrier
      */
     public ZonedDateTime nextTimeAfter(ZonedDateTime afterTime, ZonedDateTime dateTimeBarrier) {
-        ZonedDateTime nextTime = ZonedDateTime.from(afterTime).withNano(0).plusSeconds(1).withNano(0);
-
-        while (true) { // day of week
-            while (true) { // month
-                while (true) { // day of month
-                    while (true) { // hour
-                        while (true) { // minute
-                            while (true) { // second
-                                if (secondField.matches(nextTime.getSecond())) {
-                                    break;
-                                }
-                                nextTime = nextTime.plusSeconds(1).withNano(0);
-                            }
-                            if (minuteField.matches(nextTime.getMinute())) {
-                                break;
-                            }
-                            nextTime = nextTime.plusMinutes(1).withSecond(0).withNano(0);
-                        }
-                        if (hourField.matches(nextTime.getHour())) {
-                            break;
-                        }
-                        nextTime = nextTime.plusHours(1).withMinute(0).withSecond(0).withNano(0);
-                    }
-                    if (dayOfMonthField.matches(nextTime.toLocalDate())) {
-                        break;
-                    }
-                    nextTime = nextTime.plusDays(1).withHour(0).withMinute(0).withSecond(0).withNano(0);
-                    checkIfDateTimeBarrierIsReached(nextTime, dateTimeBarrier);
+        ZoneId zone = afterTime.getZone();
+        LocalDateTime afterLocal = afterTime.toLocalDateTime();
+        LocalDateTime barrier = dateTimeBarrier.withZoneSameInstant(zone).toLocalDateTime();
+        // non-null only if the local time of afterTime is repeated by a daylight saving overlap
+        ZoneOffsetTransition overlap = zone.getRules().getTransition(afterLocal);
+        LocalDateTime candidate = afterLocal.withNano(0).plusSeconds(1);
+        while (true) {
+            LocalDateTime next = schedule.next(candidate, barrier);
+            boolean withinOverlap = overlap != null && next.isBefore(overlap.getDateTimeBefore());
+            if (overlap != null && !withinOverlap && afterTime.getOffset().equals(overlap.getOffsetBefore())) {
+                // no more matches in the earlier occurrence, the later occurrence repeats the local times of the overlap
+                LocalDateTime repeated = schedule.next(overlap.getDateTimeAfter(), barrier);
+                if (repeated.isBefore(overlap.getDateTimeBefore())) {
+                    return ZonedDateTime.ofStrict(repeated, overlap.getOffsetAfter(), zone);
                 }
-                if (monthField.matches(nextTime.getMonth().getValue())) {
-                    break;
-                }
-                nextTime = nextTime.plusMonths(1).withDayOfMonth(1).withHour(0).withMinute(0).withSecond(0).withNano(0);
-                checkIfDateTimeBarrierIsReached(nextTime, dateTimeBarrier);
             }
-            if (dayOfWeekField.matches(nextTime.toLocalDate())) {
-                break;
+            ZoneOffset preferredOffset = withinOverlap ? afterTime.getOffset() : null;
+            ZonedDateTime nextTime = ZonedDateTime.ofLocal(next, zone, preferredOffset);
+            if (nextTime.toLocalDateTime().equals(next)) {
+                return nextTime;
             }
-            nextTime = nextTime.plusDays(1).withHour(0).withMinute(0).withSecond(0).withNano(0);
-            checkIfDateTimeBarrierIsReached(nextTime, dateTimeBarrier);
-        }
-
-        return nextTime;
-    }
-
-    private static void checkIfDateTimeBarrierIsReached(ZonedDateTime nextTime, ZonedDateTime dateTimeBarrier) {
-        if (nextTime.isAfter(dateTimeBarrier)) {
-            throw new IllegalArgumentException("No next execution time could be determined that is before the limit of " + dateTimeBarrier);
+            // the local time does not exist because of a daylight saving gap
+            candidate = next.plusSeconds(1);
         }
     }
 
@@ -625,4 +611,197 @@ public final class CronExpression {
             return "?".equals(part.modifier) || super.matches(val, part);
         }
     }
+
+    /**
+     * A compiled representation of the cron fields. Seconds, minutes, hours and months are kept as bit masks, the
+     * day of month and day of week fields too unless they use the {@code L}, {@code W} or {@code #} modifiers, in
+     * which case the parsed fields are consulted. The search works on plain integers and allocates only the result.
+     */
+    static final class CompiledSchedule {
+
+        private static final int[] MONTH_OFFSETS = {0, 3, 2, 5, 0, 3, 5, 1, 4, 6, 2, 4};
+
+        private final long seconds;
+        private final long minutes;
+        private final long hours;
+        private final long months;
+        private final long daysOfMonth;
+        private final long daysOfWeek;
+        private final DayOfMonthField dayOfMonthField;
+        private final DayOfWeekField dayOfWeekField;
+
+        /**
+         * @param expression The parsed expression
+         */
+        CompiledSchedule(CronExpression expression) {
+            this.seconds = mask(expression.secondField);
+            this.minutes = mask(expression.minuteField);
+            this.hours = mask(expression.hourField);
+            this.months = mask(expression.monthField);
+            this.daysOfMonth = isSimple(expression.dayOfMonthField) ? mask(expression.dayOfMonthField) : 0L;
+            this.daysOfWeek = isSimple(expression.dayOfWeekField) ? mask(expression.dayOfWeekField) : 0L;
+            this.dayOfMonthField = daysOfMonth == 0L ? expression.dayOfMonthField : null;
+            this.dayOfWeekField = daysOfWeek == 0L ? expression.dayOfWeekField : null;
+        }
+
+        /**
+         * Finds the first matching local date-time that is equal to or after the given one.
+         *
+         * @param from    The local date-time to start from, without nanos
+         * @param barrier The local date-time after which the search gives up
+         * @return The matching local date-time
+         */
+        LocalDateTime next(LocalDateTime from, LocalDateTime barrier) {
+            int year = from.getYear();
+            int month = from.getMonthValue();
+            int day = from.getDayOfMonth();
+            int hour = from.getHour();
+            int minute = from.getMinute();
+            int second = from.getSecond();
+            int barrierYear = barrier.getYear();
+            int barrierMonth = barrier.getMonthValue();
+            int barrierDay = barrier.getDayOfMonth();
+            int monthLength = lengthOfMonth(year, month);
+            boolean dayChanged = false;
+            while (true) {
+                int nextMonth = nextBit(months, month);
+                if (nextMonth != month) {
+                    if (nextMonth < 0) {
+                        year++;
+                        month = nextBit(months, 0);
+                    } else {
+                        month = nextMonth;
+                    }
+                    monthLength = lengthOfMonth(year, month);
+                    day = 1;
+                    hour = 0;
+                    minute = 0;
+                    second = 0;
+                    dayChanged = true;
+                }
+                if (day > monthLength) {
+                    month++;
+                    day = 1;
+                    dayChanged = true;
+                    if (month > 12) {
+                        year++;
+                        month = 1;
+                    }
+                    monthLength = lengthOfMonth(year, month);
+                    continue;
+                }
+                if (dayChanged && isAfter(year, month, day, barrierYear, barrierMonth, barrierDay)) {
+                    throw new IllegalArgumentException("No next execution time could be determined that is before the limit of " + barrier);
+                }
+                if (!dayMatches(year, month, day)) {
+                    day++;
+                    hour = 0;
+                    minute = 0;
+                    second = 0;
+                    dayChanged = true;
+                    continue;
+                }
+                int nextHour = nextBit(hours, hour);
+                if (nextHour < 0) {
+                    day++;
+                    hour = 0;
+                    minute = 0;
+                    second = 0;
+                    dayChanged = true;
+                    continue;
+                } else if (nextHour != hour) {
+                    hour = nextHour;
+                    minute = 0;
+                    second = 0;
+                }
+                int nextMinute = nextBit(minutes, minute);
+                if (nextMinute < 0) {
+                    hour++;
+                    minute = 0;
+                    second = 0;
+                    continue;
+                } else if (nextMinute != minute) {
+                    minute = nextMinute;
+                    second = 0;
+                }
+                int nextSecond = nextBit(seconds, second);
+                if (nextSecond < 0) {
+                    minute++;
+                    second = 0;
+                    continue;
+                }
+                return LocalDateTime.of(year, month, day, hour, minute, nextSecond);
+            }
+        }
+
+        private boolean dayMatches(int year, int month, int day) {
+            if (dayOfMonthField != null || dayOfWeekField != null) {
+                LocalDate date = LocalDate.of(year, month, day);
+                return (dayOfMonthField == null ? isSet(daysOfMonth, day) : dayOfMonthField.matches(date))
+                    && (dayOfWeekField == null ? isSet(daysOfWeek, date.getDayOfWeek().getValue()) : dayOfWeekField.matches(date));
+            }
+            return isSet(daysOfMonth, day) && isSet(daysOfWeek, dayOfWeek(year, month, day));
+        }
+
+        private static int lengthOfMonth(int year, int month) {
+            return Month.of(month).length(Year.isLeap(year));
+        }
+
+        private static boolean isAfter(int year, int month, int day, int otherYear, int otherMonth, int otherDay) {
+            if (year != otherYear) {
+                return year > otherYear;
+            }
+            if (month != otherMonth) {
+                return month > otherMonth;
+            }
+            return day > otherDay;
+        }
+
+        /**
+         * @return The ISO day of week (1 is Monday, 7 is Sunday) of the given date, see Sakamoto's method
+         */
+        private static int dayOfWeek(int year, int month, int day) {
+            int y = month < 3 ? year - 1 : year;
+            int sundayBased = Math.floorMod(y + Math.floorDiv(y, 4) - Math.floorDiv(y, 100) + Math.floorDiv(y, 400)
+                + MONTH_OFFSETS[month - 1] + day, DayOfWeekField.DAYS_IN_WEEK);
+            return sundayBased == 0 ? DayOfWeekField.DAYS_IN_WEEK : sundayBased;
+        }
+
+        private static boolean isSet(long mask, int bit) {
+            return (mask & (1L << bit)) != 0;
+        }
+
+        private static int nextBit(long mask, int from) {
+            if (from >= Long.SIZE) {
+                return -1;
+            }
+            long remaining = mask & (-1L << from);
+            return remaining == 0 ? -1 : Long.numberOfTrailingZeros(remaining);
+        }
+
+        private static boolean isSimple(BasicField field) {
+            for (FieldPart part : field.parts) {
+                if ((part.modifier != null && !"?".equals(part.modifier)) || "#".equals(part.incrementModifier)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static long mask(BasicField field) {
+            long mask = 0L;
+            for (FieldPart part : field.parts) {
+                if ("?".equals(part.modifier)) {
+                    for (int i = field.fieldType.from; i <= field.fieldType.to; i++) {
+                        mask |= 1L << i;
+                    }
+                } else {
+                    for (int i = part.from; i <= part.to; i += part.increment) {
+                        mask |= 1L << i;
+                    }
+                }
+            }
+            return mask;
+        }
+    }
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.scheduling.executor;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A view of an {@link ExecutorService} that runs at most a fixed number of tasks at the same time
+ * and queues the rest. Shutting down the view does not shut down the target executor.
+ *
+ * @since 4.9.0
+ */
+@Internal
+final class ConcurrencyLimitedExecutorService extends AbstractExecutorService {
+
+    private final ExecutorService target;
+    private final int maxConcurrency;
+    private final Deque<Runnable> queue = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger running = new AtomicInteger();
+    private volatile boolean shutdown;
+
+    /**
+     * @param target         The executor to run the tasks on
+     * @param maxConcurrency The maximum number of tasks to run at the same time
+     */
+    ConcurrencyLimitedExecutorService(ExecutorService target, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Max concurrency must be positive: " + maxConcurrency);
+        }
+        this.target = target;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (shutdown) {
+            throw new RejectedExecutionException("Executor has been shut down");
+        }
+        queue.add(command);
+        RejectedExecutionException rejected = drain();
+        if (rejected != null && queue.removeLastOccurrence(command)) {
+            // the command itself never reached the target executor
+            throw rejected;
+        }
+    }
+
+    /**
+     * Submits the queued tasks to the target executor while the limit allows it. A task rejected by the target
+     * executor is put back at the head of the queue.
+     *
+     * @return The rejection of the target executor or null
+     */
+    @Nullable
+    private RejectedExecutionException drain() {
+        while (!queue.isEmpty()) {
+            int current = running.get();
+            if (current >= maxConcurrency) {
+                // one of the running tasks will pick up the queue when it completes
+                return null;
+            }
+            if (!running.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            Runnable next = queue.poll();
+            if (next == null) {
+                release();
+                continue;
+            }
+            try {
+                target.execute(() -> {
+                    try {
+                        next.run();
+                    } finally {
+                        release();
+                        drain();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                queue.offerFirst(next);
+                release();
+                return e;
+            }
+        }
+        return null;
+    }
+
+    private void release() {
+        if (running.decrementAndGet() == 0 && shutdown && queue.isEmpty()) {
+            synchronized (this) {
+                notifyAll();
+            }
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown = true;
+        List<Runnable> pending = new ArrayList<>();
+        Runnable next;
+        while ((next = queue.poll()) != null) {
+            pending.add(next);
+        }
+        return pending;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown && running.get() == 0 && queue.isEmpty();
+    }
+
+    @Override
+    public synchronized boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!isTerminated()) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrencyLimitedExecutorService{target=" + target + ", maxConcurrency=" + maxConcurrency + '}';
+    }
+}
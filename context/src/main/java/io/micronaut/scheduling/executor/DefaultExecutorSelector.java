@@ -31,7 +31,9 @@ import io.micronaut.scheduling.exceptions.SchedulerConfigurationException;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 
@@ -45,9 +47,12 @@ import java.util.function.Supplier;
 public class DefaultExecutorSelector implements ExecutorSelector {
 
     private static final String EXECUTE_ON = ExecuteOn.class.getName();
+    private static final String MEMBER_MAX_CONCURRENCY = "maxConcurrency";
     private final BeanLocator beanLocator;
     private final Supplier<ExecutorService> ioExecutor;
     private final Supplier<ExecutorService> blockingExecutor;
+    private final Supplier<ExecutorService> virtualExecutor;
+    private final Map<MethodReference<?, ?>, ExecutorService> limitedExecutors = new ConcurrentHashMap<>();
 
     /**
      * Default constructor.
@@ -63,16 +68,21 @@ public class DefaultExecutorSelector implements ExecutorSelector {
         this.beanLocator = beanLocator;
         this.ioExecutor = SupplierUtil.memoized(ioExecutor::get);
         this.blockingExecutor = SupplierUtil.memoized(blockingExecutor::get);
+        this.virtualExecutor = SupplierUtil.memoized(() ->
+            beanLocator.findBean(ExecutorService.class, Qualifiers.byName(TaskExecutors.VIRTUAL))
+                .orElseGet(this.blockingExecutor));
     }
 
     @Override
     public Optional<ExecutorService> select(MethodReference<?, ?> method, ThreadSelection threadSelection) {
+        return selectExecutor(method, threadSelection).map(executorService -> limit(method, executorService));
+    }
+
+    private Optional<ExecutorService> selectExecutor(MethodReference<?, ?> method, ThreadSelection threadSelection) {
         final String name = method.stringValue(EXECUTE_ON).orElse(null);
         if (name != null) {
-            final ExecutorService executorService;
             try {
-                executorService = beanLocator.getBean(ExecutorService.class, Qualifiers.byName(name));
-                return Optional.of(executorService);
+                return Optional.of(beanLocator.getBean(ExecutorService.class, Qualifiers.byName(name)));
             } catch (NoSuchBeanException e) {
                 throw new SchedulerConfigurationException(
                         method,
@@ -80,24 +90,9 @@ public class DefaultExecutorSelector implements ExecutorSelector {
                 );
             }
         } else if (threadSelection == ThreadSelection.AUTO) {
-            if (method.hasStereotype(NonBlocking.class)) {
-                return Optional.empty();
-            } else if (method.hasStereotype(Blocking.class)) {
-                return Optional.of(blockingExecutor.get());
-            } else {
-                TypeInformation<?> returnType = method.getReturnType();
-                if (returnType.isWrapperType()) {
-                    Optional<Argument<?>> generic = method.getReturnType().getFirstTypeVariable();
-                    if (generic.isPresent()) {
-                        returnType = generic.get();
-                    }
-                }
-                if (returnType.isAsyncOrReactive()) {
-                    return Optional.empty();
-                } else {
-                    return Optional.of(blockingExecutor.get());
-                }
-            }
+            return isBlocking(method) ? Optional.of(blockingExecutor.get()) : Optional.empty();
+        } else if (threadSelection == ThreadSelection.VIRTUAL) {
+            return isBlocking(method) ? Optional.of(virtualExecutor.get()) : Optional.empty();
         } else if (threadSelection == ThreadSelection.IO) {
             return Optional.of(ioExecutor.get());
         } else if (threadSelection == ThreadSelection.BLOCKING) {
@@ -106,6 +101,32 @@ public class DefaultExecutorSelector implements ExecutorSelector {
         return Optional.empty();
     }
 
+    private ExecutorService limit(MethodReference<?, ?> method, ExecutorService executorService) {
+        int maxConcurrency = method.intValue(EXECUTE_ON, MEMBER_MAX_CONCURRENCY).orElse(-1);
+        if (maxConcurrency > 0) {
+            // the limit applies to the method, share the view between all selections
+            return limitedExecutors.computeIfAbsent(method, m -> new ConcurrencyLimitedExecutorService(executorService, maxConcurrency));
+        }
+        return executorService;
+    }
+
+    private static boolean isBlocking(MethodReference<?, ?> method) {
+        if (method.hasStereotype(NonBlocking.class)) {
+            return false;
+        } else if (method.hasStereotype(Blocking.class)) {
+            return true;
+        } else {
+            TypeInformation<?> returnType = method.getReturnType();
+            if (returnType.isWrapperType()) {
+                Optional<Argument<?>> generic = method.getReturnType().getFirstTypeVariable();
+                if (generic.isPresent()) {
+                    returnType = generic.get();
+                }
+            }
+            return !returnType.isAsyncOrReactive();
+        }
+    }
+
     @Override
     public Optional<ExecutorService> select(String name) {
         return beanLocator.findBean(ExecutorService.class, Qualifiers.byName(name));
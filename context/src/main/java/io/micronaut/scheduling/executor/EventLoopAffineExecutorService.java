@@ -0,0 +1,179 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.scheduling.executor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An executor that gives every submitting thread, typically a server event loop, its own small set of worker
+ * threads. Work submitted by an event loop always runs on the same workers, so the request state it touches stays
+ * warm in the caches shared by those threads, and the workers of one event loop never compete with the backlog of
+ * another.
+ *
+ * <p>Lanes are bound to threads lazily on first submission, or eagerly with {@link #bindCurrentThread()}. Once
+ * the maximum number of lanes exists, further threads share the existing lanes. Each lane queues at most a fixed
+ * number of tasks, further submissions are rejected with a {@link RejectedExecutionException}.</p>
+ *
+ * @since 4.9.0
+ */
+public final class EventLoopAffineExecutorService extends AbstractExecutorService {
+
+    /**
+     * The default number of workers per event loop.
+     */
+    public static final int DEFAULT_WORKERS_PER_EVENT_LOOP = 4;
+
+    /**
+     * The default number of tasks each event loop can queue.
+     */
+    public static final int DEFAULT_QUEUE_SIZE_PER_EVENT_LOOP = 1024;
+
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private final int workersPerLane;
+    private final int maxLanes;
+    private final int queueSize;
+    private final ThreadFactory threadFactory;
+    private final List<ThreadPoolExecutor> lanes = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<ThreadPoolExecutor> boundLane = new ThreadLocal<>();
+    private volatile boolean shutdown;
+
+    /**
+     * @param workersPerLane The number of worker threads of each lane
+     * @param maxLanes       The maximum number of lanes
+     * @param queueSize      The maximum number of tasks queued by each lane
+     * @param threadFactory  The factory for the worker threads
+     */
+    public EventLoopAffineExecutorService(int workersPerLane, int maxLanes, int queueSize, ThreadFactory threadFactory) {
+        if (workersPerLane < 1) {
+            throw new IllegalArgumentException("Workers per lane must be positive: " + workersPerLane);
+        }
+        if (maxLanes < 1) {
+            throw new IllegalArgumentException("Max lanes must be positive: " + maxLanes);
+        }
+        if (queueSize < 1) {
+            throw new IllegalArgumentException("Queue size must be positive: " + queueSize);
+        }
+        this.workersPerLane = workersPerLane;
+        this.maxLanes = maxLanes;
+        this.queueSize = queueSize;
+        this.threadFactory = threadFactory;
+    }
+
+    /**
+     * Bind the current thread to a lane of its own, if the maximum number of lanes has not been reached yet. Servers
+     * call this from each of their event loops on startup, so that the lanes go to the event loops rather than to
+     * whichever threads happen to submit work first.
+     */
+    public void bindCurrentThread() {
+        if (boundLane.get() == null) {
+            boundLane.set(assignLane());
+        }
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (shutdown) {
+            throw new RejectedExecutionException("Executor has been shut down");
+        }
+        ThreadPoolExecutor lane = boundLane.get();
+        if (lane == null) {
+            lane = assignLane();
+            boundLane.set(lane);
+        }
+        lane.execute(command);
+    }
+
+    private synchronized ThreadPoolExecutor assignLane() {
+        if (lanes.size() < maxLanes) {
+            ThreadPoolExecutor lane = new ThreadPoolExecutor(
+                workersPerLane,
+                workersPerLane,
+                KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueSize),
+                threadFactory
+            );
+            lane.allowCoreThreadTimeOut(true);
+            if (shutdown) {
+                lane.shutdown();
+            }
+            lanes.add(lane);
+            return lane;
+        }
+        return lanes.get((int) (Thread.currentThread().getId() % maxLanes));
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        shutdown = true;
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+    }
+
+    @Override
+    public synchronized List<Runnable> shutdownNow() {
+        shutdown = true;
+        List<Runnable> pending = new ArrayList<>();
+        for (ThreadPoolExecutor lane : lanes) {
+            pending.addAll(lane.shutdownNow());
+        }
+        return pending;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        if (!shutdown) {
+            return false;
+        }
+        for (ThreadPoolExecutor lane : lanes) {
+            if (!lane.isTerminated()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (ThreadPoolExecutor lane : lanes) {
+            if (!lane.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "EventLoopAffineExecutorService{workersPerLane=" + workersPerLane + ", queueSize=" + queueSize + ", lanes=" + lanes.size() + '/' + maxLanes + '}';
+    }
+}
@@ -18,6 +18,7 @@ package io.micronaut.scheduling.executor;
 import io.micronaut.core.annotation.Nullable;
 
 import jakarta.validation.constraints.Min;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 
@@ -84,4 +85,66 @@ public interface ExecutorConfiguration {
      * @return The class to use as the {@link ThreadFactory}
      */
     Optional<Class<? extends ThreadFactory>> getThreadFactoryClass();
+
+    /**
+     * @return The duration of a single tick for {@link io.micronaut.scheduling.executor.ExecutorType#TIMING_WHEEL}
+     * @since 4.9.0
+     */
+    default Duration getTickDuration() {
+        return TimingWheelScheduledExecutorService.DEFAULT_TICK_DURATION;
+    }
+
+    /**
+     * @return The number of buckets per level for {@link io.micronaut.scheduling.executor.ExecutorType#TIMING_WHEEL}
+     * @since 4.9.0
+     */
+    default int getTicksPerWheel() {
+        return TimingWheelScheduledExecutorService.DEFAULT_TICKS_PER_WHEEL;
+    }
+
+    /**
+     * The name of the executor that {@link io.micronaut.scheduling.executor.ExecutorType#TIMING_WHEEL} runs expired
+     * tasks on. If absent, a pool of {@link #getCorePoolSize()} threads is created, or virtual threads are used if
+     * {@link #isVirtual()} is set.
+     *
+     * @return The name of the dispatch executor
+     * @since 4.9.0
+     */
+    default Optional<String> getDispatchExecutor() {
+        return Optional.empty();
+    }
+
+    /**
+     * The number of worker threads per event loop for {@link io.micronaut.scheduling.executor.ExecutorType#EVENT_LOOP_AFFINE}.
+     * At most {@link #getEventLoopLanes()} event loops get workers of their own, further loops share them.
+     *
+     * @return The number of workers per event loop
+     * @since 4.9.0
+     */
+    default int getWorkersPerEventLoop() {
+        return EventLoopAffineExecutorService.DEFAULT_WORKERS_PER_EVENT_LOOP;
+    }
+
+    /**
+     * The maximum number of event loops that get workers of their own for
+     * {@link io.micronaut.scheduling.executor.ExecutorType#EVENT_LOOP_AFFINE}. Defaults to the default number of
+     * event loops of the server.
+     *
+     * @return The maximum number of lanes
+     * @since 4.9.0
+     */
+    default int getEventLoopLanes() {
+        return Runtime.getRuntime().availableProcessors() * 2;
+    }
+
+    /**
+     * The maximum number of tasks each event loop can queue for
+     * {@link io.micronaut.scheduling.executor.ExecutorType#EVENT_LOOP_AFFINE}.
+     *
+     * @return The queue size per event loop
+     * @since 4.9.0
+     */
+    default int getQueueSizePerEventLoop() {
+        return EventLoopAffineExecutorService.DEFAULT_QUEUE_SIZE_PER_EVENT_LOOP;
+    }
 }
@@ -94,12 +94,41 @@ public class ExecutorFactory {
                 return Executors.newWorkStealingPool(executorConfiguration.getParallelism());
             case THREAD_PER_TASK:
                 return LoomSupport.newThreadPerTaskExecutor(getThreadFactory(executorConfiguration));
+            case TIMING_WHEEL:
+                return timingWheel(executorConfiguration);
+            case EVENT_LOOP_AFFINE:
+                return new EventLoopAffineExecutorService(
+                    executorConfiguration.getWorkersPerEventLoop(),
+                    executorConfiguration.getEventLoopLanes(),
+                    executorConfiguration.getQueueSizePerEventLoop(),
+                    getThreadFactory(executorConfiguration)
+                );
 
             default:
                 throw new IllegalStateException("Could not create Executor service for enum value: " + executorType);
         }
     }
 
+    private ExecutorService timingWheel(ExecutorConfiguration executorConfiguration) {
+        ThreadFactory threadFactory = getThreadFactory(executorConfiguration);
+        String dispatchExecutor = executorConfiguration.getDispatchExecutor().orElse(null);
+        ExecutorService dispatcher;
+        if (dispatchExecutor != null) {
+            dispatcher = beanLocator.getBean(ExecutorService.class, Qualifiers.byName(dispatchExecutor));
+        } else if (executorConfiguration.isVirtual()) {
+            dispatcher = LoomSupport.newThreadPerTaskExecutor(threadFactory);
+        } else {
+            dispatcher = Executors.newFixedThreadPool(executorConfiguration.getCorePoolSize(), threadFactory);
+        }
+        return new TimingWheelScheduledExecutorService(
+            executorConfiguration.getTickDuration(),
+            executorConfiguration.getTicksPerWheel(),
+            threadFactory,
+            dispatcher,
+            dispatchExecutor == null
+        );
+    }
+
     private ThreadFactory getThreadFactory(ExecutorConfiguration executorConfiguration) {
         return executorConfiguration
                 .getThreadFactoryClass()
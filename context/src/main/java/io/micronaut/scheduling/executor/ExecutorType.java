@@ -47,5 +47,21 @@ public enum ExecutorType {
     /**
      * @see java.util.concurrent.Executors#newThreadPerTaskExecutor()
      */
-    THREAD_PER_TASK
+    THREAD_PER_TASK,
+
+    /**
+     * A scheduled executor backed by a hierarchical timing wheel, suited for large numbers of timers.
+     *
+     * @see TimingWheelScheduledExecutorService
+     * @since 4.9.0
+     */
+    TIMING_WHEEL,
+
+    /**
+     * An executor that gives each submitting event loop its own small set of worker threads.
+     *
+     * @see EventLoopAffineExecutorService
+     * @since 4.9.0
+     */
+    EVENT_LOOP_AFFINE
 }
@@ -43,5 +43,14 @@ public enum ThreadSelection {
     /**
      * I/O selection will run all operations regardless of return type and annotations on the {@link io.micronaut.scheduling.TaskExecutors#BLOCKING blocking executor} and will never schedule an operation on the server event loop thread.
      */
-    BLOCKING
+    BLOCKING,
+    /**
+     * Virtual selection will run operations that {@link #AUTO} would regard as blocking on a new {@link io.micronaut.scheduling.TaskExecutors#VIRTUAL virtual thread}
+     * per operation, falling back to the {@link io.micronaut.scheduling.TaskExecutors#BLOCKING blocking executor} if virtual threads are not available.
+     *
+     * <p>Use {@link io.micronaut.scheduling.annotation.ExecuteOn#maxConcurrency()} to bound the number of operations a single method runs concurrently.</p>
+     *
+     * @since 4.9.0
+     */
+    VIRTUAL
 }
@@ -0,0 +1,502 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.scheduling.executor;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.ArgumentUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A {@link ScheduledExecutorService} backed by a hierarchical timing wheel.
+ *
+ * <p>Unlike {@link java.util.concurrent.ScheduledThreadPoolExecutor}, which keeps all tasks in a
+ * single locked binary heap, scheduling and cancelling a task is O(1): new and cancelled tasks are
+ * handed to the wheel thread through lock-free queues and only that thread touches the wheel. The
+ * price is precision, tasks fire on the first tick at or after their deadline.</p>
+ *
+ * <p>Each level of the wheel has {@code ticksPerWheel} buckets, a bucket of level {@code n}
+ * spans {@code ticksPerWheel^n} ticks. Tasks that are far away are kept in the upper levels and
+ * cascade down as time advances. Expired tasks are run on the dispatch executor, the wheel thread
+ * itself never runs user code.</p>
+ *
+ * <p>Shutting down the executor cancels all delayed and periodic tasks, {@link #shutdownNow()} returns the
+ * tasks that didn't fire yet instead.</p>
+ *
+ * @since 4.9.0
+ */
+public final class TimingWheelScheduledExecutorService extends AbstractExecutorService implements ScheduledExecutorService {
+
+    /**
+     * The default tick duration.
+     */
+    public static final Duration DEFAULT_TICK_DURATION = Duration.ofMillis(10);
+
+    /**
+     * The default number of buckets for each level of the wheel.
+     */
+    public static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+    private static final Logger LOG = LoggerFactory.getLogger(TimingWheelScheduledExecutorService.class);
+    private static final int STATE_RUNNING = 0;
+    private static final int STATE_SHUTDOWN = 1;
+    private static final int STATE_TERMINATED = 2;
+
+    private final long tickNanos;
+    private final int bits;
+    private final long mask;
+    private final Bucket[][] levels;
+    private final ExecutorService dispatcher;
+    private final boolean shutdownDispatcher;
+    private final Queue<Timeout<?>> pending = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout<?>> cancelled = new ConcurrentLinkedQueue<>();
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    // written by the wheel thread before the terminated latch is released
+    private final List<Runnable> unstarted = new ArrayList<>();
+    private final Thread worker;
+    private final long startTime;
+    private volatile int state = STATE_RUNNING;
+    private volatile boolean drainOnStop;
+    private long currentTick;
+
+    /**
+     * Creates a timing wheel that dispatches expired tasks on the given executor.
+     *
+     * @param tickDuration       The duration of a single tick
+     * @param ticksPerWheel      The number of buckets for each level of the wheel, rounded up to a power of two
+     * @param threadFactory      The thread factory to create the wheel thread with
+     * @param dispatcher         The executor to run expired tasks on
+     * @param shutdownDispatcher Whether to shut down the dispatcher when this executor is shut down
+     */
+    public TimingWheelScheduledExecutorService(@NonNull Duration tickDuration,
+                                               int ticksPerWheel,
+                                               @NonNull ThreadFactory threadFactory,
+                                               @NonNull ExecutorService dispatcher,
+                                               boolean shutdownDispatcher) {
+        ArgumentUtils.requireNonNull("tickDuration", tickDuration);
+        ArgumentUtils.requireNonNull("threadFactory", threadFactory);
+        ArgumentUtils.requireNonNull("dispatcher", dispatcher);
+        if (tickDuration.isNegative() || tickDuration.isZero()) {
+            throw new IllegalArgumentException("Tick duration must be positive: " + tickDuration);
+        }
+        if (ticksPerWheel < 2 || ticksPerWheel > 1 << 16) {
+            throw new IllegalArgumentException("Ticks per wheel must be between 2 and 65536: " + ticksPerWheel);
+        }
+        this.tickNanos = tickDuration.toNanos();
+        this.bits = Integer.SIZE - Integer.numberOfLeadingZeros(ticksPerWheel - 1);
+        this.mask = (1L << bits) - 1;
+        // enough levels to address every non-negative long tick
+        int levelCount = (Long.SIZE - 1 + bits - 1) / bits;
+        this.levels = new Bucket[levelCount][1 << bits];
+        for (Bucket[] level : levels) {
+            for (int i = 0; i < level.length; i++) {
+                level[i] = new Bucket();
+            }
+        }
+        this.dispatcher = dispatcher;
+        this.shutdownDispatcher = shutdownDispatcher;
+        this.startTime = System.nanoTime();
+        this.worker = threadFactory.newThread(this::runWheel);
+        this.worker.start();
+    }
+
+    /**
+     * Creates a timing wheel that dispatches expired tasks on a fixed thread pool.
+     *
+     * @param tickDuration  The duration of a single tick
+     * @param ticksPerWheel The number of buckets for each level of the wheel, rounded up to a power of two
+     * @param threadFactory The thread factory to create the wheel thread and the dispatch threads with
+     * @param nThreads      The number of dispatch threads
+     */
+    public TimingWheelScheduledExecutorService(@NonNull Duration tickDuration,
+                                               int ticksPerWheel,
+                                               @NonNull ThreadFactory threadFactory,
+                                               int nThreads) {
+        this(tickDuration, ticksPerWheel, threadFactory, Executors.newFixedThreadPool(nThreads, threadFactory), true);
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        ArgumentUtils.requireNonNull("command", command);
+        return enqueue(new Timeout<Void>(command, null, deadline(delay, unit), 0));
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        ArgumentUtils.requireNonNull("callable", callable);
+        return enqueue(new Timeout<>(callable, deadline(delay, unit), 0));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        ArgumentUtils.requireNonNull("command", command);
+        if (period <= 0) {
+            throw new IllegalArgumentException("Period must be positive: " + period);
+        }
+        return enqueue(new Timeout<Void>(command, null, deadline(initialDelay, unit), unit.toNanos(period)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        ArgumentUtils.requireNonNull("command", command);
+        if (delay <= 0) {
+            throw new IllegalArgumentException("Delay must be positive: " + delay);
+        }
+        return enqueue(new Timeout<Void>(command, null, deadline(initialDelay, unit), -unit.toNanos(delay)));
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (state != STATE_RUNNING) {
+            throw new RejectedExecutionException("Executor has been shut down");
+        }
+        dispatcher.execute(command);
+    }
+
+    @Override
+    public void shutdown() {
+        if (state == STATE_RUNNING) {
+            state = STATE_SHUTDOWN;
+            LockSupport.unpark(worker);
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        drainOnStop = true;
+        shutdown();
+        List<Runnable> tasks = new ArrayList<>();
+        if (Thread.currentThread() != worker) {
+            // only the wheel thread touches the buckets, wait for it to drain them
+            try {
+                terminated.await();
+                tasks.addAll(unstarted);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (shutdownDispatcher) {
+            tasks.addAll(dispatcher.shutdownNow());
+        }
+        return tasks;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return state != STATE_RUNNING;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return state == STATE_TERMINATED && (!shutdownDispatcher || dispatcher.isTerminated());
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        if (!terminated.await(timeout, unit)) {
+            return false;
+        }
+        return !shutdownDispatcher || dispatcher.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    private long deadline(long delay, TimeUnit unit) {
+        // clamp far away deadlines so that they cannot overflow
+        return System.nanoTime() + Math.min(Math.max(0, unit.toNanos(delay)), Long.MAX_VALUE >> 2);
+    }
+
+    private <V> Timeout<V> enqueue(Timeout<V> timeout) {
+        if (state != STATE_RUNNING) {
+            throw new RejectedExecutionException("Executor has been shut down");
+        }
+        pending.add(timeout);
+        if (state != STATE_RUNNING && pending.remove(timeout)) {
+            // lost the race with shutdown, the wheel thread may no longer drain the queue
+            throw new RejectedExecutionException("Executor has been shut down");
+        }
+        return timeout;
+    }
+
+    private void runWheel() {
+        try {
+            while (state == STATE_RUNNING) {
+                long tickStart = startTime + (currentTick + 1) * tickNanos;
+                long sleep = tickStart - System.nanoTime();
+                if (sleep > 0) {
+                    LockSupport.parkNanos(this, sleep);
+                    continue;
+                }
+                currentTick++;
+                removeCancelled();
+                transferPending();
+                cascade();
+                expire(levels[0][(int) (currentTick & mask)]);
+            }
+        } catch (Throwable e) {
+            LOG.error("Timing wheel stopped unexpectedly: {}", e.getMessage(), e);
+            state = STATE_SHUTDOWN;
+        } finally {
+            removeAll(drainOnStop);
+            state = STATE_TERMINATED;
+            terminated.countDown();
+            if (shutdownDispatcher) {
+                dispatcher.shutdown();
+            }
+        }
+    }
+
+    private void transferPending() {
+        Timeout<?> timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (!timeout.isCancelled()) {
+                place(timeout);
+            }
+        }
+    }
+
+    private void removeCancelled() {
+        Timeout<?> timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void cascade() {
+        for (int level = 1; level < levels.length; level++) {
+            int shift = bits * level;
+            if ((currentTick & ((1L << shift) - 1)) != 0) {
+                break;
+            }
+            Bucket bucket = levels[level][(int) ((currentTick >>> shift) & mask)];
+            Timeout<?> timeout = bucket.clear();
+            while (timeout != null) {
+                Timeout<?> next = timeout.next;
+                timeout.next = null;
+                timeout.prev = null;
+                place(timeout);
+                timeout = next;
+            }
+        }
+    }
+
+    private void place(Timeout<?> timeout) {
+        long elapsed = timeout.deadline - startTime;
+        // round up, a task never fires before its deadline
+        long tick = elapsed <= 0 ? 0 : (elapsed + tickNanos - 1) / tickNanos;
+        if (tick <= currentTick) {
+            levels[0][(int) (currentTick & mask)].add(timeout);
+            return;
+        }
+        if (tick - currentTick <= mask) {
+            levels[0][(int) (tick & mask)].add(timeout);
+            return;
+        }
+        for (int level = 1; level < levels.length; level++) {
+            int shift = bits * level;
+            long slot = tick >>> shift;
+            if (slot - (currentTick >>> shift) <= mask) {
+                levels[level][(int) (slot & mask)].add(timeout);
+                return;
+            }
+        }
+        // unreachable, the levels cover every long tick
+        levels[levels.length - 1][(int) ((tick >>> (bits * (levels.length - 1))) & mask)].add(timeout);
+    }
+
+    private void expire(Bucket bucket) {
+        Timeout<?> timeout = bucket.clear();
+        while (timeout != null) {
+            Timeout<?> next = timeout.next;
+            timeout.next = null;
+            timeout.prev = null;
+            if (!timeout.isCancelled()) {
+                try {
+                    dispatcher.execute(timeout);
+                } catch (RejectedExecutionException e) {
+                    LOG.warn("Dispatcher rejected expired task, cancelling it: {}", e.getMessage());
+                    timeout.cancel(false);
+                }
+            }
+            timeout = next;
+        }
+    }
+
+    private void removeAll(boolean drain) {
+        for (Bucket[] level : levels) {
+            for (Bucket bucket : level) {
+                Timeout<?> timeout = bucket.clear();
+                while (timeout != null) {
+                    Timeout<?> next = timeout.next;
+                    timeout.next = null;
+                    timeout.prev = null;
+                    remove(timeout, drain);
+                    timeout = next;
+                }
+            }
+        }
+        Timeout<?> timeout;
+        while ((timeout = pending.poll()) != null) {
+            remove(timeout, drain);
+        }
+        cancelled.clear();
+    }
+
+    private void remove(Timeout<?> timeout, boolean drain) {
+        if (!drain) {
+            timeout.cancel(false);
+        } else if (!timeout.isCancelled()) {
+            unstarted.add(timeout);
+        }
+    }
+
+    /**
+     * A doubly linked list of timeouts, only accessed by the wheel thread.
+     */
+    private static final class Bucket {
+        private Timeout<?> head;
+        private Timeout<?> tail;
+
+        void add(Timeout<?> timeout) {
+            timeout.bucket = this;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+            }
+            tail = timeout;
+        }
+
+        void remove(Timeout<?> timeout) {
+            if (timeout.prev == null) {
+                head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.prev;
+            } else {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        Timeout<?> clear() {
+            Timeout<?> first = head;
+            for (Timeout<?> t = first; t != null; t = t.next) {
+                t.bucket = null;
+            }
+            head = null;
+            tail = null;
+            return first;
+        }
+    }
+
+    /**
+     * A task in the wheel.
+     *
+     * @param <V> The result type
+     */
+    private final class Timeout<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+
+        /**
+         * Positive for fixed rate, negative for fixed delay and zero for one-shot tasks.
+         */
+        private final long period;
+        private volatile long deadline;
+        // wheel thread only
+        private Bucket bucket;
+        private Timeout<?> prev;
+        private Timeout<?> next;
+
+        Timeout(Callable<V> callable, long deadline, long period) {
+            super(callable);
+            this.deadline = deadline;
+            this.period = period;
+        }
+
+        Timeout(Runnable runnable, V result, long deadline, long period) {
+            super(runnable, result);
+            this.deadline = deadline;
+            this.period = period;
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return period != 0;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other == this) {
+                return 0;
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean result = super.cancel(mayInterruptIfRunning);
+            if (result && state == STATE_RUNNING) {
+                cancelled.add(this);
+            }
+            return result;
+        }
+
+        @Override
+        public void run() {
+            if (!isPeriodic()) {
+                super.run();
+            } else if (runAndReset()) {
+                deadline = period > 0 ? deadline + period : System.nanoTime() - period;
+                if (state == STATE_RUNNING) {
+                    pending.add(this);
+                } else {
+                    super.cancel(false);
+                }
+            }
+        }
+    }
+}
@@ -23,6 +23,7 @@ import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.ArgumentUtils;
 
 import jakarta.validation.constraints.Min;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 
@@ -49,6 +50,12 @@ public class UserExecutorConfiguration implements ExecutorConfiguration {
     private Integer corePoolSize;
     private boolean virtual;
     private Class<? extends ThreadFactory> threadFactoryClass;
+    private Duration tickDuration = TimingWheelScheduledExecutorService.DEFAULT_TICK_DURATION;
+    private int ticksPerWheel = TimingWheelScheduledExecutorService.DEFAULT_TICKS_PER_WHEEL;
+    private String dispatchExecutor;
+    private int workersPerEventLoop = EventLoopAffineExecutorService.DEFAULT_WORKERS_PER_EVENT_LOOP;
+    private int eventLoopLanes = AVAILABLE_PROCESSORS * 2;
+    private int queueSizePerEventLoop = EventLoopAffineExecutorService.DEFAULT_QUEUE_SIZE_PER_EVENT_LOOP;
 
     /**
      * Private Constructor.
@@ -196,6 +203,98 @@ public class UserExecutorConfiguration implements ExecutorConfiguration {
         this.threadFactoryClass = threadFactoryClass;
     }
 
+    @Override
+    public Duration getTickDuration() {
+        return tickDuration;
+    }
+
+    /**
+     * Sets the duration of a single tick for {@link io.micronaut.scheduling.executor.ExecutorType#TIMING_WHEEL}. Default value (10ms).
+     *
+     * @param tickDuration The tick duration
+     * @since 4.9.0
+     */
+    public void setTickDuration(Duration tickDuration) {
+        if (tickDuration != null) {
+            this.tickDuration = tickDuration;
+        }
+    }
+
+    @Override
+    public int getTicksPerWheel() {
+        return ticksPerWheel;
+    }
+
+    /**
+     * Sets the number of buckets per level for {@link io.micronaut.scheduling.executor.ExecutorType#TIMING_WHEEL}. Default value (512).
+     *
+     * @param ticksPerWheel The number of buckets per level
+     * @since 4.9.0
+     */
+    public void setTicksPerWheel(int ticksPerWheel) {
+        this.ticksPerWheel = ticksPerWheel;
+    }
+
+    @Override
+    public Optional<String> getDispatchExecutor() {
+        return Optional.ofNullable(dispatchExecutor);
+    }
+
+    /**
+     * Sets the name of the executor that {@link io.micronaut.scheduling.executor.ExecutorType#TIMING_WHEEL} runs expired tasks on.
+     *
+     * @param dispatchExecutor The name of the dispatch executor
+     * @since 4.9.0
+     */
+    public void setDispatchExecutor(@Nullable String dispatchExecutor) {
+        this.dispatchExecutor = dispatchExecutor;
+    }
+
+    @Override
+    public int getWorkersPerEventLoop() {
+        return workersPerEventLoop;
+    }
+
+    /**
+     * Sets the number of worker threads per event loop for {@link io.micronaut.scheduling.executor.ExecutorType#EVENT_LOOP_AFFINE}. Default value (4).
+     *
+     * @param workersPerEventLoop The number of workers per event loop
+     * @since 4.9.0
+     */
+    public void setWorkersPerEventLoop(int workersPerEventLoop) {
+        this.workersPerEventLoop = workersPerEventLoop;
+    }
+
+    @Override
+    public int getEventLoopLanes() {
+        return eventLoopLanes;
+    }
+
+    /**
+     * Sets the maximum number of event loops with workers of their own for {@link io.micronaut.scheduling.executor.ExecutorType#EVENT_LOOP_AFFINE}. Default value (2 * Number of processors available to the Java virtual machine).
+     *
+     * @param eventLoopLanes The maximum number of lanes
+     * @since 4.9.0
+     */
+    public void setEventLoopLanes(int eventLoopLanes) {
+        this.eventLoopLanes = eventLoopLanes;
+    }
+
+    @Override
+    public int getQueueSizePerEventLoop() {
+        return queueSizePerEventLoop;
+    }
+
+    /**
+     * Sets the maximum number of tasks each event loop can queue for {@link io.micronaut.scheduling.executor.ExecutorType#EVENT_LOOP_AFFINE}. Default value (1024).
+     *
+     * @param queueSizePerEventLoop The queue size per event loop
+     * @since 4.9.0
+     */
+    public void setQueueSizePerEventLoop(int queueSizePerEventLoop) {
+        this.queueSizePerEventLoop = queueSizePerEventLoop;
+    }
+
     /**
      * Construct a {@link UserExecutorConfiguration} for the given {@link io.micronaut.scheduling.executor.ExecutorType}.
      *
@@ -240,7 +339,7 @@ public class UserExecutorConfiguration implements ExecutorConfiguration {
             case FIXED:
                 configuration.nThreads = num;
                 break;
-            case SCHEDULED:
+            case SCHEDULED, TIMING_WHEEL:
                 configuration.corePoolSize = num;
                 break;
             case WORK_STEALING:
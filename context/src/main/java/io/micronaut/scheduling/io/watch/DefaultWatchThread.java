@@ -20,6 +20,7 @@ import io.micronaut.context.annotation.Parallel;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.env.Environment;
 import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.runtime.checkpoint.CheckpointResource;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.scheduling.io.watch.event.FileChangedEvent;
 import jakarta.annotation.PostConstruct;
@@ -53,14 +54,16 @@ import java.util.concurrent.atomic.AtomicBoolean;
 @Requires(beans = WatchService.class)
 @Parallel
 @Singleton
-public class DefaultWatchThread implements LifeCycle<DefaultWatchThread> {
+public class DefaultWatchThread implements LifeCycle<DefaultWatchThread>, CheckpointResource {
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultWatchThread.class);
     private final FileWatchConfiguration configuration;
     private final AtomicBoolean active = new AtomicBoolean(true);
     private final ApplicationEventPublisher eventPublisher;
-    private final WatchService watchService;
+    private volatile WatchService watchService;
     private Collection<WatchKey> watchKeys = new ConcurrentLinkedQueue<>();
+    private volatile Thread watchThread;
+    private boolean restartAfterRestore;
 
     /**
      * Default constructor.
@@ -97,10 +100,11 @@ public class DefaultWatchThread implements LifeCycle<DefaultWatchThread> {
             }
 
             if (!watchKeys.isEmpty()) {
-                new Thread(() -> {
+                WatchService service = this.watchService;
+                Thread thread = new Thread(() -> {
                     while (active.get()) {
                         try {
-                            WatchKey watchKey = watchService.poll(configuration.getCheckInterval().toMillis(), TimeUnit.MILLISECONDS);
+                            WatchKey watchKey = service.poll(configuration.getCheckInterval().toMillis(), TimeUnit.MILLISECONDS);
                             if (watchKey != null && watchKeys.contains(watchKey)) {
                                 List<WatchEvent<?>> watchEvents = watchKey.pollEvents();
                                 for (WatchEvent<?> watchEvent : watchEvents) {
@@ -130,7 +134,9 @@ public class DefaultWatchThread implements LifeCycle<DefaultWatchThread> {
                             Thread.currentThread().interrupt();
                         }
                     }
-                }, "micronaut-filewatch-thread").start();
+                }, "micronaut-filewatch-thread");
+                watchThread = thread;
+                thread.start();
             }
         } catch (IOException e) {
             if (LOG.isErrorEnabled()) {
@@ -153,6 +159,49 @@ public class DefaultWatchThread implements LifeCycle<DefaultWatchThread> {
         stop();
     }
 
+    /**
+     * Closes the watch service and waits for the watch thread to complete before a checkpoint, a new watch service
+     * is created once restored.
+     */
+    @Override
+    public synchronized void beforeCheckpoint() {
+        restartAfterRestore = active.get();
+        if (restartAfterRestore) {
+            stop();
+            watchKeys.clear();
+            Thread thread = watchThread;
+            if (thread != null) {
+                try {
+                    thread.join(configuration.getCheckInterval().toMillis() * 2);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                watchThread = null;
+            }
+        }
+    }
+
+    @Override
+    public synchronized void afterRestore() throws IOException {
+        if (restartAfterRestore) {
+            restartAfterRestore = false;
+            watchService = newWatchService();
+            active.set(true);
+            start();
+        }
+    }
+
+    /**
+     * Creates a new watch service, used to replace the watch service closed before a checkpoint.
+     *
+     * @return The watch service
+     * @throws IOException if an error occurs creating the watch service
+     * @since 4.9.0
+     */
+    protected @NonNull WatchService newWatchService() throws IOException {
+        return FileSystems.getDefault().newWatchService();
+    }
+
     /**
      * @return The watch service used.
      */
@@ -32,6 +32,7 @@ import io.micronaut.inject.BeanDefinition;
 import io.micronaut.inject.ExecutableMethod;
 import io.micronaut.inject.annotation.EvaluatedAnnotationValue;
 import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.runtime.checkpoint.CheckpointResource;
 import io.micronaut.runtime.event.annotation.EventListener;
 import io.micronaut.scheduling.ScheduledExecutorTaskScheduler;
 import io.micronaut.scheduling.TaskExceptionHandler;
@@ -50,6 +51,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ExecutorService;
@@ -64,7 +66,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * @since 1.0
  */
 @Singleton
-public class ScheduledMethodProcessor implements ExecutableMethodProcessor<Scheduled>, Closeable {
+public class ScheduledMethodProcessor implements ExecutableMethodProcessor<Scheduled>, CheckpointResource, Closeable {
 
     private static final Logger LOG = LoggerFactory.getLogger(TaskScheduler.class);
     private static final String MEMBER_FIXED_RATE = "fixedRate";
@@ -79,6 +81,7 @@ public class ScheduledMethodProcessor implements ExecutableMethodProcessor<Sched
     private final ConversionService conversionService;
     private final Queue<ScheduledFuture<?>> scheduledTasks = new ConcurrentLinkedDeque<>();
     private final Map<ScheduledDefinition, Runnable> scheduledMethods = new ConcurrentHashMap<>();
+    private final Set<OneShotTask> executedOneShotTasks = ConcurrentHashMap.newKeySet();
     private final TaskExceptionHandler<?, ?> taskExceptionHandler;
     private volatile boolean started = false;
 
@@ -123,7 +126,8 @@ public class ScheduledMethodProcessor implements ExecutableMethodProcessor<Sched
         ExecutableMethod<?, ?> method = scheduledDefinition.method();
         BeanDefinition<?> beanDefinition = scheduledDefinition.definition();
         List<AnnotationValue<Scheduled>> scheduledAnnotations = method.getAnnotationValuesByType(Scheduled.class);
-        for (AnnotationValue<Scheduled> scheduledAnnotation : scheduledAnnotations) {
+        for (int i = 0; i < scheduledAnnotations.size(); i++) {
+            AnnotationValue<Scheduled> scheduledAnnotation = scheduledAnnotations.get(i);
             String fixedRate = scheduledAnnotation.stringValue(MEMBER_FIXED_RATE).orElse(null);
 
             String initialDelayStr = scheduledAnnotation.stringValue(MEMBER_INITIAL_DELAY).orElse(null);
@@ -209,7 +213,15 @@ public class ScheduledMethodProcessor implements ExecutableMethodProcessor<Sched
                 ScheduledFuture<?> scheduledFuture = taskScheduler.scheduleWithFixedDelay(initialDelay, duration, task);
                 scheduledTasks.add(scheduledFuture);
             } else if (initialDelay != null) {
-                ScheduledFuture<?> scheduledFuture = taskScheduler.schedule(initialDelay, task);
+                OneShotTask oneShotTask = new OneShotTask(scheduledDefinition, i);
+                if (executedOneShotTasks.contains(oneShotTask)) {
+                    // already executed before a checkpoint, it is not scheduled again once restored
+                    continue;
+                }
+                ScheduledFuture<?> scheduledFuture = taskScheduler.schedule(initialDelay, () -> {
+                    executedOneShotTasks.add(oneShotTask);
+                    task.run();
+                });
 
                 scheduledTasks.add(scheduledFuture);
             } else {
@@ -229,9 +241,37 @@ public class ScheduledMethodProcessor implements ExecutableMethodProcessor<Sched
                           .orElse(this.taskExceptionHandler);
     }
 
+    /**
+     * Cancels the scheduled tasks before a checkpoint, they are scheduled again once restored. The tasks that only
+     * have an initial delay are not scheduled again if they were already executed.
+     */
+    @Override
+    public void beforeCheckpoint() {
+        cancelScheduledTasks();
+        scheduledMethods.replaceAll((definition, runnable) -> new ScheduleTaskRunnable(definition));
+    }
+
+    @Override
+    public void afterRestore() {
+        if (started) {
+            for (Runnable runnable : scheduledMethods.values()) {
+                runnable.run();
+            }
+        }
+    }
+
     @Override
     @PreDestroy
     public void close() {
+        try {
+            cancelScheduledTasks();
+        } finally {
+            this.scheduledMethods.clear();
+            this.executedOneShotTasks.clear();
+        }
+    }
+
+    private void cancelScheduledTasks() {
         try {
             for (ScheduledFuture<?> scheduledTask : scheduledTasks) {
                 if (!scheduledTask.isCancelled()) {
@@ -240,7 +280,6 @@ public class ScheduledMethodProcessor implements ExecutableMethodProcessor<Sched
             }
         } finally {
             this.scheduledTasks.clear();
-            this.scheduledMethods.clear();
         }
     }
 
@@ -248,6 +287,10 @@ public class ScheduledMethodProcessor implements ExecutableMethodProcessor<Sched
         BeanDefinition<?> definition,
         ExecutableMethod<?, ?> method) { }
 
+    private record OneShotTask(
+        ScheduledDefinition definition,
+        int index) { }
+
     /**
      * This Runnable calls {@link #scheduleTask(ScheduledDefinition)} exactly once, even if invoked
      * multiple times from multiple threads.
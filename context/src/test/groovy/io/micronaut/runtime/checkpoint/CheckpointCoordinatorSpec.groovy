@@ -0,0 +1,270 @@
+package io.micronaut.runtime.checkpoint
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.event.ApplicationEventListener
+import io.micronaut.runtime.context.scope.refresh.RefreshEvent
+import io.micronaut.scheduling.annotation.Scheduled
+import jakarta.inject.Singleton
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.atomic.AtomicInteger
+
+class CheckpointCoordinatorSpec extends Specification {
+
+    void "test resources are quiesced in reverse order and restored in order"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(['spec.name': 'CheckpointCoordinatorSpec'])
+        CheckpointCoordinator coordinator = context.getBean(CheckpointCoordinator)
+        List<String> calls = context.getBean(CallRecorder).calls
+        context.getBean(FirstResource)
+        context.getBean(SecondResource)
+
+        when:
+        coordinator.beforeCheckpoint()
+
+        then:
+        coordinator.checkpointed
+        calls == ['second:before', 'first:before']
+
+        when:
+        calls.clear()
+        coordinator.afterRestore()
+
+        then:
+        !coordinator.checkpointed
+        calls == ['first:after', 'second:after']
+
+        cleanup:
+        context.close()
+    }
+
+    void "test resources that were not created are skipped"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(['spec.name': 'CheckpointCoordinatorSpec'])
+        List<String> calls = context.getBean(CallRecorder).calls
+        context.getBean(FirstResource)
+
+        when:
+        context.getBean(CheckpointCoordinator).checkpointAndRestore()
+
+        then:
+        calls == ['first:before', 'first:after']
+
+        cleanup:
+        context.close()
+    }
+
+    void "test a failed checkpoint restores the resources quiesced so far"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(['spec.name': 'CheckpointCoordinatorSpec', 'checkpoint.fail': true])
+        CheckpointCoordinator coordinator = context.getBean(CheckpointCoordinator)
+        List<String> calls = context.getBean(CallRecorder).calls
+        context.getBean(FirstResource)
+        context.getBean(SecondResource)
+        context.getBean(FailingResource)
+
+        when:
+        coordinator.beforeCheckpoint()
+
+        then:
+        CheckpointException e = thrown()
+        e.cause.message == 'cannot quiesce'
+        !coordinator.checkpointed
+        calls == ['second:before', 'first:before', 'first:after', 'second:after']
+
+        cleanup:
+        context.close()
+    }
+
+    void "test the environment is refreshed after restore"() {
+        given:
+        System.setProperty('checkpoint.spec.value', 'one')
+        ApplicationContext context = ApplicationContext.run(['spec.name': 'CheckpointCoordinatorSpec'])
+        CheckpointCoordinator coordinator = context.getBean(CheckpointCoordinator)
+        RefreshListener listener = context.getBean(RefreshListener)
+
+        expect:
+        context.getRequiredProperty('checkpoint.spec.value', String) == 'one'
+
+        when:
+        coordinator.beforeCheckpoint()
+        System.setProperty('checkpoint.spec.value', 'two')
+        coordinator.afterRestore()
+
+        then:
+        context.getRequiredProperty('checkpoint.spec.value', String) == 'two'
+        listener.events.size() == 1
+        listener.events[0].source.containsKey('checkpoint.spec.value')
+
+        cleanup:
+        System.clearProperty('checkpoint.spec.value')
+        context.close()
+    }
+
+    void "test scheduled tasks are cancelled before checkpoint and rescheduled after restore"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(['spec.name': 'CheckpointCoordinatorSpec'])
+        CheckpointCoordinator coordinator = context.getBean(CheckpointCoordinator)
+        ScheduledTask task = context.getBean(ScheduledTask)
+        PollingConditions conditions = new PollingConditions(timeout: 5)
+
+        expect:
+        conditions.eventually {
+            task.runs.get() > 0
+        }
+
+        when:
+        coordinator.beforeCheckpoint()
+        Thread.sleep(50)
+        int runs = task.runs.get()
+        Thread.sleep(100)
+
+        then:
+        task.runs.get() == runs
+
+        when:
+        coordinator.afterRestore()
+
+        then:
+        conditions.eventually {
+            task.runs.get() > runs
+        }
+
+        cleanup:
+        context.close()
+    }
+
+    void "test one-shot scheduled tasks that were executed are not rescheduled after restore"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(['spec.name': 'CheckpointCoordinatorSpec'])
+        CheckpointCoordinator coordinator = context.getBean(CheckpointCoordinator)
+        OneShotTask task = context.getBean(OneShotTask)
+        PollingConditions conditions = new PollingConditions(timeout: 5)
+
+        expect:
+        conditions.eventually {
+            task.runs.get() == 1
+        }
+
+        when:
+        coordinator.checkpointAndRestore()
+        Thread.sleep(100)
+
+        then:
+        task.runs.get() == 1
+
+        cleanup:
+        context.close()
+    }
+
+    @Singleton
+    @Requires(property = 'spec.name', value = 'CheckpointCoordinatorSpec')
+    static class CallRecorder {
+        final List<String> calls = []
+    }
+
+    @Singleton
+    @Requires(property = 'spec.name', value = 'CheckpointCoordinatorSpec')
+    static class FirstResource implements CheckpointResource {
+        final CallRecorder recorder
+
+        FirstResource(CallRecorder recorder) {
+            this.recorder = recorder
+        }
+
+        @Override
+        void beforeCheckpoint() {
+            recorder.calls << 'first:before'
+        }
+
+        @Override
+        void afterRestore() {
+            recorder.calls << 'first:after'
+        }
+
+        @Override
+        int getOrder() {
+            1
+        }
+    }
+
+    @Singleton
+    @Requires(property = 'spec.name', value = 'CheckpointCoordinatorSpec')
+    static class SecondResource implements CheckpointResource {
+        final CallRecorder recorder
+
+        SecondResource(CallRecorder recorder) {
+            this.recorder = recorder
+        }
+
+        @Override
+        void beforeCheckpoint() {
+            recorder.calls << 'second:before'
+        }
+
+        @Override
+        void afterRestore() {
+            recorder.calls << 'second:after'
+        }
+
+        @Override
+        int getOrder() {
+            2
+        }
+    }
+
+    @Singleton
+    @Requires(property = 'spec.name', value = 'CheckpointCoordinatorSpec')
+    @Requires(property = 'checkpoint.fail')
+    static class FailingResource implements CheckpointResource {
+
+        @Override
+        void beforeCheckpoint() {
+            throw new IllegalStateException('cannot quiesce')
+        }
+
+        @Override
+        void afterRestore() {
+        }
+
+        @Override
+        int getOrder() {
+            0
+        }
+    }
+
+    @Singleton
+    @Requires(property = 'spec.name', value = 'CheckpointCoordinatorSpec')
+    static class RefreshListener implements ApplicationEventListener<RefreshEvent> {
+        final List<RefreshEvent> events = []
+
+        @Override
+        void onApplicationEvent(RefreshEvent event) {
+            events << event
+        }
+    }
+
+    @Singleton
+    @Requires(property = 'spec.name', value = 'CheckpointCoordinatorSpec')
+    static class ScheduledTask {
+        final AtomicInteger runs = new AtomicInteger()
+
+        @Scheduled(fixedRate = '10ms')
+        void run() {
+            runs.incrementAndGet()
+        }
+    }
+
+    @Singleton
+    @Requires(property = 'spec.name', value = 'CheckpointCoordinatorSpec')
+    static class OneShotTask {
+        final AtomicInteger runs = new AtomicInteger()
+
+        @Scheduled(initialDelay = '10ms')
+        void run() {
+            runs.incrementAndGet()
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package io.micronaut.runtime.context.scope.refresh
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class RefreshScopeSpec extends Specification {
+
+    @Unroll
+    void "test the property #key is bound to the prefix #prefix: #bound"() {
+        expect:
+        RefreshScope.isBoundTo(key, prefix) == bound
+
+        where:
+        key                          | prefix            | bound
+        'foo'                        | 'foo'             | true
+        'foo.bar'                    | 'foo'             | true
+        'foo[0]'                     | 'foo'             | true
+        'foo.bar.baz'                | 'foo.bar'         | true
+        'foobar'                     | 'foo'             | false
+        'foo-bar.baz'                | 'foo'             | false
+        'fo'                         | 'foo'             | false
+        'bar.foo'                    | 'foo'             | false
+        'datasources.default.url'    | 'datasources.*'   | true
+        'datasources.default'        | 'datasources.*'   | true
+        'datasources.other-one.url'  | 'datasources.*'   | true
+        'datasources'                | 'datasources.*'   | false
+        'datasourcesx.default.url'   | 'datasources.*'   | false
+        'clients.a.pool.size'        | 'clients.*.pool'  | true
+        'clients.a.b.pool.size'      | 'clients.*.pool'  | false
+        'clients.a.poolx'            | 'clients.*.pool'  | false
+        'clients[0].pool.size'       | 'clients[*].pool' | true
+    }
+}
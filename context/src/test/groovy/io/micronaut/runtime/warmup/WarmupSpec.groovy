@@ -0,0 +1,136 @@
+package io.micronaut.runtime.warmup
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import jakarta.inject.Singleton
+import spock.lang.Specification
+import spock.lang.TempDir
+import spock.util.concurrent.PollingConditions
+
+import java.nio.file.Path
+
+class WarmupSpec extends Specification {
+
+    @TempDir
+    Path tempDir
+
+    void "test the profile is written and read back"() {
+        given:
+        Path file = tempDir.resolve('profile.txt')
+        WarmupProfile profile = new WarmupProfile()
+        profile.add('route', 'GET /b', 10)
+        profile.add('route', 'GET /a', 10)
+        profile.add('bean', 'com.example.Foo', 10)
+
+        when:
+        profile.write(file)
+        WarmupProfile read = WarmupProfile.read(file)
+
+        then:
+        read.getEntries('route') == ['GET /a', 'GET /b'] as Set
+        read.getEntries('bean') == ['com.example.Foo'] as Set
+        read.getEntries('json').isEmpty()
+        !read.isEmpty()
+    }
+
+    void "test the number of entries per kind is limited"() {
+        given:
+        WarmupProfile profile = new WarmupProfile()
+
+        expect:
+        profile.add('bean', 'a', 1)
+        !profile.add('bean', 'b', 1)
+        profile.getEntries('bean') == ['a'] as Set
+
+        when:
+        profile.add('bean', 'a\nb', 10)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    void "test the singletons and conversions are recorded on shutdown"() {
+        given:
+        Path file = tempDir.resolve('recorded.txt')
+        ApplicationContext context = ApplicationContext.run([
+                'spec.name'                 : 'WarmupSpec',
+                (WarmupConfiguration.RECORD): true,
+                'micronaut.warmup.file'     : file.toString()
+        ])
+        context.getBean(CountingParticipant)
+        context.conversionService.convert('10', Integer)
+
+        when:
+        context.close()
+        WarmupProfile profile = WarmupProfile.read(file)
+
+        then:
+        profile.getEntries('bean').contains(CountingParticipant.name)
+        profile.getEntries('conversion').contains(String.name + '>' + Integer.name)
+    }
+
+    void "test the profile is replayed on startup and failing entries are dropped"() {
+        given:
+        Path file = tempDir.resolve('replayed.txt')
+        WarmupProfile profile = new WarmupProfile()
+        profile.add('counting', 'one', 10)
+        profile.add('counting', 'fail', 10)
+        profile.add('counting', 'two', 10)
+        profile.write(file)
+
+        when:
+        ApplicationContext context = ApplicationContext.run([
+                'spec.name'                  : 'WarmupSpec',
+                (WarmupConfiguration.ENABLED): true,
+                'micronaut.warmup.file'      : file.toString(),
+                'micronaut.warmup.iterations': 3
+        ])
+        WarmupRunner runner = context.getBean(WarmupRunner)
+
+        then:
+        new PollingConditions(timeout: 10).eventually {
+            runner.complete
+        }
+        context.getBean(CountingParticipant).calls.sort(false) == ['fail', 'one', 'one', 'one', 'two', 'two', 'two']
+
+        cleanup:
+        context.close()
+    }
+
+    void "test a missing profile completes the warm-up"() {
+        given:
+        ApplicationContext context = ApplicationContext.run([
+                (WarmupConfiguration.ENABLED): true,
+                'micronaut.warmup.file'      : tempDir.resolve('missing.txt').toString()
+        ])
+        WarmupRunner runner = context.getBean(WarmupRunner)
+
+        expect:
+        new PollingConditions(timeout: 10).eventually {
+            runner.complete
+        }
+
+        cleanup:
+        context.close()
+    }
+
+    @Singleton
+    @Requires(property = 'spec.name', value = 'WarmupSpec')
+    static class CountingParticipant implements WarmupParticipant {
+
+        final List<String> calls = Collections.synchronizedList([])
+
+        @Override
+        String getKind() {
+            return 'counting'
+        }
+
+        @Override
+        void replay(String entry) throws Exception {
+            calls.add(entry)
+            if (entry == 'fail') {
+                throw new IllegalStateException(entry)
+            }
+        }
+    }
+}
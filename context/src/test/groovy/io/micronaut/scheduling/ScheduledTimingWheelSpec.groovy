@@ -0,0 +1,130 @@
+package io.micronaut.scheduling
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.inject.qualifiers.Qualifiers
+import io.micronaut.scheduling.annotation.Scheduled
+import io.micronaut.scheduling.executor.TimingWheelScheduledExecutorService
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.time.Duration
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class ScheduledTimingWheelSpec extends Specification {
+
+    void "test scheduled with a timing wheel executor"() {
+        ApplicationContext ctx = ApplicationContext.run([
+                'spec.name': 'ScheduledTimingWheelSpec',
+                'micronaut.executors.wheel.type': 'timing_wheel',
+                'micronaut.executors.wheel.tick-duration': '5ms',
+                'micronaut.executors.wheel.ticks-per-wheel': 64
+        ])
+
+        when:
+        ScheduledBean bean = ctx.getBean(ScheduledBean)
+        PollingConditions conditions = new PollingConditions(timeout: 30)
+
+        then:
+        ctx.getBean(ExecutorService, Qualifiers.byName("wheel")) instanceof TimingWheelScheduledExecutorService
+        conditions.eventually {
+            bean.ran
+            bean.fixedRateEvents.get() >= 3
+            bean.cronEvents.get() >= 1
+        }
+
+        cleanup:
+        ctx.close()
+    }
+
+    void "test timers fire after their deadline and cancelled timers never fire"() {
+        given:
+        def wheel = new TimingWheelScheduledExecutorService(Duration.ofMillis(10), 8, Executors.defaultThreadFactory(), 2)
+        def fired = new CountDownLatch(500)
+        def early = new AtomicInteger()
+        def cancelledRuns = new AtomicInteger()
+
+        when:
+        1000.times { i ->
+            boolean cancel = i % 2 == 1
+            // the cancelled timers are far enough away to be always cancelled before their deadline
+            long delay = cancel ? 1000 + i : i
+            long due = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay)
+            def future = wheel.schedule({
+                if (cancel) {
+                    cancelledRuns.incrementAndGet()
+                }
+                if (System.nanoTime() < due) {
+                    early.incrementAndGet()
+                }
+                fired.countDown()
+            } as Runnable, delay, TimeUnit.MILLISECONDS)
+            if (cancel) {
+                future.cancel(false)
+            }
+        }
+        // fires after the deadlines of all the cancelled timers
+        def last = wheel.schedule({ } as Runnable, 2500, TimeUnit.MILLISECONDS)
+
+        then:
+        fired.await(10, TimeUnit.SECONDS)
+        last.get(10, TimeUnit.SECONDS) == null
+        early.get() == 0
+        cancelledRuns.get() == 0
+
+        when:
+        def farAway = wheel.schedule({ } as Runnable, 1, TimeUnit.DAYS)
+        wheel.shutdown()
+
+        then:
+        wheel.awaitTermination(5, TimeUnit.SECONDS)
+        farAway.isCancelled()
+    }
+
+    void "test shutdownNow returns the timers that didn't fire"() {
+        given:
+        def wheel = new TimingWheelScheduledExecutorService(Duration.ofMillis(10), 8, Executors.defaultThreadFactory(), 2)
+        def first = wheel.schedule({ } as Runnable, 1, TimeUnit.HOURS)
+        def second = wheel.scheduleAtFixedRate({ } as Runnable, 1, 1, TimeUnit.DAYS)
+        def cancelled = wheel.schedule({ } as Runnable, 1, TimeUnit.HOURS)
+        cancelled.cancel(false)
+
+        when:
+        List<Runnable> tasks = wheel.shutdownNow()
+
+        then:
+        tasks.size() == 2
+        tasks.containsAll([first, second])
+        !first.isCancelled()
+        wheel.isShutdown()
+        wheel.awaitTermination(5, TimeUnit.SECONDS)
+    }
+
+    @Requires(property = "spec.name", value = "ScheduledTimingWheelSpec")
+    @jakarta.inject.Singleton
+    static class ScheduledBean {
+
+        public boolean ran = false
+        AtomicInteger fixedRateEvents = new AtomicInteger(0)
+        AtomicInteger cronEvents = new AtomicInteger(0)
+
+        @Scheduled(initialDelay = "10ms", scheduler = "wheel")
+        void run() {
+            ran = true
+        }
+
+        @Scheduled(fixedRate = "20ms", scheduler = "wheel")
+        void runFixedRate() {
+            fixedRateEvents.incrementAndGet()
+        }
+
+        @Scheduled(cron = '* * * * * ?', scheduler = "wheel")
+        void runCron() {
+            cronEvents.incrementAndGet()
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package io.micronaut.scheduling.cron
 
 import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.time.ZoneId
+import java.time.ZonedDateTime
 
 class CronExpressionTest extends Specification {
     void "test toString gives the cron expression as string"() {
@@ -10,4 +14,62 @@ class CronExpressionTest extends Specification {
         then:
         cronExpression.getExpression() == "0 0 12 * * ?"
     }
+
+    @Unroll
+    void "test next time after #after for #expression"() {
+        given:
+        def cronExpression = CronExpression.create(expression)
+        def afterTime = ZonedDateTime.parse(after)
+
+        expect:
+        cronExpression.nextTimeAfter(afterTime) == ZonedDateTime.parse(next)
+        new FieldByFieldCronExpression(expression).nextTimeAfter(afterTime, afterTime.plusYears(4)) == ZonedDateTime.parse(next)
+
+        where:
+        expression           | after                                            | next
+        "0 0 12 * * ?"       | "2024-01-01T12:00:00Z[UTC]"                      | "2024-01-02T12:00:00Z[UTC]"
+        "*/15 * * * * *"     | "2024-01-01T12:00:07.500Z[UTC]"                  | "2024-01-01T12:00:15Z[UTC]"
+        "0 0 0 L * ?"        | "2024-02-01T00:00:00Z[UTC]"                      | "2024-02-29T00:00:00Z[UTC]"
+        "0 0 8 ? * 5#3"      | "2024-01-01T00:00:00Z[UTC]"                      | "2024-01-19T08:00:00Z[UTC]"
+        "0 0 9 15W * ?"      | "2024-06-01T00:00:00Z[UTC]"                      | "2024-06-14T09:00:00Z[UTC]"
+        "0 0 10 * * MON-FRI" | "2024-01-05T10:00:00Z[UTC]"                      | "2024-01-08T10:00:00Z[UTC]"
+        "0 0 0 29 2 ?"       | "2024-03-01T00:00:00Z[UTC]"                      | "2028-02-29T00:00:00Z[UTC]"
+        // local times inside a daylight saving gap are skipped
+        "0 30 2 * * *"       | "2024-03-10T00:00:00-05:00[America/New_York]"    | "2024-03-11T02:30:00-04:00[America/New_York]"
+        // local times inside a daylight saving overlap fire in both occurrences
+        "0 30 1 * * *"       | "2024-11-03T01:00:00-04:00[America/New_York]"    | "2024-11-03T01:30:00-04:00[America/New_York]"
+        "0 30 1 * * *"       | "2024-11-03T01:30:00-04:00[America/New_York]"    | "2024-11-03T01:30:00-05:00[America/New_York]"
+        "0 30 1 * * *"       | "2024-11-03T01:45:00-04:00[America/New_York]"    | "2024-11-03T01:30:00-05:00[America/New_York]"
+        "0 30 1 * * *"       | "2024-11-03T01:30:00-05:00[America/New_York]"    | "2024-11-04T01:30:00-05:00[America/New_York]"
+    }
+
+    void "test compiled schedule matches the field by field search"() {
+        given:
+        def random = new Random(42)
+        def zones = [ZoneId.of("UTC"), ZoneId.of("Europe/Berlin"), ZoneId.of("America/New_York")]
+        def expressions = ["0 */15 1-3 * * *", "0 0 8 ? * 5L", "0 0 0 1 1/3 SUN", "0 0 * * * 0", "0 0 3-5 3L * ?"]
+
+        expect:
+        for (String expression : expressions) {
+            def cronExpression = CronExpression.create(expression)
+            def walkExpression = new FieldByFieldCronExpression(expression)
+            for (ZoneId zone : zones) {
+                100.times {
+                    def afterTime = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, zone).plusSeconds(random.nextInt(366 * 24 * 3600))
+                    assert cronExpression.nextTimeAfter(afterTime) == walkExpression.nextTimeAfter(afterTime, afterTime.plusYears(4))
+                }
+            }
+        }
+    }
+
+    void "test no next time before the barrier"() {
+        given:
+        def cronExpression = CronExpression.create("0 0 0 30 2 ?")
+
+        when:
+        cronExpression.nextTimeAfter(ZonedDateTime.parse("2024-01-01T00:00:00Z[UTC]"))
+
+        then:
+        thrown(IllegalArgumentException)
+    }
 }
@@ -0,0 +1,80 @@
+package io.micronaut.scheduling.cron
+
+import java.time.ZonedDateTime
+
+/**
+ * The original field by field search of {@link CronExpression}, used to verify the compiled schedule.
+ */
+class FieldByFieldCronExpression {
+
+    private final CronExpression.SimpleField secondField
+    private final CronExpression.SimpleField minuteField
+    private final CronExpression.SimpleField hourField
+    private final CronExpression.DayOfWeekField dayOfWeekField
+    private final CronExpression.SimpleField monthField
+    private final CronExpression.DayOfMonthField dayOfMonthField
+
+    FieldByFieldCronExpression(String expr) {
+        String[] parts = expr.split("\\s+")
+        boolean withSeconds = parts.length == 6
+        int ix = withSeconds ? 1 : 0
+        this.secondField = new CronExpression.SimpleField(CronExpression.CronFieldType.SECOND, withSeconds ? parts[0] : "0")
+        this.minuteField = new CronExpression.SimpleField(CronExpression.CronFieldType.MINUTE, parts[ix++])
+        this.hourField = new CronExpression.SimpleField(CronExpression.CronFieldType.HOUR, parts[ix++])
+        this.dayOfMonthField = new CronExpression.DayOfMonthField(parts[ix++])
+        this.monthField = new CronExpression.SimpleField(CronExpression.CronFieldType.MONTH, parts[ix++])
+        this.dayOfWeekField = new CronExpression.DayOfWeekField(parts[ix])
+    }
+
+    ZonedDateTime nextTimeAfter(ZonedDateTime afterTime, ZonedDateTime dateTimeBarrier) {
+        ZonedDateTime nextTime = ZonedDateTime.from(afterTime).withNano(0).plusSeconds(1).withNano(0)
+
+        while (true) { // day of week
+            while (true) { // month
+                while (true) { // day of month
+                    while (true) { // hour
+                        while (true) { // minute
+                            while (true) { // second
+                                if (secondField.matches(nextTime.getSecond())) {
+                                    break
+                                }
+                                nextTime = nextTime.plusSeconds(1).withNano(0)
+                            }
+                            if (minuteField.matches(nextTime.getMinute())) {
+                                break
+                            }
+                            nextTime = nextTime.plusMinutes(1).withSecond(0).withNano(0)
+                        }
+                        if (hourField.matches(nextTime.getHour())) {
+                            break
+                        }
+                        nextTime = nextTime.plusHours(1).withMinute(0).withSecond(0).withNano(0)
+                    }
+                    if (dayOfMonthField.matches(nextTime.toLocalDate())) {
+                        break
+                    }
+                    nextTime = nextTime.plusDays(1).withHour(0).withMinute(0).withSecond(0).withNano(0)
+                    checkIfDateTimeBarrierIsReached(nextTime, dateTimeBarrier)
+                }
+                if (monthField.matches(nextTime.getMonth().getValue())) {
+                    break
+                }
+                nextTime = nextTime.plusMonths(1).withDayOfMonth(1).withHour(0).withMinute(0).withSecond(0).withNano(0)
+                checkIfDateTimeBarrierIsReached(nextTime, dateTimeBarrier)
+            }
+            if (dayOfWeekField.matches(nextTime.toLocalDate())) {
+                break
+            }
+            nextTime = nextTime.plusDays(1).withHour(0).withMinute(0).withSecond(0).withNano(0)
+            checkIfDateTimeBarrierIsReached(nextTime, dateTimeBarrier)
+        }
+
+        return nextTime
+    }
+
+    private static void checkIfDateTimeBarrierIsReached(ZonedDateTime nextTime, ZonedDateTime dateTimeBarrier) {
+        if (nextTime.isAfter(dateTimeBarrier)) {
+            throw new IllegalArgumentException("No next execution time could be determined that is before the limit of " + dateTimeBarrier)
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package io.micronaut.scheduling.executor
+
+import spock.lang.Specification
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class ConcurrencyLimitedExecutorServiceSpec extends Specification {
+
+    void "test tasks over the limit are queued"() {
+        given:
+        def target = Executors.newFixedThreadPool(4)
+        def executor = new ConcurrencyLimitedExecutorService(target, 2)
+        def running = new AtomicInteger()
+        def maxRunning = new AtomicInteger()
+
+        when:
+        def futures = (1..20).collect {
+            executor.submit {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max)
+                Thread.sleep(5)
+                running.decrementAndGet()
+            }
+        }
+        futures*.get(10, TimeUnit.SECONDS)
+
+        then:
+        maxRunning.get() <= 2
+
+        cleanup:
+        target.shutdown()
+    }
+
+    void "test a task rejected by the target executor is kept in the queue"() {
+        given:
+        def target = Executors.newSingleThreadExecutor()
+        def executor = new ConcurrencyLimitedExecutorService(target, 1)
+        def release = new CountDownLatch(1)
+        Runnable queued = { }
+
+        when:"a task waits in the queue while the target executor shuts down"
+        executor.execute { release.await() }
+        executor.execute(queued)
+        target.shutdown()
+        release.countDown()
+
+        then:"the completing task doesn't lose the queued one"
+        target.awaitTermination(5, TimeUnit.SECONDS)
+
+        when:"a new task is rejected"
+        executor.execute { }
+
+        then:"only that task is rejected"
+        thrown(RejectedExecutionException)
+        executor.shutdownNow() == [queued]
+    }
+}
@@ -0,0 +1,93 @@
+package io.micronaut.scheduling.executor
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.inject.qualifiers.Qualifiers
+import spock.lang.Specification
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.TimeUnit
+
+class EventLoopAffineExecutorServiceSpec extends Specification {
+
+    void "test work submitted by one thread runs on the same lane"() {
+        given:
+        EventLoopAffineExecutorService executor = new EventLoopAffineExecutorService(2, 4, 100, Executors.defaultThreadFactory())
+
+        when:
+        Set<Thread> first = ConcurrentHashMap.newKeySet()
+        Set<Thread> second = ConcurrentHashMap.newKeySet()
+        Thread.start { (1..50).collect { executor.submit { first.add(Thread.currentThread()) } }*.get() }.join()
+        Thread.start { (1..50).collect { executor.submit { second.add(Thread.currentThread()) } }*.get() }.join()
+
+        then:
+        first.size() <= 2
+        second.size() <= 2
+        first.intersect(second).isEmpty()
+
+        cleanup:
+        executor.shutdown()
+    }
+
+    void "test threads beyond the maximum number of lanes share lanes"() {
+        given:
+        EventLoopAffineExecutorService executor = new EventLoopAffineExecutorService(1, 1, 100, Executors.defaultThreadFactory())
+        Set<Thread> workers = ConcurrentHashMap.newKeySet()
+
+        when:
+        executor.submit { workers.add(Thread.currentThread()) }.get()
+        Thread.start { executor.submit { workers.add(Thread.currentThread()) }.get() }.join()
+        executor.shutdown()
+
+        then:
+        workers.size() == 1
+        executor.awaitTermination(10, TimeUnit.SECONDS)
+        executor.isTerminated()
+    }
+
+    void "test a lane rejects work when its queue is full"() {
+        given:
+        EventLoopAffineExecutorService executor = new EventLoopAffineExecutorService(1, 1, 1, Executors.defaultThreadFactory())
+        CountDownLatch started = new CountDownLatch(1)
+        CountDownLatch release = new CountDownLatch(1)
+
+        when:
+        executor.execute { started.countDown(); release.await() }
+        started.await()
+        executor.execute { }
+        executor.execute { }
+
+        then:
+        thrown(RejectedExecutionException)
+
+        cleanup:
+        release.countDown()
+        executor.shutdown()
+    }
+
+    void "test event loop affine executor configuration"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run([
+                'micronaut.executors.affine.type'                     : 'event_loop_affine',
+                'micronaut.executors.affine.workers-per-event-loop'   : 2,
+                'micronaut.executors.affine.event-loop-lanes'         : 8,
+                'micronaut.executors.affine.queue-size-per-event-loop': 16
+        ])
+        ExecutorConfiguration configuration = ctx.getBean(ExecutorConfiguration, Qualifiers.byName("affine"))
+
+        expect:
+        configuration.workersPerEventLoop == 2
+        configuration.eventLoopLanes == 8
+        configuration.queueSizePerEventLoop == 16
+        ctx.getBean(ExecutorService, Qualifiers.byName("affine")).toString().contains('queueSize=16')
+        ctx.getBean(ExecutorService, Qualifiers.byName("affine")).toString().contains('/8}')
+        ctx.getBean(ExecutorService, Qualifiers.byName("affine")) instanceof EventLoopAffineExecutorService
+        ctx.getBean(ExecutorService, Qualifiers.byName("affine")).submit({ 42 } as java.util.concurrent.Callable).get() == 42
+
+        cleanup:
+        ctx.close()
+    }
+}
@@ -15,14 +15,17 @@
  */
 package io.micronaut.aop.writer;
 
+import io.micronaut.aop.Adapter;
 import io.micronaut.aop.HotSwappableInterceptedProxy;
 import io.micronaut.aop.Intercepted;
 import io.micronaut.aop.InterceptedProxy;
 import io.micronaut.aop.Interceptor;
+import io.micronaut.aop.InterceptorBinding;
 import io.micronaut.aop.InterceptorKind;
 import io.micronaut.aop.InterceptorRegistry;
 import io.micronaut.aop.Introduced;
 import io.micronaut.aop.chain.InterceptorChain;
+import io.micronaut.aop.chain.InterceptorResolutionCache;
 import io.micronaut.aop.chain.MethodInterceptorChain;
 import io.micronaut.aop.internal.intercepted.InterceptedMethodUtil;
 import io.micronaut.context.BeanContext;
@@ -38,6 +41,7 @@ import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.Generated;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.reflect.ReflectionUtils;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.ArrayUtils;
@@ -86,6 +90,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -93,7 +98,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -185,9 +191,7 @@ public class AopProxyWriter implements ProxyingBeanDefinitionVisitor, ClassOutpu
     private static final String FIELD_READ_LOCK = "$target_rl";
     private static final String FIELD_WRITE_LOCK = "$target_wl";
 
-    private static final Method RESOLVE_INTRODUCTION_INTERCEPTORS_METHOD = ReflectionUtils.getRequiredInternalMethod(InterceptorChain.class, "resolveIntroductionInterceptors", InterceptorRegistry.class, ExecutableMethod.class, List.class);
-
-    private static final Method RESOLVE_AROUND_INTERCEPTORS_METHOD = ReflectionUtils.getRequiredInternalMethod(InterceptorChain.class, "resolveAroundInterceptors", InterceptorRegistry.class, ExecutableMethod.class, List.class);
+    private static final Method RESOLVE_INTERCEPTORS_METHOD = ReflectionUtils.getRequiredInternalMethod(InterceptorChain.class, "resolveInterceptors", BeanContext.class, InterceptorRegistry.class, ExecutableMethod[].class, boolean[].class, int[].class, List.class, InterceptorResolutionCache.class);
 
     private static final Constructor<?> CONSTRUCTOR_METHOD_INTERCEPTOR_CHAIN = ReflectionUtils.findConstructor(MethodInterceptorChain.class, Interceptor[].class, Object.class, ExecutableMethod.class, Object[].class).orElseThrow(() ->
         new IllegalStateException("new MethodInterceptorChain(..) constructor not found. Incompatible version of Micronaut?")
@@ -196,6 +200,10 @@ public class AopProxyWriter implements ProxyingBeanDefinitionVisitor, ClassOutpu
     private static final Constructor<?> CONSTRUCTOR_METHOD_INTERCEPTOR_CHAIN_NO_PARAMS = ReflectionUtils.findConstructor(MethodInterceptorChain.class, Interceptor[].class, Object.class, ExecutableMethod.class).orElseThrow(() ->
         new IllegalStateException("new MethodInterceptorChain(..) constructor not found. Incompatible version of Micronaut?")
     );
+    private static final Method METHOD_PROCEED_CONFINED = ReflectionUtils.getRequiredInternalMethod(MethodInterceptorChain.class, "proceedConfined", Interceptor[].class, Object.class, ExecutableMethod.class, Object[].class);
+
+    private static final Method METHOD_PROCEED_CONFINED_NO_PARAMS = ReflectionUtils.getRequiredInternalMethod(MethodInterceptorChain.class, "proceedConfined", Interceptor[].class, Object.class, ExecutableMethod.class);
+
     private static final String INTERCEPTORS_PARAMETER = "$interceptors";
 
     private static final Method METHOD_PROCEED = ReflectionUtils.getRequiredInternalMethod(InterceptorChain.class, "proceed");
@@ -206,6 +214,7 @@ public class AopProxyWriter implements ProxyingBeanDefinitionVisitor, ClassOutpu
     private static final String FIELD_BEAN_LOCATOR = "$beanLocator";
     private static final String FIELD_BEAN_QUALIFIER = "$beanQualifier";
     private static final String FIELD_PROXY_METHODS = "$proxyMethods";
+    private static final String FIELD_INTERCEPTOR_CACHE = "$interceptorCache";
     private static final String FIELD_PROXY_BEAN_DEFINITION = "$proxyBeanDefinition";
     private static final ClassTypeDef METHOD_INTERCEPTOR_CHAIN_TYPE = ClassTypeDef.of(MethodInterceptorChain.class);
 
@@ -249,6 +258,7 @@ public class AopProxyWriter implements ProxyingBeanDefinitionVisitor, ClassOutpu
     private final ClassDef.ClassDefBuilder proxyBuilder;
     private final FieldDef interceptorsField;
     private final FieldDef proxyMethodsField;
+    private final FieldDef interceptorCacheField;
     private FieldDef targetField;
 
     /**
@@ -307,6 +317,13 @@ public class AopProxyWriter implements ProxyingBeanDefinitionVisitor, ClassOutpu
 
         proxyBuilder.addField(proxyMethodsField);
 
+        interceptorCacheField = FieldDef.builder(FIELD_INTERCEPTOR_CACHE, InterceptorResolutionCache.class)
+            .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+            .initializer(ClassTypeDef.of(InterceptorResolutionCache.class).instantiate())
+            .build();
+
+        proxyBuilder.addField(interceptorCacheField);
+
         if (cacheLazyTarget || hotswap) {
             targetField = FieldDef.builder(FIELD_TARGET, ClassTypeDef.of(targetClassFullName)).addModifiers(Modifier.PRIVATE).build();
             proxyBuilder.addField(targetField);
@@ -415,6 +432,13 @@ public class AopProxyWriter implements ProxyingBeanDefinitionVisitor, ClassOutpu
 
         proxyBuilder.addField(proxyMethodsField);
 
+        interceptorCacheField = FieldDef.builder(FIELD_INTERCEPTOR_CACHE, InterceptorResolutionCache.class)
+            .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+            .initializer(ClassTypeDef.of(InterceptorResolutionCache.class).instantiate())
+            .build();
+
+        proxyBuilder.addField(interceptorCacheField);
+
         this.visitorContext = visitorContext;
     }
 
@@ -700,6 +724,7 @@ public class AopProxyWriter implements ProxyingBeanDefinitionVisitor, ClassOutpu
             int index = proxyMethodCount++;
 
             methodKey.methodIndex = methodIndex;
+            methodKey.bindingKey = bindingKey(methodElement);
             proxiedMethods.add(methodKey);
             proxiedMethodsRefSet.add(methodKey);
             proxyTargetMethods.add(methodKey);
@@ -725,6 +750,29 @@ public class AopProxyWriter implements ProxyingBeanDefinitionVisitor, ClassOutpu
                     targetArgument = aThis;
                 }
 
+                boolean returnsValue = !methodElement.getReturnType().isVoid() || methodElement.isSuspend();
+                if (isSynchronous(methodElement)) {
+                    // reuse the chain of the current thread if the interceptors allow it
+                    ExpressionDef.InvokeStaticMethod invocation;
+                    if (methodParameters.isEmpty()) {
+                        invocation = METHOD_INTERCEPTOR_CHAIN_TYPE.invokeStatic(
+                            METHOD_PROCEED_CONFINED_NO_PARAMS,
+                            aThis.field(interceptorsField).arrayElement(index),
+                            targetArgument,
+                            aThis.field(proxyMethodsField).arrayElement(index)
+                        );
+                    } else {
+                        invocation = METHOD_INTERCEPTOR_CHAIN_TYPE.invokeStatic(
+                            METHOD_PROCEED_CONFINED,
+                            aThis.field(interceptorsField).arrayElement(index),
+                            targetArgument,
+                            aThis.field(proxyMethodsField).arrayElement(index),
+                            TypeDef.OBJECT.array().instantiate(methodParameters)
+                        );
+                    }
+                    return returnsValue ? invocation.returning() : invocation;
+                }
+
                 ExpressionDef.InvokeInstanceMethod invocation;
                 if (methodParameters.isEmpty()) {
                     // invoke MethodInterceptorChain constructor without parameters
@@ -754,13 +802,35 @@ public class AopProxyWriter implements ProxyingBeanDefinitionVisitor, ClassOutpu
                         TypeDef.OBJECT.array().instantiate(methodParameters)
                     ).invoke(METHOD_PROCEED);
                 }
-                if (!methodElement.getReturnType().isVoid() || methodElement.isSuspend()) {
+                if (returnsValue) {
                     return invocation.returning();
                 }
                 return invocation;
             });
     }
 
+    /**
+     * Whether the result of the method is produced when the interceptor chain returns, so that the chain is not
+     * used afterward by a deferred subscription or callback.
+     *
+     * @param methodElement The method
+     * @return True if the method is synchronous
+     */
+    private static boolean isSynchronous(MethodElement methodElement) {
+        if (methodElement.isSuspend()) {
+            return false;
+        }
+        ClassElement returnType = methodElement.getReturnType();
+        if (returnType.isVoid() || returnType.isPrimitive()) {
+            return true;
+        }
+        return !returnType.isAssignable(CompletionStage.class)
+            && !returnType.isAssignable(Future.class)
+            && !returnType.isAssignable("org.reactivestreams.Publisher")
+            && !returnType.getName().startsWith("io.reactivex")
+            && !returnType.getName().startsWith("kotlinx.coroutines.flow");
+    }
+
     /**
      * Finalizes the proxy. This method should be called before writing the proxy to disk with {@link #writeTo(File)}
      */
@@ -982,7 +1052,6 @@ public class AopProxyWriter implements ProxyingBeanDefinitionVisitor, ClassOutpu
         } else {
             executableMethodsInstance = executableMethodsType.instantiate();
         }
-        AtomicInteger index = new AtomicInteger();
         return executableMethodsInstance.newLocal("executableMethods", executableMethodsVar -> StatementDef.multi(
             aThis.field(proxyMethodsField).assign(
                 ClassTypeDef.of(ExecutableMethod.class).array().instantiate(
@@ -995,37 +1064,90 @@ public class AopProxyWriter implements ProxyingBeanDefinitionVisitor, ClassOutpu
                 )
             ),
             aThis.field(interceptorsField).assign(
-                ClassTypeDef.of(Interceptor.class).array(2).instantiate(
-                    proxyTargetMethods.stream().map(methodRef -> {
-                            int methodIndex = methodRef.methodIndex;
-                            boolean introduction = isIntroduction && (
-                                executableMethodsDefinitionWriter.isAbstract(methodIndex) || (
-                                    executableMethodsDefinitionWriter.isInterface(methodIndex) && !executableMethodsDefinitionWriter.isDefault(methodIndex)));
-
-                            return ClassTypeDef.of(InterceptorChain.class).invokeStatic(
-                                (introduction ? RESOLVE_INTRODUCTION_INTERCEPTORS_METHOD : RESOLVE_AROUND_INTERCEPTORS_METHOD),
-
-                                // First argument. The interceptor registry
-                                parameters.get(interceptorRegistryArgumentIndex),
-                                // Second argument i.e. proxyMethods[0]
-                                aThis.field(proxyMethodsField).arrayElement(index.getAndIncrement()),
-                                // Third argument i.e. interceptors
-                                parameters.get(interceptorsListArgumentIndex)
-                            );
-                        }
-                    ).toList()
-                )
+                resolveInterceptors(aThis, parameters, proxyTargetMethods.stream().map(methodRef -> {
+                    int methodIndex = methodRef.methodIndex;
+                    return isIntroduction && (
+                        executableMethodsDefinitionWriter.isAbstract(methodIndex) || (
+                            executableMethodsDefinitionWriter.isInterface(methodIndex) && !executableMethodsDefinitionWriter.isDefault(methodIndex)));
+                }).toList())
             )
         ));
     }
 
+    /**
+     * Resolves the interceptors of the proxied methods. The methods with the same interceptor bindings are grouped
+     * here, so that the interceptors are only matched once per group at runtime.
+     *
+     * @param aThis        The proxy
+     * @param parameters   The constructor parameters
+     * @param introduction Whether each method is introduced
+     * @return The expression
+     */
+    private ExpressionDef resolveInterceptors(VariableDef.This aThis,
+                                              List<VariableDef.MethodParameter> parameters,
+                                              List<Boolean> introduction) {
+        Map<List<Object>, Integer> groups = new HashMap<>();
+        List<ExpressionDef> bindingGroups = new ArrayList<>(proxyTargetMethods.size());
+        for (int i = 0; i < proxyTargetMethods.size(); i++) {
+            List<Object> bindingKey = proxyTargetMethods.get(i).bindingKey;
+            int group = i;
+            if (bindingKey != null) {
+                List<Object> key = new ArrayList<>(bindingKey);
+                key.add(introduction.get(i));
+                Integer first = groups.putIfAbsent(key, i);
+                if (first != null) {
+                    group = first;
+                }
+            }
+            bindingGroups.add(TypeDef.Primitive.INT.constant(group));
+        }
+        return ClassTypeDef.of(InterceptorChain.class).invokeStatic(
+            RESOLVE_INTERCEPTORS_METHOD,
+
+            parameters.get(beanContextArgumentIndex),
+            parameters.get(interceptorRegistryArgumentIndex),
+            aThis.field(proxyMethodsField),
+            TypeDef.Primitive.BOOLEAN.array().instantiate(introduction.stream().map(b -> (ExpressionDef) TypeDef.Primitive.BOOLEAN.constant(b)).toList()),
+            TypeDef.Primitive.INT.array().instantiate(bindingGroups),
+            parameters.get(interceptorsListArgumentIndex),
+            aThis.type().getStaticField(interceptorCacheField)
+        );
+    }
+
+    /**
+     * The key of the interceptor bindings of a method, the methods with the same key are resolved to the same
+     * interceptors.
+     *
+     * @param methodElement The method
+     * @return The key or {@code null} if the interceptors of the method cannot be shared
+     */
+    @Nullable
+    private static List<Object> bindingKey(MethodElement methodElement) {
+        if (methodElement.hasStereotype(Adapter.class)) {
+            // the adapter introduction is specific to the method
+            return null;
+        }
+        AnnotationMetadata annotationMetadata = methodElement.getAnnotationMetadata();
+        List<AnnotationValue<InterceptorBinding>> bindings = annotationMetadata.getAnnotationValuesByType(InterceptorBinding.class);
+        for (AnnotationValue<InterceptorBinding> binding : bindings) {
+            if (binding.hasEvaluatedExpressions()) {
+                return null;
+            }
+        }
+        return List.of(
+            methodElement.getDeclaringType().getName(),
+            methodElement.getOwningType().getName(),
+            bindings,
+            annotationMetadata.getDeclaredAnnotationValuesByType(InterceptorBinding.class)
+        );
+    }
+
     private StatementDef initializeProxyTargetMethodsAndInterceptors(VariableDef.This aThis,
                                                                      List<VariableDef.MethodParameter> parameters,
                                                                      FieldDef proxyBeanDefinitionField) {
         if (proxiedMethods.size() != proxyMethodCount) {
             throw new IllegalStateException("Expected proxy methods count to match actual methods");
         }
-        AtomicInteger index = new AtomicInteger();
         return StatementDef.multi(
             aThis.field(proxyMethodsField).assign(
                 ClassTypeDef.of(ExecutableMethod.class).array().instantiate(
@@ -1042,20 +1164,7 @@ public class AopProxyWriter implements ProxyingBeanDefinitionVisitor, ClassOutpu
                 )
             ),
             aThis.field(interceptorsField).assign(
-                ClassTypeDef.of(Interceptor.class).array(2).instantiate(
-                    proxyTargetMethods.stream().map(methodRef ->
-                        ClassTypeDef.of(InterceptorChain.class).invokeStatic(
-                            (isIntroduction ? RESOLVE_INTRODUCTION_INTERCEPTORS_METHOD : RESOLVE_AROUND_INTERCEPTORS_METHOD),
-
-                            // First argument. The interceptor registry
-                            parameters.get(interceptorRegistryArgumentIndex),
-                            // Second argument i.e. proxyMethods[0]
-                            aThis.field(proxyMethodsField).arrayElement(index.getAndIncrement()),
-                            // Third argument i.e. interceptors
-                            parameters.get(interceptorsListArgumentIndex)
-                        )
-                    ).toList()
-                )
+                resolveInterceptors(aThis, parameters, proxyTargetMethods.stream().map(methodRef -> isIntroduction).toList())
             )
         );
     }
@@ -1505,6 +1614,8 @@ public class AopProxyWriter implements ProxyingBeanDefinitionVisitor, ClassOutpu
      */
     private static final class MethodRef {
         int methodIndex;
+        @Nullable
+        List<Object> bindingKey;
         private final String name;
         private final List<ClassElement> argumentTypes;
         private final List<ClassElement> genericArgumentTypes;
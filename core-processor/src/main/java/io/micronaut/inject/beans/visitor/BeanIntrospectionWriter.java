@@ -25,9 +25,11 @@ import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.beans.BeanIntrospection;
 import io.micronaut.core.beans.BeanIntrospectionReference;
 import io.micronaut.core.naming.NameUtils;
+import io.micronaut.core.reflect.ClassUtils;
 import io.micronaut.core.reflect.ReflectionUtils;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.ArrayUtils;
+import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.inject.annotation.AnnotationMetadataGenUtils;
 import io.micronaut.inject.annotation.AnnotationMetadataHierarchy;
 import io.micronaut.inject.annotation.AnnotationMetadataReference;
@@ -112,6 +114,41 @@ final class BeanIntrospectionWriter implements OriginatingElements, ClassOutputW
     private static final java.lang.reflect.Method GET_BP_INDEXED_SUBSET_METHOD =
         ReflectionUtils.getRequiredInternalMethod(AbstractInitializableBeanIntrospection.class, "getBeanPropertiesIndexedSubset", int[].class);
 
+    private static final Map<String, java.lang.reflect.Method> PRIMITIVE_GET_DISPATCH_METHODS = Map.of(
+        "int", getPrimitiveDispatchMethod("dispatchGetInt"),
+        "long", getPrimitiveDispatchMethod("dispatchGetLong"),
+        "double", getPrimitiveDispatchMethod("dispatchGetDouble"),
+        "boolean", getPrimitiveDispatchMethod("dispatchGetBoolean")
+    );
+
+    private static final Map<String, java.lang.reflect.Method> PRIMITIVE_SET_DISPATCH_METHODS = Map.of(
+        "int", getPrimitiveDispatchMethod("dispatchSetInt", int.class),
+        "long", getPrimitiveDispatchMethod("dispatchSetLong", long.class),
+        "double", getPrimitiveDispatchMethod("dispatchSetDouble", double.class),
+        "boolean", getPrimitiveDispatchMethod("dispatchSetBoolean", boolean.class)
+    );
+
+    private static final java.lang.reflect.Method DISPATCH_ONE_METHOD =
+        ReflectionUtils.getRequiredInternalMethod(AbstractInitializableBeanIntrospection.class, "dispatchOne", int.class, Object.class, Object.class);
+
+    private static final java.lang.reflect.Method COPY_PROPERTIES_METHOD =
+        ReflectionUtils.getRequiredInternalMethod(BeanIntrospection.class, "copyProperties", Object.class, Object.class);
+
+    private static final java.lang.reflect.Method PROPERTIES_EQUAL_METHOD =
+        ReflectionUtils.getRequiredInternalMethod(BeanIntrospection.class, "propertiesEqual", Object.class, Object.class);
+
+    private static final java.lang.reflect.Method PROPERTIES_HASH_CODE_METHOD =
+        ReflectionUtils.getRequiredInternalMethod(BeanIntrospection.class, "propertiesHashCode", Object.class);
+
+    private static final java.lang.reflect.Method TO_ARRAY_METHOD =
+        ReflectionUtils.getRequiredInternalMethod(BeanIntrospection.class, "toArray", Object.class);
+
+    private static final java.lang.reflect.Method OBJECTS_EQUALS_METHOD =
+        ReflectionUtils.getRequiredInternalMethod(Objects.class, "equals", Object.class, Object.class);
+
+    private static final java.lang.reflect.Method OBJECTS_HASH_CODE_METHOD =
+        ReflectionUtils.getRequiredInternalMethod(Objects.class, "hashCode", Object.class);
+
     private static final java.lang.reflect.Constructor<?> BEAN_METHOD_REF_CONSTRUCTOR = ReflectionUtils.getRequiredInternalConstructor(
         AbstractInitializableBeanIntrospection.BeanMethodRef.class,
         Argument.class,
@@ -725,6 +762,10 @@ final class BeanIntrospectionWriter implements OriginatingElements, ClassOutputW
         if (buildGetTargetMethodByIndex != null) {
             classDefBuilder.addMethod(buildGetTargetMethodByIndex);
         }
+        buildPrimitiveDispatchMethods().forEach(classDefBuilder::addMethod);
+        if (annotationMetadata != null && annotationMetadata.booleanValue(Introspected.class, "bulkOperations").orElse(false)) {
+            buildBulkOperationMethods().forEach(classDefBuilder::addMethod);
+        }
 
         MethodDef findIndexedProperty = getFindIndexedProperty();
         if (findIndexedProperty != null) {
@@ -795,6 +836,284 @@ final class BeanIntrospectionWriter implements OriginatingElements, ClassOutputW
         }
     }
 
+    private static java.lang.reflect.Method getPrimitiveDispatchMethod(String name, Class<?>... valueType) {
+        Class<?>[] parameterTypes = valueType.length == 0
+            ? new Class<?>[]{int.class, Object.class}
+            : new Class<?>[]{int.class, Object.class, valueType[0]};
+        return ReflectionUtils.getRequiredInternalMethod(AbstractInitializableBeanIntrospection.class, name, parameterTypes);
+    }
+
+    /**
+     * Builds the overrides of the primitive dispatch methods, reading or writing the {@code int}, {@code long},
+     * {@code double} and {@code boolean} properties without boxing. Only the accessors that are invoked directly
+     * are covered, the reflective ones are left to {@code dispatchOne}.
+     *
+     * @return The methods
+     */
+    private List<MethodDef> buildPrimitiveDispatchMethods() {
+        Map<String, Map<ExpressionDef.Constant, DispatchWriter.DispatchTarget>> getCases = new LinkedHashMap<>();
+        Map<String, Map<ExpressionDef.Constant, DispatchWriter.DispatchTarget>> setCases = new LinkedHashMap<>();
+        List<DispatchWriter.DispatchTarget> dispatchTargets = dispatchWriter.getDispatchTargets();
+        for (BeanPropertyData property : beanProperties) {
+            if (property.getDispatchIndex != -1) {
+                DispatchWriter.DispatchTarget dispatchTarget = dispatchTargets.get(property.getDispatchIndex);
+                String primitiveType = getPrimitiveReadType(dispatchTarget);
+                if (primitiveType != null) {
+                    getCases.computeIfAbsent(primitiveType, k -> new LinkedHashMap<>())
+                        .put(ExpressionDef.constant(property.getDispatchIndex), dispatchTarget);
+                }
+            }
+            if (property.setDispatchIndex != -1) {
+                DispatchWriter.DispatchTarget dispatchTarget = dispatchTargets.get(property.setDispatchIndex);
+                String primitiveType = getPrimitiveWriteType(dispatchTarget);
+                if (primitiveType != null) {
+                    setCases.computeIfAbsent(primitiveType, k -> new LinkedHashMap<>())
+                        .put(ExpressionDef.constant(property.setDispatchIndex), dispatchTarget);
+                }
+            }
+        }
+        List<MethodDef> methods = new ArrayList<>(getCases.size() + setCases.size());
+        getCases.forEach((primitiveType, cases) -> {
+            Method method = PRIMITIVE_GET_DISPATCH_METHODS.get(primitiveType);
+            TypeDef returnType = TypeDef.of(method.getReturnType());
+            methods.add(MethodDef.override(method)
+                .build((aThis, methodParameters) -> {
+                    VariableDef.MethodParameter index = methodParameters.get(0);
+                    VariableDef.MethodParameter target = methodParameters.get(1);
+                    Map<ExpressionDef.Constant, StatementDef> switchCases = CollectionUtils.newLinkedHashMap(cases.size());
+                    cases.forEach((caseIndex, dispatchTarget) ->
+                        switchCases.put(caseIndex, readDirectly(dispatchTarget, target).returning())
+                    );
+                    return index.asStatementSwitch(
+                        returnType,
+                        switchCases,
+                        aThis.superRef().invoke(method, index, target).returning()
+                    );
+                }));
+        });
+        setCases.forEach((primitiveType, cases) -> {
+            Method method = PRIMITIVE_SET_DISPATCH_METHODS.get(primitiveType);
+            methods.add(MethodDef.override(method)
+                .build((aThis, methodParameters) -> {
+                    VariableDef.MethodParameter index = methodParameters.get(0);
+                    VariableDef.MethodParameter target = methodParameters.get(1);
+                    VariableDef.MethodParameter value = methodParameters.get(2);
+                    Map<ExpressionDef.Constant, StatementDef> switchCases = CollectionUtils.newLinkedHashMap(cases.size());
+                    cases.forEach((caseIndex, dispatchTarget) ->
+                        switchCases.put(caseIndex, writeDirectly(dispatchTarget, target, value))
+                    );
+                    return index.asStatementSwitch(
+                        TypeDef.VOID,
+                        switchCases,
+                        aThis.superRef().invoke(method, index, target, value)
+                    );
+                }));
+        });
+        return methods;
+    }
+
+    /**
+     * Builds the overrides of the bulk operations of {@link BeanIntrospection}, accessing all the properties in a
+     * single method. The properties that can only be accessed reflectively go through {@code dispatchOne}.
+     *
+     * @return The methods
+     */
+    private List<MethodDef> buildBulkOperationMethods() {
+        List<DispatchWriter.DispatchTarget> dispatchTargets = dispatchWriter.getDispatchTargets();
+        List<MethodDef> methods = new ArrayList<>(4);
+        methods.add(MethodDef.override(TO_ARRAY_METHOD)
+            .build((aThis, methodParameters) -> {
+                List<ExpressionDef> values = new ArrayList<>(beanProperties.size());
+                for (BeanPropertyData property : beanProperties) {
+                    if (property.getDispatchIndex == -1) {
+                        values.add(ExpressionDef.nullValue());
+                        continue;
+                    }
+                    ClassElement type = getDirectReadType(dispatchTargets.get(property.getDispatchIndex));
+                    values.add(boxed(readProperty(aThis, property, methodParameters.get(0)), type));
+                }
+                return TypeDef.OBJECT.array().instantiate(values).returning();
+            }));
+        methods.add(MethodDef.override(PROPERTIES_EQUAL_METHOD)
+            .build((aThis, methodParameters) -> {
+                ExpressionDef equal = null;
+                for (BeanPropertyData property : beanProperties) {
+                    if (property.getDispatchIndex == -1) {
+                        continue;
+                    }
+                    ClassElement type = getDirectReadType(dispatchTargets.get(property.getDispatchIndex));
+                    ExpressionDef propertyEqual = propertyEquals(
+                        readProperty(aThis, property, methodParameters.get(0)),
+                        readProperty(aThis, property, methodParameters.get(1)),
+                        type
+                    );
+                    equal = equal == null ? propertyEqual : equal.isTrue().and(propertyEqual.isTrue());
+                }
+                return (equal == null ? ExpressionDef.constant(true) : equal).returning();
+            }));
+        methods.add(MethodDef.override(PROPERTIES_HASH_CODE_METHOD)
+            .build((aThis, methodParameters) -> {
+                ExpressionDef hashCode = TypeDef.Primitive.INT.constant(1);
+                for (BeanPropertyData property : beanProperties) {
+                    if (property.getDispatchIndex == -1) {
+                        continue;
+                    }
+                    ClassElement type = getDirectReadType(dispatchTargets.get(property.getDispatchIndex));
+                    hashCode = TypeDef.Primitive.INT.constant(31)
+                        .math(ExpressionDef.MathBinaryOperation.OpType.MULTIPLICATION, hashCode)
+                        .math(ExpressionDef.MathBinaryOperation.OpType.ADDITION,
+                            propertyHashCode(readProperty(aThis, property, methodParameters.get(0)), type));
+                }
+                return hashCode.returning();
+            }));
+        List<BeanPropertyData> readWriteProperties = beanProperties.stream()
+            .filter(property -> !property.isReadOnly && property.getDispatchIndex != -1 && property.setDispatchIndex != -1)
+            .toList();
+        if (!readWriteProperties.isEmpty()) {
+            methods.add(MethodDef.override(COPY_PROPERTIES_METHOD)
+                .build((aThis, methodParameters) -> {
+                    List<StatementDef> statements = new ArrayList<>(readWriteProperties.size());
+                    for (BeanPropertyData property : readWriteProperties) {
+                        ExpressionDef value = readProperty(aThis, property, methodParameters.get(0));
+                        DispatchWriter.DispatchTarget writeTarget = dispatchTargets.get(property.setDispatchIndex);
+                        if (getDirectWriteType(writeTarget) != null) {
+                            statements.add(writeDirectly(writeTarget, methodParameters.get(1), value));
+                        } else {
+                            ClassElement type = getDirectReadType(dispatchTargets.get(property.getDispatchIndex));
+                            statements.add(aThis.invoke(DISPATCH_ONE_METHOD,
+                                TypeDef.Primitive.INT.constant(property.setDispatchIndex), methodParameters.get(1), boxed(value, type)));
+                        }
+                    }
+                    return StatementDef.multi(statements);
+                }));
+        }
+        return methods;
+    }
+
+    private ExpressionDef readProperty(VariableDef.This aThis, BeanPropertyData property, ExpressionDef bean) {
+        DispatchWriter.DispatchTarget dispatchTarget = dispatchWriter.getDispatchTargets().get(property.getDispatchIndex);
+        if (getDirectReadType(dispatchTarget) != null) {
+            return readDirectly(dispatchTarget, bean);
+        }
+        return aThis.invoke(DISPATCH_ONE_METHOD, TypeDef.Primitive.INT.constant(property.getDispatchIndex), bean, ExpressionDef.nullValue());
+    }
+
+    private static ExpressionDef propertyEquals(ExpressionDef value, ExpressionDef otherValue, @Nullable ClassElement type) {
+        if (type != null && type.isPrimitive() && !type.isArray()) {
+            Class<?> primitiveType = getPrimitiveClass(type);
+            if (primitiveType == float.class || primitiveType == double.class) {
+                // the same semantics as the wrapper types, NaN is equal to itself
+                Class<?> wrapperType = ReflectionUtils.getWrapperType(primitiveType);
+                return ClassTypeDef.of(wrapperType)
+                    .invokeStatic(ReflectionUtils.getRequiredInternalMethod(wrapperType, "compare", primitiveType, primitiveType), value, otherValue)
+                    .equalsStructurally(TypeDef.Primitive.INT.constant(0));
+            }
+            return value.equalsStructurally(otherValue);
+        }
+        return ClassTypeDef.of(Objects.class).invokeStatic(OBJECTS_EQUALS_METHOD, value, otherValue);
+    }
+
+    private static ExpressionDef propertyHashCode(ExpressionDef value, @Nullable ClassElement type) {
+        if (type != null && type.isPrimitive() && !type.isArray()) {
+            Class<?> primitiveType = getPrimitiveClass(type);
+            Class<?> wrapperType = ReflectionUtils.getWrapperType(primitiveType);
+            return ClassTypeDef.of(wrapperType)
+                .invokeStatic(ReflectionUtils.getRequiredInternalMethod(wrapperType, "hashCode", primitiveType), value);
+        }
+        return ClassTypeDef.of(Objects.class).invokeStatic(OBJECTS_HASH_CODE_METHOD, value);
+    }
+
+    private static ExpressionDef boxed(ExpressionDef value, @Nullable ClassElement type) {
+        if (type != null && type.isPrimitive() && !type.isArray()) {
+            return value.cast(ClassTypeDef.of(ReflectionUtils.getWrapperType(getPrimitiveClass(type))));
+        }
+        return value;
+    }
+
+    private static Class<?> getPrimitiveClass(ClassElement type) {
+        return ClassUtils.getPrimitiveType(type.getName())
+            .orElseThrow(() -> new IllegalStateException("Unknown primitive type: " + type.getName()));
+    }
+
+    @Nullable
+    private static String getPrimitiveReadType(DispatchWriter.DispatchTarget dispatchTarget) {
+        ClassElement type = getDirectReadType(dispatchTarget);
+        return type == null ? null : getPrimitiveDispatchType(type);
+    }
+
+    @Nullable
+    private static String getPrimitiveWriteType(DispatchWriter.DispatchTarget dispatchTarget) {
+        ClassElement type = getDirectWriteType(dispatchTarget);
+        return type == null ? null : getPrimitiveDispatchType(type);
+    }
+
+    @Nullable
+    private static String getPrimitiveDispatchType(ClassElement type) {
+        if (type.isPrimitive() && !type.isArray() && PRIMITIVE_GET_DISPATCH_METHODS.containsKey(type.getName())) {
+            return type.getName();
+        }
+        return null;
+    }
+
+    /**
+     * Resolves the type of the value read by the dispatch target if it can be read without the dispatch switch.
+     *
+     * @param dispatchTarget The dispatch target of the getter
+     * @return The type or {@code null} if the property is read reflectively
+     */
+    @Nullable
+    private static ClassElement getDirectReadType(DispatchWriter.DispatchTarget dispatchTarget) {
+        if (dispatchTarget instanceof DispatchWriter.FieldGetDispatchTarget fieldGet) {
+            FieldElement field = fieldGet.getField();
+            return field.isReflectionRequired() ? null : field.getType();
+        }
+        if (dispatchTarget instanceof DispatchWriter.MethodDispatchTarget methodTarget) {
+            MethodElement methodElement = methodTarget.getMethodElement();
+            if (!methodElement.isStatic() && !methodElement.isSuspend() && methodElement.getParameters().length == 0) {
+                return methodElement.getReturnType();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Resolves the type of the value written by the dispatch target if it can be written without the dispatch switch.
+     *
+     * @param dispatchTarget The dispatch target of the setter
+     * @return The type or {@code null} if the property is written reflectively
+     */
+    @Nullable
+    private static ClassElement getDirectWriteType(DispatchWriter.DispatchTarget dispatchTarget) {
+        if (dispatchTarget instanceof DispatchWriter.FieldSetDispatchTarget fieldSet) {
+            FieldElement field = fieldSet.getField();
+            return field.isReflectionRequired() || field.isFinal() ? null : field.getType();
+        }
+        if (dispatchTarget instanceof DispatchWriter.MethodDispatchTarget methodTarget) {
+            MethodElement methodElement = methodTarget.getMethodElement();
+            if (!methodElement.isStatic() && !methodElement.isSuspend() && methodElement.getReturnType().isVoid()
+                && methodElement.getParameters().length == 1) {
+                return methodElement.getParameters()[0].getType();
+            }
+        }
+        return null;
+    }
+
+    private static ExpressionDef readDirectly(DispatchWriter.DispatchTarget dispatchTarget, ExpressionDef bean) {
+        if (dispatchTarget instanceof DispatchWriter.FieldGetDispatchTarget fieldGet) {
+            FieldElement field = fieldGet.getField();
+            return bean.cast(ClassTypeDef.of(field.getOwningType())).field(field);
+        }
+        return bean.cast(ClassTypeDef.of(dispatchTarget.getDeclaringType())).invoke(dispatchTarget.getMethodElement());
+    }
+
+    private static StatementDef writeDirectly(DispatchWriter.DispatchTarget dispatchTarget, ExpressionDef bean, ExpressionDef value) {
+        if (dispatchTarget instanceof DispatchWriter.FieldSetDispatchTarget fieldSet) {
+            FieldElement field = fieldSet.getField();
+            return bean.cast(ClassTypeDef.of(field.getOwningType())).field(field).put(value.cast(TypeDef.of(field.getType())));
+        }
+        return bean.cast(ClassTypeDef.of(dispatchTarget.getDeclaringType())).invoke(dispatchTarget.getMethodElement(), value);
+    }
+
     private MethodDef getBooleanMethod(Method method, boolean state) {
         return MethodDef.override(method)
             .build((aThis, methodParameters) -> ExpressionDef.constant(state).returning());
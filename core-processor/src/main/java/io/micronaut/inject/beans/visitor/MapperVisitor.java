@@ -16,6 +16,7 @@
 package io.micronaut.inject.beans.visitor;
 
 import io.micronaut.context.annotation.Mapper;
+import io.micronaut.core.annotation.AnnotationClassValue;
 import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.util.CollectionUtils;
@@ -27,6 +28,7 @@ import io.micronaut.inject.processing.ProcessingException;
 import io.micronaut.inject.visitor.TypeElementVisitor;
 import io.micronaut.inject.visitor.VisitorContext;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -34,11 +36,13 @@ import java.util.Map;
 import java.util.Set;
 
 /**
- * The mapper visitor.
+ * The mapper visitor. Validates the mapper methods and generates the {@link io.micronaut.inject.beans.GeneratedMapping}
+ * of the methods whose types are statically known.
  * @since 4.1.0
  */
 public final class MapperVisitor implements TypeElementVisitor<Object, Mapper> {
     private ClassElement lastClassElement;
+    private int mappingIndex;
 
     @Override
     public Set<String> getSupportedAnnotationNames() {
@@ -48,6 +52,7 @@ public final class MapperVisitor implements TypeElementVisitor<Object, Mapper> {
     @Override
     public void visitClass(ClassElement element, VisitorContext context) {
         lastClassElement = element;
+        mappingIndex = 0;
     }
 
     @Override
@@ -67,10 +72,24 @@ public final class MapperVisitor implements TypeElementVisitor<Object, Mapper> {
             }
             if (lastClassElement != null) {
                 lastClassElement.annotate(Mapper.class);
+                writeMapping(element, context);
             }
         }
     }
 
+    private void writeMapping(MethodElement element, VisitorContext context) {
+        MappingWriter writer = MappingWriter.create(lastClassElement, element, mappingIndex++);
+        if (writer == null) {
+            return;
+        }
+        element.annotate(Mapper.class, builder -> builder.member(Mapper.MEMBER_GENERATED_MAPPING, new AnnotationClassValue<>(writer.getClassName())));
+        try {
+            writer.accept(context);
+        } catch (IOException e) {
+            throw new ProcessingException(element, "Failed to generate mapping " + writer.getClassName() + ": " + e.getMessage(), e);
+        }
+    }
+
     @SuppressWarnings("java:S1192")
     private void validateMappingAnnotations(MethodElement element, List<AnnotationValue<Mapper.Mapping>> values, ClassElement toType) {
         @NonNull ParameterElement[] parameters = element.getParameters();
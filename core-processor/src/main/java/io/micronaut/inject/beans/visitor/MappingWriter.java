@@ -0,0 +1,339 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.inject.beans.visitor;
+
+import io.micronaut.context.annotation.Mapper;
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.Generated;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.reflect.ReflectionUtils;
+import io.micronaut.inject.ast.ClassElement;
+import io.micronaut.inject.ast.FieldElement;
+import io.micronaut.inject.ast.MemberElement;
+import io.micronaut.inject.ast.MethodElement;
+import io.micronaut.inject.ast.ParameterElement;
+import io.micronaut.inject.ast.PropertyElement;
+import io.micronaut.inject.ast.PropertyElementQuery;
+import io.micronaut.inject.beans.GeneratedMapping;
+import io.micronaut.inject.writer.ClassOutputWriter;
+import io.micronaut.inject.writer.ClassWriterOutputVisitor;
+import io.micronaut.inject.writer.MethodGenUtils;
+import io.micronaut.sourcegen.bytecode.ByteCodeWriter;
+import io.micronaut.sourcegen.model.ClassDef;
+import io.micronaut.sourcegen.model.ExpressionDef;
+import io.micronaut.sourcegen.model.MethodDef;
+import io.micronaut.sourcegen.model.StatementDef;
+import io.micronaut.sourcegen.model.TypeDef;
+import io.micronaut.sourcegen.model.VariableDef;
+
+import javax.lang.model.element.Modifier;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the {@link GeneratedMapping} of a {@link Mapper} method that maps a single introspected type to another
+ * one. The generated class reads the properties of the source with its getters or fields and creates the target
+ * with its constructor and setters, the same way the introspection based mapping does at runtime.
+ *
+ * <p>A mapping is only generated if all its types are statically known: the value of every property is assignable
+ * to the target property without conversion, and the mappings only rename properties. Conditions, expressions,
+ * formats, default values, root mappings, map sources and merging methods are left to the runtime.</p>
+ *
+ * @since 4.9.0
+ */
+@Internal
+final class MappingWriter implements ClassOutputWriter {
+
+    /**
+     * Suffix for generated mapping classes.
+     */
+    static final String CLASS_SUFFIX = "$Mapping";
+
+    private static final Method MAP_METHOD = ReflectionUtils.getRequiredMethod(GeneratedMapping.class, "map", Object.class);
+
+    private final String className;
+    private final MethodElement method;
+    private final ClassElement sourceType;
+    private final MethodElement constructor;
+    private final List<MemberElement> constructorValues;
+    private final Map<MemberElement, MemberElement> writes;
+
+    private MappingWriter(String className,
+                          MethodElement method,
+                          ClassElement sourceType,
+                          MethodElement constructor,
+                          List<MemberElement> constructorValues,
+                          Map<MemberElement, MemberElement> writes) {
+        this.className = className;
+        this.method = method;
+        this.sourceType = sourceType;
+        this.constructor = constructor;
+        this.constructorValues = constructorValues;
+        this.writes = writes;
+    }
+
+    /**
+     * @return The name of the generated class
+     */
+    @NonNull
+    String getClassName() {
+        return className;
+    }
+
+    /**
+     * Creates the writer of a mapper method.
+     *
+     * @param mapperType The type declaring the mapper method
+     * @param method     The mapper method
+     * @param index      The index of the method in the mapper type
+     * @return The writer or {@code null} if the mapping cannot be generated
+     */
+    @Nullable
+    static MappingWriter create(ClassElement mapperType, MethodElement method, int index) {
+        ParameterElement[] parameters = method.getParameters();
+        if (parameters.length != 1) {
+            return null;
+        }
+        String packageName = mapperType.getPackageName();
+        String prefix = packageName.isEmpty() ? "" : packageName + '.';
+        String className = prefix + '$' + mapperType.getName().substring(prefix.length()).replace('.', '$') + CLASS_SUFFIX + index;
+        ClassElement callingType = ClassElement.of(className);
+
+        ClassElement sourceType = parameters[0].getGenericType();
+        ClassElement targetType = method.getGenericReturnType();
+        if (!isIntrospected(sourceType) || !isIntrospected(targetType) || targetType.isAbstract()
+            || !isAccessible(sourceType, callingType) || !isAccessible(targetType, callingType)) {
+            return null;
+        }
+        Map<String, String> renames = findRenames(method, parameters[0].getName());
+        if (renames == null) {
+            return null;
+        }
+
+        Map<String, PropertyElement> sourceProperties = new HashMap<>();
+        for (PropertyElement property : getProperties(sourceType)) {
+            if (!property.isWriteOnly()) {
+                sourceProperties.put(property.getName(), property);
+            }
+        }
+        if (!sourceProperties.keySet().containsAll(renames.values())) {
+            return null;
+        }
+
+        MethodElement constructor = targetType.getPrimaryConstructor()
+            .filter(c -> c.getParameters().length > 0)
+            .or(targetType::getDefaultConstructor)
+            .orElse(null);
+        if (constructor == null
+            || !constructor.isAccessible(callingType, false)
+            || MethodGenUtils.hasKotlinDefaultsParameters(Arrays.asList(constructor.getParameters()))) {
+            return null;
+        }
+        List<MemberElement> constructorValues = new ArrayList<>(constructor.getParameters().length);
+        for (ParameterElement parameter : constructor.getParameters()) {
+            PropertyElement source = findSource(sourceProperties, renames, parameter.getName());
+            MemberElement read = resolveRead(source, parameter.getType(), parameter.isDeclaredNonNull(), callingType);
+            if (read == null && (source != null || isRequired(parameter.getType(), parameter.isDeclaredNonNull()))) {
+                return null;
+            }
+            constructorValues.add(read);
+        }
+
+        Map<MemberElement, MemberElement> writes = new LinkedHashMap<>();
+        for (PropertyElement property : getProperties(targetType)) {
+            if (property.isReadOnly() || Arrays.stream(constructor.getParameters()).anyMatch(p -> p.getName().equals(property.getName()))) {
+                continue;
+            }
+            MemberElement write = property.getWriteMember().orElse(null);
+            ClassElement writeType = property.getWriteType().orElse(null);
+            if (write == null || writeType == null || !write.isAccessible(callingType, false)) {
+                return null;
+            }
+            PropertyElement source = findSource(sourceProperties, renames, property.getName());
+            MemberElement read = resolveRead(source, writeType, property.isDeclaredNonNull(), callingType);
+            if (read == null && (source != null || isRequired(writeType, property.isDeclaredNonNull()))) {
+                return null;
+            }
+            // like the introspection builder, the properties without a value are set to null
+            writes.put(write, read);
+        }
+        return new MappingWriter(className, method, sourceType, constructor, constructorValues, writes);
+    }
+
+    /**
+     * Finds the properties renamed by the {@link Mapper.Mapping} annotations of the method.
+     *
+     * @param method        The method
+     * @param parameterName The name of the parameter
+     * @return The source property names by target property name or {@code null} if a mapping requires the runtime
+     */
+    @Nullable
+    private static Map<String, String> findRenames(MethodElement method, String parameterName) {
+        List<AnnotationValue<Mapper.Mapping>> mappings = method.getAnnotationMetadata().getAnnotationValuesByType(Mapper.Mapping.class);
+        Map<String, String> renames = new HashMap<>(mappings.size());
+        for (AnnotationValue<Mapper.Mapping> mapping : mappings) {
+            String to = mapping.stringValue(Mapper.Mapping.MEMBER_TO).orElse(null);
+            String from = mapping.stringValue(Mapper.Mapping.MEMBER_FROM).orElse(null);
+            if (to == null || from == null || from.contains("#{")
+                || mapping.contains(Mapper.Mapping.MEMBER_CONDITION)
+                || mapping.contains(Mapper.Mapping.MEMBER_FORMAT)
+                || mapping.contains(Mapper.Mapping.MEMBER_DEFAULT_VALUE)) {
+                return null;
+            }
+            int index = from.indexOf('.');
+            if (index > -1) {
+                if (!from.substring(0, index).equals(parameterName)) {
+                    // ignored by the runtime as well
+                    continue;
+                }
+                from = from.substring(index + 1);
+            }
+            renames.put(to, from);
+        }
+        return renames;
+    }
+
+    @Nullable
+    private static PropertyElement findSource(Map<String, PropertyElement> sourceProperties, Map<String, String> renames, String name) {
+        return sourceProperties.get(renames.getOrDefault(name, name));
+    }
+
+    /**
+     * Resolves the member to read the value of a target property from.
+     *
+     * @param source      The source property
+     * @param targetType  The type of the target property
+     * @param nonNull     Whether the target property is declared non-null
+     * @param callingType The generated type
+     * @return The member or {@code null} if the value cannot be mapped directly
+     */
+    @Nullable
+    private static MemberElement resolveRead(@Nullable PropertyElement source, ClassElement targetType, boolean nonNull, ClassElement callingType) {
+        if (source == null) {
+            return null;
+        }
+        MemberElement read = source.getReadMember().orElse(null);
+        ClassElement readType = source.getReadType().orElse(null);
+        if (read == null || readType == null || !read.isAccessible(callingType, false)) {
+            return null;
+        }
+        if (isRequired(targetType, nonNull) && !isPrimitive(targetType)) {
+            // the builder rejects null values at runtime
+            return null;
+        }
+        return isAssignable(readType, targetType) ? read : null;
+    }
+
+    private static boolean isAssignable(ClassElement from, ClassElement to) {
+        if (from.isGenericPlaceholder() || to.isGenericPlaceholder()) {
+            return false;
+        }
+        if (from.isArray() || to.isArray() || isPrimitive(from) || isPrimitive(to)) {
+            return from.getName().equals(to.getName()) && from.getArrayDimensions() == to.getArrayDimensions();
+        }
+        return from.isAssignable(to);
+    }
+
+    private static boolean isPrimitive(ClassElement type) {
+        return type.isPrimitive() && !type.isArray();
+    }
+
+    private static boolean isRequired(ClassElement type, boolean nonNull) {
+        return isPrimitive(type) || nonNull;
+    }
+
+    private static boolean isIntrospected(ClassElement type) {
+        return type.hasStereotype(Introspected.class) && !type.isPresent(Introspected.class, "builder");
+    }
+
+    private static boolean isAccessible(ClassElement type, ClassElement callingType) {
+        if (type.isPrivate() || (!type.isPublic() && !type.getPackageName().equals(callingType.getPackageName()))) {
+            return false;
+        }
+        ClassElement enclosingType = type.getEnclosingType().orElse(null);
+        return enclosingType == null || isAccessible(enclosingType, callingType);
+    }
+
+    private static List<PropertyElement> getProperties(ClassElement type) {
+        boolean ignoreSettersWithDifferingType = type.booleanValue(Introspected.class, "ignoreSettersWithDifferingType").orElse(true);
+        return type.getBeanProperties(PropertyElementQuery.of(type).ignoreSettersWithDifferingType(ignoreSettersWithDifferingType))
+            .stream()
+            .filter(p -> !p.isExcluded())
+            .toList();
+    }
+
+    @Override
+    public void accept(ClassWriterOutputVisitor classWriterOutputVisitor) throws IOException {
+        try (OutputStream outputStream = classWriterOutputVisitor.visitClass(className, method)) {
+            outputStream.write(new ByteCodeWriter().write(generateClassDef()));
+        }
+    }
+
+    private ClassDef generateClassDef() {
+        return ClassDef.builder(className).synthetic()
+            .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+            .addAnnotation(Generated.class)
+            .addSuperinterface(TypeDef.of(GeneratedMapping.class))
+            .addMethod(MethodDef.constructor().addModifiers(Modifier.PUBLIC).build((aThis, methodParameters)
+                -> aThis.superRef().invokeConstructor()))
+            .addMethod(MethodDef.override(MAP_METHOD).build((aThis, methodParameters)
+                -> methodParameters.get(0).cast(TypeDef.erasure(sourceType)).newLocal("source", source -> {
+                    ParameterElement[] parameters = constructor.getParameters();
+                    List<ExpressionDef> values = new ArrayList<>(parameters.length);
+                    for (int i = 0; i < parameters.length; i++) {
+                        values.add(read(source, constructorValues.get(i), parameters[i].getType()));
+                    }
+                    ExpressionDef instance = MethodGenUtils.invokeBeanConstructor(constructor, false, values);
+                    if (writes.isEmpty()) {
+                        return instance.returning();
+                    }
+                    return instance.newLocal("target", target -> {
+                        List<StatementDef> statements = new ArrayList<>(writes.size() + 1);
+                        writes.forEach((write, read) -> {
+                            if (write instanceof MethodElement writeMethod) {
+                                ParameterElement parameter = writeMethod.getParameters()[0];
+                                statements.add(target.invoke(writeMethod, read(source, read, parameter.getType())));
+                            } else {
+                                FieldElement field = (FieldElement) write;
+                                statements.add(target.field(field).assign(read(source, read, field.getType())));
+                            }
+                        });
+                        statements.add(target.returning());
+                        return StatementDef.multi(statements);
+                    });
+                })))
+            .build();
+    }
+
+    private static ExpressionDef read(VariableDef source, @Nullable MemberElement read, ClassElement targetType) {
+        if (read == null) {
+            return ExpressionDef.nullValue();
+        }
+        ExpressionDef value = read instanceof MethodElement readMethod ? source.invoke(readMethod) : source.field((FieldElement) read);
+        // a generic getter returns the erasure of its type variable
+        return isPrimitive(targetType) ? value : value.cast(TypeDef.erasure(targetType));
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.inject.writer;
+
+import io.micronaut.context.AbstractBeanDefinitionIndex;
+import io.micronaut.core.annotation.Generated;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.naming.NameUtils;
+import io.micronaut.inject.ast.Element;
+import io.micronaut.inject.visitor.VisitorContext;
+import io.micronaut.sourcegen.bytecode.ByteCodeWriter;
+import io.micronaut.sourcegen.model.AnnotationDef;
+import io.micronaut.sourcegen.model.ClassDef;
+import io.micronaut.sourcegen.model.ClassTypeDef;
+import io.micronaut.sourcegen.model.ExpressionDef;
+import io.micronaut.sourcegen.model.MethodDef;
+import io.micronaut.sourcegen.model.TypeDef;
+
+import javax.lang.model.element.Modifier;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Writes the {@link AbstractBeanDefinitionIndex} of the bean definitions of a compilation, if the
+ * {@value #BEAN_DEFINITION_INDEX} option is enabled. The index is split into several classes for large modules,
+ * each of them is registered as a service.
+ *
+ * <p>The bean definitions are still registered as services as well, the context only uses the index entries of the
+ * definitions that are registered, so that a stale index left over by an incremental compilation is harmless.</p>
+ *
+ * @since 4.9.0
+ */
+@Internal
+public final class BeanDefinitionIndexWriter implements ClassOutputWriter {
+
+    /**
+     * The annotation processor option to generate the bean definition index.
+     */
+    public static final String BEAN_DEFINITION_INDEX = "micronaut.processing.bean.index";
+
+    /**
+     * Suffix for generated index classes.
+     */
+    public static final String CLASS_SUFFIX = "$BeanDefinitionIndex";
+
+    private static final String ATTRIBUTE = BeanDefinitionIndexWriter.class.getName();
+    private static final int MAX_ENTRIES_PER_CLASS = 1000;
+
+    private final Map<String, String> entries = new TreeMap<>();
+    private final List<Element> originatingElements = new ArrayList<>();
+    private boolean written;
+
+    private BeanDefinitionIndexWriter() {
+    }
+
+    /**
+     * Finds the index writer of the compilation.
+     *
+     * @param visitorContext The visitor context
+     * @return The index writer or {@code null} if the index is not enabled
+     */
+    @Nullable
+    public static BeanDefinitionIndexWriter find(VisitorContext visitorContext) {
+        if (!"true".equals(visitorContext.getOptions().get(BEAN_DEFINITION_INDEX))) {
+            return null;
+        }
+        BeanDefinitionIndexWriter indexWriter = visitorContext.get(ATTRIBUTE, BeanDefinitionIndexWriter.class).orElse(null);
+        if (indexWriter == null) {
+            indexWriter = new BeanDefinitionIndexWriter();
+            visitorContext.put(ATTRIBUTE, indexWriter);
+        }
+        return indexWriter;
+    }
+
+    /**
+     * Adds a bean definition to the index. Definitions written after the index are loaded as usual.
+     *
+     * @param beanDefinitionWriter The bean definition writer
+     */
+    void add(BeanDefinitionWriter beanDefinitionWriter) {
+        if (written) {
+            return;
+        }
+        String entry = beanDefinitionWriter.getIndexEntry();
+        if (entry != null) {
+            entries.put(beanDefinitionWriter.getBeanDefinitionName(), entry);
+            Collections.addAll(originatingElements, beanDefinitionWriter.getOriginatingElements());
+        }
+    }
+
+    @Override
+    public void accept(ClassWriterOutputVisitor classWriterOutputVisitor) throws IOException {
+        if (written) {
+            return;
+        }
+        written = true;
+        if (entries.isEmpty()) {
+            return;
+        }
+        // the first definition names the package, the hash keeps the names of different modules apart
+        String packageName = NameUtils.getPackageName(entries.keySet().iterator().next());
+        String baseName = (packageName.isEmpty() ? "" : packageName + '.') + CLASS_SUFFIX
+            + Integer.toHexString(entries.keySet().hashCode());
+        Element[] elements = originatingElements.toArray(Element.EMPTY_ELEMENT_ARRAY);
+        List<String> allEntries = new ArrayList<>(entries.values());
+        for (int from = 0, part = 0; from < allEntries.size(); from += MAX_ENTRIES_PER_CLASS, part++) {
+            String className = baseName + '$' + part;
+            List<String> chunk = allEntries.subList(from, Math.min(from + MAX_ENTRIES_PER_CLASS, allEntries.size()));
+            try (OutputStream outputStream = classWriterOutputVisitor.visitClass(className, elements)) {
+                outputStream.write(generateClassBytes(className, chunk));
+            }
+            classWriterOutputVisitor.visitServiceDescriptor(AbstractBeanDefinitionIndex.class, className, originatingElements.get(0));
+        }
+    }
+
+    private static byte[] generateClassBytes(String className, List<String> chunk) {
+        List<ExpressionDef> values = new ArrayList<>(chunk.size());
+        for (String entry : chunk) {
+            values.add(ExpressionDef.constant(entry));
+        }
+        ClassDef indexClass = ClassDef.builder(className).synthetic()
+            .superclass(ClassTypeDef.of(AbstractBeanDefinitionIndex.class))
+            .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+            .addAnnotation(AnnotationDef.builder(Generated.class).addMember("service", AbstractBeanDefinitionIndex.class.getName()).build())
+            .addMethod(MethodDef.constructor().addModifiers(Modifier.PUBLIC).build((aThis, methodParameters)
+                -> aThis.superRef().invokeConstructor(TypeDef.STRING.array().instantiate(values))))
+            .build();
+        return new ByteCodeWriter().write(indexClass);
+    }
+}
@@ -19,6 +19,7 @@ import io.micronaut.aop.chain.ConstructorInterceptorChain;
 import io.micronaut.aop.chain.MethodInterceptorChain;
 import io.micronaut.aop.writer.AopProxyWriter;
 import io.micronaut.context.AbstractBeanDefinitionBeanConstructor;
+import io.micronaut.context.AbstractBeanDefinitionIndex;
 import io.micronaut.context.AbstractExecutableMethod;
 import io.micronaut.context.AbstractInitializableBeanDefinition;
 import io.micronaut.context.AbstractInitializableBeanDefinitionAndReference;
@@ -39,6 +40,7 @@ import io.micronaut.context.annotation.EachBean;
 import io.micronaut.context.annotation.EachProperty;
 import io.micronaut.context.annotation.InjectScope;
 import io.micronaut.context.annotation.Parameter;
+import io.micronaut.context.annotation.Parallel;
 import io.micronaut.context.annotation.Primary;
 import io.micronaut.context.annotation.Property;
 import io.micronaut.context.annotation.PropertySource;
@@ -73,6 +75,7 @@ import io.micronaut.core.annotation.AnnotationUtil;
 import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.AnnotationValueBuilder;
 import io.micronaut.core.annotation.Generated;
+import io.micronaut.core.annotation.Indexed;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NextMajorVersion;
 import io.micronaut.core.annotation.NonNull;
@@ -2305,26 +2308,35 @@ public final class BeanDefinitionWriter implements ClassOutputWriter, BeanDefini
     }
 
     private StatementDef addGetExposedTypes() {
-        if (annotationMetadata.hasDeclaredAnnotation(Bean.class.getName())) {
-            final String[] exposedTypes = annotationMetadata.stringValues(Bean.class.getName(), "typed");
-            if (exposedTypes.length > 0) {
-                FieldDef exposedTypesField = FieldDef.builder(FIELD_EXPOSED_TYPES, Set.class)
-                    .addModifiers(Modifier.PRIVATE, Modifier.FINAL, Modifier.STATIC)
-                    .build();
+        final String[] exposedTypes = getExposedTypeNames();
+        if (exposedTypes.length > 0) {
+            FieldDef exposedTypesField = FieldDef.builder(FIELD_EXPOSED_TYPES, Set.class)
+                .addModifiers(Modifier.PRIVATE, Modifier.FINAL, Modifier.STATIC)
+                .build();
 
-                classDefBuilder.addField(exposedTypesField);
+            classDefBuilder.addField(exposedTypesField);
 
-                classDefBuilder.addMethod(
-                    MethodDef.override(GET_EXPOSED_TYPES_METHOD)
-                        .build((aThis, methodParameters) -> aThis.type().getStaticField(exposedTypesField).returning())
-                );
+            classDefBuilder.addMethod(
+                MethodDef.override(GET_EXPOSED_TYPES_METHOD)
+                    .build((aThis, methodParameters) -> aThis.type().getStaticField(exposedTypesField).returning())
+            );
 
-                return beanDefinitionTypeDef.getStaticField(exposedTypesField).put(getClassesAsSetExpression(exposedTypes));
-            }
+            return beanDefinitionTypeDef.getStaticField(exposedTypesField).put(getClassesAsSetExpression(exposedTypes));
         }
         return StatementDef.multi();
     }
 
+    /**
+     * The types the bean is limited to with {@link Bean#typed()}, declared directly or through a stereotype.
+     *
+     * @return The names of the exposed types, empty if the bean is not limited
+     */
+    private String[] getExposedTypeNames() {
+        AnnotationMetadata metadata = annotationMetadata instanceof AnnotationMetadataHierarchy
+            ? annotationMetadata.getDeclaredMetadata() : annotationMetadata;
+        return metadata.hasStereotype(Bean.class) ? metadata.stringValues(Bean.class, "typed") : EMPTY_STRING_ARRAY;
+    }
+
     @Nullable
     private MethodDef getGetOrder() {
         int order = OrderUtil.getOrder(annotationMetadata);
@@ -2404,6 +2416,10 @@ public final class BeanDefinitionWriter implements ClassOutputWriter, BeanDefini
             beanDefinitionName,
             getOriginatingElement()
         );
+        BeanDefinitionIndexWriter indexWriter = BeanDefinitionIndexWriter.find(visitorContext);
+        if (indexWriter != null) {
+            indexWriter.add(this);
+        }
         write(visitor, classDefBuilder.build());
         try {
             if (executableMethodsDefinitionWriter != null) {
@@ -4329,6 +4345,76 @@ public final class BeanDefinitionWriter implements ClassOutputWriter, BeanDefini
         }
     }
 
+    /**
+     * Creates the entry of this bean definition in the {@link BeanDefinitionIndexWriter bean definition index}.
+     *
+     * @return The entry or {@code null} if the bean type cannot be indexed
+     */
+    @Nullable
+    String getIndexEntry() {
+        if (beanTypeElement.isPrimitive() || beanTypeElement.isArray()) {
+            return null;
+        }
+        int flags = 0;
+        if (annotationMetadata.hasDeclaredAnnotation(Context.class)) {
+            flags |= AbstractBeanDefinitionIndex.CONTEXT_SCOPE;
+        }
+        if (isSingleton(getScope().orElse(null))) {
+            flags |= AbstractBeanDefinitionIndex.SINGLETON;
+        }
+        if (annotationMetadata.hasStereotype(Requires.class)) {
+            flags |= AbstractBeanDefinitionIndex.CONDITIONAL;
+        }
+        if (proxiedBean) {
+            flags |= AbstractBeanDefinitionIndex.PROXIED_BEAN;
+        }
+        if (isProxyTarget) {
+            flags |= AbstractBeanDefinitionIndex.PROXY_TARGET;
+        }
+        if (preprocessMethods) {
+            flags |= AbstractBeanDefinitionIndex.REQUIRES_METHOD_PROCESSING;
+        }
+        if (annotationMetadata.hasDeclaredStereotype(Parallel.class)) {
+            flags |= AbstractBeanDefinitionIndex.PARALLEL;
+        }
+        if (annotationMetadata.hasDeclaredStereotype(Primary.class)) {
+            flags |= AbstractBeanDefinitionIndex.PRIMARY;
+        }
+        if (isConfigurationProperties) {
+            flags |= AbstractBeanDefinitionIndex.CONFIGURATION_PROPERTIES;
+        }
+        if (isContainerType()) {
+            flags |= AbstractBeanDefinitionIndex.CONTAINER_TYPE;
+        }
+        List<String> typeNames;
+        String[] exposedTypes = getExposedTypeNames();
+        if (exposedTypes.length > 0) {
+            flags |= AbstractBeanDefinitionIndex.TYPED;
+            typeNames = Arrays.asList(exposedTypes);
+        } else {
+            typeNames = new ArrayList<>();
+            for (ClassElement beanType : getBeanTypes()) {
+                typeNames.add(beanType.getName());
+            }
+            Collections.sort(typeNames);
+        }
+        List<String> indexedTypes = new ArrayList<>(2);
+        for (AnnotationValue<Indexed> indexed : annotationMetadata.getAnnotationValuesByType(Indexed.class)) {
+            indexedTypes.addAll(Arrays.asList(indexed.stringValues()));
+        }
+        String adapterType = annotationMetadata.hasStereotype(AnnotationUtil.ANN_ADAPTER)
+            ? annotationMetadata.stringValue(AnnotationUtil.ANN_ADAPTER).orElse(null) : null;
+        return AbstractBeanDefinitionIndex.entry(
+            beanDefinitionName,
+            beanFullClassName,
+            flags,
+            typeNames,
+            getQualifiers(),
+            indexedTypes,
+            adapterType
+        );
+    }
+
     private boolean isContainerType() {
         return beanTypeElement.isArray() || DefaultArgument.CONTAINER_TYPES.stream().anyMatch(c -> c.equals(beanFullClassName));
     }
@@ -4574,7 +4660,7 @@ public final class BeanDefinitionWriter implements ClassOutputWriter, BeanDefini
 
     @Override
     public Set<ClassElement> getBeanTypes() {
-        final String[] types = this.annotationMetadata.stringValues(Bean.class, "typed");
+        final String[] types = getExposedTypeNames();
         if (ArrayUtils.isNotEmpty(types)) {
             HashSet<ClassElement> classElements = new HashSet<>();
             for (String type : types) {
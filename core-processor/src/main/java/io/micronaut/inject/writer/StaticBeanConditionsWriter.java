@@ -0,0 +1,87 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.inject.writer;
+
+import io.micronaut.context.StaticBeanConditions;
+import io.micronaut.core.annotation.Internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Optional;
+
+/**
+ * Writes the {@link StaticBeanConditions} index of an application, a build step that runs once the application
+ * classes are compiled, on the runtime classpath of the application. The index is written to
+ * {@value StaticBeanConditions#RESOURCE} and lets the context skip loading the bean definitions that are disabled by
+ * the presence or absence of classes, the SDK versions or the operating system.
+ *
+ * <p>The index is only used at runtime on the same operating system family and Java version it was computed
+ * with. Build tools can run {@link #main(String[])} with the output directory followed by the classpath
+ * entries of the application.</p>
+ *
+ * @since 4.9.0
+ */
+@Internal
+public final class StaticBeanConditionsWriter implements ClassOutputWriter {
+
+    private static final String FILE_NAME = StaticBeanConditions.RESOURCE.substring("META-INF/".length());
+
+    private final ClassLoader classLoader;
+
+    /**
+     * @param classLoader The class loader with the runtime classpath of the application
+     */
+    public StaticBeanConditionsWriter(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    @Override
+    public void accept(ClassWriterOutputVisitor classWriterOutputVisitor) throws IOException {
+        StaticBeanConditions conditions = StaticBeanConditions.evaluate(classLoader);
+        Optional<GeneratedFile> generatedFile = classWriterOutputVisitor.visitMetaInfFile(FILE_NAME);
+        if (generatedFile.isPresent()) {
+            try (OutputStream outputStream = generatedFile.get().openOutputStream()) {
+                conditions.writeTo(outputStream);
+            }
+        }
+    }
+
+    /**
+     * Writes the index of an application.
+     *
+     * @param args The output directory followed by the classpath entries of the application
+     * @throws IOException If the index cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            throw new IllegalArgumentException("Usage: StaticBeanConditionsWriter <output directory> [classpath entries...]");
+        }
+        File outputDirectory = new File(args[0]);
+        URL[] classpath = new URL[args.length - 1];
+        for (int i = 1; i < args.length; i++) {
+            classpath[i - 1] = new File(args[i]).toURI().toURL();
+        }
+        ClassLoader parent = StaticBeanConditionsWriter.class.getClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(classpath, parent)) {
+            DirectoryClassWriterOutputVisitor visitor = new DirectoryClassWriterOutputVisitor(outputDirectory);
+            new StaticBeanConditionsWriter(classLoader).accept(visitor);
+            visitor.finish();
+        }
+    }
+}
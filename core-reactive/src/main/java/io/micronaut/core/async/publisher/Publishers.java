@@ -33,6 +33,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -52,6 +53,7 @@ public class Publishers {
     private static final List<Class<?>> REACTIVE_TYPES;
     private static final List<Class<?>> SINGLE_TYPES;
     private static final List<Class<?>> COMPLETABLE_TYPES;
+    private static final AtomicInteger REACTIVE_TYPE_REGISTRATIONS = new AtomicInteger();
 
     static {
         List<Class<?>> reactiveTypes;
@@ -146,9 +148,21 @@ public class Publishers {
     public static void registerReactiveType(Class<?> type) {
         if (type != null) {
             REACTIVE_TYPES.add(type);
+            REACTIVE_TYPE_REGISTRATIONS.incrementAndGet();
         }
     }
 
+    /**
+     * The number of the reactive types registered with {@link #registerReactiveType(Class)} so far. The results of
+     * {@link #isConvertibleToPublisher(Class)} can be cached until it changes.
+     *
+     * @return The number of the registered reactive types
+     * @since 4.9.0
+     */
+    public static int getReactiveTypeRegistrations() {
+        return REACTIVE_TYPE_REGISTRATIONS.get();
+    }
+
     /**
      * Registers an additional reactive single type. Should be called during application static initialization.
      *
@@ -205,6 +205,20 @@ public @interface Introspected {
     @Experimental
     IntrospectionBuilder builder() default @IntrospectionBuilder();
 
+    /**
+     * Whether to generate specialized versions of the bulk operations of the introspection:
+     * {@link io.micronaut.core.beans.BeanIntrospection#copyProperties(Object, Object)},
+     * {@link io.micronaut.core.beans.BeanIntrospection#propertiesEqual(Object, Object)},
+     * {@link io.micronaut.core.beans.BeanIntrospection#propertiesHashCode(Object)} and
+     * {@link io.micronaut.core.beans.BeanIntrospection#toArray(Object)}. They access all the properties at once
+     * rather than dispatching each of them, at the cost of a larger introspection class.
+     *
+     * @return True if the bulk operations should be generated
+     * @since 4.9.0
+     */
+    @Experimental
+    boolean bulkOperations() default false;
+
     /**
      * Configuration for an introspection builder.
      */
@@ -31,6 +31,8 @@ import java.lang.annotation.Annotation;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -395,6 +397,100 @@ public interface BeanIntrospection<T> extends AnnotationMetadataDelegate, BeanIn
         };
     }
 
+    /**
+     * Copies the values of the read-write properties of the source bean to the target bean.
+     *
+     * <p>Introspections generated with {@link io.micronaut.core.annotation.Introspected#bulkOperations()} copy all
+     * the properties at once rather than dispatching each of them.</p>
+     *
+     * @param source The bean to read from
+     * @param target The bean to write to
+     * @since 4.9.0
+     */
+    default void copyProperties(@NonNull T source, @NonNull T target) {
+        for (BeanProperty<T, Object> property : getBeanProperties()) {
+            if (property.isReadWrite()) {
+                property.set(target, property.get(source));
+            }
+        }
+    }
+
+    /**
+     * Returns the bean with the given property values, mutating the bean or creating a copy of it for the
+     * immutable properties, see {@link BeanProperty#withValue(Object, Object)}.
+     *
+     * @param bean   The bean
+     * @param values The values by property name
+     * @return The bean with the values
+     * @throws IntrospectionException If a property does not exist
+     * @since 4.9.0
+     */
+    default @NonNull T withProperties(@NonNull T bean, @NonNull Map<String, ?> values) {
+        T result = bean;
+        for (Map.Entry<String, ?> entry : values.entrySet()) {
+            result = getRequiredProperty(entry.getKey(), Object.class).withValue(result, entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Compares the readable properties of two beans.
+     *
+     * @param bean  The bean
+     * @param other The other bean
+     * @return True if all the readable properties are equal
+     * @since 4.9.0
+     */
+    default boolean propertiesEqual(@NonNull T bean, @NonNull T other) {
+        if (bean == other) {
+            return true;
+        }
+        for (BeanProperty<T, Object> property : getBeanProperties()) {
+            if (!property.isWriteOnly() && !Objects.equals(property.get(bean), property.get(other))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Computes the hash code of the readable properties of a bean, consistent with {@link #propertiesEqual(Object, Object)}.
+     *
+     * @param bean The bean
+     * @return The hash code
+     * @since 4.9.0
+     */
+    default int propertiesHashCode(@NonNull T bean) {
+        int result = 1;
+        for (BeanProperty<T, Object> property : getBeanProperties()) {
+            if (!property.isWriteOnly()) {
+                result = 31 * result + Objects.hashCode(property.get(bean));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reads the properties of a bean into an array indexed like {@link #getBeanProperties()}, see
+     * {@link #propertyIndexOf(String)}. The value of a write-only property is {@code null}.
+     *
+     * @param bean The bean
+     * @return The property values
+     * @since 4.9.0
+     */
+    default @NonNull Object[] toArray(@NonNull T bean) {
+        Collection<BeanProperty<T, Object>> properties = getBeanProperties();
+        Object[] values = new Object[properties.size()];
+        int i = 0;
+        for (BeanProperty<T, Object> property : properties) {
+            if (!property.isWriteOnly()) {
+                values[i] = property.get(bean);
+            }
+            i++;
+        }
+        return values;
+    }
+
     /**
      * Obtains an introspection from the default {@link BeanIntrospector}.
      *
@@ -142,7 +142,7 @@ final class BeanIntrospectionMap<T> implements BeanMap<T> {
 
     @Override
     public Collection<Object> values() {
-        return keySet().stream().map(this::get).collect(Collectors.toList());
+        return Arrays.asList(beanIntrospection.toArray(bean));
     }
 
     @Override
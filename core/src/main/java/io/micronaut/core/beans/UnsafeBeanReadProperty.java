@@ -38,4 +38,52 @@ public interface UnsafeBeanReadProperty<B, T> extends BeanReadProperty<B, T> {
      */
     T getUnsafe(@NonNull B bean);
 
+    /**
+     * Unsafe version of {@link #get(Object)} for {@code int} properties, generated introspections read the
+     * value without boxing it.
+     *
+     * @param bean The bean to read from
+     * @return The value
+     * @since 4.9.0
+     */
+    default int getIntUnsafe(@NonNull B bean) {
+        return (Integer) getUnsafe(bean);
+    }
+
+    /**
+     * Unsafe version of {@link #get(Object)} for {@code long} properties, generated introspections read the
+     * value without boxing it.
+     *
+     * @param bean The bean to read from
+     * @return The value
+     * @since 4.9.0
+     */
+    default long getLongUnsafe(@NonNull B bean) {
+        return (Long) getUnsafe(bean);
+    }
+
+    /**
+     * Unsafe version of {@link #get(Object)} for {@code double} properties, generated introspections read the
+     * value without boxing it.
+     *
+     * @param bean The bean to read from
+     * @return The value
+     * @since 4.9.0
+     */
+    default double getDoubleUnsafe(@NonNull B bean) {
+        return (Double) getUnsafe(bean);
+    }
+
+    /**
+     * Unsafe version of {@link #get(Object)} for {@code boolean} properties, generated introspections read the
+     * value without boxing it.
+     *
+     * @param bean The bean to read from
+     * @return The value
+     * @since 4.9.0
+     */
+    default boolean getBooleanUnsafe(@NonNull B bean) {
+        return (Boolean) getUnsafe(bean);
+    }
+
 }
@@ -49,4 +49,56 @@ public interface UnsafeBeanWriteProperty<B, T> extends BeanWriteProperty<B, T> {
      */
     void setUnsafe(@NonNull B bean, @Nullable T value);
 
+    /**
+     * Unsafe version of {@link #set(Object, Object)} for {@code int} properties, generated introspections write
+     * the value without boxing it.
+     *
+     * @param bean  The bean
+     * @param value The value to write
+     * @since 4.9.0
+     */
+    @SuppressWarnings("unchecked")
+    default void setIntUnsafe(@NonNull B bean, int value) {
+        setUnsafe(bean, (T) (Integer) value);
+    }
+
+    /**
+     * Unsafe version of {@link #set(Object, Object)} for {@code long} properties, generated introspections write
+     * the value without boxing it.
+     *
+     * @param bean  The bean
+     * @param value The value to write
+     * @since 4.9.0
+     */
+    @SuppressWarnings("unchecked")
+    default void setLongUnsafe(@NonNull B bean, long value) {
+        setUnsafe(bean, (T) (Long) value);
+    }
+
+    /**
+     * Unsafe version of {@link #set(Object, Object)} for {@code double} properties, generated introspections write
+     * the value without boxing it.
+     *
+     * @param bean  The bean
+     * @param value The value to write
+     * @since 4.9.0
+     */
+    @SuppressWarnings("unchecked")
+    default void setDoubleUnsafe(@NonNull B bean, double value) {
+        setUnsafe(bean, (T) (Double) value);
+    }
+
+    /**
+     * Unsafe version of {@link #set(Object, Object)} for {@code boolean} properties, generated introspections write
+     * the value without boxing it.
+     *
+     * @param bean  The bean
+     * @param value The value to write
+     * @since 4.9.0
+     */
+    @SuppressWarnings("unchecked")
+    default void setBooleanUnsafe(@NonNull B bean, boolean value) {
+        setUnsafe(bean, (T) (Boolean) value);
+    }
+
 }
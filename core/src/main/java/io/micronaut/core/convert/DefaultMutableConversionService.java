@@ -18,6 +18,7 @@ package io.micronaut.core.convert;
 import io.micronaut.core.annotation.AnnotationClassValue;
 import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.convert.converters.MultiValuesConverterFactory;
 import io.micronaut.core.convert.exceptions.ConversionErrorException;
 import io.micronaut.core.convert.format.Format;
@@ -91,6 +92,7 @@ import java.util.StringJoiner;
 import java.util.TimeZone;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 import static io.micronaut.core.reflect.ReflectionUtils.EMPTY_CLASS_ARRAY;
@@ -148,10 +150,19 @@ public class DefaultMutableConversionService implements MutableConversionService
     private final Map<ConvertiblePair, TypeConverter> customConverters = new ConcurrentHashMap<>();
 
     /**
-     * The additional converters which are variations of different converters.
+     * The additional converters which are variations of different converters, for the conversions with a formatting
+     * annotation.
      */
     private final Map<ConvertiblePair, TypeConverter> converterCache = new ConcurrentHashMap<>();
 
+    /**
+     * The additional converters which are variations of different converters, for the conversions without a
+     * formatting annotation, by source type and then by target type. A hit doesn't allocate a key and each source type
+     * is bounded separately, so that a source type with many targets doesn't evict the converters of the others.
+     * The map is owned by the service, the converters reference it and must not outlive it.
+     */
+    private final Map<Class<?>, Map<Class<?>, TypeConverter>> resolvedConverters = new ConcurrentHashMap<>();
+
     /**
      * The mutable conversion service which is adding new converters to the internal collection which is not synchronized.
      */
@@ -241,15 +252,20 @@ public class DefaultMutableConversionService implements MutableConversionService
         } else {
             formattingAnnotation = null;
         }
-        ConvertiblePair pair = new ConvertiblePair(sourceType, targetType, formattingAnnotation);
-        TypeConverter<Object, T> typeConverter = findConverter(pair);
-        if (typeConverter == null) {
-            typeConverter = findTypeConverter(sourceType, targetType, formattingAnnotation);
+        TypeConverter<Object, T> typeConverter;
+        if (formattingAnnotation == null) {
+            typeConverter = findConverter(sourceType, targetType);
+        } else {
+            ConvertiblePair pair = new ConvertiblePair(sourceType, targetType, formattingAnnotation);
+            typeConverter = findConverter(pair);
             if (typeConverter == null) {
-                addToConverterCache(pair, UNCONVERTIBLE);
-                return Optional.empty();
-            } else {
-                addToConverterCache(pair, typeConverter);
+                typeConverter = findTypeConverter(sourceType, targetType, formattingAnnotation);
+                if (typeConverter == null) {
+                    addToConverterCache(pair, UNCONVERTIBLE);
+                    return Optional.empty();
+                } else {
+                    addToConverterCache(pair, typeConverter);
+                }
             }
         }
         if (typeConverter == UNCONVERTIBLE) {
@@ -260,17 +276,47 @@ public class DefaultMutableConversionService implements MutableConversionService
 
     @Override
     public <S, T> boolean canConvert(Class<S> sourceType, Class<T> targetType) {
-        ConvertiblePair pair = new ConvertiblePair(sourceType, targetType, null);
-        TypeConverter<Object, T> typeConverter = findConverter(pair);
+        return findConverter(sourceType, targetType) != UNCONVERTIBLE;
+    }
+
+    /**
+     * Visits the source and target type pairs that were resolved to a converter, without a formatting annotation.
+     * Used to record the conversions of an application.
+     *
+     * @param consumer The consumer of the source and target types
+     * @since 4.9.0
+     */
+    @Internal
+    public void forEachResolvedConversion(@NonNull BiConsumer<Class<?>, Class<?>> consumer) {
+        resolvedConverters.forEach((sourceType, targetConverters) -> targetConverters.forEach((targetType, converter) -> {
+            if (converter != UNCONVERTIBLE) {
+                consumer.accept(sourceType, targetType);
+            }
+        }));
+    }
+
+    /**
+     * Finds the converter of a conversion without a formatting annotation, resolving and caching it on the first
+     * lookup.
+     *
+     * @param sourceType The source type
+     * @param targetType The target type
+     * @return The converter or {@link #UNCONVERTIBLE}
+     */
+    private <T, S> TypeConverter<T, S> findConverter(Class<?> sourceType, Class<?> targetType) {
+        Map<Class<?>, TypeConverter> targetConverters = resolvedConverters(sourceType);
+        TypeConverter typeConverter = targetConverters.get(targetType);
         if (typeConverter == null) {
-            typeConverter = findTypeConverter(sourceType, targetType, null);
-            if (typeConverter != null) {
-                addToConverterCache(pair, typeConverter);
-                return typeConverter != UNCONVERTIBLE;
+            typeConverter = internalConverters.get(new ConvertiblePair(sourceType, targetType));
+            if (typeConverter == null) {
+                typeConverter = findTypeConverter(sourceType, targetType, null);
+                if (typeConverter == null) {
+                    typeConverter = UNCONVERTIBLE;
+                }
             }
-            return false;
+            addToResolvedConverters(targetConverters, targetType, typeConverter);
         }
-        return typeConverter != UNCONVERTIBLE;
+        return typeConverter;
     }
 
     private <T, S> TypeConverter<T, S> findConverter(ConvertiblePair pair) {
@@ -312,6 +358,9 @@ public class DefaultMutableConversionService implements MutableConversionService
                                                   Class<S> sourceType,
                                                   Class<T> targetType,
                                                   TypeConverter<S, T> typeConverter) {
+        // the new converter can be a better match for the conversions resolved through the type hierarchy
+        // or for a cached miss, converters are also registered after the first conversions
+        resolvedConverters.clear();
         addConverterToMap(typeConverters, sourceType, targetType, typeConverter);
         // Add variations of common representations of the source type
         if (sourceType == CharSequence.class) {
@@ -394,12 +443,40 @@ public class DefaultMutableConversionService implements MutableConversionService
     }
 
     private void addToConverterCache(ConvertiblePair pair, TypeConverter<?, ?> typeConverter) {
+        if (pair.formattingAnnotation == null) {
+            // the internal converters of the exact pair take precedence, as in the lookup
+            if (!internalConverters.containsKey(pair)) {
+                addToResolvedConverters(resolvedConverters(pair.source), pair.target, typeConverter);
+            }
+            return;
+        }
         converterCache.put(pair, typeConverter);
         if (converterCache.size() > CACHE_MAX) {
             CopyOnWriteMap.evict(converterCache, CACHE_EVICTION_BATCH);
         }
     }
 
+    private Map<Class<?>, TypeConverter> resolvedConverters(Class<?> sourceType) {
+        Map<Class<?>, TypeConverter> targetConverters = resolvedConverters.get(sourceType);
+        if (targetConverters == null) {
+            if (resolvedConverters.size() >= CACHE_MAX) {
+                CopyOnWriteMap.evict(resolvedConverters, CACHE_EVICTION_BATCH);
+            }
+            targetConverters = resolvedConverters.computeIfAbsent(sourceType, type -> new ConcurrentHashMap<>());
+        }
+        return targetConverters;
+    }
+
+    private static void addToResolvedConverters(Map<Class<?>, TypeConverter> targetConverters,
+                                                Class<?> targetType,
+                                                TypeConverter<?, ?> typeConverter) {
+        if (targetConverters.size() >= CACHE_MAX && !targetConverters.containsKey(targetType)) {
+            // only the source type that exceeds the limit starts over
+            targetConverters.clear();
+        }
+        targetConverters.put(targetType, typeConverter);
+    }
+
     /**
      * Default Converters.
      */
@@ -72,11 +72,31 @@ public final class MicronautMetaServiceLoaderUtils {
     public static <S> List<S> findMetaMicronautServiceEntries(@NonNull ClassLoader classLoader,
                                                               @NonNull Class<S> serviceClass,
                                                               @Nullable Predicate<S> predicate) {
+        return findMetaMicronautServiceEntries(classLoader, serviceClass, null, predicate);
+    }
+
+    /**
+     * Find all instantiated Micronaut service entries, skipping the entries whose class name does not match
+     * the name condition without loading their class.
+     *
+     * @param classLoader   The classloader
+     * @param serviceClass  The service class
+     * @param nameCondition The condition on the class name of the entries
+     * @param predicate     The predicate
+     * @param <S>           The service type
+     * @return the result
+     * @since 4.9.0
+     */
+    @NonNull
+    public static <S> List<S> findMetaMicronautServiceEntries(@NonNull ClassLoader classLoader,
+                                                              @NonNull Class<S> serviceClass,
+                                                              @Nullable Predicate<String> nameCondition,
+                                                              @Nullable Predicate<S> predicate) {
         SoftServiceLoader.StaticServiceLoader<S> staticServiceLoader = (SoftServiceLoader.StaticServiceLoader<S>) SoftServiceLoader.STATIC_SERVICES.get(serviceClass.getName());
         if (staticServiceLoader != null) {
-            return staticServiceLoader.load(predicate);
+            return nameCondition == null ? staticServiceLoader.load(predicate) : staticServiceLoader.load(nameCondition, predicate);
         }
-        return new MicronautServiceCollector<>(classLoader, serviceClass.getName(), predicate)
+        return new MicronautServiceCollector<>(classLoader, serviceClass.getName(), nameCondition, predicate)
             .collect(true);
     }
 
@@ -211,13 +231,15 @@ public final class MicronautMetaServiceLoaderUtils {
 
         private final ClassLoader classLoader;
         private final String serviceName;
+        private final Predicate<String> nameCondition;
         private final Predicate<S> predicate;
         private final List<RecursiveActionValuesCollector<S>> tasks = new ArrayList<>();
         private int size;
 
-        MicronautServiceCollector(ClassLoader classLoader, String serviceName, Predicate<S> predicate) {
+        MicronautServiceCollector(ClassLoader classLoader, String serviceName, Predicate<String> nameCondition, Predicate<S> predicate) {
             this.classLoader = classLoader;
             this.serviceName = serviceName;
+            this.nameCondition = nameCondition;
             this.predicate = predicate;
         }
 
@@ -227,6 +249,9 @@ public final class MicronautMetaServiceLoaderUtils {
                 Set<String> serviceEntries = MicronautMetaServiceLoaderUtils.findMicronautMetaServiceEntries(classLoader, serviceName);
                 size = serviceEntries.size();
                 for (String serviceEntry : serviceEntries) {
+                    if (nameCondition != null && !nameCondition.test(serviceEntry)) {
+                        continue;
+                    }
                     final ServiceInstanceLoader<S> task = new ServiceInstanceLoader<>(classLoader, serviceEntry, predicate);
                     tasks.add(task);
                     task.fork();
@@ -256,6 +281,9 @@ public final class MicronautMetaServiceLoaderUtils {
                 Set<String> serviceEntries = MicronautMetaServiceLoaderUtils.findMicronautMetaServiceEntries(classLoader, serviceName);
                 List<S> collection = new ArrayList<>(serviceEntries.size());
                 for (String serviceEntry : serviceEntries) {
+                    if (nameCondition != null && !nameCondition.test(serviceEntry)) {
+                        continue;
+                    }
                     S val = instantiate(serviceEntry, classLoader);
                     if (val != null && (predicate == null || predicate.test(val))) {
                         collection.add(val);
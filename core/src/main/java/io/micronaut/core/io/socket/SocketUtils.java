@@ -15,6 +15,7 @@
  */
 package io.micronaut.core.io.socket;
 
+import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.util.ArgumentUtils;
 
 import java.net.InetAddress;
@@ -48,6 +49,16 @@ public class SocketUtils {
     @SuppressWarnings("ConstantName")
     private static final Random random = new Random(System.currentTimeMillis());
 
+    /**
+     * Re-seeds the random generator used to pick ports, for example after the JVM was restored from a checkpoint.
+     *
+     * @since 4.9.0
+     */
+    @Internal
+    public static void reseed() {
+        random.setSeed(System.nanoTime() ^ System.currentTimeMillis());
+    }
+
     /**
      * Finds an available TCP port.
      *
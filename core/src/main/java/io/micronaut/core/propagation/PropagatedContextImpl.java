@@ -17,13 +17,14 @@ package io.micronaut.core.propagation;
 
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 /**
@@ -32,6 +33,8 @@ import java.util.stream.Stream;
  * Main points:
  * - Immutable design, modification requires re-propagating the context
  * - Support thread-aware context elements which can restore thread-local state
+ * - The elements are stored as a persistent list, adding an element shares the previous context
+ * - Lookups by type are cached per context in slots assigned to each looked up type
  *
  * @author Denis Stepanov
  * @since 4.0.0
@@ -39,31 +42,40 @@ import java.util.stream.Stream;
 @Internal
 final class PropagatedContextImpl implements PropagatedContext {
 
-    static final PropagatedContextImpl EMPTY = new PropagatedContextImpl(new PropagatedContextElement[0], false);
+    static final PropagatedContextImpl EMPTY = new PropagatedContextImpl(null, null, 0, false);
 
     private static final Scope CLEANUP = ThreadContext::remove;
+    private static final PropagatedContextElement[] NO_ELEMENTS = new PropagatedContextElement[0];
+    private static final Object[] NO_LOOKUPS = new Object[0];
+    private static final Object NOT_FOUND = new Object();
+    private static final AtomicInteger SLOT_COUNT = new AtomicInteger();
+    private static final ClassValue<Integer> SLOTS = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return SLOT_COUNT.getAndIncrement();
+        }
+    };
 
-    private final PropagatedContextElement[] elements;
+    @Nullable
+    private final PropagatedContextImpl parent;
+    @Nullable
+    private final PropagatedContextElement element;
+    private final int size;
     private final boolean containsThreadElements;
+    @Nullable
+    private volatile PropagatedContextElement[] elements;
+    private volatile Object[] lookups = NO_LOOKUPS;
 
-    private PropagatedContextImpl(PropagatedContextElement[] elements) {
-        this(elements, containsThreadElements(elements));
-    }
-
-    private PropagatedContextImpl(PropagatedContextElement[] elements, boolean containsThreadElements) {
-        this.elements = elements;
+    private PropagatedContextImpl(@Nullable PropagatedContextImpl parent,
+                                  @Nullable PropagatedContextElement element,
+                                  int size,
+                                  boolean containsThreadElements) {
+        this.parent = parent;
+        this.element = element;
+        this.size = size;
         this.containsThreadElements = containsThreadElements;
     }
 
-    private static boolean containsThreadElements(PropagatedContextElement[] elements) {
-        for (PropagatedContextElement element : elements) {
-            if (isThreadElement(element)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     private static boolean isThreadElement(PropagatedContextElement element) {
         return element instanceof ThreadPropagatedContextElement;
     }
@@ -73,7 +85,7 @@ final class PropagatedContextImpl implements PropagatedContext {
         if (propagatedContext == null) {
             return false;
         }
-        return propagatedContext.elements.length != 0;
+        return propagatedContext.size != 0;
     }
 
     public static PropagatedContextImpl get() {
@@ -99,42 +111,63 @@ final class PropagatedContextImpl implements PropagatedContext {
 
     @Override
     public PropagatedContextImpl plus(PropagatedContextElement element) {
-        PropagatedContextElement[] newElements = new PropagatedContextElement[elements.length + 1];
-        System.arraycopy(elements, 0, newElements, 0, elements.length);
-        newElements[newElements.length - 1] = element;
-        return new PropagatedContextImpl(newElements, containsThreadElements || isThreadElement(element));
+        return new PropagatedContextImpl(this, element, size + 1, containsThreadElements || isThreadElement(element));
     }
 
     @Override
     public PropagatedContextImpl minus(PropagatedContextElement element) {
-        int index = findElement(element);
-        PropagatedContextElement[] newElements = new PropagatedContextElement[elements.length - 1];
-        if (index > 0) {
-            System.arraycopy(elements, 0, newElements, 0, index);
-        }
-        int next = index + 1;
-        if (next != elements.length) {
-            System.arraycopy(elements, next, newElements, index, elements.length - next);
-        }
-        return new PropagatedContextImpl(newElements);
+        PropagatedContextImpl node = findNode(element);
+        return rebuild(node, node.parent);
     }
 
     @Override
     public PropagatedContext replace(PropagatedContextElement oldElement, PropagatedContextElement newElement) {
-        int index = findElement(oldElement);
-        PropagatedContextElement[] newElements = new PropagatedContextElement[elements.length];
-        System.arraycopy(elements, 0, newElements, 0, elements.length);
-        newElements[index] = newElement;
-        return new PropagatedContextImpl(newElements);
+        PropagatedContextImpl node = findNode(oldElement);
+        return rebuild(node, node.parent.plus(newElement));
     }
 
-    private int findElement(PropagatedContextElement element) {
-        for (int i = 0, elementsLength = elements.length; i < elementsLength; i++) {
-            if (elements[i].equals(element)) {
-                return i;
+    /**
+     * Finds the node holding the oldest element equal to the given element.
+     *
+     * @param element The element
+     * @return The node
+     */
+    private PropagatedContextImpl findNode(PropagatedContextElement element) {
+        PropagatedContextImpl found = null;
+        for (PropagatedContextImpl node = this; node.size != 0; node = node.parent) {
+            if (node.element.equals(element)) {
+                found = node;
             }
         }
-        throw new NoSuchElementException("Element is not contained in the current context!");
+        if (found == null) {
+            throw new NoSuchElementException("Element is not contained in the current context!");
+        }
+        return found;
+    }
+
+    /**
+     * Re-adds the elements added after the given node on top of a new base, the older elements are shared.
+     *
+     * @param node The node to drop
+     * @param base The new base
+     * @return The new context
+     */
+    private PropagatedContextImpl rebuild(PropagatedContextImpl node, PropagatedContextImpl base) {
+        int count = size - node.size;
+        if (count == 0) {
+            return base;
+        }
+        PropagatedContextElement[] newer = new PropagatedContextElement[count];
+        PropagatedContextImpl current = this;
+        for (int i = count - 1; i >= 0; i--) {
+            newer[i] = current.element;
+            current = current.parent;
+        }
+        PropagatedContextImpl result = base;
+        for (PropagatedContextElement e : newer) {
+            result = result.plus(e);
+        }
+        return result;
     }
 
     @Override
@@ -144,11 +177,13 @@ final class PropagatedContextImpl implements PropagatedContext {
 
     @Override
     public <T extends PropagatedContextElement> Stream<T> findAll(Class<T> elementType) {
-        List<PropagatedContextElement> reverseElements = new ArrayList<>(Arrays.asList(elements));
-        Collections.reverse(reverseElements);
-        return reverseElements.stream()
-            .filter(elementType::isInstance)
-            .map(elementType::cast);
+        List<T> found = new ArrayList<>(size);
+        for (PropagatedContextImpl node = this; node.size != 0; node = node.parent) {
+            if (elementType.isInstance(node.element)) {
+                found.add(elementType.cast(node.element));
+            }
+        }
+        return found.stream();
     }
 
     @Override
@@ -160,37 +195,75 @@ final class PropagatedContextImpl implements PropagatedContext {
         return element;
     }
 
+    @Nullable
     private <T extends PropagatedContextElement> T findElement(Class<T> elementType) {
-        for (int i = elements.length - 1; i >= 0; i--) {
-            PropagatedContextElement element = elements[i];
-            if (elementType.isInstance(element)) {
-                return (T) element;
+        if (size == 0) {
+            return null;
+        }
+        int slot = SLOTS.get(elementType);
+        Object[] lookups = this.lookups;
+        if (slot < lookups.length) {
+            Object found = lookups[slot];
+            if (found != null) {
+                return found == NOT_FOUND ? null : (T) found;
+            }
+        }
+        PropagatedContextElement found = null;
+        for (PropagatedContextImpl node = this; node.size != 0; node = node.parent) {
+            if (elementType.isInstance(node.element)) {
+                found = node.element;
+                break;
+            }
+        }
+        // copy on write, the cache is only updated once per looked up type
+        Object[] newLookups = Arrays.copyOf(lookups, Math.max(lookups.length, slot + 1));
+        newLookups[slot] = found == null ? NOT_FOUND : found;
+        this.lookups = newLookups;
+        return (T) found;
+    }
+
+    /**
+     * @return The elements in the order they were added
+     */
+    private PropagatedContextElement[] elements() {
+        PropagatedContextElement[] elements = this.elements;
+        if (elements == null) {
+            if (size == 0) {
+                elements = NO_ELEMENTS;
+            } else {
+                elements = new PropagatedContextElement[size];
+                PropagatedContextImpl node = this;
+                for (int i = size - 1; i >= 0; i--) {
+                    elements[i] = node.element;
+                    node = node.parent;
+                }
             }
+            this.elements = elements;
         }
-        return null;
+        return elements;
     }
 
     @Override
     public List<PropagatedContextElement> getAllElements() {
-        return new ArrayList<>(Arrays.asList(elements));
+        return new ArrayList<>(Arrays.asList(elements()));
     }
 
     @Override
     public Scope propagate() {
         PropagatedContextImpl prevCtx = ThreadContext.get();
         Scope restore;
-        if (prevCtx == null && elements.length == 0) {
+        if (prevCtx == null && size == 0) {
             return CLEANUP;
         } else if (prevCtx == null) {
             restore = CLEANUP;
-        } else { // elements.length == 0
+        } else { // size == 0
             restore = new Scope() { // Keep the anonymous class to avoid lambda in hot path
                 @Override
                 public void close() {
                     ThreadContext.set(prevCtx);
                 }
             };
-            if (elements.length == 0) {
+            if (size == 0) {
                 ThreadContext.remove();
                 return restore;
             }
@@ -216,6 +289,7 @@ final class PropagatedContextImpl implements PropagatedContext {
     }
 
     private ThreadState[] updateThreadState() {
+        PropagatedContextElement[] elements = elements();
         ThreadState[] threadState = new ThreadState[elements.length];
         int index = 0;
         for (PropagatedContextElement element : elements) {
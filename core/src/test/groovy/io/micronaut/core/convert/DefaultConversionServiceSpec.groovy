@@ -7,6 +7,7 @@ import spock.lang.Specification
 import java.nio.charset.Charset
 import java.nio.charset.StandardCharsets
 import java.time.DayOfWeek
+import java.util.function.Function
 /**
  * Created by graemerocher on 12/06/2017.
  */
@@ -119,4 +120,65 @@ class DefaultConversionServiceSpec extends Specification {
         "1"          | Optional   | [T: Argument.of(Long, 'T')]    | Optional.of(1L)
 
     }
+
+    void "test resolved converters are cached and invalidated by a new converter"() {
+        given:
+        DefaultMutableConversionService conversionService = new DefaultMutableConversionService()
+        def resolved = { ->
+            def pairs = []
+            conversionService.forEachResolvedConversion { source, target -> pairs << [source, target] }
+            pairs
+        }
+
+        expect:"an unconvertible pair is cached as a miss and not recorded"
+        !conversionService.canConvert(String, Point)
+        !conversionService.convert("a", Point).isPresent()
+        !resolved().contains([String, Point])
+
+        when:"a converter of a super type is added"
+        conversionService.addConverter(CharSequence, Point, { CharSequence s -> new Point(s.toString()) } as Function)
+
+        then:"the cached miss is discarded and the conversion resolves through the type hierarchy"
+        conversionService.canConvert(String, Point)
+        conversionService.convert("a", Point).get().value == "a"
+        resolved().count([String, Point]) == 1
+
+        when:"the conversion is repeated"
+        def point = conversionService.convert("b", Point).get()
+
+        then:"the cached converter is reused"
+        point.value == "b"
+        resolved().count([String, Point]) == 1
+
+        when:"a more specific converter is added"
+        conversionService.addConverter(String, Point, { String s -> new Point(s.toUpperCase()) } as Function)
+
+        then:"it replaces the converter resolved through the type hierarchy"
+        conversionService.convert("c", Point).get().value == "C"
+    }
+
+    void "test resolved converters are invalidated by a new internal converter"() {
+        given:
+        DefaultMutableConversionService conversionService = new DefaultMutableConversionService()
+
+        expect:"the misses and the converters resolved through the type hierarchy are cached"
+        !conversionService.convert("a", Point).isPresent()
+        conversionService.convert(new StringBuilder("b"), String).get() == "b"
+
+        when:"internal converters are registered for the same pairs, as the context does for type converter beans"
+        conversionService.addInternalConverter(String, Point, { String s -> new Point(s) } as Function)
+        conversionService.addInternalConverter(StringBuilder, String, { StringBuilder s -> s.toString().toUpperCase() } as Function)
+
+        then:"the new converters win over the cached results"
+        conversionService.convert("a", Point).get().value == "a"
+        conversionService.convert(new StringBuilder("b"), String).get() == "B"
+    }
+
+    static class Point {
+        final String value
+
+        Point(String value) {
+            this.value = value
+        }
+    }
 }
@@ -217,9 +217,55 @@ class PropagatedContextSpec extends Specification {
         strict << [false, true]
     }
 
+    def "test adding and removing elements shares the context"() {
+        given:
+            PropagatedElement e1 = new PropagatedElement()
+            PropagatedElement e2 = new PropagatedElement()
+            OtherElement e3 = new OtherElement()
+            PropagatedContext ctx1 = PropagatedContext.empty().plus(e1)
+            PropagatedContext ctx2 = ctx1.plus(e2)
+            PropagatedContext ctx3 = ctx2.plus(e3)
+        expect:
+            ctx3.minus(e3).is(ctx2)
+            ctx2.minus(e2).is(ctx1)
+            ctx3.minus(e1).getAllElements() == [e2, e3]
+            ctx3.replace(e2, e1).getAllElements() == [e1, e1, e3]
+            ctx1.getAllElements() == [e1]
+            ctx2.getAllElements() == [e1, e2]
+            ctx3.getAllElements() == [e1, e2, e3]
+    }
+
+    def "test lookups are cached per context"() {
+        given:
+            PropagatedElement e1 = new PropagatedElement()
+            PropagatedElement e2 = new PropagatedElement()
+            OtherElement e3 = new OtherElement()
+            PropagatedContext ctx1 = PropagatedContext.empty().plus(e1)
+        expect:
+            ctx1.get(PropagatedElement).is(e1)
+            ctx1.find(OtherElement).isEmpty()
+            ctx1.get(PropagatedElement).is(e1)
+            ctx1.find(OtherElement).isEmpty()
+
+        when:
+            PropagatedContext ctx2 = ctx1.plus(e2).plus(e3)
+        then:
+            ctx2.get(PropagatedElement).is(e2)
+            ctx2.get(OtherElement).is(e3)
+            ctx2.get(PropagatedContextElement).is(e3)
+            ctx2.findAll(PropagatedElement).toList() == [e2, e1]
+            ctx2.findAll(PropagatedContextElement).toList() == [e3, e2, e1]
+            ctx2.minus(e2).get(PropagatedElement).is(e1)
+            ctx1.get(PropagatedElement).is(e1)
+            ctx1.find(OtherElement).isEmpty()
+    }
+
     static class PropagatedElement implements PropagatedContextElement {
     }
 
+    static class OtherElement implements PropagatedContextElement {
+    }
+
     static final ThreadLocal<String> CONTEXT_NAME_HOLDER = ThreadLocal.withInitial { '' }
 
     static String getCurrentContextName() {
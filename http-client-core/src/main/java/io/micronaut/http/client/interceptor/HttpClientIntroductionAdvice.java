@@ -37,10 +37,8 @@ import io.micronaut.core.convert.exceptions.ConversionErrorException;
 import io.micronaut.core.convert.format.Format;
 import io.micronaut.core.io.buffer.ByteBuffer;
 import io.micronaut.core.type.Argument;
-import io.micronaut.core.type.MutableArgumentValue;
 import io.micronaut.core.type.ReturnType;
 import io.micronaut.core.util.ArrayUtils;
-import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.core.version.annotation.Version;
 import io.micronaut.http.BasicHttpAttributes;
@@ -62,6 +60,7 @@ import io.micronaut.http.client.HttpClientRegistry;
 import io.micronaut.http.client.ReactiveClientResultTransformer;
 import io.micronaut.http.client.StreamingHttpClient;
 import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.bind.AnnotatedClientRequestBinder;
 import io.micronaut.http.client.bind.ClientArgumentRequestBinder;
 import io.micronaut.http.client.bind.ClientRequestUriContext;
 import io.micronaut.http.client.bind.HttpClientBinderRegistry;
@@ -70,6 +69,7 @@ import io.micronaut.http.client.sse.SseClient;
 import io.micronaut.http.sse.Event;
 import io.micronaut.http.uri.UriBuilder;
 import io.micronaut.http.uri.UriMatchTemplate;
+import io.micronaut.inject.ExecutableMethod;
 import io.micronaut.json.codec.JsonMediaTypeCodec;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscription;
@@ -92,6 +92,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 /**
@@ -117,6 +118,7 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
     private final JsonMediaTypeCodec jsonMediaTypeCodec;
     private final HttpClientRegistry<?> clientFactory;
     private final ConversionService conversionService;
+    private final Map<ExecutableMethod<?, ?>, Optional<InvocationPlan>> invocationPlans = new ConcurrentHashMap<>();
 
     /**
      * Constructor for advice class to set up things like Headers, Cookies, Parameters for Clients.
@@ -161,24 +163,11 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
             return null;
         }
 
-        Optional<Class<? extends Annotation>> httpMethodMapping = context.getAnnotationTypeByStereotype(HttpMethodMapping.class);
+        InvocationPlan plan = getInvocationPlan(context);
         HttpClient httpClient = clientFactory.getClient(annotationMetadata);
-        if (httpMethodMapping.isPresent() && context.hasStereotype(HttpMethodMapping.class) && httpClient != null) {
-            AnnotationValue<HttpMethodMapping> mapping = context.getAnnotation(HttpMethodMapping.class);
-            String uri = mapping.getRequiredValue(String.class);
-            if (StringUtils.isEmpty(uri)) {
-                uri = "/" + context.getMethodName();
-            }
-
-            Class<? extends Annotation> annotationType = httpMethodMapping.get();
-            HttpMethod httpMethod = HttpMethod.parse(annotationType.getSimpleName().toUpperCase(Locale.ENGLISH));
-            String httpMethodName = context.stringValue(CustomHttpMethod.class, "method").orElse(httpMethod.name());
-
+        if (plan != null && httpClient != null) {
             InterceptedMethod interceptedMethod = InterceptedMethod.of(context, conversionService);
 
-            Argument<?> errorType = annotationMetadata.classValue(Client.class, "errorType")
-                    .map(errorClass -> Argument.of(errorClass)).orElse(HttpClient.DEFAULT_ERROR_TYPE);
-
             ReturnType<?> returnType = context.getReturnType();
 
             try {
@@ -186,14 +175,11 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
                 Class<?> reactiveValueType = valueType.getType();
                 return switch (interceptedMethod.resultType()) {
                     case PUBLISHER ->
-                            handlePublisher(context, returnType, reactiveValueType, httpMethod, httpMethodName,
-                                uri, interceptedMethod, annotationMetadata, httpClient, errorType, valueType, declaringType);
+                            handlePublisher(context, returnType, reactiveValueType, plan, interceptedMethod, httpClient, valueType);
                     case COMPLETION_STAGE ->
-                            handleCompletionStage(context, httpMethod, httpMethodName, uri, interceptedMethod,
-                                annotationMetadata, httpClient, returnType, errorType, valueType, reactiveValueType, declaringType);
+                            handleCompletionStage(context, plan, interceptedMethod, httpClient, returnType, valueType, reactiveValueType);
                     case SYNCHRONOUS ->
-                            handleSynchronous(context, returnType, httpClient, httpMethod, httpMethodName, uri,
-                                interceptedMethod, annotationMetadata, errorType, declaringType);
+                            handleSynchronous(context, returnType, httpClient, plan, interceptedMethod);
                 };
             } catch (Exception e) {
                 return interceptedMethod.handleException(e);
@@ -203,22 +189,110 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
         return context.proceed();
     }
 
+    /**
+     * Resolves the invocation plan of the client method. The plan is computed on the first invocation and cached.
+     *
+     * @param context The context
+     * @return The plan or null if the method is not an HTTP method mapping
+     */
+    @Nullable
+    private InvocationPlan getInvocationPlan(MethodInvocationContext<Object, Object> context) {
+        ExecutableMethod<Object, Object> method = context.getExecutableMethod();
+        Optional<InvocationPlan> plan = invocationPlans.get(method);
+        if (plan == null) {
+            plan = createInvocationPlan(context);
+            invocationPlans.putIfAbsent(method, plan);
+        }
+        return plan.orElse(null);
+    }
+
+    private Optional<InvocationPlan> createInvocationPlan(MethodInvocationContext<Object, Object> context) {
+        Optional<Class<? extends Annotation>> httpMethodMapping = context.getAnnotationTypeByStereotype(HttpMethodMapping.class);
+        if (httpMethodMapping.isEmpty() || !context.hasStereotype(HttpMethodMapping.class)) {
+            return Optional.empty();
+        }
+        final AnnotationMetadata annotationMetadata = context.getAnnotationMetadata();
+        AnnotationValue<HttpMethodMapping> mapping = context.getAnnotation(HttpMethodMapping.class);
+        String uri = mapping.getRequiredValue(String.class);
+        if (StringUtils.isEmpty(uri)) {
+            uri = "/" + context.getMethodName();
+        }
+
+        Class<? extends Annotation> annotationType = httpMethodMapping.get();
+        HttpMethod httpMethod = HttpMethod.parse(annotationType.getSimpleName().toUpperCase(Locale.ENGLISH));
+        String httpMethodName = context.stringValue(CustomHttpMethod.class, "method").orElse(httpMethod.name());
+
+        UriMatchTemplate uriTemplate = UriMatchTemplate.of("");
+        if (!(uri.length() == 1 && uri.charAt(0) == '/')) {
+            uriTemplate = uriTemplate.nest(uri);
+        }
+        List<String> uriVariables = uriTemplate.getVariableNames();
+
+        Argument<?> errorType = annotationMetadata.classValue(Client.class, "errorType")
+                .map(errorClass -> Argument.of(errorClass)).orElse(HttpClient.DEFAULT_ERROR_TYPE);
+
+        // Resolve all the method binders
+        List<Class<? extends Annotation>> methodBinderTypes = new ArrayList<>(context.getAnnotationTypesByStereotype(Bindable.class));
+        // @Version is not a bindable, so it needs to looked for separately
+        methodBinderTypes.addAll(context.getAnnotationTypesByStereotype(Version.class));
+        List<AnnotatedClientRequestBinder<?>> methodBinders = new ArrayList<>(methodBinderTypes.size());
+        for (Class<? extends Annotation> binderType : methodBinderTypes) {
+            binderRegistry.findAnnotatedBinder(binderType).ifPresent(methodBinders::add);
+        }
+
+        // Resolve all the argument binders
+        Argument<?>[] arguments = context.getArguments();
+        ArgumentPlan[] argumentPlans = new ArgumentPlan[arguments.length];
+        for (int i = 0; i < arguments.length; i++) {
+            Argument<Object> argument = (Argument<Object>) arguments[i];
+            AnnotationMetadata argumentMetadata = argument.getAnnotationMetadata();
+            argumentPlans[i] = new ArgumentPlan(
+                i,
+                argument,
+                (ClientArgumentRequestBinder<Object>) binderRegistry.findArgumentBinder(argument).orElse(null),
+                argumentMetadata.stringValue(Bindable.class, "defaultValue").orElse(null),
+                argument.isNullable(),
+                uriVariables.contains(argument.getName()),
+                argumentMetadata.stringValue(Bindable.class).orElse(argument.getName()),
+                argumentMetadata.hasStereotype(Format.class)
+            );
+        }
+
+        var definitionType = annotationMetadata.enumValue(Client.class, "definitionType", Client.DefinitionType.class)
+            .orElse(Client.DefinitionType.CLIENT);
+        String[] consumesMediaType = context.stringValues(definitionType.isClient() ? Consumes.class : Produces.class);
+        MediaType[] acceptTypes = ArrayUtils.isEmpty(consumesMediaType) ? DEFAULT_ACCEPT_TYPES : MediaType.of(consumesMediaType);
+        MediaType[] contentTypes = MediaType.of(context.stringValues(definitionType.isClient() ? Produces.class : Consumes.class));
+        MediaType contentType = ArrayUtils.isEmpty(contentTypes) ? DEFAULT_ACCEPT_TYPES[0] : contentTypes[0];
+
+        return Optional.of(new InvocationPlan(
+            httpMethod,
+            httpMethodName,
+            uriTemplate,
+            uriVariables,
+            resolveTemplate(annotationMetadata, uriTemplate.toString()),
+            errorType,
+            methodBinders,
+            argumentPlans,
+            acceptTypes,
+            contentType,
+            context.getDeclaringType().getName()
+        ));
+    }
+
     @Nullable
     private Object handleSynchronous(MethodInvocationContext<Object, Object> context,
                                      ReturnType<?> returnType,
                                      HttpClient httpClient,
-                                     HttpMethod httpMethod,
-                                     String httpMethodName,
-                                     String uriToBind,
-                                     InterceptedMethod interceptedMethod,
-                                     AnnotationMetadata annotationMetadata,
-                                     Argument<?> errorType,
-                                     Class<?> declaringType) {
+                                     InvocationPlan plan,
+                                     InterceptedMethod interceptedMethod) {
 
         Class<?> javaReturnType = returnType.getType();
         BlockingHttpClient blockingHttpClient = httpClient.toBlocking();
-        RequestBinderResult binderResult = bindRequest(context, httpMethod, httpMethodName, uriToBind, interceptedMethod, annotationMetadata);
-        String clientName = declaringType.getName();
+        RequestBinderResult binderResult = bindRequest(context, plan, interceptedMethod);
+        String clientName = plan.clientName();
+        HttpMethod httpMethod = plan.httpMethod();
+        Argument<?> errorType = plan.errorType();
 
         if (binderResult.isError()) {
             return binderResult.errorResult;
@@ -246,21 +320,16 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
     }
 
     private Object handleCompletionStage(MethodInvocationContext<Object, Object> context,
-                                         HttpMethod httpMethod,
-                                         String httpMethodName,
-                                         String uriToBind,
+                                         InvocationPlan plan,
                                          InterceptedMethod interceptedMethod,
-                                         AnnotationMetadata annotationMetadata,
                                          HttpClient httpClient,
                                          ReturnType<?> returnType,
-                                         Argument<?> errorType,
                                          Argument<?> valueType,
-                                         Class<?> reactiveValueType,
-                                         Class<?> declaringType) {
+                                         Class<?> reactiveValueType) {
 
         Publisher<RequestBinderResult> csRequestPublisher = Mono.fromCallable(() ->
-            bindRequest(context, httpMethod, httpMethodName, uriToBind, interceptedMethod, annotationMetadata));
-        Publisher<?> csPublisher = httpClientResponsePublisher(httpClient, csRequestPublisher, returnType, errorType, valueType);
+            bindRequest(context, plan, interceptedMethod));
+        Publisher<?> csPublisher = httpClientResponsePublisher(httpClient, csRequestPublisher, returnType, plan.errorType(), valueType);
         CompletableFuture<Object> future = new CompletableFuture<>();
         csPublisher.subscribe(new CompletionAwareSubscriber<Object>() {
             Object message;
@@ -285,7 +354,7 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
             @Override
             protected void doOnError(Throwable t) {
                 if (LOG.isDebugEnabled()) {
-                    LOG.debug("Client [{}] received HTTP error response: {}", declaringType.getName(), t.getMessage(), t);
+                    LOG.debug("Client [{}] received HTTP error response: {}", plan.clientName(), t.getMessage(), t);
                 }
 
                 if (t instanceof HttpClientResponseException e) {
@@ -316,22 +385,18 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
     private Object handlePublisher(MethodInvocationContext<Object, Object> context,
                                    ReturnType<?> returnType,
                                    Class<?> reactiveValueType,
-                                   HttpMethod httpMethod,
-                                   String httpMethodName,
-                                   String uriToBind,
+                                   InvocationPlan plan,
                                    InterceptedMethod interceptedMethod,
-                                   AnnotationMetadata annotationMetadata,
                                    HttpClient httpClient,
-                                   Argument<?> errorType,
-                                   Argument<?> valueType,
-                                   Class<?> declaringType) {
+                                   Argument<?> valueType) {
         boolean isSingle = returnType.isSingleResult() ||
                 returnType.isCompletable() ||
                 HttpResponse.class.isAssignableFrom(reactiveValueType) ||
                 HttpStatus.class == reactiveValueType;
 
         Publisher<RequestBinderResult> requestPublisher = Mono.fromCallable(() ->
-            bindRequest(context, httpMethod, httpMethodName, uriToBind, interceptedMethod, annotationMetadata));
+            bindRequest(context, plan, interceptedMethod));
+        Argument<?> errorType = plan.errorType();
         Publisher<?> publisher;
         if (!isSingle && httpClient instanceof StreamingHttpClient client) {
             publisher = httpClientResponseStreamingPublisher(client, context, requestPublisher, errorType, valueType);
@@ -341,7 +406,7 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
 
         if (LOG.isDebugEnabled()) {
             publisher = Flux.from(publisher).doOnError(t ->
-                LOG.debug("Client [{}] received HTTP error response: {}", declaringType.getName(), t.getMessage(), t)
+                LOG.debug("Client [{}] received HTTP error response: {}", plan.clientName(), t.getMessage(), t)
             );
         }
 
@@ -354,56 +419,43 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
 
     @NonNull
     private RequestBinderResult bindRequest(MethodInvocationContext<Object, Object> context,
-                                            HttpMethod httpMethod,
-                                            String httpMethodName,
-                                            String uri,
-                                            InterceptedMethod interceptedMethod,
-                                            AnnotationMetadata annotationMetadata) {
-        MutableHttpRequest<?> request = HttpRequest.create(httpMethod, "", httpMethodName);
+                                            InvocationPlan plan,
+                                            InterceptedMethod interceptedMethod) {
+        MutableHttpRequest<?> request = HttpRequest.create(plan.httpMethod(), "", plan.httpMethodName());
 
-        UriMatchTemplate uriTemplate = UriMatchTemplate.of("");
-        if (!(uri.length() == 1 && uri.charAt(0) == '/')) {
-            uriTemplate = uriTemplate.nest(uri);
-        }
+        UriMatchTemplate uriTemplate = plan.uriTemplate();
 
         Map<String, Object> pathParams = new HashMap<>();
         Map<String, List<String>> queryParams = new LinkedHashMap<>();
         ClientRequestUriContext uriContext = new ClientRequestUriContext(uriTemplate, pathParams, queryParams);
-        List<Argument<?>> bodyArguments = new ArrayList<>();
+        List<ArgumentPlan> bodyArguments = new ArrayList<>();
 
-        List<String> uriVariables = uriTemplate.getVariableNames();
-        Map<String, MutableArgumentValue<?>> parameters = context.getParameters();
-
-        ClientArgumentRequestBinder<Object> defaultBinder = buildDefaultBinder(pathParams, bodyArguments);
+        List<String> uriVariables = plan.uriVariables();
+        Object[] parameterValues = context.getParameterValues();
 
         // Apply all the method binders
-        List<Class<? extends Annotation>> methodBinderTypes = context.getAnnotationTypesByStereotype(Bindable.class);
-        // @Version is not a bindable, so it needs to looked for separately
-        methodBinderTypes.addAll(context.getAnnotationTypesByStereotype(Version.class));
-        if (!CollectionUtils.isEmpty(methodBinderTypes)) {
-            for (Class<? extends Annotation> binderType : methodBinderTypes) {
-                binderRegistry.findAnnotatedBinder(binderType).ifPresent(b -> b.bind(context, uriContext, request));
-            }
+        for (AnnotatedClientRequestBinder<?> methodBinder : plan.methodBinders()) {
+            methodBinder.bind(context, uriContext, request);
         }
 
         // Apply all the argument binders
-        Optional<Object> bindingErrorResult = bindArguments(context, parameters, defaultBinder, uriContext, request, interceptedMethod);
+        Optional<Object> bindingErrorResult = bindArguments(context, plan, parameterValues, pathParams, bodyArguments, uriContext, request, interceptedMethod);
 
         if (bindingErrorResult.isPresent()) {
             return RequestBinderResult.withErrorResult(bindingErrorResult.get());
         }
 
-        Object body = bindRequestBody(request, bodyArguments, parameters);
+        Object body = bindRequestBody(request, bodyArguments, parameterValues);
 
         bindPathParams(uriVariables, pathParams, body);
 
-        if (!HttpMethod.permitsRequestBody(httpMethod)) {
+        if (!HttpMethod.permitsRequestBody(plan.httpMethod())) {
             // If a binder set the body and the method does not permit it, reset to null
             request.body(null);
             body = null;
         }
 
-        uri = uriTemplate.expand(pathParams);
+        String uri = uriTemplate.expand(pathParams);
         // Remove all the pathParams that have already been used.
         // Other path parameters are added to query
         uriVariables.forEach(pathParams::remove);
@@ -412,33 +464,18 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
         // The original query can be added by getting it from the request.getUri() and appending
         request.uri(URI.create(appendQuery(uri, uriContext.getQueryParameters())));
 
-        final MediaType[] acceptTypes;
         Collection<MediaType> accept = request.accept();
-        var definitionType = annotationMetadata.enumValue(Client.class, "definitionType", Client.DefinitionType.class)
-            .orElse(Client.DefinitionType.CLIENT);
         if (accept.isEmpty()) {
-            String[] consumesMediaType = context.stringValues(definitionType.isClient() ? Consumes.class : Produces.class);
-            if (ArrayUtils.isEmpty(consumesMediaType)) {
-                acceptTypes = DEFAULT_ACCEPT_TYPES;
-            } else {
-                acceptTypes = MediaType.of(consumesMediaType);
-            }
-            request.accept(acceptTypes);
+            request.accept(plan.acceptTypes());
         }
 
         if (body != null && request.getContentType().isEmpty()) {
-            MediaType[] contentTypes = MediaType.of(context.stringValues(definitionType.isClient() ? Produces.class : Consumes.class));
-            if (ArrayUtils.isEmpty(contentTypes)) {
-                contentTypes = DEFAULT_ACCEPT_TYPES;
-            }
-            if (ArrayUtils.isNotEmpty(contentTypes)) {
-                request.contentType(contentTypes[0]);
-            }
+            request.contentType(plan.contentType());
         }
 
         ClientAttributes.setInvocationContext(request, context);
         // Set the URI template used to make the request for tracing purposes
-        BasicHttpAttributes.setUriTemplate(request, resolveTemplate(annotationMetadata, uriTemplate.toString()));
+        BasicHttpAttributes.setUriTemplate(request, plan.uriTemplateAttribute());
 
         return RequestBinderResult.withRequest(request);
     }
@@ -468,19 +505,19 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
     }
 
     @Nullable
-    private Object bindRequestBody(MutableHttpRequest<?> request, List<Argument<?>> bodyArguments, Map<String, MutableArgumentValue<?>> parameters) {
+    private Object bindRequestBody(MutableHttpRequest<?> request, List<ArgumentPlan> bodyArguments, Object[] parameterValues) {
         Object body = request.getBody().orElse(null);
         if (body == null && !bodyArguments.isEmpty()) {
             Map<String, Object> bodyMap = new LinkedHashMap<>();
 
-            for (Argument<?> bodyArgument : bodyArguments) {
-                String argumentName = bodyArgument.getName();
-                MutableArgumentValue<?> value = parameters.get(argumentName);
-                if (bodyArgument.getAnnotationMetadata().hasStereotype(Format.class)) {
-                    conversionService.convert(value.getValue(), ConversionContext.STRING.with(bodyArgument.getAnnotationMetadata()))
+            for (ArgumentPlan bodyArgument : bodyArguments) {
+                String argumentName = bodyArgument.argument().getName();
+                Object value = parameterValues[bodyArgument.index()];
+                if (bodyArgument.format()) {
+                    conversionService.convert(value, ConversionContext.STRING.with(bodyArgument.argument().getAnnotationMetadata()))
                         .ifPresent(v -> bodyMap.put(argumentName, v));
                 } else {
-                    bodyMap.put(argumentName, value.getValue());
+                    bodyMap.put(argumentName, value);
                 }
             }
             body = bodyMap;
@@ -489,51 +526,52 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
         return body;
     }
 
-    @NonNull
-    private ClientArgumentRequestBinder<Object> buildDefaultBinder(Map<String, Object> pathParams, List<Argument<?>> bodyArguments) {
-        return (ctx, uriCtx, value, req) -> {
-            Argument<?> argument = ctx.getArgument();
-            if (uriCtx.getUriTemplate().getVariableNames().contains(argument.getName())) {
-                String name = argument.getAnnotationMetadata().stringValue(Bindable.class)
-                    .orElse(argument.getName());
-                // Convert and put as path param
-                if (argument.getAnnotationMetadata().hasStereotype(Format.class)) {
-                    conversionService.convert(value,
-                            ConversionContext.STRING.with(argument.getAnnotationMetadata()))
-                        .ifPresent(v -> pathParams.put(name, v));
-                } else {
-                    pathParams.put(name, value);
-                }
+    private void bindDefault(ArgumentPlan argumentPlan,
+                             Object value,
+                             Map<String, Object> pathParams,
+                             List<ArgumentPlan> bodyArguments) {
+        if (argumentPlan.pathVariable()) {
+            String name = argumentPlan.pathName();
+            // Convert and put as path param
+            if (argumentPlan.format()) {
+                conversionService.convert(value,
+                        ConversionContext.STRING.with(argumentPlan.argument().getAnnotationMetadata()))
+                    .ifPresent(v -> pathParams.put(name, v));
             } else {
-                bodyArguments.add(ctx.getArgument());
+                pathParams.put(name, value);
             }
-        };
+        } else {
+            bodyArguments.add(argumentPlan);
+        }
     }
 
     @NonNull
     private Optional<Object> bindArguments(MethodInvocationContext<Object, Object> context,
-                                           Map<String, MutableArgumentValue<?>> parameters,
-                                           ClientArgumentRequestBinder<Object> defaultBinder,
+                                           InvocationPlan plan,
+                                           Object[] parameterValues,
+                                           Map<String, Object> pathParams,
+                                           List<ArgumentPlan> bodyArguments,
                                            ClientRequestUriContext uriContext,
                                            MutableHttpRequest<?> request,
                                            InterceptedMethod interceptedMethod) {
-        Optional<Object> bindingErrorResult = Optional.empty();
-        Argument<?>[] arguments = context.getArguments();
-        for (Argument<?> argument : arguments) {
-            Object definedValue = getValue(argument, context, parameters);
+        for (ArgumentPlan argumentPlan : plan.arguments()) {
+            Object definedValue = getValue(argumentPlan, context, parameterValues);
 
             if (definedValue != null) {
-                final ClientArgumentRequestBinder<Object> binder = (ClientArgumentRequestBinder<Object>) binderRegistry
-                    .findArgumentBinder((Argument<Object>) argument)
-                    .orElse(defaultBinder);
-                ArgumentConversionContext conversionContext = ConversionContext.of(argument);
-                binder.bind(conversionContext, uriContext, definedValue, request);
+                Argument<Object> argument = argumentPlan.argument();
+                ArgumentConversionContext<Object> conversionContext = ConversionContext.of(argument);
+                ClientArgumentRequestBinder<Object> binder = argumentPlan.binder();
+                if (binder != null) {
+                    binder.bind(conversionContext, uriContext, definedValue, request);
+                } else {
+                    bindDefault(argumentPlan, definedValue, pathParams, bodyArguments);
+                }
                 if (conversionContext.hasErrors()) {
                     return conversionContext.getLastError().map(e -> interceptedMethod.handleException(new ConversionErrorException(argument, e)));
                 }
             }
         }
-        return bindingErrorResult;
+        return Optional.empty();
     }
 
     private Publisher<?> httpClientResponsePublisher(HttpClient httpClient,
@@ -599,22 +637,19 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
         }).switchIfEmpty(requestFlux.mapNotNull(RequestBinderResult::errorResult));
     }
 
-    private Object getValue(Argument argument,
+    private Object getValue(ArgumentPlan argumentPlan,
                             MethodInvocationContext<?, ?> context,
-                            Map<String, MutableArgumentValue<?>> parameters) {
-        String argumentName = argument.getName();
-        MutableArgumentValue<?> value = parameters.get(argumentName);
-
-        Object definedValue = value.getValue();
+                            Object[] parameterValues) {
+        Object definedValue = parameterValues[argumentPlan.index()];
 
         if (definedValue == null) {
-            definedValue = argument.getAnnotationMetadata().stringValue(Bindable.class, "defaultValue").orElse(null);
+            definedValue = argumentPlan.defaultValue();
         }
 
-        if (definedValue == null && !argument.isNullable()) {
+        if (definedValue == null && !argumentPlan.nullable()) {
             throw new IllegalArgumentException(
             ("Argument [%s] is null. Null values are not allowed to be passed to client methods (%s). Add a supported Nullable " +
-                "annotation type if that is the desired behaviour").formatted(argument.getName(), context.getExecutableMethod().toString())
+                "annotation type if that is the desired behaviour").formatted(argumentPlan.argument().getName(), context.getExecutableMethod().toString())
             );
         }
 
@@ -704,6 +739,60 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
         return uri;
     }
 
+    /**
+     * The immutable plan of a client method invocation, resolved once per method.
+     *
+     * @param httpMethod           The HTTP method
+     * @param httpMethodName       The HTTP method name
+     * @param uriTemplate          The URI template
+     * @param uriVariables         The variables of the URI template
+     * @param uriTemplateAttribute The URI template exposed for tracing
+     * @param errorType            The error type
+     * @param methodBinders        The method binders
+     * @param arguments            The argument plans
+     * @param acceptTypes          The default accept types
+     * @param contentType          The default content type
+     * @param clientName           The client name
+     */
+    private record InvocationPlan(
+        HttpMethod httpMethod,
+        String httpMethodName,
+        UriMatchTemplate uriTemplate,
+        List<String> uriVariables,
+        String uriTemplateAttribute,
+        Argument<?> errorType,
+        List<AnnotatedClientRequestBinder<?>> methodBinders,
+        ArgumentPlan[] arguments,
+        MediaType[] acceptTypes,
+        MediaType contentType,
+        String clientName
+    ) {
+    }
+
+    /**
+     * The binding plan of a client method argument.
+     *
+     * @param index        The index of the argument
+     * @param argument     The argument
+     * @param binder       The binder or null if the argument is bound to the path or the body
+     * @param defaultValue The default value
+     * @param nullable     Whether the argument is nullable
+     * @param pathVariable Whether the argument is a variable of the URI template
+     * @param pathName     The name of the path parameter
+     * @param format       Whether the argument is formatted
+     */
+    private record ArgumentPlan(
+        int index,
+        Argument<Object> argument,
+        @Nullable ClientArgumentRequestBinder<Object> binder,
+        @Nullable String defaultValue,
+        boolean nullable,
+        boolean pathVariable,
+        String pathName,
+        boolean format
+    ) {
+    }
+
     private record RequestBinderResult(
         @Nullable MutableHttpRequest<?> request,
         @Nullable Object errorResult,
@@ -161,6 +161,7 @@ public class ConnectionManager {
     private final AddressResolverGroup<?> resolverGroup;
 
     private final AtomicBoolean running = new AtomicBoolean(false);
+    private boolean restartAfterRestore;
     private final ThreadFactory threadFactory;
     private final ChannelFactory<? extends Channel> socketChannelFactory;
     private final ChannelFactory<? extends Channel> udpChannelFactory;
@@ -437,6 +438,32 @@ public class ConnectionManager {
         }
     }
 
+    /**
+     * Closes the pooled connections and the event loop group, if it is owned by this manager, before a checkpoint.
+     * {@link #afterRestore()} reopens them.
+     */
+    final synchronized void beforeCheckpoint() {
+        restartAfterRestore = running.get();
+        if (restartAfterRestore) {
+            shutdown();
+            pools.clear();
+        }
+    }
+
+    /**
+     * Reopens the event loop group and rebuilds the SSL contexts after a restore, connections are opened again on
+     * demand.
+     */
+    final synchronized void afterRestore() {
+        if (restartAfterRestore) {
+            restartAfterRestore = false;
+            if (shutdownGroup) {
+                group = createEventLoopGroup(configuration, threadFactory);
+            }
+            refresh();
+        }
+    }
+
     /**
      * @see DefaultHttpClient#isRunning()
      *
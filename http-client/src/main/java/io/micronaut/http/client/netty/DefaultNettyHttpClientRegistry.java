@@ -71,6 +71,7 @@ import io.micronaut.json.JsonFeatures;
 import io.micronaut.json.JsonMapper;
 import io.micronaut.json.body.CustomizableJsonHandler;
 import io.micronaut.json.codec.MapperMediaTypeCodec;
+import io.micronaut.runtime.checkpoint.CheckpointResource;
 import io.micronaut.runtime.context.scope.refresh.RefreshEvent;
 import io.micronaut.runtime.context.scope.refresh.RefreshEventListener;
 import io.micronaut.scheduling.TaskExecutors;
@@ -118,7 +119,8 @@ class DefaultNettyHttpClientRegistry implements AutoCloseable,
         RawHttpClientRegistry,
         ChannelPipelineCustomizer,
         NettyClientCustomizer.Registry,
-        RefreshEventListener {
+        RefreshEventListener,
+        CheckpointResource {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultNettyHttpClientRegistry.class);
     private final Map<ClientKey, DefaultHttpClient> unbalancedClients = new ConcurrentHashMap<>(10);
     private final List<DefaultHttpClient> balancedClients = Collections.synchronizedList(new ArrayList<>());
@@ -561,6 +563,30 @@ class DefaultNettyHttpClientRegistry implements AutoCloseable,
         }
     }
 
+    @Override
+    public void beforeCheckpoint() {
+        for (DefaultHttpClient client : unbalancedClients.values()) {
+            client.connectionManager.beforeCheckpoint();
+        }
+        synchronized (balancedClients) {
+            for (DefaultHttpClient client : balancedClients) {
+                client.connectionManager.beforeCheckpoint();
+            }
+        }
+    }
+
+    @Override
+    public void afterRestore() {
+        for (DefaultHttpClient client : unbalancedClients.values()) {
+            client.connectionManager.afterRestore();
+        }
+        synchronized (balancedClients) {
+            for (DefaultHttpClient client : balancedClients) {
+                client.connectionManager.afterRestore();
+            }
+        }
+    }
+
     /**
      * Client key.
      */
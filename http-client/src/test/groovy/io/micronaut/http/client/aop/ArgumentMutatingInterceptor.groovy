@@ -0,0 +1,24 @@
+package io.micronaut.http.client.aop
+
+import io.micronaut.aop.MethodInterceptor
+import io.micronaut.aop.MethodInvocationContext
+import io.micronaut.core.type.MutableArgumentValue
+import jakarta.inject.Singleton
+
+/**
+ * Upper cases the string arguments and replaces the null ones before the invocation proceeds.
+ */
+@Singleton
+class ArgumentMutatingInterceptor implements MethodInterceptor<Object, Object> {
+
+    @Override
+    Object intercept(MethodInvocationContext<Object, Object> context) {
+        for (MutableArgumentValue<?> argument : context.getParameters().values()) {
+            if (argument.type == String) {
+                String value = (String) argument.value
+                argument.value = value == null ? 'unknown' : value.toUpperCase(Locale.ENGLISH)
+            }
+        }
+        return context.proceed()
+    }
+}
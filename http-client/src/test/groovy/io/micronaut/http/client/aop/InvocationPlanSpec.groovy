@@ -0,0 +1,140 @@
+package io.micronaut.http.client.aop
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.annotation.Nullable
+import io.micronaut.core.convert.format.Format
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.annotation.Body
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.annotation.Post
+import io.micronaut.http.annotation.QueryValue
+import io.micronaut.http.client.annotation.Client
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+import java.time.LocalDate
+
+/**
+ * The declarative client resolves the plan of a method on the first call, these tests call each method several times
+ * with different arguments to check that nothing of a call leaks into the next one.
+ */
+@Property(name = 'spec.name', value = 'InvocationPlanSpec')
+@MicronautTest
+class InvocationPlanSpec extends Specification {
+
+    @Inject PlanClient client
+
+    void "test path and formatted path variables of repeated calls"() {
+        expect:
+        client.path('fred', LocalDate.of(2024, 1, 2)) == 'fred/2024-01-02'
+        client.path('bob', LocalDate.of(2025, 3, 4)) == 'bob/2025-03-04'
+        client.path('fred', LocalDate.of(2024, 1, 2)) == 'fred/2024-01-02'
+    }
+
+    void "test default values of repeated calls"() {
+        expect:
+        client.query(null, null) == 'max=10'
+        client.query(5, 'name') == 'max=5&sort=name'
+        client.query(null, 'age') == 'max=10&sort=age'
+        client.query(null, null) == 'max=10'
+    }
+
+    void "test nullable and absent arguments of repeated calls"() {
+        expect:
+        client.optional('name') == 'name'
+        client.optional(null) == 'none'
+        client.optional('age') == 'age'
+
+        when:
+        client.required(null)
+
+        then:
+        IllegalArgumentException e = thrown()
+        e.message.startsWith('Argument [value] is null')
+
+        expect:
+        client.required('value') == 'value'
+    }
+
+    void "test body arguments of repeated calls"() {
+        expect:
+        client.body('Fred', 10, LocalDate.of(2024, 1, 2)) == '{"name":"Fred","age":10,"date":"2024-01-02"}'
+        client.body('Bob', null, LocalDate.of(2025, 3, 4)) == '{"name":"Bob","date":"2025-03-04"}'
+        client.body('Fred', 20, LocalDate.of(2024, 1, 2)) == '{"name":"Fred","age":20,"date":"2024-01-02"}'
+    }
+
+    void "test arguments changed by an earlier interceptor are bound"() {
+        expect:
+        client.mutatedPath('fred', LocalDate.of(2024, 1, 2)) == 'FRED/2024-01-02'
+        client.mutatedPath('bob', LocalDate.of(2025, 3, 4)) == 'BOB/2025-03-04'
+        client.mutatedOptional('name') == 'NAME'
+        client.mutatedOptional(null) == 'unknown'
+        client.mutatedBody('fred', 10) == '{"name":"FRED","age":10}'
+        client.mutatedBody('bob', null) == '{"name":"BOB"}'
+    }
+
+    @Requires(property = 'spec.name', value = 'InvocationPlanSpec')
+    @Client('/plan')
+    static interface PlanClient {
+
+        @Get('/path/{name}/{date}')
+        String path(String name, @Format('yyyy-MM-dd') LocalDate date)
+
+        @Get('/query')
+        String query(@QueryValue(defaultValue = '10') @Nullable Integer max, @QueryValue @Nullable String sort)
+
+        @Get('/optional{?sort}')
+        String optional(@Nullable String sort)
+
+        @Get('/required/{value}')
+        String required(String value)
+
+        @Post('/body')
+        String body(String name, @Nullable Integer age, @Format('yyyy-MM-dd') LocalDate date)
+
+        @ArgumentMutating
+        @Get('/path/{name}/{date}')
+        String mutatedPath(String name, @Format('yyyy-MM-dd') LocalDate date)
+
+        @ArgumentMutating
+        @Get('/optional{?sort}')
+        String mutatedOptional(@Nullable String sort)
+
+        @ArgumentMutating
+        @Post('/body')
+        String mutatedBody(String name, @Nullable Integer age)
+    }
+
+    @Requires(property = 'spec.name', value = 'InvocationPlanSpec')
+    @Controller('/plan')
+    static class PlanController {
+
+        @Get('/path/{name}/{date}')
+        String path(String name, String date) {
+            return name + '/' + date
+        }
+
+        @Get('/query')
+        String query(HttpRequest<?> request) {
+            return request.uri.query
+        }
+
+        @Get('/optional')
+        String optional(@QueryValue @Nullable String sort) {
+            return sort ?: 'none'
+        }
+
+        @Get('/required/{value}')
+        String required(String value) {
+            return value
+        }
+
+        @Post('/body')
+        String body(@Body String body) {
+            return body
+        }
+    }
+}
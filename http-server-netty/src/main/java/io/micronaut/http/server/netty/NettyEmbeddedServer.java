@@ -21,12 +21,14 @@ import java.util.Set;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.http.netty.channel.ChannelPipelineCustomizer;
 import io.micronaut.http.netty.websocket.WebSocketSessionRepository;
+import io.micronaut.runtime.checkpoint.CheckpointResource;
 import io.micronaut.runtime.context.scope.refresh.RefreshEventListener;
 import io.micronaut.runtime.server.EmbeddedServer;
 
 /**
  * Extended {@link io.micronaut.runtime.server.EmbeddedServer} interface that represents a
- * Netty-based HTTP server.
+ * Netty-based HTTP server. The default server stops its listeners and event loops before a checkpoint and binds them
+ * again once restored.
  *
  * @author graemerocher
  * @since 3.1.0
@@ -36,7 +38,8 @@ public interface NettyEmbeddedServer
                 WebSocketSessionRepository,
                 ChannelPipelineCustomizer,
                 RefreshEventListener,
-                NettyServerCustomizer.Registry {
+                NettyServerCustomizer.Registry,
+                CheckpointResource {
     /**
      * Gets the set of all ports this Netty server is bound to.
      * @return An immutable set of bound ports if the server has been started with {@link #start()} an empty set otherwise.
@@ -72,4 +75,24 @@ public interface NettyEmbeddedServer
     default void register(@NonNull NettyServerCustomizer customizer) {
         throw new UnsupportedOperationException();
     }
+
+    /**
+     * Releases the listeners of the server before a checkpoint. Does nothing by default.
+     *
+     * @throws Exception if the listeners cannot be released
+     * @since 4.9.0
+     */
+    @Override
+    default void beforeCheckpoint() throws Exception {
+    }
+
+    /**
+     * Binds the listeners of the server again after a restore. Does nothing by default.
+     *
+     * @throws Exception if the listeners cannot be bound
+     * @since 4.9.0
+     */
+    @Override
+    default void afterRestore() throws Exception {
+    }
 }
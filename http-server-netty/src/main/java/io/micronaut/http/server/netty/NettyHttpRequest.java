@@ -62,6 +62,8 @@ import io.micronaut.http.netty.stream.StreamedHttpRequest;
 import io.micronaut.http.server.HttpServerConfiguration;
 import io.micronaut.http.server.netty.handler.Http2ServerHandler;
 import io.micronaut.http.server.netty.multipart.NettyCompletedFileUpload;
+import io.micronaut.runtime.http.scope.RequestScopedBeans;
+import io.micronaut.runtime.http.scope.RequestScopedBeansHolder;
 import io.micronaut.web.router.DefaultUriRouteMatch;
 import io.micronaut.web.router.RouteAttributes;
 import io.micronaut.web.router.RouteMatch;
@@ -116,7 +118,7 @@ import java.util.function.Supplier;
  * @since 1.0
  */
 @Internal
-public final class NettyHttpRequest<T> extends AbstractNettyHttpRequest<T> implements HttpRequest<T>, PushCapableHttpRequest<T>, io.micronaut.http.FullHttpRequest<T>, ServerHttpRequest<T> {
+public final class NettyHttpRequest<T> extends AbstractNettyHttpRequest<T> implements HttpRequest<T>, PushCapableHttpRequest<T>, io.micronaut.http.FullHttpRequest<T>, ServerHttpRequest<T>, RequestScopedBeansHolder {
     private static final Logger LOG = LoggerFactory.getLogger(NettyHttpRequest.class);
 
     /**
@@ -180,6 +182,8 @@ public final class NettyHttpRequest<T> extends AbstractNettyHttpRequest<T> imple
     private FormRouteCompleter formRouteCompleter;
     private ExecutionFlow<?> routeWaitsFor = ExecutionFlow.just(null);
     private Object legacyBody;
+    @Nullable
+    private volatile RequestScopedBeans requestScopedBeans;
 
     private final BodyConvertor bodyConvertor = newBodyConvertor();
 
@@ -393,6 +397,20 @@ public final class NettyHttpRequest<T> extends AbstractNettyHttpRequest<T> imple
         if (attributes != null) {
             attributes.forEach(NettyHttpRequest::cleanup);
         }
+        RequestScopedBeans requestScopedBeans = this.requestScopedBeans;
+        if (requestScopedBeans != null) {
+            requestScopedBeans.destroy();
+        }
+    }
+
+    @Override
+    public RequestScopedBeans getRequestScopedBeans() {
+        return requestScopedBeans;
+    }
+
+    @Override
+    public void setRequestScopedBeans(RequestScopedBeans requestScopedBeans) {
+        this.requestScopedBeans = requestScopedBeans;
     }
 
     private static void cleanup(String k, Object v) {
@@ -49,6 +49,9 @@ import io.micronaut.runtime.context.scope.refresh.RefreshEvent;
 import io.micronaut.runtime.server.event.ServerShutdownEvent;
 import io.micronaut.runtime.server.event.ServerStartupEvent;
 import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.executor.EventLoopAffineExecutorService;
+import io.micronaut.scheduling.executor.ExecutorConfiguration;
+import io.micronaut.scheduling.executor.ExecutorType;
 import io.micronaut.web.router.Router;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.bootstrap.ServerBootstrap;
@@ -70,6 +73,7 @@ import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.ServerSocketChannel;
 import io.netty.channel.unix.DomainSocketAddress;
 import io.netty.handler.codec.http.multipart.DiskFileUpload;
+import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GlobalEventExecutor;
 import org.slf4j.Logger;
@@ -139,6 +143,7 @@ public class NettyHttpServer implements NettyEmbeddedServer {
     private volatile List<Listener> activeListeners = null;
     private final List<NettyHttpServerConfiguration.NettyListenerConfiguration> listenerConfigurations;
     private final CompositeNettyServerCustomizer rootCustomizer = new CompositeNettyServerCustomizer();
+    private boolean restartAfterRestore = false;
 
     /**
      * @param serverConfiguration                     The Netty HTTP server configuration
@@ -272,6 +277,7 @@ public class NettyHttpServer implements NettyEmbeddedServer {
             //done here to prevent a blocking service loader in the event loop
             EventLoopGroupConfiguration workerConfig = resolveWorkerConfiguration();
             workerGroup = createWorkerEventLoopGroup(workerConfig);
+            bindAffineExecutors(workerGroup);
             parentGroup = createParentEventLoopGroup();
             Supplier<ServerBootstrap> serverBootstrap = SupplierUtil.memoized(() -> {
                 ServerBootstrap sb = createServerBootstrap();
@@ -355,6 +361,22 @@ public class NettyHttpServer implements NettyEmbeddedServer {
         return this;
     }
 
+    @Override
+    public synchronized void beforeCheckpoint() {
+        restartAfterRestore = isRunning();
+        if (restartAfterRestore) {
+            stopServerOnly();
+        }
+    }
+
+    @Override
+    public synchronized void afterRestore() {
+        if (restartAfterRestore) {
+            restartAfterRestore = false;
+            start();
+        }
+    }
+
     @Override
     public void register(@NonNull NettyServerCustomizer customizer) {
         Objects.requireNonNull(customizer, "customizer");
@@ -760,6 +782,31 @@ public class NettyHttpServer implements NettyEmbeddedServer {
         }
     }
 
+    /**
+     * Give each worker event loop its own lanes of the blocking executors that are
+     * {@link ExecutorType#EVENT_LOOP_AFFINE event loop affine}, so that blocking routes run on workers affine to the
+     * channel's event loop.
+     *
+     * @param group The worker event loop group
+     */
+    private void bindAffineExecutors(EventLoopGroup group) {
+        for (String name : List.of(TaskExecutors.IO, TaskExecutors.BLOCKING)) {
+            boolean affine = applicationContext.findBean(ExecutorConfiguration.class, Qualifiers.byName(name))
+                .map(configuration -> configuration.getType() == ExecutorType.EVENT_LOOP_AFFINE)
+                .orElse(false);
+            if (affine && applicationContext.findBean(ExecutorService.class, Qualifiers.byName(name)).orElse(null) instanceof EventLoopAffineExecutorService executor) {
+                // bind before the server starts, so that other threads submitting early can't take the lanes of the loops
+                List<Future<?>> bindings = new ArrayList<>();
+                for (EventExecutor eventLoop : group) {
+                    bindings.add(eventLoop.submit(executor::bindCurrentThread));
+                }
+                for (Future<?> binding : bindings) {
+                    binding.syncUninterruptibly();
+                }
+            }
+        }
+    }
+
     private EventLoopGroup newEventLoopGroup(EventLoopGroupConfiguration config) {
         if (config != null) {
             ExecutorService executorService = config.getExecutorName()
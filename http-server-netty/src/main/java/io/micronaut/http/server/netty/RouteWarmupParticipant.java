@@ -0,0 +1,120 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty;
+
+import io.micronaut.context.BeanProvider;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.http.server.warmup.RouteWarmupRecorder;
+import io.micronaut.http.uri.UriMatchTemplate;
+import io.micronaut.http.uri.UriMatchVariable;
+import io.micronaut.runtime.server.EmbeddedServer;
+import io.micronaut.runtime.warmup.WarmupParticipant;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import jakarta.inject.Singleton;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays the routes recorded by {@link RouteWarmupRecorder} as in-process requests through an embedded channel with
+ * the handlers of the server, so that the whole stack, from the HTTP codec to the route and the response encoding, is
+ * warmed up without opening a connection. The path variables of the recorded route templates are expanded with
+ * {@code 0}, the optional and query variables are left out.
+ *
+ * @since 4.9.0
+ */
+@Internal
+@Singleton
+@Requires(beans = EmbeddedServer.class)
+final class RouteWarmupParticipant implements WarmupParticipant {
+
+    private static final long TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final long POLL_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final String VARIABLE_VALUE = "0";
+
+    private final BeanProvider<EmbeddedServer> embeddedServer;
+
+    /**
+     * @param embeddedServer The embedded server
+     */
+    RouteWarmupParticipant(BeanProvider<EmbeddedServer> embeddedServer) {
+        this.embeddedServer = embeddedServer;
+    }
+
+    @Override
+    @NonNull
+    public String getKind() {
+        return RouteWarmupRecorder.ROUTE_KIND;
+    }
+
+    @Override
+    public void replay(@NonNull String entry) throws TimeoutException {
+        int separator = entry.indexOf(' ');
+        if (separator <= 0 || !(embeddedServer.get() instanceof NettyHttpServer server)) {
+            throw new IllegalArgumentException("Cannot replay route: " + entry);
+        }
+        String path = expand(UriMatchTemplate.of(entry.substring(separator + 1)));
+        EmbeddedChannel channel = server.buildEmbeddedChannel(false);
+        try {
+            String request = entry.substring(0, separator) + ' ' + path + " HTTP/1.1\r\n"
+                + "Host: localhost\r\n"
+                + "Connection: close\r\n\r\n";
+            ByteBuf buffer = channel.alloc().buffer(request.length());
+            buffer.writeCharSequence(request, StandardCharsets.US_ASCII);
+            channel.writeInbound(buffer);
+            // the server closes the connection once the response is written, possibly from another thread
+            long deadline = System.nanoTime() + TIMEOUT_NANOS;
+            while (channel.isOpen()) {
+                channel.runPendingTasks();
+                channel.releaseOutbound();
+                if (System.nanoTime() - deadline > 0) {
+                    throw new TimeoutException("No response to warm-up request: " + entry);
+                }
+                LockSupport.parkNanos(POLL_NANOS);
+            }
+        } finally {
+            channel.finishAndReleaseAll();
+        }
+    }
+
+    /**
+     * @param template The route template
+     * @return A path matched by the template
+     */
+    static String expand(UriMatchTemplate template) {
+        Map<String, Object> values = new HashMap<>();
+        for (UriMatchVariable variable : template.getVariables()) {
+            if (!variable.isQuery() && !variable.isOptional()) {
+                values.put(variable.getName(), VARIABLE_VALUE);
+            }
+        }
+        String path = template.expand(values);
+        return path.isEmpty() ? "/" : path;
+    }
+
+    @Override
+    public int getOrder() {
+        // routes last, they exercise the other paths as well
+        return LOWEST_PRECEDENCE;
+    }
+}
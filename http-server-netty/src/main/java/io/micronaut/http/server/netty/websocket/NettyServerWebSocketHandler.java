@@ -384,10 +384,14 @@ public class NettyServerWebSocketHandler extends AbstractNettyWebSocketHandler {
 
     @Override
     protected void messageHandled(ChannelHandlerContext ctx, Object message) {
+        ApplicationEventPublisher<WebSocketMessageProcessedEvent> eventPublisher =
+                nettyEmbeddedServices.getEventPublisher(WebSocketMessageProcessedEvent.class);
+        if (eventPublisher.isEmpty()) {
+            return;
+        }
         ctx.executor().execute(() -> {
             try {
-                nettyEmbeddedServices.getEventPublisher(WebSocketMessageProcessedEvent.class)
-                        .publishEvent(new WebSocketMessageProcessedEvent<>(getSession(), message));
+                eventPublisher.publishEvent(new WebSocketMessageProcessedEvent<>(getSession(), message));
             } catch (Exception e) {
                 if (LOG.isErrorEnabled()) {
                     LOG.error("Error publishing WebSocket message processed event: " + e.getMessage(), e);
@@ -0,0 +1,107 @@
+package io.micronaut.http.server.netty
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.annotation.Introspected
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.HttpClient
+import io.micronaut.http.server.warmup.RouteWarmupRecorder
+import io.micronaut.http.uri.UriMatchTemplate
+import io.micronaut.json.JsonWarmupParticipant
+import io.micronaut.runtime.server.EmbeddedServer
+import io.micronaut.runtime.warmup.WarmupConfiguration
+import io.micronaut.runtime.warmup.WarmupProfile
+import io.micronaut.runtime.warmup.WarmupRunner
+import spock.lang.Specification
+import spock.lang.TempDir
+import spock.util.concurrent.PollingConditions
+
+import java.nio.file.Path
+
+class RouteWarmupSpec extends Specification {
+
+    @TempDir
+    Path tempDir
+
+    void "test the route templates and JSON types are recorded"() {
+        given:
+        Path file = tempDir.resolve('recorded.txt')
+        EmbeddedServer server = ApplicationContext.run(EmbeddedServer, [
+                'spec.name'                 : 'RouteWarmupSpec',
+                (WarmupConfiguration.RECORD): true,
+                'micronaut.warmup.file'     : file.toString()
+        ])
+        HttpClient client = server.applicationContext.createBean(HttpClient, server.URL)
+
+        when:
+        client.toBlocking().retrieve('/warmup/books/42?max=10')
+        client.toBlocking().retrieve('/warmup/books/43')
+        client.close()
+        server.applicationContext.close()
+        WarmupProfile profile = WarmupProfile.read(file)
+
+        then:
+        profile.getEntries(RouteWarmupRecorder.ROUTE_KIND) == ['GET /warmup/books/{id}'] as Set
+        profile.getEntries(JsonWarmupParticipant.KIND) == [WarmupBook.name] as Set
+    }
+
+    void "test the recorded routes are replayed before the warm-up completes"() {
+        given:
+        Path file = tempDir.resolve('replayed.txt')
+        WarmupProfile profile = new WarmupProfile()
+        profile.add(RouteWarmupRecorder.ROUTE_KIND, 'GET /warmup/books/{id}', 10)
+        profile.add(JsonWarmupParticipant.KIND, WarmupBook.name, 10)
+        profile.write(file)
+
+        when:
+        EmbeddedServer server = ApplicationContext.run(EmbeddedServer, [
+                'spec.name'                  : 'RouteWarmupSpec',
+                (WarmupConfiguration.ENABLED): true,
+                'micronaut.warmup.file'      : file.toString(),
+                'micronaut.warmup.iterations': 2
+        ])
+        WarmupRunner runner = server.applicationContext.getBean(WarmupRunner)
+
+        then:
+        new PollingConditions(timeout: 10).eventually {
+            runner.complete
+        }
+        server.applicationContext.getBean(WarmupController).ids == ['0', '0']
+
+        cleanup:
+        server.close()
+    }
+
+    void "test route templates are expanded without the optional and query variables"() {
+        expect:
+        RouteWarmupParticipant.expand(UriMatchTemplate.of(template)) == path
+
+        where:
+        template                       | path
+        '/books'                       | '/books'
+        '/books/{id}/chapters/{ch}'    | '/books/0/chapters/0'
+        '/books/{id}{?max,offset}'     | '/books/0'
+        '/books{/id}'                  | '/books'
+        ''                             | '/'
+    }
+
+    @Requires(property = 'spec.name', value = 'RouteWarmupSpec')
+    @Controller('/warmup')
+    static class WarmupController {
+
+        final List<String> ids = Collections.synchronizedList([])
+
+        @Get('/books/{id}')
+        WarmupBook book(String id) {
+            ids.add(id)
+            return new WarmupBook(title: 'The Stand', pages: 1152)
+        }
+    }
+
+    @Introspected
+    static class WarmupBook {
+        String title
+        int pages
+    }
+}
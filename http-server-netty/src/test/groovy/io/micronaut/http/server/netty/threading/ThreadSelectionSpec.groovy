@@ -64,6 +64,7 @@ class ThreadSelectionSpec extends Specification {
         ThreadSelection.BLOCKING | jdkSwitch(IO, VIRTUAL) | jdkSwitch(IO, VIRTUAL) | IO
         ThreadSelection.IO       | IO                     | IO                     | IO
         ThreadSelection.MANUAL   | LOOP                   | LOOP                   | IO
+        ThreadSelection.VIRTUAL  | jdkSwitch(IO, VIRTUAL) | LOOP                   | IO
     }
 
     void "test thread selection strategy for reactive types #strategy"() {
@@ -87,6 +88,7 @@ class ThreadSelectionSpec extends Specification {
         ThreadSelection.BLOCKING | jdkSwitch(IO, VIRTUAL) | jdkSwitch(IO, VIRTUAL) | IO          | IO
         ThreadSelection.IO       | IO                     | IO                     | IO          | IO
         ThreadSelection.MANUAL   | LOOP                   | LOOP                   | IO          | IO
+        ThreadSelection.VIRTUAL  | LOOP                   | jdkSwitch(IO, VIRTUAL) | IO          | IO
     }
 
     void "test thread selection for exception handlers #strategy"() {
@@ -113,6 +115,7 @@ class ThreadSelectionSpec extends Specification {
         ThreadSelection.BLOCKING | "controller: ${jdkSwitch(IO, VIRTUAL)}" | "handler: ${jdkSwitch(IO, VIRTUAL)}" | "handler: $IO"
         ThreadSelection.IO       | "controller: $IO"                       | "handler: $IO"                       | "handler: $IO"
         ThreadSelection.MANUAL   | "controller: $LOOP"                     | "handler: $LOOP"                     | "handler: $IO"
+        ThreadSelection.VIRTUAL  | "controller: ${jdkSwitch(IO, VIRTUAL)}" | "handler: ${jdkSwitch(IO, VIRTUAL)}" | "handler: $IO"
     }
 
     @Ignore // pending feature, only works sometimes: https://github.com/micronaut-projects/micronaut-core/pull/10104
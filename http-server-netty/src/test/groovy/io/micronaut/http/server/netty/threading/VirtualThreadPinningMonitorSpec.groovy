@@ -0,0 +1,99 @@
+package io.micronaut.http.server.netty.threading
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.server.VirtualThreadPinningMonitor
+import io.micronaut.runtime.server.EmbeddedServer
+import jakarta.inject.Singleton
+import spock.lang.Specification
+
+import java.time.Duration
+
+class VirtualThreadPinningMonitorSpec extends Specification {
+
+    void "test the monitor is disabled by default"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run(['spec.name': 'VirtualThreadPinningMonitorSpec'])
+
+        expect:
+        !ctx.containsBean(VirtualThreadPinningMonitor)
+
+        cleanup:
+        ctx.close()
+    }
+
+    void "test pinning is attributed to the route or the bean on the stack"() {
+        given:
+        EmbeddedServer server = ApplicationContext.run(EmbeddedServer, [
+                'spec.name': 'VirtualThreadPinningMonitorSpec',
+                (VirtualThreadPinningMonitor.ENABLED): true
+        ])
+        VirtualThreadPinningMonitor monitor = server.applicationContext.getBean(VirtualThreadPinningMonitor)
+
+        expect:
+        monitor.attribute([
+                ['java.lang.Thread', 'sleep'] as String[],
+                [PinningService.name, 'work'] as String[],
+                [PinningController.name, 'pin'] as String[]
+        ]) == 'GET /pinning/{id}'
+        monitor.attribute([
+                ['java.lang.Thread', 'sleep'] as String[],
+                [PinningService.name, 'work'] as String[]
+        ]) == PinningService.name
+        monitor.attribute([['java.lang.Thread', 'sleep'] as String[]]) == 'unknown'
+        monitor.attribute([]) == 'unknown'
+
+        cleanup:
+        server.close()
+    }
+
+    void "test pinning statistics are aggregated per target"() {
+        given:
+        EmbeddedServer server = ApplicationContext.run(EmbeddedServer, [
+                'spec.name': 'VirtualThreadPinningMonitorSpec',
+                (VirtualThreadPinningMonitor.ENABLED): true
+        ])
+        VirtualThreadPinningMonitor monitor = server.applicationContext.getBean(VirtualThreadPinningMonitor)
+
+        when:
+        monitor.record('GET /pinning/{id}', Duration.ofMillis(30))
+        monitor.record('GET /pinning/{id}', Duration.ofMillis(50))
+        monitor.record(PinningService.name, Duration.ofMillis(25))
+        def statistics = monitor.getStatistics()
+
+        then:
+        statistics.size() == 2
+        statistics['GET /pinning/{id}'] == new VirtualThreadPinningMonitor.PinningStatistics(2, Duration.ofMillis(80), Duration.ofMillis(50))
+        statistics[PinningService.name] == new VirtualThreadPinningMonitor.PinningStatistics(1, Duration.ofMillis(25), Duration.ofMillis(25))
+
+        cleanup:
+        server.close()
+    }
+
+    @Requires(property = 'spec.name', value = 'VirtualThreadPinningMonitorSpec')
+    @Controller('/pinning')
+    static class PinningController {
+
+        private final PinningService service
+
+        PinningController(PinningService service) {
+            this.service = service
+        }
+
+        @Get('/{id}')
+        String pin(String id) {
+            service.work(id)
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'VirtualThreadPinningMonitorSpec')
+    @Singleton
+    static class PinningService {
+
+        synchronized String work(String id) {
+            id
+        }
+    }
+}
@@ -18,15 +18,23 @@ package io.micronaut.runtime.http.scope
 import io.micronaut.context.annotation.Prototype
 import io.micronaut.context.annotation.Requires
 import io.micronaut.context.event.ApplicationEventListener
+import io.micronaut.core.convert.ConversionService
 import io.micronaut.http.HttpRequest
 import io.micronaut.http.annotation.Controller
 import io.micronaut.http.annotation.Get
 import io.micronaut.http.client.HttpClient
 import io.micronaut.http.client.annotation.Client
+import io.micronaut.http.context.ServerRequestContext
 import io.micronaut.http.context.event.HttpRequestTerminatedEvent
+import io.micronaut.http.netty.body.AvailableNettyByteBody
+import io.micronaut.http.server.HttpServerConfiguration
 import io.micronaut.http.server.netty.AbstractMicronautSpec
+import io.micronaut.http.server.netty.NettyHttpRequest
 import io.micronaut.scheduling.TaskExecutors
 import io.micronaut.scheduling.annotation.ExecuteOn
+import io.netty.channel.ChannelHandlerContext
+import io.netty.handler.codec.http.DefaultFullHttpRequest
+import io.netty.handler.codec.http.HttpVersion
 import jakarta.annotation.PreDestroy
 import jakarta.inject.Inject
 import jakarta.inject.Singleton
@@ -35,6 +43,8 @@ import spock.util.concurrent.PollingConditions
 
 import java.nio.charset.StandardCharsets
 import java.util.concurrent.atomic.AtomicInteger
+
+import static io.netty.handler.codec.http.HttpMethod.GET
 /**
  * @author Marcel Overdijk
  * @since 1.2.0
@@ -150,6 +160,79 @@ class RequestScopeSpec extends AbstractMicronautSpec {
         result == "OK"
     }
 
+    void "test request scoped beans are stored on the request"() {
+        when:
+        String result = httpClient.toBlocking().retrieve(HttpRequest.GET("/test-request-scope-storage"), String)
+
+        then:
+        result == "attribute false, beans 2"
+        conditions.eventually {
+            RequestBean.BEANS_CREATED.first().dead
+            RequestScopeFactoryBean.BEANS_CREATED.first().dead
+        }
+
+        cleanup:
+        RequestBean.BEANS_CREATED.clear()
+        RequestScopeFactoryBean.BEANS_CREATED.clear()
+    }
+
+    void "test releasing the netty request destroys the request scoped beans without the terminated event"() {
+        given:
+        RequestBean.BEANS_CREATED.clear()
+        ReqTerminatedListener listener = applicationContext.getBean(ReqTerminatedListener)
+        NettyHttpRequest request = new NettyHttpRequest(
+                new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, GET, "/"),
+                AvailableNettyByteBody.empty(),
+                Mock(ChannelHandlerContext),
+                applicationContext.getBean(ConversionService),
+                new HttpServerConfiguration()
+        )
+
+        when:
+        ServerRequestContext.with(request, (Runnable) { applicationContext.getBean(RequestBean).count() })
+
+        then:
+        RequestBean.BEANS_CREATED.size() == 1
+        !RequestBean.BEANS_CREATED.first().dead
+        request.requestScopedBeans.size() == 1
+        !request.getAttribute(RequestCustomScope.SCOPED_BEANS_ATTRIBUTE).isPresent()
+        !applicationContext.getBean(RequestScopeTerminatedListener).supports(new HttpRequestTerminatedEvent(request))
+
+        when:
+        request.release()
+
+        then:
+        RequestBean.BEANS_CREATED.first().dead
+        request.requestScopedBeans.isEmpty()
+        listener.callCount == 0
+
+        cleanup:
+        RequestBean.BEANS_CREATED.clear()
+    }
+
+    void "test the terminated event destroys the request scoped beans of other requests"() {
+        given:
+        RequestBean.BEANS_CREATED.clear()
+        HttpRequest<?> request = HttpRequest.GET("/")
+
+        when:
+        ServerRequestContext.with(request, (Runnable) { applicationContext.getBean(RequestBean).count() })
+
+        then:
+        RequestBean.BEANS_CREATED.size() == 1
+        !RequestBean.BEANS_CREATED.first().dead
+        request.getAttribute(RequestCustomScope.SCOPED_BEANS_ATTRIBUTE).isPresent()
+
+        when:
+        applicationContext.publishEvent(new HttpRequestTerminatedEvent(request))
+
+        then:
+        RequestBean.BEANS_CREATED.first().dead
+
+        cleanup:
+        RequestBean.BEANS_CREATED.clear()
+    }
+
     @Requires(property = "spec.name", value = "RequestScopeSpec")
     @RequestScope
     static class RequestBean {
@@ -293,6 +376,14 @@ class RequestScopeSpec extends AbstractMicronautSpec {
             return new ByteArrayInputStream(messageService.message.getBytes(StandardCharsets.UTF_8))
         }
 
+        @Get("/test-request-scope-storage")
+        String testStorage(HttpRequest request) {
+            messageService.message
+            def attribute = request.getAttribute(RequestCustomScope.SCOPED_BEANS_ATTRIBUTE).isPresent()
+            def beans = ((RequestScopedBeansHolder) request).requestScopedBeans.size()
+            return "attribute ${attribute}, beans ${beans}"
+        }
+
         @Get("/test-request-aware")
         String testAware(HttpRequest request) {
             if (requestAwareBean.request == request) {
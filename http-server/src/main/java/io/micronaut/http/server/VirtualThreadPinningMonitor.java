@@ -0,0 +1,231 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server;
+
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.inject.BeanDefinition;
+import io.micronaut.runtime.server.event.ServerStartupEvent;
+import io.micronaut.web.router.Router;
+import io.micronaut.web.router.UriRouteInfo;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records JFR {@code jdk.VirtualThreadPinned} events and attributes them to the route, or failing that the bean,
+ * whose code was on the stack when the virtual thread pinned its carrier. Pinning happens for example when blocking
+ * inside a {@code synchronized} block and defeats the purpose of running blocking routes on virtual threads, see
+ * {@link io.micronaut.scheduling.executor.ThreadSelection#VIRTUAL}.
+ *
+ * <p>Only pinning that lasts longer than the configured threshold is recorded. The event only exists on JDK 21 and
+ * above, on older JDKs the monitor records nothing.</p>
+ *
+ * @since 4.9.0
+ */
+@Singleton
+@Requires(property = VirtualThreadPinningMonitor.ENABLED, value = StringUtils.TRUE, defaultValue = StringUtils.FALSE)
+public final class VirtualThreadPinningMonitor implements ApplicationEventListener<ServerStartupEvent>, AutoCloseable {
+
+    /**
+     * The prefix of the pinning monitor configuration.
+     */
+    public static final String PREFIX = HttpServerConfiguration.PREFIX + ".virtual-thread-pinning-monitor";
+
+    /**
+     * The property to enable the pinning monitor.
+     */
+    public static final String ENABLED = PREFIX + ".enabled";
+
+    /**
+     * The property for the minimum duration of a pinning to record.
+     */
+    public static final String THRESHOLD = PREFIX + ".threshold";
+
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String EVENT_NAME = "jdk.VirtualThreadPinned";
+    private static final String UNKNOWN = "unknown";
+    private static final Duration DEFAULT_THRESHOLD = Duration.ofMillis(20);
+
+    private final BeanContext beanContext;
+    private final Router router;
+    private final Duration threshold;
+    private final Map<String, Statistics> statistics = new ConcurrentHashMap<>();
+    private Map<String, String> routesByMethod = Map.of();
+    private Map<String, String> beansByType = Map.of();
+    private RecordingStream recordingStream;
+
+    /**
+     * @param beanContext The bean context
+     * @param router      The router
+     * @param threshold   The minimum duration of a pinning to record
+     */
+    VirtualThreadPinningMonitor(BeanContext beanContext,
+                                Router router,
+                                @Nullable @Property(name = THRESHOLD) Duration threshold) {
+        this.beanContext = beanContext;
+        this.router = router;
+        this.threshold = threshold == null ? DEFAULT_THRESHOLD : threshold;
+    }
+
+    @Override
+    public synchronized void onApplicationEvent(ServerStartupEvent event) {
+        if (recordingStream != null) {
+            return;
+        }
+        Map<String, String> routes = new HashMap<>();
+        router.uriRoutes().forEach(route -> routes.putIfAbsent(methodKey(route), route.getHttpMethodName() + " " + route.getUriMatchTemplate()));
+        Map<String, String> beans = new HashMap<>();
+        for (BeanDefinition<?> definition : beanContext.getAllBeanDefinitions()) {
+            Class<?> beanType = definition.getBeanType();
+            beans.putIfAbsent(beanType.getName(), beanType.getName());
+        }
+        this.routesByMethod = routes;
+        this.beansByType = beans;
+
+        RecordingStream stream = new RecordingStream();
+        stream.enable(EVENT_NAME).withThreshold(threshold).withStackTrace();
+        stream.onEvent(EVENT_NAME, this::onPinned);
+        stream.startAsync();
+        this.recordingStream = stream;
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Recording virtual thread pinning longer than {}", threshold);
+        }
+    }
+
+    /**
+     * The statistics recorded so far, keyed by route ({@code GET /path}), by bean type name if no route was on the
+     * stack, or {@code unknown}.
+     *
+     * @return The pinning statistics
+     */
+    @NonNull
+    public Map<String, PinningStatistics> getStatistics() {
+        Map<String, PinningStatistics> result = new HashMap<>(statistics.size());
+        statistics.forEach((target, stats) -> result.put(target, new PinningStatistics(
+            stats.count.sum(),
+            Duration.ofNanos(stats.totalNanos.sum()),
+            Duration.ofNanos(stats.maxNanos.get())
+        )));
+        return result;
+    }
+
+    @Override
+    @PreDestroy
+    public synchronized void close() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            recordingStream = null;
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<String[]> frames = new ArrayList<>();
+        if (stackTrace != null) {
+            for (RecordedFrame frame : stackTrace.getFrames()) {
+                if (frame.getMethod() != null && frame.getMethod().getType() != null) {
+                    frames.add(new String[] {frame.getMethod().getType().getName(), frame.getMethod().getName()});
+                }
+            }
+        }
+        String target = attribute(frames);
+        record(target, event.getDuration());
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Virtual thread pinned for {}ms in {}: {}", event.getDuration().toMillis(), target, stackTrace);
+        }
+    }
+
+    /**
+     * Adds a pinning to the statistics of the given target.
+     *
+     * @param target   The route or bean
+     * @param duration The duration of the pinning
+     */
+    void record(String target, Duration duration) {
+        long nanos = duration.toNanos();
+        Statistics stats = statistics.computeIfAbsent(target, t -> {
+            LOG.warn("Virtual thread pinned its carrier thread for {}ms in {}, blocking inside synchronized blocks or native frames prevents unmounting", duration.toMillis(), t);
+            return new Statistics();
+        });
+        stats.count.increment();
+        stats.totalNanos.add(nanos);
+        stats.maxNanos.accumulate(nanos);
+    }
+
+    /**
+     * Finds the route, or failing that the bean, of the innermost matching stack frame.
+     *
+     * @param frames The type name and the method name of each stack frame, innermost first
+     * @return The route, the bean type name or {@code unknown}
+     */
+    String attribute(List<String[]> frames) {
+        String bean = null;
+        for (String[] frame : frames) {
+            String typeName = frame[0];
+            String route = routesByMethod.get(typeName + '#' + frame[1]);
+            if (route != null) {
+                return route;
+            }
+            if (bean == null) {
+                bean = beansByType.get(typeName);
+            }
+        }
+        return bean != null ? bean : UNKNOWN;
+    }
+
+    private static String methodKey(UriRouteInfo<?, ?> route) {
+        return route.getTargetMethod().getDeclaringType().getName() + '#' + route.getTargetMethod().getMethodName();
+    }
+
+    /**
+     * The pinning recorded for a route or bean.
+     *
+     * @param count         The number of times the carrier was pinned
+     * @param totalDuration The total time the carrier was pinned
+     * @param maxDuration   The longest time the carrier was pinned
+     */
+    public record PinningStatistics(long count, Duration totalDuration, Duration maxDuration) {
+    }
+
+    /**
+     * Mutable statistics.
+     */
+    private static final class Statistics {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.warmup;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpMethod;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.context.event.HttpRequestTerminatedEvent;
+import io.micronaut.json.JsonWarmupParticipant;
+import io.micronaut.runtime.warmup.WarmupRecorder;
+import io.micronaut.web.router.RouteAttributes;
+import io.micronaut.web.router.RouteMatch;
+import io.micronaut.web.router.UriRouteInfo;
+import jakarta.inject.Singleton;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the routes served during a training run, together with the types of their JSON bodies. Only the safe
+ * {@code GET} and {@code HEAD} requests are recorded, since the warm-up replays them against the application. The
+ * route template is recorded rather than the request path, so that no path variables or query values of the
+ * training run end up in the profile.
+ *
+ * @since 4.9.0
+ */
+@Singleton
+@Requires(beans = WarmupRecorder.class)
+public final class RouteWarmupRecorder implements ApplicationEventListener<HttpRequestTerminatedEvent> {
+
+    /**
+     * The kind of the route entries, a method and a route template separated by a space.
+     */
+    public static final String ROUTE_KIND = "route";
+
+    private final WarmupRecorder recorder;
+    private final Set<String> recordedTemplates = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param recorder The recorder
+     */
+    RouteWarmupRecorder(WarmupRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    public void onApplicationEvent(HttpRequestTerminatedEvent event) {
+        HttpRequest<?> request = event.getSource();
+        HttpMethod method = request.getMethod();
+        if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+            return;
+        }
+        RouteMatch<?> routeMatch = RouteAttributes.getRouteMatch(request).orElse(null);
+        if (routeMatch == null || !(routeMatch.getRouteInfo() instanceof UriRouteInfo<?, ?> routeInfo)) {
+            return;
+        }
+        String route = method.name() + ' ' + routeInfo.getUriMatchTemplate();
+        if (!recordedTemplates.add(route)) {
+            return;
+        }
+        recorder.record(ROUTE_KIND, route);
+        if (routeInfo.getProduces().contains(MediaType.APPLICATION_JSON_TYPE)) {
+            recordJsonType(routeInfo.getResponseBodyType());
+        }
+        routeInfo.getRequestBodyType().ifPresent(this::recordJsonType);
+    }
+
+    private void recordJsonType(@NonNull Argument<?> type) {
+        Class<?> javaType = type.getType();
+        if (!javaType.isPrimitive() && !javaType.isArray() && javaType != Void.class && javaType != Object.class
+            && !CharSequence.class.isAssignableFrom(javaType)) {
+            recorder.record(JsonWarmupParticipant.KIND, javaType.getName());
+        }
+    }
+}
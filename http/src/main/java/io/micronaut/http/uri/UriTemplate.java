@@ -20,8 +20,6 @@ import io.micronaut.core.reflect.ClassUtils;
 import io.micronaut.core.util.ObjectUtils;
 import io.micronaut.core.util.StringUtils;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -1044,8 +1042,7 @@ public class UriTemplate implements Comparable<UriTemplate> {
             }
 
             private String encode(String str, boolean query) {
-                String encoded = URLEncoder.encode(str, StandardCharsets.UTF_8);
-                return query ? encoded : encoded.replace("+", "%20");
+                return UriTemplateExpander.encode(str, query);
             }
 
             private Object expandPOJO(Object found) {
@@ -229,11 +229,33 @@ final class UriTemplateExpander implements UriTemplateParser.PartVisitor {
         return value;
     }
 
-    private String encode(String str, boolean query) {
+    /**
+     * Encodes the value of a variable, the values that don't require any encoding are returned as is.
+     *
+     * @param str   The value
+     * @param query Whether the value is a part of the query
+     * @return The encoded value
+     */
+    static String encode(String str, boolean query) {
+        if (isUnreserved(str)) {
+            return str;
+        }
         String encoded = URLEncoder.encode(str, StandardCharsets.UTF_8);
         return query ? encoded : encoded.replace("+", "%20");
     }
 
+    private static boolean isUnreserved(String str) {
+        // The characters that are not changed by the URLEncoder
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+            if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9'
+                || c == '.' || c == '-' || c == '*' || c == '_')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private String escape(String v) {
         return v.replace("%", "%25").replaceAll("\\s", "%20");
     }
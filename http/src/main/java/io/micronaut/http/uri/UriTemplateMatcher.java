@@ -33,6 +33,10 @@ import java.util.regex.Pattern;
 /**
  * Implementation of the paths matching <a href="https://tools.ietf.org/html/rfc6570">rfc6570</a>.
  *
+ * <p>The template is compiled into a program of segments: literals are compared in place, simple path variables are
+ * captured up to the next slash and only the expressions that cannot be represented that way, such as the variables
+ * with a regular expression constraint, are matched with a {@link Pattern}.</p>
+ *
  * @author Denis Stepanov
  * @since 4.6.0
  */
@@ -44,6 +48,9 @@ public final class UriTemplateMatcher implements UriMatcher, Comparable<UriTempl
     private final List<UriMatchVariable> variables;
     private final Segment[] segments;
     private final boolean isRoot;
+    private final boolean hasRegexp;
+    @Nullable
+    private final String literalExpansion;
 
     // Matches cache
     private UriMatchInfo rootMatchInfo;
@@ -68,8 +75,24 @@ public final class UriTemplateMatcher implements UriMatcher, Comparable<UriTempl
         this.parts = parts;
         List<UriMatchVariable> variables = new ArrayList<>();
         this.segments = provideMatchSegments(parts, variables);
-        this.isRoot = segments.length == 0 || segments.length == 1 && segments[0].type == SegmentType.LITERAL && isRoot(segments[0].value);
+        this.isRoot = segments.length == 0 || segments.length == 1 && segments[0].type == SegmentType.LITERAL && isRoot(segments[0].value, segments[0].value.length());
+        // the regular expression segment is always the last one
+        this.hasRegexp = segments.length > 0 && segments[segments.length - 1].type == SegmentType.REGEXP;
         this.variables = Collections.unmodifiableList(variables);
+        this.literalExpansion = provideLiteralExpansion(parts);
+    }
+
+    @Nullable
+    private static String provideLiteralExpansion(List<UriTemplateParser.Part> parts) {
+        StringBuilder builder = new StringBuilder();
+        for (UriTemplateParser.Part part : parts) {
+            if (part instanceof UriTemplateParser.Literal literal) {
+                builder.append(literal.text());
+            } else {
+                return null;
+            }
+        }
+        return builder.toString();
     }
 
     private static Segment[] provideMatchSegments(List<UriTemplateParser.Part> parts, List<UriMatchVariable> variables) {
@@ -80,11 +103,23 @@ public final class UriTemplateMatcher implements UriMatcher, Comparable<UriTempl
             UriTemplateParser.Part part = parts.get(i);
             if (part instanceof UriTemplateParser.Literal literal) {
                 if (regexp == null) {
-                    segments.add(new Segment(SegmentType.LITERAL, literal.text(), null, null));
+                    segments.add(new Segment(SegmentType.LITERAL, literal.text(), Integer.MAX_VALUE, null, null));
                 } else {
                     regexp.append(Pattern.quote(literal.text()));
                 }
             } else if (part instanceof UriTemplateParser.Expression expression) {
+                if (regexp == null && isIgnoredForMatching(expression)) {
+                    // Query and fragment expressions don't take part in the matching
+                    for (UriTemplateParser.Variable variable : expression.variables()) {
+                        variables.add(new UriMatchVariable(
+                                variable.name(),
+                                variable.explode() ? '*' : '0',
+                                expression.type().getOperator()
+                            )
+                        );
+                    }
+                    continue;
+                }
                 if (regexp == null && allowPathSegment(expression, parts, i)) {
                     for (UriTemplateParser.Variable variable : expression.variables()) {
                         variables.add(new UriMatchVariable(
@@ -93,7 +128,8 @@ public final class UriTemplateMatcher implements UriMatcher, Comparable<UriTempl
                                 expression.type().getOperator()
                             )
                         );
-                        segments.add(new Segment(SegmentType.PATH, variable.name(), null, null));
+                        Integer limit = parseLimit(variable.modifier());
+                        segments.add(new Segment(SegmentType.PATH, variable.name(), limit == null ? Integer.MAX_VALUE : limit, null, null));
                     }
                     continue;
                 }
@@ -112,7 +148,7 @@ public final class UriTemplateMatcher implements UriMatcher, Comparable<UriTempl
             }
         }
         if (regexp != null) {
-            segments.add(new Segment(SegmentType.REGEXP, null, Pattern.compile(regexp.toString()), regexpVariables.toArray(String[]::new)));
+            segments.add(new Segment(SegmentType.REGEXP, null, Integer.MAX_VALUE, Pattern.compile(regexp.toString()), regexpVariables.toArray(String[]::new)));
         }
 
         return segments.toArray(Segment[]::new);
@@ -124,16 +160,46 @@ public final class UriTemplateMatcher implements UriMatcher, Comparable<UriTempl
         if (expression.type() != UriTemplateParser.ExpressionType.NONE) {
             return false; // Only this on is supported
         }
-        if (!expression.variables().stream().allMatch(v -> v.modifier() == null)) {
-            return false; // Cannot have any kind of pattern
+        for (UriTemplateParser.Variable variable : expression.variables()) {
+            if (variable.modifier() != null && parseLimit(variable.modifier()) == null) {
+                return false; // Cannot have any kind of pattern
+            }
         }
-        if (parts.size() == index + 1) {
-            return true; // Last path
+        for (int i = index + 1; i < parts.size(); i++) {
+            UriTemplateParser.Part next = parts.get(i);
+            if (next instanceof UriTemplateParser.Literal literal) {
+                return literal.text().startsWith("/"); // It can absorb everything till the next one
+            }
+            if (!(next instanceof UriTemplateParser.Expression nextExpression && isIgnoredForMatching(nextExpression))) {
+                return false;
+            }
+        }
+        return true; // Last path
+    }
+
+    private static boolean isIgnoredForMatching(UriTemplateParser.Expression expression) {
+        return switch (expression.type()) {
+            case PATH_STYLE_PARAMETER_EXPANSION, FORM_STYLE_PARAMETER_EXPANSION, FORM_STYLE_QUERY_CONTINUATION, FRAGMENT_EXPANSION -> true;
+            default -> false;
+        };
+    }
+
+    @Nullable
+    private static Integer parseLimit(@Nullable String modifier) {
+        if (StringUtils.isEmpty(modifier)) {
+            return null;
+        }
+        for (int i = 0; i < modifier.length(); i++) {
+            if (!Character.isDigit(modifier.charAt(i))) {
+                return null;
+            }
         }
-        if (parts.get(index + 1) instanceof UriTemplateParser.Literal literal && literal.text().startsWith("/")) {
-            return true; // It can absorb everything till the next one
+        try {
+            int limit = Integer.parseInt(modifier);
+            return limit > 0 ? limit : null;
+        } catch (NumberFormatException e) {
+            return null;
         }
-        return false;
     }
 
     @SuppressWarnings("MissingSwitchDefault")
@@ -255,71 +321,88 @@ public final class UriTemplateMatcher implements UriMatcher, Comparable<UriTempl
      */
     @Nullable
     public UriMatchInfo tryMatch(@NonNull String uri) {
-        int length = uri.length();
-        if (length > 1 && uri.charAt(length - 1) == '/') {
-            uri = uri.substring(0, length - 1);
+        // The URI is not trimmed, the matching works on the [0, end) region
+        int end = uri.length();
+        if (end > 1 && uri.charAt(end - 1) == '/') {
+            end--;
         }
-        if (isRoot && isRoot(uri)) {
+        if (isRoot && isRoot(uri, end)) {
             if (rootMatchInfo == null) {
-                rootMatchInfo = new DefaultUriMatchInfo(uri, Collections.emptyMap(), variables);
+                rootMatchInfo = new DefaultUriMatchInfo(uri.substring(0, end), Collections.emptyMap(), variables);
             }
             return rootMatchInfo;
         }
-        // Remove any url parameters before matching
+        // Ignore any url parameters while matching
         int parameterIndex = uri.indexOf('?');
-        if (parameterIndex > -1) {
-            uri = uri.substring(0, parameterIndex);
-            length = uri.length();
-            if (length > 1 && uri.charAt(length - 1) == '/') {
-                uri = uri.substring(0, length - 1);
+        if (parameterIndex > -1 && parameterIndex < end) {
+            end = parameterIndex;
+            if (end > 1 && uri.charAt(end - 1) == '/') {
+                end--;
             }
         }
         if (variables.isEmpty()) {
-            if (uri.equals(templateString)) {
+            if (end == templateString.length() && uri.regionMatches(0, templateString, 0, end)) {
                 if (exactMatchInfo == null) {
-                    exactMatchInfo = new DefaultUriMatchInfo(uri, Collections.emptyMap(), variables);
+                    exactMatchInfo = new DefaultUriMatchInfo(uri.substring(0, end), Collections.emptyMap(), variables);
                 }
                 return exactMatchInfo;
             }
             return null;
         }
-        Map<String, Object> variableMap = CollectionUtils.newLinkedHashMap(variables.size());
-        if (match(uri, variableMap)) {
-            return new DefaultUriMatchInfo(uri, variableMap, variables);
+        Map<String, Object> variableMap;
+        if (hasRegexp) {
+            // A regular expression is only evaluated once, the values are captured in the same pass
+            variableMap = CollectionUtils.newLinkedHashMap(variables.size());
+            if (!match(uri, end, variableMap)) {
+                return null;
+            }
+        } else {
+            // The first pass only verifies the match, the values are captured once the URI is known to match
+            if (!match(uri, end, null)) {
+                return null;
+            }
+            variableMap = CollectionUtils.newLinkedHashMap(variables.size());
+            match(uri, end, variableMap);
         }
-        return null;
+        return new DefaultUriMatchInfo(end == uri.length() ? uri : uri.substring(0, end), variableMap, variables);
     }
 
-    private boolean match(String uri, Map<String, Object> variableMap) {
+    private boolean match(String uri, int end, @Nullable Map<String, Object> variableMap) {
+        int offset = 0;
         for (int i = 0; i < segments.length; i++) {
             Segment segment = segments[i];
             switch (segment.type) {
                 case LITERAL -> {
-                    if (uri.startsWith(segment.value)) {
-                        uri = uri.substring(segment.value.length());
+                    String value = segment.value;
+                    int length = value.length();
+                    if (end - offset >= length && uri.regionMatches(offset, value, 0, length)) {
+                        offset += length;
                     } else {
                         return false;
                     }
                 }
                 case PATH -> {
                     boolean requiresSlash = i + 1 != segments.length;
-                    int index = readText(uri, requiresSlash);
-                    if (index > 0) { // Deny empty path
-                        String path = uri.substring(0, index);
-                        variableMap.put(segment.value, path);
-                        uri = uri.substring(index);
+                    int index = readText(uri, offset, end, requiresSlash);
+                    if (index > offset && (segment.limit == Integer.MAX_VALUE || isLimitedText(uri, offset, index, segment.limit))) { // Deny empty path
+                        if (variableMap != null) {
+                            variableMap.put(segment.value, uri.substring(offset, index));
+                        }
+                        offset = index;
                     } else {
                         return false;
                     }
                 }
                 case REGEXP -> {
-                    Matcher matcher = segment.pattern.matcher(uri);
+                    Matcher matcher = segment.pattern.matcher(uri).region(offset, end);
                     if (matcher.matches()) {
-                        int groupInx = 2;
-                        for (String matchingVariable : segment.regexpVariables) {
-                            String group = matcher.group(groupInx);
-                            variableMap.put(matchingVariable, group);
-                            groupInx += 2;
+                        if (variableMap != null) {
+                            int groupInx = 2;
+                            for (String matchingVariable : segment.regexpVariables) {
+                                String group = matcher.group(groupInx);
+                                variableMap.put(matchingVariable, group);
+                                groupInx += 2;
+                            }
                         }
                         return true;
                     } else {
@@ -329,25 +412,40 @@ public final class UriTemplateMatcher implements UriMatcher, Comparable<UriTempl
                 default -> throw new IllegalStateException("Unsupported segment type: " + segment.type);
             }
         }
-        return uri.isEmpty();
+        return offset == end;
     }
 
-    private static int readText(String input, boolean requiresSlash) {
+    private static int readText(String input, int from, int end, boolean requiresSlash) {
         // NOTE: Micronaut doesn't allow some of the character in the path value
-        int length = input.length();
-        for (int i = 0; i < length; i++) {
+        for (int i = from; i < end; i++) {
             char c = input.charAt(i);
             if (requiresSlash && c == '/') {
                 return i;
             }
-            if (rejectCharacter(c, input, i)) {
+            if (rejectCharacter(c, input, i, end)) {
                 return -1;
             }
         }
-        return length;
+        return end;
     }
 
-    private static boolean rejectCharacter(char c, String input, int i) {
+    private static boolean isLimitedText(String input, int from, int to, int limit) {
+        if (to - from > limit) {
+            return false;
+        }
+        // Same characters as the regular expression used by UriMatchTemplate for the length limited variables
+        for (int i = from; i < to; i++) {
+            switch (input.charAt(i)) {
+                case '(', '!', ')', '#':
+                    return false;
+                default:
+                    break;
+            }
+        }
+        return true;
+    }
+
+    private static boolean rejectCharacter(char c, String input, int i, int end) {
         switch (c) {
             case '/':
             case '?':
@@ -358,7 +456,7 @@ public final class UriTemplateMatcher implements UriMatcher, Comparable<UriTempl
             case '+':
                 return true;
             case '#':
-                if (i + 1 < input.length()) {
+                if (i + 1 < end) {
                     c = input.charAt(i + 1);
                     if (c != '{') {
                         return true;
@@ -426,6 +524,9 @@ public final class UriTemplateMatcher implements UriMatcher, Comparable<UriTempl
      * @return The expanded URI
      */
     public String expand(Map<String, Object> parameters) {
+        if (literalExpansion != null) {
+            return literalExpansion;
+        }
         UriTemplateExpander uriTemplateExpander = new UriTemplateExpander(parameters);
         visitParts(parts, uriTemplateExpander);
         return uriTemplateExpander.toString();
@@ -462,9 +563,8 @@ public final class UriTemplateMatcher implements UriMatcher, Comparable<UriTempl
         }
     }
 
-    private boolean isRoot(String uri) {
-        int length = uri.length();
-        return length == 0 || length == 1 && uri.charAt(0) == '/';
+    private boolean isRoot(String uri, int end) {
+        return end == 0 || end == 1 && uri.charAt(0) == '/';
     }
 
     /**
@@ -496,7 +596,7 @@ public final class UriTemplateMatcher implements UriMatcher, Comparable<UriTempl
         }
     }
 
-    private record Segment(SegmentType type, String value,
+    private record Segment(SegmentType type, String value, int limit,
                            Pattern pattern, String[] regexpVariables) {
     }
 
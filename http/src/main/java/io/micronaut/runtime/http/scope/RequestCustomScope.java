@@ -15,35 +15,45 @@
  */
 package io.micronaut.runtime.http.scope;
 
-import io.micronaut.context.event.ApplicationEventListener;
 import io.micronaut.context.scope.AbstractConcurrentCustomScope;
 import io.micronaut.context.scope.BeanCreationContext;
 import io.micronaut.context.scope.CreatedBean;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.convert.value.MutableConvertibleValues;
 import io.micronaut.core.util.ArgumentUtils;
 import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpRequestWrapper;
 import io.micronaut.http.context.ServerRequestContext;
-import io.micronaut.http.context.event.HttpRequestTerminatedEvent;
 import io.micronaut.inject.BeanIdentifier;
 import jakarta.inject.Singleton;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A {@link io.micronaut.context.scope.CustomScope} that creates a new bean for every HTTP request.
  *
+ * <p>Requests implementing {@link RequestScopedBeansHolder} store the beans directly and destroy them when the request
+ * is released, other requests store them in the {@link #SCOPED_BEANS_ATTRIBUTE} attribute and rely on the
+ * {@link RequestScopeTerminatedListener}.</p>
+ *
  * @author James Kleeh
  * @author Marcel Overdijk
  * @since 1.2.0
  */
 @Singleton
-class RequestCustomScope extends AbstractConcurrentCustomScope<RequestScope> implements ApplicationEventListener<HttpRequestTerminatedEvent> {
+class RequestCustomScope extends AbstractConcurrentCustomScope<RequestScope> {
     /**
      * The request attribute to store scoped beans in.
      */
     public static final String SCOPED_BEANS_ATTRIBUTE = "io.micronaut.http.SCOPED_BEANS";
 
+    /**
+     * The slots of the request scoped beans in {@link RequestScopedBeans}. Assigned once per bean identifier.
+     */
+    private final ConcurrentMap<BeanIdentifier, Integer> slots = new ConcurrentHashMap<>();
+
     /**
      * Creates the request scope for the given context.
      *
@@ -62,16 +72,16 @@ class RequestCustomScope extends AbstractConcurrentCustomScope<RequestScope> imp
         return ServerRequestContext.currentRequest().isPresent();
     }
 
-    @Override
-    public void onApplicationEvent(HttpRequestTerminatedEvent event) {
-        destroyBeans(event.getSource());
-    }
-
     @NonNull
     @Override
     protected Map<BeanIdentifier, CreatedBean<?>> getScopeMap(boolean forCreation) {
         final HttpRequest<Object> request = ServerRequestContext.currentRequest().orElse(null);
         if (request != null) {
+            RequestScopedBeansHolder holder = findHolder(request);
+            if (holder != null) {
+                //noinspection ConstantConditions
+                return getRequestScopedBeans(holder, forCreation);
+            }
             //noinspection ConstantConditions
             return getRequestAttributeMap(request, forCreation);
         } else {
@@ -95,8 +105,16 @@ class RequestCustomScope extends AbstractConcurrentCustomScope<RequestScope> imp
      * Destroys the request scoped beans for the given request.
      * @param request The request
      */
-    private void destroyBeans(HttpRequest<?> request) {
+    void destroyBeans(HttpRequest<?> request) {
         ArgumentUtils.requireNonNull("request", request);
+        RequestScopedBeansHolder holder = findHolder(request);
+        if (holder != null) {
+            RequestScopedBeans requestScopedBeans = holder.getRequestScopedBeans();
+            if (requestScopedBeans != null) {
+                requestScopedBeans.destroy();
+            }
+            return;
+        }
         ConcurrentHashMap<BeanIdentifier, CreatedBean<?>> requestScopedBeans =
                 getRequestAttributeMap(request, false);
         if (requestScopedBeans != null) {
@@ -104,6 +122,71 @@ class RequestCustomScope extends AbstractConcurrentCustomScope<RequestScope> imp
         }
     }
 
+    /**
+     * Destroys the beans stored directly on the request.
+     * @param requestScopedBeans The request scoped beans
+     */
+    void destroyBeans(RequestScopedBeans requestScopedBeans) {
+        destroyScope(requestScopedBeans);
+    }
+
+    /**
+     * @return The number of slots assigned so far
+     */
+    int slotCount() {
+        return slots.size();
+    }
+
+    /**
+     * @param identifier The bean identifier
+     * @return The slot of the identifier or -1 if no bean with the identifier was stored yet
+     */
+    int findSlot(Object identifier) {
+        Integer slot = slots.get(identifier);
+        return slot == null ? -1 : slot;
+    }
+
+    /**
+     * @param identifier The bean identifier
+     * @return The slot of the identifier, assigned on the first use
+     */
+    int getSlot(BeanIdentifier identifier) {
+        Integer slot = slots.get(identifier);
+        if (slot == null) {
+            synchronized (slots) {
+                slot = slots.computeIfAbsent(identifier, ignored -> slots.size());
+            }
+        }
+        return slot;
+    }
+
+    @Nullable
+    private RequestScopedBeans getRequestScopedBeans(RequestScopedBeansHolder holder, boolean create) {
+        RequestScopedBeans requestScopedBeans = holder.getRequestScopedBeans();
+        if (requestScopedBeans == null && create) {
+            synchronized (holder) {
+                requestScopedBeans = holder.getRequestScopedBeans();
+                if (requestScopedBeans == null) {
+                    requestScopedBeans = new RequestScopedBeans(this);
+                    holder.setRequestScopedBeans(requestScopedBeans);
+                }
+            }
+        }
+        return requestScopedBeans;
+    }
+
+    /**
+     * @param request The request
+     * @return The request, or the request it wraps, holding the request scoped beans directly, if any
+     */
+    @Nullable
+    static RequestScopedBeansHolder findHolder(HttpRequest<?> request) {
+        while (request instanceof HttpRequestWrapper<?> wrapper) {
+            request = wrapper.getDelegate();
+        }
+        return request instanceof RequestScopedBeansHolder holder ? holder : null;
+    }
+
     private <T> ConcurrentHashMap<BeanIdentifier, CreatedBean<?>> getRequestAttributeMap(HttpRequest<T> httpRequest, boolean create) {
         MutableConvertibleValues<Object> attrs = httpRequest.getAttributes();
         Object o = attrs.getValue(SCOPED_BEANS_ATTRIBUTE);
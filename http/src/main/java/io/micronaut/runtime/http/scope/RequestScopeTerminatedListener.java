@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.runtime.http.scope;
+
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.http.context.event.HttpRequestTerminatedEvent;
+import jakarta.inject.Singleton;
+
+/**
+ * Destroys the {@link RequestScope} beans stored in the request attribute when the request is terminated. The
+ * requests implementing {@link RequestScopedBeansHolder}, such as the Netty server requests, store the beans directly
+ * and destroy them when released, so their events are skipped.
+ *
+ * <p>The listener is registered for every runtime: a Netty server on the classpath doesn't mean that all the requests
+ * are Netty requests, for example with a servlet or function runtime or with requests bound through
+ * {@link io.micronaut.http.context.ServerRequestContext#with}.</p>
+ *
+ * @since 4.9.0
+ */
+@Singleton
+final class RequestScopeTerminatedListener implements ApplicationEventListener<HttpRequestTerminatedEvent> {
+
+    private final RequestCustomScope requestCustomScope;
+
+    RequestScopeTerminatedListener(RequestCustomScope requestCustomScope) {
+        this.requestCustomScope = requestCustomScope;
+    }
+
+    @Override
+    public boolean supports(HttpRequestTerminatedEvent event) {
+        return RequestCustomScope.findHolder(event.getSource()) == null;
+    }
+
+    @Override
+    public void onApplicationEvent(HttpRequestTerminatedEvent event) {
+        requestCustomScope.destroyBeans(event.getSource());
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.runtime.http.scope;
+
+import io.micronaut.context.scope.CreatedBean;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.inject.BeanIdentifier;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The {@link RequestScope} beans of a single request. The beans are stored in an array indexed by the slot
+ * the scope assigned to their bean identifier, which avoids allocating a hash map for every request.
+ *
+ * <p>The instance is guarded by the lock of the {@link RequestCustomScope}.</p>
+ *
+ * @since 4.9.0
+ */
+@Internal
+public final class RequestScopedBeans extends AbstractMap<BeanIdentifier, CreatedBean<?>> {
+
+    private final RequestCustomScope scope;
+    private CreatedBean<?>[] beans;
+    private int size;
+
+    RequestScopedBeans(RequestCustomScope scope) {
+        this.scope = scope;
+        this.beans = new CreatedBean<?>[scope.slotCount()];
+    }
+
+    /**
+     * Destroys the beans created for the request.
+     */
+    public void destroy() {
+        if (size != 0) {
+            scope.destroyBeans(this);
+        }
+    }
+
+    @Override
+    public CreatedBean<?> get(Object key) {
+        int slot = scope.findSlot(key);
+        return slot < 0 || slot >= beans.length ? null : beans[slot];
+    }
+
+    @Override
+    public CreatedBean<?> put(BeanIdentifier key, CreatedBean<?> value) {
+        int slot = scope.getSlot(key);
+        if (slot >= beans.length) {
+            beans = Arrays.copyOf(beans, Math.max(slot + 1, scope.slotCount()));
+        }
+        CreatedBean<?> previous = beans[slot];
+        beans[slot] = value;
+        if (previous == null) {
+            size++;
+        }
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(beans, null);
+        size = 0;
+    }
+
+    @Override
+    @NonNull
+    public Collection<CreatedBean<?>> values() {
+        Collection<CreatedBean<?>> values = new ArrayList<>(size);
+        for (CreatedBean<?> bean : beans) {
+            if (bean != null) {
+                values.add(bean);
+            }
+        }
+        return values;
+    }
+
+    @Override
+    @NonNull
+    public Set<Entry<BeanIdentifier, CreatedBean<?>>> entrySet() {
+        Set<Entry<BeanIdentifier, CreatedBean<?>>> entries = new LinkedHashSet<>(size);
+        for (CreatedBean<?> bean : beans) {
+            if (bean != null) {
+                entries.add(Map.entry(bean.id(), bean));
+            }
+        }
+        return entries;
+    }
+}
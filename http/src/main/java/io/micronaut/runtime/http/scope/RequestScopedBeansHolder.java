@@ -0,0 +1,40 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.runtime.http.scope;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+
+/**
+ * Implemented by server requests that store the {@link RequestScope} beans directly instead of in a request attribute.
+ * The implementation is expected to call {@link RequestScopedBeans#destroy()} once the request is released.
+ *
+ * @since 4.9.0
+ */
+@Internal
+public interface RequestScopedBeansHolder {
+
+    /**
+     * @return The request scoped beans or null if none were created
+     */
+    @Nullable
+    RequestScopedBeans getRequestScopedBeans();
+
+    /**
+     * @param requestScopedBeans The request scoped beans
+     */
+    void setRequestScopedBeans(RequestScopedBeans requestScopedBeans);
+}
@@ -140,6 +140,27 @@ class UriTemplateMatcherSpec extends Specification {
         "/books{#hashtag}"               | "/books"                   | true    | [:]
         "/{?max,offset}"                 | "/"                        | true    | [:]
         "/book{/id,chapter}"             | '/book/123/ch1'            | true    | [id:"123", chapter:"ch1"]
+        "/books/{id}{?max,offset}"       | "/books/1?max=10"          | true    | [id: '1']
+        "/books/{id}{?max,offset}"       | "/books/1/2"               | false   | null
+        "/books/{id}{#hashtag}"          | "/books/1"                 | true    | [id: '1']
+        "/books/{id:2}/{chapter}"        | '/books/12/ch1'            | true    | [id: '12', chapter: 'ch1']
+        "/books/{id:2}/{chapter}"        | '/books/123/ch1'           | false   | null
+    }
+
+    @Unroll
+    void "Test URI template #template expands to #result"() {
+        given:
+        UriTemplateMatcher matchTemplate = new UriTemplateMatcher(template)
+
+        expect:
+        matchTemplate.expand(parameters) == result
+
+        where:
+        template                 | parameters                 | result
+        "/books"                 | [id: '1']                  | '/books'
+        "/books/{id}"            | [id: '1']                  | '/books/1'
+        "/books/{id}"            | [id: 'a b']                | '/books/a%20b'
+        "/books/{id}{?max}"      | [id: '1', max: 'a b']      | '/books/1?max=a+b'
     }
 
     @Unroll
@@ -5489,6 +5489,153 @@ class Massive {
         introspection.getBeanProperties().size() == count
     }
 
+    void "test primitive properties are read and written without boxing"() {
+        given:
+        BeanIntrospection introspection = buildBeanIntrospection('test.PrimitiveHolder', '''
+package test;
+import io.micronaut.core.annotation.Introspected;
+
+@Introspected(accessKind = {Introspected.AccessKind.METHOD, Introspected.AccessKind.FIELD})
+class PrimitiveHolder {
+    public long total;
+    private int count;
+    private double ratio;
+    private boolean enabled;
+    private Integer boxed;
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public double getRatio() {
+        return ratio;
+    }
+
+    public void setRatio(double ratio) {
+        this.ratio = ratio;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Integer getBoxed() {
+        return boxed;
+    }
+
+    public void setBoxed(Integer boxed) {
+        this.boxed = boxed;
+    }
+}
+        ''')
+        def bean = introspection.instantiate()
+        def count = introspection.getRequiredProperty("count", int)
+        def total = introspection.getRequiredProperty("total", long)
+        def ratio = introspection.getRequiredProperty("ratio", double)
+        def enabled = introspection.getRequiredProperty("enabled", boolean)
+        def boxed = introspection.getRequiredProperty("boxed", Integer)
+
+        when:
+        count.setIntUnsafe(bean, 10)
+        total.setLongUnsafe(bean, 20L)
+        ratio.setDoubleUnsafe(bean, 0.5d)
+        enabled.setBooleanUnsafe(bean, true)
+        boxed.setIntUnsafe(bean, 30)
+
+        then:
+        count.getIntUnsafe(bean) == 10
+        total.getLongUnsafe(bean) == 20L
+        ratio.getDoubleUnsafe(bean) == 0.5d
+        enabled.getBooleanUnsafe(bean)
+        boxed.getIntUnsafe(bean) == 30
+        count.get(bean) == 10
+        total.get(bean) == 20L
+        boxed.get(bean) == 30
+
+        and:
+        [Int: int, Long: long, Double: double, Boolean: boolean].every { name, type ->
+            introspection.getClass().getDeclaredMethod("dispatchGet$name", int, Object).returnType == type &&
+                introspection.getClass().getDeclaredMethod("dispatchSet$name", int, Object, type)
+        }
+    }
+
+    void "test bulk operations"() {
+        given:
+        BeanIntrospection introspection = buildBeanIntrospection('test.BulkHolder', '''
+package test;
+import io.micronaut.core.annotation.Introspected;
+
+@Introspected(bulkOperations = true, accessKind = {Introspected.AccessKind.METHOD, Introspected.AccessKind.FIELD})
+class BulkHolder {
+    public double ratio;
+    private int count;
+    private String name;
+    private final String id;
+
+    BulkHolder(String id) {
+        this.id = id;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
+        ''')
+        def source = introspection.instantiate("a")
+        introspection.getRequiredProperty("count", int).set(source, 10)
+        introspection.getRequiredProperty("name", String).set(source, "foo")
+        introspection.getRequiredProperty("ratio", double).set(source, Double.NaN)
+        def target = introspection.instantiate("a")
+
+        expect:
+        ['copyProperties', 'propertiesEqual', 'propertiesHashCode', 'toArray'].every { name ->
+            introspection.getClass().declaredMethods.any { it.name == name }
+        }
+        !introspection.propertiesEqual(source, target)
+
+        when:
+        introspection.copyProperties(source, target)
+
+        then:
+        introspection.propertiesEqual(source, target)
+        introspection.propertiesHashCode(source) == introspection.propertiesHashCode(target)
+        introspection.propertiesHashCode(source) == Arrays.hashCode(introspection.toArray(source))
+        introspection.toArray(target) as List == introspection.beanProperties.collect { it.get(target) }
+
+        when:
+        def other = introspection.withProperties(target, [id: "b", count: 20])
+
+        then:
+        other.id == "b"
+        other.count == 20
+        other.name == "foo"
+        !introspection.propertiesEqual(source, other)
+    }
+
     @Issue("https://github.com/micronaut-projects/micronaut-core/issues/10647")
     void 'handles generic definitions as generated by protobuf'() {
         when:
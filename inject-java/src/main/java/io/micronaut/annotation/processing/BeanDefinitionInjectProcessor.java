@@ -31,6 +31,7 @@ import io.micronaut.inject.processing.JavaModelUtils;
 import io.micronaut.inject.processing.ProcessingException;
 import io.micronaut.inject.visitor.BeanElementVisitor;
 import io.micronaut.inject.writer.AbstractBeanDefinitionBuilder;
+import io.micronaut.inject.writer.BeanDefinitionIndexWriter;
 import io.micronaut.inject.writer.BeanDefinitionVisitor;
 import io.micronaut.inject.writer.BeanDefinitionWriter;
 
@@ -64,7 +65,7 @@ import static javax.lang.model.element.ElementKind.ENUM;
  * @since 1.0
  */
 @Internal
-@SupportedOptions({AbstractInjectAnnotationProcessor.MICRONAUT_PROCESSING_INCREMENTAL, AbstractInjectAnnotationProcessor.MICRONAUT_PROCESSING_ANNOTATIONS, BeanDefinitionWriter.OMIT_CONFPROP_INJECTION_POINTS})
+@SupportedOptions({AbstractInjectAnnotationProcessor.MICRONAUT_PROCESSING_INCREMENTAL, AbstractInjectAnnotationProcessor.MICRONAUT_PROCESSING_ANNOTATIONS, BeanDefinitionWriter.OMIT_CONFPROP_INJECTION_POINTS, BeanDefinitionIndexWriter.BEAN_DEFINITION_INDEX})
 public class BeanDefinitionInjectProcessor extends AbstractInjectAnnotationProcessor {
 
     private static final String[] ANNOTATION_STEREOTYPES = new String[] {
@@ -245,10 +246,14 @@ public class BeanDefinitionInjectProcessor extends AbstractInjectAnnotationProce
 
     /**
      * Writes {@link io.micronaut.inject.BeanDefinitionReference} into /META-INF/services/io
-     * .micronaut.inject.BeanDefinitionReference.
+     * .micronaut.inject.BeanDefinitionReference, preceded by the bean definition index if enabled.
      */
     private void writeBeanDefinitionsToMetaInf() {
         try {
+            BeanDefinitionIndexWriter indexWriter = BeanDefinitionIndexWriter.find(javaVisitorContext);
+            if (indexWriter != null) {
+                indexWriter.accept(classWriterOutputVisitor);
+            }
             classWriterOutputVisitor.finish();
         } catch (Exception e) {
             String message = e.getMessage();
@@ -1313,4 +1313,139 @@ class AnotherInterceptor implements Interceptor {
                     .build())
         }
     }
+
+    void 'test the chain of confined interceptors is reused unless invoked again'() {
+        given:
+        ApplicationContext context = buildContext('''
+package confined;
+
+import java.lang.annotation.*;
+import java.util.*;
+import io.micronaut.aop.*;
+import jakarta.inject.*;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+@Singleton
+class MyBean {
+    @Confined
+    public int test(int value) {
+        return value * 10;
+    }
+}
+
+@Retention(RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Around
+@interface Confined {
+}
+
+@InterceptorBean(Confined.class)
+class ConfinedTestInterceptor implements MethodInterceptor<Object, Object>, ConfinedInterceptor {
+    List<Object> contexts = new ArrayList<>();
+    List<Object> values = new ArrayList<>();
+
+    @Override
+    public Object intercept(MethodInvocationContext<Object, Object> context) {
+        contexts.add(context);
+        values.add(context.getParameters().get("value").getValue());
+        int value = (Integer) context.getParameterValues()[0];
+        if (value == 1) {
+            ((MyBean) context.getTarget()).test(2);
+        }
+        return context.proceed();
+    }
+}
+''')
+        def instance = getBean(context, 'confined.MyBean')
+        def interceptor = getBean(context, 'confined.ConfinedTestInterceptor')
+
+        expect:
+        instance.test(0) == 0
+        instance.test(1) == 10
+        interceptor.values == [0, 1, 2]
+        interceptor.contexts[0].is(interceptor.contexts[1])
+        !interceptor.contexts[1].is(interceptor.contexts[2])
+
+        cleanup:
+        context.close()
+    }
+
+    void 'test the interceptors are shared by the methods with the same bindings and by the instances'() {
+        given:
+        ApplicationContext context = buildContext('''
+package sharedbinding;
+
+import java.lang.annotation.*;
+import io.micronaut.aop.*;
+import io.micronaut.context.annotation.Prototype;
+import jakarta.inject.*;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+@Prototype
+class MyBean {
+    @TestAnn
+    public String one() {
+        return "one";
+    }
+
+    @TestAnn
+    public String two() {
+        return "two";
+    }
+
+    @TestAnn
+    @OtherAnn
+    public String three() {
+        return "three";
+    }
+}
+
+@Retention(RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Around
+@interface TestAnn {
+}
+
+@Retention(RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Around
+@interface OtherAnn {
+}
+
+@InterceptorBean(TestAnn.class)
+class TestInterceptor implements MethodInterceptor<Object, Object> {
+    @Override
+    public Object intercept(MethodInvocationContext<Object, Object> context) {
+        return "test-" + context.proceed();
+    }
+}
+
+@InterceptorBean(OtherAnn.class)
+class OtherInterceptor implements MethodInterceptor<Object, Object> {
+    @Override
+    public Object intercept(MethodInvocationContext<Object, Object> context) {
+        return "other-" + context.proceed();
+    }
+}
+''')
+        def first = getBean(context, 'sharedbinding.MyBean')
+        def second = getBean(context, 'sharedbinding.MyBean')
+        def interceptors = { bean ->
+            def field = bean.getClass().getDeclaredField('$interceptors')
+            field.accessible = true
+            field.get(bean)
+        }
+
+        expect:
+        !first.is(second)
+        first.one() == 'test-one'
+        first.two() == 'test-two'
+        first.three().contains('test-') && first.three().contains('other-')
+        interceptors(first).is(interceptors(second))
+        interceptors(first)[0].is(interceptors(first)[1])
+        !interceptors(first)[0].is(interceptors(first)[2])
+
+        cleanup:
+        context.close()
+    }
 }
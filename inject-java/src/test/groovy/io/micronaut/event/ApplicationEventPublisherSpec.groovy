@@ -0,0 +1,66 @@
+package io.micronaut.event
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.event.ApplicationEventListener
+import io.micronaut.context.event.ApplicationEventPublisher
+import spock.lang.AutoCleanup
+import spock.lang.Specification
+
+import java.util.concurrent.TimeUnit
+
+class ApplicationEventPublisherSpec extends Specification {
+
+    @AutoCleanup
+    ApplicationContext context = ApplicationContext.run()
+
+    void 'test listeners registered after the first publish receive the events'() {
+        given:
+        ApplicationEventPublisher<SampleEvent> publisher = context.getEventPublisher(SampleEvent)
+
+        expect:
+        publisher.isEmpty()
+
+        when:
+        publisher.publishEvent(new SampleEvent(1))
+        SampleListener listener = new SampleListener()
+        context.registerSingleton(listener)
+        publisher.publishEvent(new SampleEvent(2))
+
+        then:
+        !publisher.isEmpty()
+        listener.received*.value == [2]
+    }
+
+    void 'test events published in a batch'() {
+        given:
+        SampleListener listener = new SampleListener()
+        context.registerSingleton(listener)
+        ApplicationEventPublisher<SampleEvent> publisher = context.getEventPublisher(SampleEvent)
+        ApplicationEventPublisher<Object> objectPublisher = context.getBean(ApplicationEventPublisher)
+
+        when:
+        publisher.publishEventsAsync([new SampleEvent(1), new SampleEvent(2)]).get(5, TimeUnit.SECONDS)
+        objectPublisher.publishEventsAsync([new SampleEvent(3), "other"]).get(5, TimeUnit.SECONDS)
+        publisher.publishEventsAsync([]).get(5, TimeUnit.SECONDS)
+
+        then:
+        listener.received*.value == [1, 2, 3]
+    }
+
+    static class SampleEvent {
+        final int value
+
+        SampleEvent(int value) {
+            this.value = value
+        }
+    }
+
+    static class SampleListener implements ApplicationEventListener<SampleEvent> {
+        final List<SampleEvent> received = Collections.synchronizedList([])
+
+        @Override
+        void onApplicationEvent(SampleEvent event) {
+            received.add(event)
+        }
+    }
+}
@@ -82,6 +82,31 @@ class Test implements Runnable {
         reference.exposedTypes == [Runnable] as Set
     }
 
+    void "test limit the exposed bean types with a stereotype"() {
+        given:
+        def definition = buildBeanDefinition('limittypes.Test', '''
+package limittypes;
+
+import io.micronaut.context.annotation.*;
+import jakarta.inject.*;
+import java.lang.annotation.*;
+
+@Singleton
+@RunnableBean
+class Test implements Runnable {
+    public void run() {}
+}
+
+@Bean(typed = Runnable.class)
+@Retention(RetentionPolicy.RUNTIME)
+@interface RunnableBean {
+}
+
+''')
+        expect:
+        definition.exposedTypes == [Runnable] as Set
+    }
+
     void "test fail compilation on invalid exposed bean type"() {
         when:
         buildBeanDefinition('limittypes.Test', '''
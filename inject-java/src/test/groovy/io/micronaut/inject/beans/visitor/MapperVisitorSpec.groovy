@@ -51,6 +51,105 @@ record TypeB(
         binding.enumValue("kind", InterceptorKind).get() == InterceptorKind.INTRODUCTION
     }
 
+    void 'test mapper visitor generates the mapping of statically known types'() {
+        given:
+        def context = buildContext('test.MyMapper', '''
+package test;
+
+import io.micronaut.context.annotation.Mapper;
+import io.micronaut.core.annotation.Introspected;
+import jakarta.inject.Singleton;
+
+@Singleton
+public abstract class MyMapper {
+
+    @Mapper.Mapping(from = "typeB.a", to = "propA")
+    public abstract TypeA map(TypeB typeB);
+
+    @Mapper.Mapping(from = "a", to = "propA", condition = "#{typeB.count < 50}")
+    public abstract TypeA mapWithCondition(TypeB typeB);
+
+    @Mapper
+    public abstract TypeC mapToBean(TypeB typeB);
+}
+
+@Introspected
+record TypeA(
+        String propA,
+        String b,
+        int count
+) {}
+
+@Introspected
+record TypeB(
+        String a,
+        String b,
+        int count
+) {}
+
+@Introspected
+class TypeC {
+    private String a;
+    private CharSequence b;
+    private String other = "initial";
+
+    public String getA() {
+        return a;
+    }
+
+    public void setA(String a) {
+        this.a = a;
+    }
+
+    public CharSequence getB() {
+        return b;
+    }
+
+    public void setB(CharSequence b) {
+        this.b = b;
+    }
+
+    public String getOther() {
+        return other;
+    }
+
+    public void setOther(String other) {
+        this.other = other;
+    }
+}
+''')
+        def mapper = getBean(context, 'test.MyMapper')
+        def typeB = context.classLoader.loadClass('test.TypeB').newInstance('a', 'b', 3)
+
+        when:
+        def definition = context.getBeanDefinition(context.classLoader.loadClass('test.MyMapper'))
+        def methods = definition.executableMethods.collectEntries { [it.methodName, it] }
+
+        then:
+        methods.map.classValue(Mapper, Mapper.MEMBER_GENERATED_MAPPING).get() == context.classLoader.loadClass('test.$MyMapper$Mapping0')
+        !methods.mapWithCondition.isPresent(Mapper, Mapper.MEMBER_GENERATED_MAPPING)
+        methods.mapToBean.isPresent(Mapper, Mapper.MEMBER_GENERATED_MAPPING)
+
+        when:
+        def typeA = mapper.map(typeB)
+        def conditional = mapper.mapWithCondition(typeB)
+        def typeC = mapper.mapToBean(typeB)
+
+        then:
+        typeA.propA() == 'a'
+        typeA.b() == 'b'
+        typeA.count() == 3
+        conditional.propA() == 'a'
+        conditional.b() == 'b'
+        conditional.count() == 3
+        typeC.a == 'a'
+        typeC.b == 'b'
+        typeC.other == null
+
+        cleanup:
+        context.close()
+    }
+
     void 'test mapper visitor fail'() {
         when:
         buildClassLoader('test.MyMapper', """
@@ -0,0 +1,17 @@
+package io.micronaut.inject.context.conditions;
+
+import io.micronaut.context.condition.Condition;
+import io.micronaut.context.condition.ConditionContext;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CountingCondition implements Condition {
+
+    static final AtomicInteger EVALUATIONS = new AtomicInteger();
+
+    @Override
+    public boolean matches(ConditionContext context) {
+        EVALUATIONS.incrementAndGet();
+        return true;
+    }
+}
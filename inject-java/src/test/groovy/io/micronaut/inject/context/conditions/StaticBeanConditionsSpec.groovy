@@ -0,0 +1,108 @@
+package io.micronaut.inject.context.conditions
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.StaticBeanConditions
+import io.micronaut.inject.writer.DirectoryClassWriterOutputVisitor
+import io.micronaut.inject.writer.StaticBeanConditionsWriter
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Path
+
+class StaticBeanConditionsSpec extends Specification {
+
+    private static final String DISABLED = 'io.micronaut.inject.context.conditions.$StaticallyDisabledBean$Definition'
+    private static final String DYNAMIC = 'io.micronaut.inject.context.conditions.$DynamicallyConditionedBean$Definition'
+    private static final String INDEX_DISABLED = 'io.micronaut.inject.context.conditions.$IndexDisabledBean$Definition'
+
+    @TempDir
+    Path tempDir
+
+    void "test static conditions are evaluated"() {
+        when:
+        StaticBeanConditions conditions = StaticBeanConditions.evaluate(getClass().classLoader)
+
+        then:
+        conditions.isApplicable()
+        conditions.isDisabled(DISABLED)
+        !conditions.isDisabled(DYNAMIC)
+        !conditions.isDisabled('io.micronaut.inject.context.conditions.$Unknown$Definition')
+        conditions.disabledCount > 0
+        conditions.size() > conditions.disabledCount
+    }
+
+    void "test the index survives serialization"() {
+        given:
+        StaticBeanConditions conditions = StaticBeanConditions.evaluate(getClass().classLoader)
+        ByteArrayOutputStream out = new ByteArrayOutputStream()
+
+        when:
+        conditions.writeTo(out)
+        StaticBeanConditions read = StaticBeanConditions.readFrom(new ByteArrayInputStream(out.toByteArray()))
+
+        then:
+        read.isApplicable()
+        read.size() == conditions.size()
+        read.disabledCount == conditions.disabledCount
+        read.isDisabled(DISABLED)
+        !read.isDisabled(DYNAMIC)
+    }
+
+    void "test the context skips statically disabled beans"() {
+        given:
+        DirectoryClassWriterOutputVisitor visitor = new DirectoryClassWriterOutputVisitor(tempDir.toFile())
+        new StaticBeanConditionsWriter(getClass().classLoader).accept(visitor)
+        visitor.finish()
+        URLClassLoader classLoader = new URLClassLoader([tempDir.toUri().toURL()] as URL[], getClass().classLoader)
+
+        when:
+        ApplicationContext context = ApplicationContext.builder()
+                .classLoader(classLoader)
+                .properties('spec.name': 'StaticBeanConditionsSpec')
+                .start()
+
+        then:
+        tempDir.resolve(StaticBeanConditions.RESOURCE).toFile().exists()
+        !context.containsBean(StaticallyDisabledBean)
+        context.containsBean(DynamicallyConditionedBean)
+
+        cleanup:
+        context?.close()
+        classLoader.close()
+    }
+
+    void "test a definition disabled by the index is skipped without evaluating its conditions"() {
+        given:
+        BitSet disabled = new BitSet()
+        disabled.set(0)
+        tempDir.resolve(StaticBeanConditions.RESOURCE).parent.toFile().mkdirs()
+        tempDir.resolve(StaticBeanConditions.RESOURCE).withOutputStream {
+            new StaticBeanConditions([INDEX_DISABLED] as String[], disabled).writeTo(it)
+        }
+        URLClassLoader classLoader = new URLClassLoader([tempDir.toUri().toURL()] as URL[], getClass().classLoader)
+        CountingCondition.EVALUATIONS.set(0)
+
+        when:
+        ApplicationContext context = ApplicationContext.builder()
+                .classLoader(classLoader)
+                .properties('spec.name': 'StaticBeanConditionsSpec')
+                .start()
+
+        then:
+        !context.containsBean(IndexDisabledBean)
+        CountingCondition.EVALUATIONS.get() == 0
+        context.containsBean(DynamicallyConditionedBean)
+
+        when:
+        context.close()
+        context = ApplicationContext.run('spec.name': 'StaticBeanConditionsSpec')
+
+        then:
+        context.containsBean(IndexDisabledBean)
+        CountingCondition.EVALUATIONS.get() > 0
+
+        cleanup:
+        context?.close()
+        classLoader.close()
+    }
+}
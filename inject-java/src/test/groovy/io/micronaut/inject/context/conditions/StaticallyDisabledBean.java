@@ -0,0 +1,10 @@
+package io.micronaut.inject.context.conditions;
+
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Singleton;
+
+@Singleton
+@Requires(property = "spec.name", value = "StaticBeanConditionsSpec")
+@Requires(missing = String.class)
+public class StaticallyDisabledBean {
+}
@@ -0,0 +1,99 @@
+package io.micronaut.inject.context.index
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.IndexedBeanDefinitionReference
+import io.micronaut.core.io.service.MicronautMetaServiceLoaderUtils
+import io.micronaut.core.type.Argument
+import io.micronaut.inject.BeanDefinitionReference
+import io.micronaut.inject.qualifiers.Qualifiers
+import spock.lang.Specification
+
+class BeanDefinitionIndexSpec extends Specification {
+
+    private static final String NAMED = 'io.micronaut.inject.context.index.$NamedIndexedBean$Definition'
+    private static final String UNQUERIED = 'io.micronaut.inject.context.index.$UnqueriedIndexedBean$Definition'
+    private static final String MISSING = 'io.micronaut.inject.context.index.$MissingBean$Definition'
+    private static final String DUPLICATE = 'io.micronaut.inject.context.index.$DuplicatelyIndexedBean$Definition'
+
+    void "test index entries answer type queries without loading the definition"() {
+        when:
+        Map<String, IndexedBeanDefinitionReference> references = IndexedBeanDefinitionReference.find(getClass().classLoader)
+        IndexedBeanDefinitionReference reference = references.get(NAMED)
+
+        then:
+        reference.beanDefinitionName == NAMED
+        reference.name == NamedIndexedBean.name
+        reference.singleton
+        !reference.contextScope
+        reference.isCandidateBean(Argument.of(IndexedService))
+        reference.isCandidateBean(Argument.of(NamedIndexedBean))
+        reference.isCandidateBean(Argument.OBJECT_ARGUMENT)
+        !reference.isCandidateBean(Argument.of(UnqueriedIndexedBean))
+        !reference.@resolved
+
+        when:
+        reference.annotationMetadata
+
+        then:
+        reference.@resolved
+        reference.resolve() != null
+        references.get(MISSING).resolve() == null
+    }
+
+    void "test indexed beans are resolved by the context"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(['spec.name': 'BeanDefinitionIndexSpec'])
+
+        expect:
+        context.getBean(IndexedService, Qualifiers.byName("one")) instanceof NamedIndexedBean
+        context.getBeansOfType(IndexedService).size() == 1
+        context.containsBean(UnqueriedIndexedBean)
+        context.getBeanDefinitionReferences().find { it.beanDefinitionName == NAMED } instanceof IndexedBeanDefinitionReference
+        context.getBeanDefinitionReferences().find { it.beanDefinitionName == UNQUERIED } instanceof IndexedBeanDefinitionReference
+        !context.getBeanDefinitionReferences().any { it.beanDefinitionName == MISSING }
+
+        cleanup:
+        context.close()
+    }
+
+    void "test definitions indexed more than once are loaded from their generated reference"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(['spec.name': 'BeanDefinitionIndexSpec'])
+
+        expect:
+        !IndexedBeanDefinitionReference.find(getClass().classLoader).containsKey(DUPLICATE)
+        context.containsBean(DuplicatelyIndexedBean)
+        !(context.getBeanDefinitionReferences().find { it.beanDefinitionName == DUPLICATE } instanceof IndexedBeanDefinitionReference)
+        context.getBeansOfType(IndexedService).size() == 1
+
+        cleanup:
+        context.close()
+    }
+
+    void "test indexed references keep the order of the services"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(['spec.name': 'BeanDefinitionIndexSpec'])
+        List<String> services = MicronautMetaServiceLoaderUtils.findMicronautMetaServiceEntries(getClass().classLoader, BeanDefinitionReference.name) as List
+        List<String> references = context.getBeanDefinitionReferences()*.beanDefinitionName.findAll { services.contains(it) }
+
+        expect:
+        references.contains(NAMED)
+        references.contains(UNQUERIED)
+        references == services.findAll { references.contains(it) }
+
+        cleanup:
+        context.close()
+    }
+
+    void "test indexed beans are disabled by their conditions"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+
+        expect:
+        !context.containsBean(IndexedService)
+        !context.containsBean(UnqueriedIndexedBean)
+
+        cleanup:
+        context.close()
+    }
+}
@@ -0,0 +1,259 @@
+package io.micronaut.inject.context.index
+
+import io.micronaut.annotation.processing.test.AbstractTypeElementSpec
+import io.micronaut.annotation.processing.test.JavaFileObjectClassLoader
+import io.micronaut.context.AbstractBeanDefinitionIndex
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.ApplicationContextConfiguration
+import io.micronaut.context.DefaultApplicationContext
+import io.micronaut.context.IndexedBeanDefinitionReference
+import io.micronaut.context.Qualifier
+import io.micronaut.core.type.Argument
+import io.micronaut.inject.BeanDefinition
+import io.micronaut.inject.BeanDefinitionReference
+import io.micronaut.inject.qualifiers.Qualifiers
+import io.micronaut.inject.writer.BeanDefinitionIndexWriter
+import io.micronaut.inject.writer.BeanDefinitionWriter
+import spock.util.environment.RestoreSystemProperties
+
+import javax.tools.JavaFileObject
+
+@RestoreSystemProperties
+class GeneratedBeanDefinitionIndexSpec extends AbstractTypeElementSpec {
+
+    private static final String SOURCE = '''
+package test;
+
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Primary;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import java.util.List;
+
+interface Animal {
+}
+
+interface Pet extends Animal {
+}
+
+interface Repository<T> {
+}
+
+abstract class AbstractPet implements Pet {
+}
+
+@Singleton
+@Named("dog")
+class Dog extends AbstractPet {
+}
+
+@Singleton
+@Named("cat")
+@Primary
+class Cat extends AbstractPet implements Comparable<Cat> {
+    @Override
+    public int compareTo(Cat o) {
+        return 0;
+    }
+}
+
+@Singleton
+@Bean(typed = Animal.class)
+class Fish implements Pet {
+}
+
+@Singleton
+class StringRepository implements Repository<String> {
+}
+
+@Singleton
+class NumberRepository implements Repository<Number> {
+}
+
+class Outer {
+    interface Nested {
+    }
+
+    @Singleton
+    static class Inner implements Nested {
+    }
+}
+
+@Factory
+class PetFactory {
+
+    @Singleton
+    @Named("hamster")
+    Pet hamster() {
+        return new Pet() {
+        };
+    }
+
+    @Singleton
+    List<String> names() {
+        return List.of("name");
+    }
+}
+'''
+
+    void "test the generated index entries match the bean definitions"() {
+        given:
+        System.setProperty(BeanDefinitionIndexWriter.BEAN_DEFINITION_INDEX, "true")
+        Compilation compilation = compile()
+
+        expect:
+        compilation.indexed.keySet() == compilation.generated.keySet()
+        compilation.generated.size() == 9
+
+        and:
+        compilation.generated.each { String name, BeanDefinitionReference generated ->
+            IndexedBeanDefinitionReference indexed = compilation.indexed.get(name)
+            assert indexed.name == generated.name
+            assert indexed.beanType == generated.beanType
+            assert indexed.singleton == generated.singleton
+            assert indexed.contextScope == generated.contextScope
+            assert indexed.primary == generated.primary
+            assert indexed.containerType == generated.containerType
+            assert indexed.configurationProperties == generated.configurationProperties
+            assert indexed.requiresMethodProcessing() == generated.requiresMethodProcessing()
+            // the index lists the exposed types or else the bean type with its super types and interfaces
+            Set<String> exposedTypes = generated.exposedTypes ? generated.exposedTypes*.name as Set : typeHierarchy(generated.beanType)
+            assert indexed.@typeNames as Set == exposedTypes
+            assert indexed.exposedTypes == generated.exposedTypes
+            assert indexed.declaredQualifier == generated.declaredQualifier
+            compilation.queriedTypes.each { Class<?> type ->
+                // the index may report more candidates, these are checked again once loaded, but never fewer
+                Argument<?> argument = Argument.of(type)
+                assert !generated.isCandidateBean(argument) || indexed.isCandidateBean(argument)
+            }
+        }
+    }
+
+    void "test the context resolves the same beans with the generated index"() {
+        given:
+        System.setProperty(BeanDefinitionIndexWriter.BEAN_DEFINITION_INDEX, "true")
+        Compilation compilation = compile()
+        ApplicationContext generatedContext = startContext(compilation.classLoader, compilation.generated.values())
+        ApplicationContext indexedContext = startContext(compilation.classLoader, compilation.indexed.values())
+        List<Qualifier> qualifiers = [
+                null,
+                Qualifiers.byName("dog"),
+                Qualifiers.byName("hamster"),
+                Qualifiers.byName("missing"),
+                Qualifiers.byTypeArguments(String),
+                Qualifiers.byTypeArguments(Number)
+        ]
+
+        expect:
+        indexedContext.getBeanDefinitionReferences().any { it instanceof IndexedBeanDefinitionReference }
+        compilation.queriedTypes.each { Class<?> type ->
+            qualifiers.each { Qualifier qualifier ->
+                assert definitionNames(indexedContext, Argument.of(type), qualifier) == definitionNames(generatedContext, Argument.of(type), qualifier)
+            }
+        }
+        definitionNames(indexedContext, Argument.of(compilation.loadClass('test.Repository'), String), null) ==
+                definitionNames(generatedContext, Argument.of(compilation.loadClass('test.Repository'), String), null)
+        definitionNames(indexedContext, Argument.listOf(String), null) == definitionNames(generatedContext, Argument.listOf(String), null)
+        indexedContext.getBean(compilation.loadClass('test.Pet')).getClass() == generatedContext.getBean(compilation.loadClass('test.Pet')).getClass()
+        indexedContext.getBean(compilation.loadClass('test.Animal'), Qualifiers.byName("dog")).getClass().name == 'test.Dog'
+        indexedContext.getBeansOfType(compilation.loadClass('test.Animal')).size() == generatedContext.getBeansOfType(compilation.loadClass('test.Animal')).size()
+
+        cleanup:
+        indexedContext?.close()
+        generatedContext?.close()
+    }
+
+    void "test no index is generated without the option"() {
+        when:
+        Compilation compilation = compile()
+
+        then:
+        compilation.indexed.isEmpty()
+        !compilation.generated.isEmpty()
+    }
+
+    private Compilation compile() {
+        try (def parser = newJavaParser()) {
+            def files = parser.generate('test.Animal', SOURCE)
+            return new Compilation(files)
+        }
+    }
+
+    private ApplicationContext startContext(ClassLoader classLoader, Collection<BeanDefinitionReference> references) {
+        def builder = ApplicationContext.builder()
+        builder.classLoader(classLoader)
+        builder.environments("test")
+        List<BeanDefinitionReference> allReferences = new ArrayList<>(references)
+        allReferences.addAll(getBuiltInBeanReferences())
+        def context = new DefaultApplicationContext((ApplicationContextConfiguration) builder) {
+            @Override
+            protected List<BeanDefinitionReference> resolveBeanDefinitionReferences() {
+                return allReferences
+            }
+        }
+        return context.start()
+    }
+
+    private static Set<String> definitionNames(ApplicationContext context, Argument<?> type, Qualifier qualifier) {
+        return context.getBeanDefinitions(type, qualifier).collect { BeanDefinition definition -> definition.getClass().name } as Set
+    }
+
+    private static Set<String> typeHierarchy(Class<?> type) {
+        Set<String> names = new HashSet<>()
+        Deque<Class<?>> types = new ArrayDeque<>()
+        types.add(type)
+        while (!types.isEmpty()) {
+            Class<?> next = types.poll()
+            if (next != Object && names.add(next.name)) {
+                if (next.superclass != null) {
+                    types.add(next.superclass)
+                }
+                types.addAll(next.interfaces)
+            }
+        }
+        return names
+    }
+
+    private static class Compilation {
+
+        final ClassLoader classLoader
+        final Map<String, BeanDefinitionReference> generated = new LinkedHashMap<>()
+        final Map<String, IndexedBeanDefinitionReference> indexed
+        final List<Class<?>> queriedTypes
+
+        Compilation(Iterable<? extends JavaFileObject> files) {
+            classLoader = new JavaFileObjectClassLoader(files)
+            List<AbstractBeanDefinitionIndex> indexes = []
+            for (JavaFileObject file : files) {
+                if (file.kind != JavaFileObject.Kind.CLASS) {
+                    continue
+                }
+                String name = file.toUri().toString().substring("mem:///CLASS_OUTPUT/".length()).replace('/', '.') - '.class'
+                if (name.endsWith(BeanDefinitionWriter.CLASS_SUFFIX)) {
+                    generated.put(name, (BeanDefinitionReference) classLoader.loadClass(name).newInstance())
+                } else if (name.contains(BeanDefinitionIndexWriter.CLASS_SUFFIX)) {
+                    indexes.add((AbstractBeanDefinitionIndex) classLoader.loadClass(name).newInstance())
+                }
+            }
+            indexed = IndexedBeanDefinitionReference.find(classLoader, indexes)
+            queriedTypes = [
+                    'test.Animal',
+                    'test.Pet',
+                    'test.AbstractPet',
+                    'test.Dog',
+                    'test.Cat',
+                    'test.Fish',
+                    'test.Repository',
+                    'test.StringRepository',
+                    'test.Outer$Nested',
+                    'test.Outer$Inner',
+                    'test.PetFactory'
+            ].collect { loadClass(it) } + [Object, Comparable, List, Collection, Iterable, String, Number]
+        }
+
+        Class<?> loadClass(String name) {
+            return classLoader.loadClass(name)
+        }
+    }
+}
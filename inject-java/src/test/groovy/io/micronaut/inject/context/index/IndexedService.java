@@ -0,0 +1,4 @@
+package io.micronaut.inject.context.index;
+
+public interface IndexedService {
+}
@@ -0,0 +1,11 @@
+package io.micronaut.inject.context.index;
+
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+
+@Singleton
+@Named("one")
+@Requires(property = "spec.name", value = "BeanDefinitionIndexSpec")
+public class NamedIndexedBean implements IndexedService {
+}
@@ -0,0 +1,25 @@
+package io.micronaut.inject.context.index;
+
+import io.micronaut.context.AbstractBeanDefinitionIndex;
+
+import java.util.List;
+
+/**
+ * An index left over from an earlier build, which still claims that the bean is an {@link IndexedService}.
+ */
+public final class StaleBeanDefinitionIndex extends AbstractBeanDefinitionIndex {
+
+    public StaleBeanDefinitionIndex() {
+        super(new String[] {
+            entry(
+                "io.micronaut.inject.context.index.$DuplicatelyIndexedBean$Definition",
+                DuplicatelyIndexedBean.class.getName(),
+                SINGLETON,
+                List.of(IndexedService.class.getName(), DuplicatelyIndexedBean.class.getName()),
+                List.of(),
+                List.of(),
+                null
+            )
+        });
+    }
+}
@@ -0,0 +1,49 @@
+package io.micronaut.inject.context.index;
+
+import io.micronaut.context.AbstractBeanDefinitionIndex;
+
+import java.util.List;
+
+public final class TestBeanDefinitionIndex extends AbstractBeanDefinitionIndex {
+
+    public TestBeanDefinitionIndex() {
+        super(new String[] {
+            entry(
+                "io.micronaut.inject.context.index.$NamedIndexedBean$Definition",
+                NamedIndexedBean.class.getName(),
+                SINGLETON | CONDITIONAL,
+                List.of(IndexedService.class.getName(), NamedIndexedBean.class.getName()),
+                List.of("jakarta.inject.Named"),
+                List.of(),
+                null
+            ),
+            entry(
+                "io.micronaut.inject.context.index.$UnqueriedIndexedBean$Definition",
+                UnqueriedIndexedBean.class.getName(),
+                SINGLETON | CONDITIONAL,
+                List.of(UnqueriedIndexedBean.class.getName()),
+                List.of(),
+                List.of(),
+                null
+            ),
+            entry(
+                "io.micronaut.inject.context.index.$DuplicatelyIndexedBean$Definition",
+                DuplicatelyIndexedBean.class.getName(),
+                SINGLETON | CONDITIONAL,
+                List.of(DuplicatelyIndexedBean.class.getName()),
+                List.of(),
+                List.of(),
+                null
+            ),
+            entry(
+                "io.micronaut.inject.context.index.$MissingBean$Definition",
+                "io.micronaut.inject.context.index.MissingBean",
+                SINGLETON,
+                List.of(IndexedService.class.getName()),
+                List.of(),
+                List.of(),
+                null
+            )
+        });
+    }
+}
@@ -0,0 +1,9 @@
+package io.micronaut.inject.context.index;
+
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Singleton;
+
+@Singleton
+@Requires(property = "spec.name", value = "BeanDefinitionIndexSpec")
+public class UnqueriedIndexedBean {
+}
@@ -0,0 +1,16 @@
+package io.micronaut.inject.context.parallel;
+
+import io.micronaut.context.annotation.Context;
+import io.micronaut.context.annotation.Requires;
+
+@Context
+@Requires(property = "spec.name", value = "ParallelEagerInitSpec")
+public class DependsOnSlow {
+    final SlowA a;
+    final SlowB b;
+
+    public DependsOnSlow(SlowA a, SlowB b) {
+        this.a = a;
+        this.b = b;
+    }
+}
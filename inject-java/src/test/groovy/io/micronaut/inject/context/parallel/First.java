@@ -0,0 +1,17 @@
+package io.micronaut.inject.context.parallel;
+
+import io.micronaut.context.annotation.Context;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Order;
+
+@Context
+@Order(-100)
+@Requires(property = "spec.name", value = "ParallelEagerInitSpec")
+public class First {
+    static volatile boolean initialized;
+
+    public First() throws InterruptedException {
+        Thread.sleep(50);
+        initialized = true;
+    }
+}
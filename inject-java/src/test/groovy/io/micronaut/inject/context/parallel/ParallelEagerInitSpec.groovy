@@ -0,0 +1,43 @@
+package io.micronaut.inject.context.parallel
+
+import io.micronaut.context.ApplicationContext
+import spock.lang.Specification
+
+class ParallelEagerInitSpec extends Specification {
+
+    void "test independent eager beans are initialized concurrently"() {
+        given:
+        First.initialized = false
+
+        when:
+        ApplicationContext context = ApplicationContext.builder()
+                .properties('spec.name': 'ParallelEagerInitSpec')
+                .eagerInitParallelism(4)
+                .start()
+        SlowA a = context.getBean(SlowA)
+        SlowB b = context.getBean(SlowB)
+
+        then:
+        a.thread.startsWith("eager-init-")
+        b.thread.startsWith("eager-init-")
+        a.thread != b.thread
+        a.firstInitialized
+        b.firstInitialized
+        context.getBean(DependsOnSlow).a.is(a)
+        context.getBean(DependsOnSlow).b.is(b)
+
+        cleanup:
+        context.close()
+    }
+
+    void "test eager beans are initialized sequentially by default"() {
+        when:
+        ApplicationContext context = ApplicationContext.run('spec.name': 'ParallelEagerInitSpec')
+
+        then:
+        !context.getBean(SlowA).thread.startsWith("eager-init-")
+
+        cleanup:
+        context.close()
+    }
+}
@@ -0,0 +1,16 @@
+package io.micronaut.inject.context.parallel;
+
+import io.micronaut.context.annotation.Context;
+import io.micronaut.context.annotation.Requires;
+
+@Context
+@Requires(property = "spec.name", value = "ParallelEagerInitSpec")
+public class SlowB {
+    final String thread = Thread.currentThread().getName();
+    final boolean firstInitialized;
+
+    public SlowB() throws InterruptedException {
+        firstInitialized = First.initialized;
+        Thread.sleep(200);
+    }
+}
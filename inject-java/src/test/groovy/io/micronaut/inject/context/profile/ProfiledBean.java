@@ -0,0 +1,9 @@
+package io.micronaut.inject.context.profile;
+
+import io.micronaut.context.annotation.Context;
+import io.micronaut.context.annotation.Requires;
+
+@Context
+@Requires(property = "spec.name", value = "StartupProfileSpec")
+public class ProfiledBean {
+}
@@ -0,0 +1,80 @@
+package io.micronaut.inject.context.profile
+
+import groovy.json.JsonSlurper
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.BeanResolutionTraceConfiguration
+import io.micronaut.context.BeanResolutionTraceMode
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Path
+
+class StartupProfileSpec extends Specification {
+
+    @TempDir
+    Path tempDir
+
+    void "test startup profile in chrome trace format"() {
+        given:
+        Path destination = tempDir.resolve("startup.json")
+
+        when:
+        ApplicationContext context = ApplicationContext.builder()
+                .properties('spec.name': 'StartupProfileSpec')
+                .beanResolutionTrace(new BeanResolutionTraceConfiguration(BeanResolutionTraceMode.PROFILE, Set.of(), destination.toString()))
+                .start()
+        def events = new JsonSlurper().parse(destination.toFile()).traceEvents
+
+        then:
+        events.find { it.cat == 'startup' && it.ph == 'X' }
+        events.find { it.cat == 'environment' }
+        events.find { it.cat == 'condition' }
+        events.find { it.cat == 'event' && it.name == 'io.micronaut.context.event.StartupEvent' }
+        def bean = events.find { it.cat == 'bean' && it.name == ProfiledBean.name }
+        bean.dur >= 0
+        bean.ts >= 0
+        events.find { it.ph == 'M' && it.name == 'thread_name' }
+
+        cleanup:
+        context.close()
+    }
+
+    void "test startup profile in collapsed stack format"() {
+        given:
+        Path destination = tempDir.resolve("startup.collapsed")
+
+        when:
+        ApplicationContext context = ApplicationContext.builder()
+                .properties('spec.name': 'StartupProfileSpec')
+                .beanResolutionTrace(new BeanResolutionTraceConfiguration(BeanResolutionTraceMode.PROFILE, Set.of(), destination.toString()))
+                .start()
+        List<String> lines = destination.readLines()
+
+        then:
+        !lines.isEmpty()
+        lines.every { it ==~ /startup [^;]+(;[^;]+)* \d+/ }
+        lines.any { it.contains("bean $ProfiledBean.name") }
+
+        cleanup:
+        context.close()
+    }
+
+    void "test beans created after startup are not recorded"() {
+        given:
+        Path destination = tempDir.resolve("startup.json")
+        ApplicationContext context = ApplicationContext.builder()
+                .properties('spec.name': 'StartupProfileSpec')
+                .beanResolutionTrace(new BeanResolutionTraceConfiguration(BeanResolutionTraceMode.PROFILE, Set.of(), destination.toString()))
+                .start()
+        long size = destination.toFile().length()
+
+        when:
+        context.createBean(ProfiledBean)
+
+        then:
+        destination.toFile().length() == size
+
+        cleanup:
+        context.close()
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.context;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.Collection;
+
+/**
+ * A generated index of the bean definitions of a module. Not typically used directly from user code, instead the
+ * annotation processor generates an implementation when the {@code micronaut.processing.bean.index} option is
+ * enabled.
+ *
+ * <p>The index is a flat table with one entry per bean definition, holding the names of the bean type and of the
+ * types it is exposed as, its qualifiers and the scope related flags. The context uses it to answer type queries
+ * without loading the definition classes, a definition is only loaded once a query matches it.</p>
+ *
+ * @since 4.9.0
+ */
+@Internal
+public abstract class AbstractBeanDefinitionIndex {
+
+    /**
+     * The bean is {@link io.micronaut.context.annotation.Context} scoped.
+     */
+    public static final int CONTEXT_SCOPE = 1;
+    /**
+     * The bean is a singleton.
+     */
+    public static final int SINGLETON = 1 << 1;
+    /**
+     * The bean has requirements.
+     */
+    public static final int CONDITIONAL = 1 << 2;
+    /**
+     * The bean is proxied by another bean.
+     */
+    public static final int PROXIED_BEAN = 1 << 3;
+    /**
+     * The bean is a retained proxy target.
+     */
+    public static final int PROXY_TARGET = 1 << 4;
+    /**
+     * The executable methods of the bean are processed on startup.
+     */
+    public static final int REQUIRES_METHOD_PROCESSING = 1 << 5;
+    /**
+     * The bean is initialized in parallel.
+     */
+    public static final int PARALLEL = 1 << 6;
+    /**
+     * The bean is primary.
+     */
+    public static final int PRIMARY = 1 << 7;
+    /**
+     * The bean is a configuration properties bean.
+     */
+    public static final int CONFIGURATION_PROPERTIES = 1 << 8;
+    /**
+     * The bean type is a container type.
+     */
+    public static final int CONTAINER_TYPE = 1 << 9;
+    /**
+     * The bean is only exposed as the listed types, rather than all of its super types.
+     */
+    public static final int TYPED = 1 << 10;
+
+    static final char FIELD_SEPARATOR = '|';
+    static final char VALUE_SEPARATOR = ',';
+
+    private final String[] entries;
+
+    /**
+     * @param entries The entries, as created by {@link #entry}
+     */
+    protected AbstractBeanDefinitionIndex(String[] entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * @return The entries of the index
+     */
+    @NonNull
+    final String[] getEntries() {
+        return entries;
+    }
+
+    /**
+     * Creates the entry of a bean definition.
+     *
+     * @param definitionName The name of the bean definition class
+     * @param beanTypeName   The name of the bean type
+     * @param flags          The flags of the bean
+     * @param typeNames      The names of the types the bean is exposed as
+     * @param qualifiers     The names of the qualifier annotations of the bean
+     * @param indexedTypes   The names of the indexed types of the bean
+     * @param adapterType    The name of the adapted type, if the bean is an adapter
+     * @return The entry
+     */
+    @NonNull
+    public static String entry(@NonNull String definitionName,
+                               @NonNull String beanTypeName,
+                               int flags,
+                               @NonNull Collection<String> typeNames,
+                               @NonNull Collection<String> qualifiers,
+                               @NonNull Collection<String> indexedTypes,
+                               @Nullable String adapterType) {
+        StringBuilder sb = new StringBuilder(definitionName.length() + beanTypeName.length() + 32 * typeNames.size());
+        sb.append(definitionName).append(FIELD_SEPARATOR)
+            .append(beanTypeName).append(FIELD_SEPARATOR)
+            .append(flags).append(FIELD_SEPARATOR);
+        appendValues(sb, typeNames).append(FIELD_SEPARATOR);
+        appendValues(sb, qualifiers).append(FIELD_SEPARATOR);
+        appendValues(sb, indexedTypes).append(FIELD_SEPARATOR);
+        if (adapterType != null) {
+            sb.append(adapterType);
+        }
+        return sb.toString();
+    }
+
+    private static StringBuilder appendValues(StringBuilder sb, Collection<String> values) {
+        boolean first = true;
+        for (String value : values) {
+            if (!first) {
+                sb.append(VALUE_SEPARATOR);
+            }
+            sb.append(value);
+            first = false;
+        }
+        return sb;
+    }
+}
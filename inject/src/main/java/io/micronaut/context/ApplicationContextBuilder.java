@@ -99,6 +99,32 @@ public interface ApplicationContextBuilder {
         return this;
     }
 
+    /**
+     * The maximum number of eager beans to initialize at the same time on startup (default is {@code 1}).
+     * Independent eager beans are then initialized concurrently, in an order that respects the dependencies
+     * between them and their {@link io.micronaut.core.annotation.Order}.
+     *
+     * @param parallelism The eager initialization parallelism
+     * @return This builder
+     * @since 4.9.0
+     */
+    default @NonNull ApplicationContextBuilder eagerInitParallelism(int parallelism) {
+        return this;
+    }
+
+    /**
+     * The maximum number of property sources to load at the same time on startup (default is {@code 1}).
+     * The configuration files of the different locations, loaders and environments are then read and parsed
+     * concurrently, the resulting property sources are applied in the same order as when they are loaded sequentially.
+     *
+     * @param parallelism The property source loading parallelism
+     * @return This builder
+     * @since 4.9.0
+     */
+    default @NonNull ApplicationContextBuilder propertySourceLoadParallelism(int parallelism) {
+        return this;
+    }
+
     /**
      * Specify whether the default set of property sources should be enabled (default is {@code true}).
      * @param areEnabled Whether the default property sources are enabled
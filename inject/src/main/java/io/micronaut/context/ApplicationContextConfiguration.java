@@ -92,6 +92,18 @@ public interface ApplicationContextConfiguration extends BeanContextConfiguratio
         return true;
     }
 
+    /**
+     * The maximum number of property sources to load at the same time on startup. With a value greater than
+     * {@code 1} the configuration files are read and parsed concurrently, the property sources are still applied in
+     * a deterministic order. The default is {@code 1}, which loads them sequentially.
+     *
+     * @return The property source loading parallelism
+     * @since 4.9.0
+     */
+    default int getPropertySourceLoadParallelism() {
+        return 1;
+    }
+
     /**
      * @return True if environment variables should contribute to configuration
      */
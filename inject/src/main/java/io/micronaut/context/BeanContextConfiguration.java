@@ -88,4 +88,16 @@ public interface BeanContextConfiguration {
     default Set<Class<? extends Annotation>> getEagerInitAnnotated() {
         return Collections.emptySet();
     }
+
+    /**
+     * The maximum number of eager beans to initialize at the same time on startup. With a value greater than
+     * {@code 1} independent eager beans are initialized concurrently, in an order that respects the dependencies
+     * between them. The default is {@code 1}, which initializes them sequentially.
+     *
+     * @return The eager initialization parallelism
+     * @since 4.9.0
+     */
+    default int getEagerInitParallelism() {
+        return 1;
+    }
 }
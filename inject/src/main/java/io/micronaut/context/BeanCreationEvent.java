@@ -0,0 +1,44 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.context;
+
+import io.micronaut.core.annotation.Internal;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event emitted for every bean instantiated while profiling the start of the context, see
+ * {@link BeanResolutionTraceMode#PROFILE}.
+ *
+ * @since 4.9.0
+ */
+@Internal
+@Name("io.micronaut.context.BeanCreation")
+@Label("Bean Creation")
+@Description("Instantiation of a bean, including the instantiation of the beans it depends on")
+@Category({"Micronaut", "Bean Context"})
+@StackTrace(false)
+final class BeanCreationEvent extends jdk.jfr.Event {
+
+    @Label("Bean Type")
+    String beanType;
+
+    @Label("Bean Definition")
+    String beanDefinition;
+}
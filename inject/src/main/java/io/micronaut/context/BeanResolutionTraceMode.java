@@ -41,7 +41,19 @@ public enum BeanResolutionTraceMode {
     /**
      * With standard out debug output will be written to {@link System#out} avoiding any log formatting.
      */
-    STANDARD_OUT(new ConsoleBeanResolutionTracer.SystemOutBeanResolutionTracer());
+    STANDARD_OUT(new ConsoleBeanResolutionTracer.SystemOutBeanResolutionTracer()),
+
+    /**
+     * With profile mode the start of the context is recorded as a tree of timed spans (bean instantiation,
+     * condition evaluation, property source loading, executable method processing and event publishing) and
+     * written to the configured {@link BeanResolutionTraceConfiguration#destination() destination} once the
+     * context started, in the Chrome trace event format if the destination ends with {@code .json}, otherwise
+     * in the collapsed stack format used by flame graph tools. A {@code io.micronaut.context.BeanCreation} JFR
+     * event is emitted for every bean instantiated while profiling.
+     *
+     * @since 4.9.0
+     */
+    PROFILE(new StartupProfilingTracer());
 
     static final Logger LOGGER = LoggerFactory.getLogger("io.micronaut.inject");
     private static final String MODE_SYS_PROP = "micronaut.inject.trace.mode";
@@ -22,13 +22,15 @@ import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.type.Argument;
 import io.micronaut.inject.BeanDefinition;
 import io.micronaut.inject.BeanDefinitionReference;
+import java.time.Duration;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * API for tracing bean resolution.
  */
 @Internal
-sealed interface BeanResolutionTracer permits ConsoleBeanResolutionTracer {
+sealed interface BeanResolutionTracer permits ConsoleBeanResolutionTracer, StartupProfilingTracer {
 
     /**
      * Tracing the starting configuration of the context.
@@ -146,6 +148,68 @@ sealed interface BeanResolutionTracer permits ConsoleBeanResolutionTracer {
         // no-op
     }
 
+    /**
+     * Trace the critical path of the parallel initialization of eager beans: the chain of beans, each waiting
+     * for the previous one, that determined how long the initialization took.
+     *
+     * @param criticalPath The beans on the critical path, in initialization order
+     * @param durations The time taken to initialize each bean on the critical path
+     * @param total The total time taken to initialize all eager beans
+     * @since 4.9.0
+     */
+    default void traceEagerInitCriticalPath(
+        @NonNull List<BeanDefinition<?>> criticalPath,
+        @NonNull List<Duration> durations,
+        @NonNull Duration total) {
+        // no-op
+    }
+
+    /**
+     * Trace the start of the context. Calls can be nested, for example when an application context starts its
+     * environment before starting the bean context, every call is followed by a call to
+     * {@link #traceContextStarted(BeanContext, String)}.
+     *
+     * @param beanContext The bean context
+     * @since 4.9.0
+     */
+    default void traceContextStartup(@NonNull BeanContext beanContext) {
+        // no-op
+    }
+
+    /**
+     * Trace the completion, successful or not, of the start of the context.
+     *
+     * @param beanContext The bean context
+     * @param destination The destination to write data to if applicable
+     * @since 4.9.0
+     */
+    default void traceContextStarted(@NonNull BeanContext beanContext, @Nullable String destination) {
+        // no-op
+    }
+
+    /**
+     * Start a timed span of work during the start of the context. Only called by the context if the tracer
+     * {@link #isSpanTracing() traces spans}.
+     *
+     * @param beanContext The bean context
+     * @param kind The kind of work
+     * @param subject The subject of the work, for example a {@link BeanDefinition}
+     * @return The span to close once the work completed, or {@code null} if the span is not recorded
+     * @since 4.9.0
+     */
+    @Nullable
+    default Span traceSpanStart(@NonNull BeanContext beanContext, @NonNull SpanKind kind, @NonNull Object subject) {
+        return null;
+    }
+
+    /**
+     * @return Whether the tracer records {@link #traceSpanStart(BeanContext, SpanKind, Object) spans}
+     * @since 4.9.0
+     */
+    default boolean isSpanTracing() {
+        return false;
+    }
+
     /**
      * Trace the shutdown of the context.
      * @param beanContext The bean context
@@ -153,4 +217,53 @@ sealed interface BeanResolutionTracer permits ConsoleBeanResolutionTracer {
     default void traceContextShutdown(BeanContext beanContext) {
         // no-op
     }
+
+    /**
+     * The kinds of work traced as spans.
+     *
+     * @since 4.9.0
+     */
+    enum SpanKind {
+        /**
+         * The start of the context.
+         */
+        STARTUP,
+        /**
+         * The start of the environment.
+         */
+        ENVIRONMENT,
+        /**
+         * The loading of property sources.
+         */
+        PROPERTY_SOURCES,
+        /**
+         * The evaluation of the conditions of a bean.
+         */
+        CONDITION,
+        /**
+         * The instantiation of a bean.
+         */
+        BEAN,
+        /**
+         * The processing of an executable method by an {@link io.micronaut.context.processor.ExecutableMethodProcessor}.
+         */
+        PROCESSOR,
+        /**
+         * The publishing of an event to the application event listeners.
+         */
+        EVENT
+    }
+
+    /**
+     * A timed span of work.
+     *
+     * @since 4.9.0
+     */
+    interface Span extends AutoCloseable {
+        /**
+         * End the span.
+         */
+        @Override
+        void close();
+    }
 }
@@ -32,6 +32,7 @@ import io.micronaut.inject.BeanDefinitionReference;
 import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.StringWriter;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -312,6 +313,27 @@ abstract sealed class ConsoleBeanResolutionTracer
         }
     }
 
+    @Override
+    public void traceEagerInitCriticalPath(List<BeanDefinition<?>> criticalPath, List<Duration> durations, Duration total) {
+        StringWriter sw = new StringWriter();
+        try (BufferedWriter writer = new BufferedWriter(sw)) {
+            writer.newLine();
+            writer.write(AnsiColour.brightBlue("Eager Initialization Critical Path (" + total.toMillis() + "ms total): "));
+            writer.newLine();
+            for (int i = 0; i < criticalPath.size(); i++) {
+                writer.write(i == 0 ? " ✚ " : RIGHT_ARROW);
+                writer.write(criticalPath.get(i).getBeanDescription(TypeInformation.TypeFormat.ANSI_SIMPLE, false));
+                writer.write(" in " + durations.get(i).toMillis() + "ms");
+                writer.newLine();
+            }
+            writer.write("------------");
+            writer.newLine();
+        } catch (IOException e) {
+            // ignore, should not happen
+        }
+        writeOutput(sw.toString());
+    }
+
     @Override
     public <B, T> void traceInjectBean(BeanResolutionContext resolutionContext, BeanResolutionContext.Segment<B, T> segment) {
         BeanResolutionContext.Path path = resolutionContext.getPath();
@@ -221,8 +221,20 @@ public class DefaultApplicationContext extends DefaultBeanContext implements Con
     @Override
     @NonNull
     public synchronized ApplicationContext start() {
-        startEnvironment();
-        return (ApplicationContext) super.start();
+        boolean starting = !isRunning();
+        if (starting) {
+            traceContextStartup();
+        }
+        try {
+            try (BeanResolutionTracer.Span ignored = starting ? traceSpan(BeanResolutionTracer.SpanKind.ENVIRONMENT, "start") : null) {
+                startEnvironment();
+            }
+            return (ApplicationContext) super.start();
+        } finally {
+            if (starting) {
+                traceContextStarted();
+            }
+        }
     }
 
     @Override
@@ -809,6 +821,11 @@ public class DefaultApplicationContext extends DefaultBeanContext implements Con
                     return configuration.isEnvironmentPropertySource();
                 }
 
+                @Override
+                public int getPropertySourceLoadParallelism() {
+                    return configuration.getPropertySourceLoadParallelism();
+                }
+
                 @Nullable
                 @Override
                 public List<String> getEnvironmentVariableIncludes() {
@@ -972,8 +989,21 @@ public class DefaultApplicationContext extends DefaultBeanContext implements Con
             return super.start();
         }
 
+        @Override
+        protected void readPropertySources(String name) {
+            try (BeanResolutionTracer.Span ignored = traceSpan(BeanResolutionTracer.SpanKind.ENVIRONMENT, "read " + name)) {
+                super.readPropertySources(name);
+            }
+        }
+
         @Override
         protected synchronized List<PropertySource> readPropertySourceList(String name) {
+            try (BeanResolutionTracer.Span ignored = traceSpan(BeanResolutionTracer.SpanKind.PROPERTY_SOURCES, name)) {
+                return readPropertySourceListInternal(name);
+            }
+        }
+
+        private List<PropertySource> readPropertySourceListInternal(String name) {
 
             if (bootstrapEnvironment != null) {
                 LOG.info("Reading bootstrap environment configuration");
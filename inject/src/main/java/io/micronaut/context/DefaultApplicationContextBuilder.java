@@ -76,6 +76,8 @@ public class DefaultApplicationContextBuilder implements ApplicationContextBuild
     private Boolean bootstrapEnvironment = null;
     private boolean enableDefaultPropertySources = true;
     private BeanResolutionTraceConfiguration traceConfiguration = new BeanResolutionTraceConfiguration();
+    private int eagerInitParallelism = 1;
+    private int propertySourceLoadParallelism = 1;
 
     /**
      * Default constructor.
@@ -145,6 +147,36 @@ public class DefaultApplicationContextBuilder implements ApplicationContextBuild
         return this;
     }
 
+    @NonNull
+    @Override
+    public ApplicationContextBuilder eagerInitParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Eager init parallelism must be positive: " + parallelism);
+        }
+        this.eagerInitParallelism = parallelism;
+        return this;
+    }
+
+    @Override
+    public int getEagerInitParallelism() {
+        return eagerInitParallelism;
+    }
+
+    @NonNull
+    @Override
+    public ApplicationContextBuilder propertySourceLoadParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Property source load parallelism must be positive: " + parallelism);
+        }
+        this.propertySourceLoadParallelism = parallelism;
+        return this;
+    }
+
+    @Override
+    public int getPropertySourceLoadParallelism() {
+        return propertySourceLoadParallelism;
+    }
+
     @NonNull
     @Override
     public ApplicationContextBuilder overrideConfigLocations(String... configLocations) {
@@ -144,6 +144,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -179,6 +180,7 @@ public class DefaultBeanContext implements InitializableBeanContext, Configurabl
 
     final @NonNull BeanResolutionTraceMode traceMode;
     final @NonNull Set<String> tracePatterns;
+    final @Nullable BeanResolutionTracer spanTracer;
     final Map<BeanIdentifier, BeanRegistration<?>> singlesInCreation = new ConcurrentHashMap<>(5);
 
     protected final SingletonScope singletonScope = new SingletonScope();
@@ -208,6 +210,8 @@ public class DefaultBeanContext implements InitializableBeanContext, Configurabl
 
     private final Map<Class<?>, Collection<BeanDefinitionProducer>> beanIndex = new ConcurrentHashMap<>(12);
 
+    private final AtomicInteger eventListenersVersion = new AtomicInteger();
+
     private final ClassLoader classLoader;
     private final Set<Class<?>> thisInterfaces = CollectionUtils.setOf(
             BeanDefinitionRegistry.class,
@@ -310,6 +314,7 @@ public class DefaultBeanContext implements InitializableBeanContext, Configurabl
             .getTraceConfiguration();
         this.traceMode = traceConfiguration.mode();
         this.tracePatterns = traceConfiguration.classPatterns();
+        this.spanTracer = traceMode.getTracer().filter(BeanResolutionTracer::isSpanTracing).orElse(null);
     }
 
     /**
@@ -349,23 +354,28 @@ public class DefaultBeanContext implements InitializableBeanContext, Configurabl
                 if (LOG.isDebugEnabled()) {
                     LOG.debug("Starting BeanContext");
                 }
-                registerConversionService();
-                configureAndStartContext();
-                if (LOG.isDebugEnabled()) {
-                    String activeConfigurations = beanConfigurations
-                            .values()
-                            .stream()
-                            .filter(config -> config.isEnabled(this))
-                            .map(BeanConfiguration::getName)
-                            .collect(Collectors.joining(","));
-                    if (StringUtils.isNotEmpty(activeConfigurations)) {
-                        LOG.debug("Loaded active configurations: {}", activeConfigurations);
+                traceContextStartup();
+                try {
+                    registerConversionService();
+                    configureAndStartContext();
+                    if (LOG.isDebugEnabled()) {
+                        String activeConfigurations = beanConfigurations
+                                .values()
+                                .stream()
+                                .filter(config -> config.isEnabled(this))
+                                .map(BeanConfiguration::getName)
+                                .collect(Collectors.joining(","));
+                        if (StringUtils.isNotEmpty(activeConfigurations)) {
+                            LOG.debug("Loaded active configurations: {}", activeConfigurations);
+                        }
                     }
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("BeanContext Started.");
+                    }
+                    publishEvent(new StartupEvent(this));
+                } finally {
+                    traceContextStarted();
                 }
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("BeanContext Started.");
-                }
-                publishEvent(new StartupEvent(this));
             }
             running.set(true);
             initializing.set(false);
@@ -373,6 +383,37 @@ public class DefaultBeanContext implements InitializableBeanContext, Configurabl
         return this;
     }
 
+    /**
+     * Traces the start of the context if the trace mode records spans, see {@link BeanResolutionTraceMode#PROFILE}.
+     */
+    final void traceContextStartup() {
+        if (spanTracer != null) {
+            spanTracer.traceContextStartup(this);
+        }
+    }
+
+    /**
+     * Traces the completion of the start of the context, every call to {@link #traceContextStartup()} must be
+     * followed by a call to this method.
+     */
+    final void traceContextStarted() {
+        if (spanTracer != null) {
+            spanTracer.traceContextStarted(this, beanContextConfiguration.getTraceConfiguration().destination());
+        }
+    }
+
+    /**
+     * Starts a timed span of work if the trace mode records spans.
+     *
+     * @param kind    The kind of work
+     * @param subject The subject of the work
+     * @return The span to close once the work completed, or {@code null}
+     */
+    @Nullable
+    final BeanResolutionTracer.Span traceSpan(@NonNull BeanResolutionTracer.SpanKind kind, @NonNull Object subject) {
+        return spanTracer != null ? spanTracer.traceSpanStart(this, kind, subject) : null;
+    }
+
     /**
      * Registers conversion service.
      */
@@ -723,6 +764,9 @@ public class DefaultBeanContext implements InitializableBeanContext, Configurabl
     }
 
     private <T> void purgeCacheForBeanInstance(T singleton) {
+        if (singleton instanceof ApplicationEventListener<?>) {
+            eventListenersVersion.incrementAndGet();
+        }
         beanCandidateCache.entrySet().removeIf(entry -> entry.getKey().isInstance(singleton));
         beanConcreteCandidateCache.entrySet().removeIf(entry -> entry.getKey().beanType.isInstance(singleton));
         singletonBeanRegistrations.entrySet().removeIf(entry -> entry.getKey().beanType.isInstance(singleton));
@@ -1699,6 +1743,9 @@ public class DefaultBeanContext implements InitializableBeanContext, Configurabl
     }
 
     private <B> void purgeCacheForBeanType(Class<B> beanType) {
+        if (ApplicationEventListener.class.isAssignableFrom(beanType)) {
+            eventListenersVersion.incrementAndGet();
+        }
         beanCandidateCache.entrySet().removeIf(entry -> entry.getKey().isAssignableFrom(beanType));
         beanConcreteCandidateCache.entrySet().removeIf(entry -> entry.getKey().beanType.isAssignableFrom(beanType));
         singletonBeanRegistrations.entrySet().removeIf(entry -> entry.getKey().beanType.isAssignableFrom(beanType));
@@ -1862,7 +1909,9 @@ public class DefaultBeanContext implements InitializableBeanContext, Configurabl
     @Override
     public void publishEvent(@NonNull Object event) {
         if (event != null) {
-            getBean(Argument.of(ApplicationEventPublisher.class, event.getClass())).publishEvent(event);
+            try (BeanResolutionTracer.Span ignored = traceSpan(BeanResolutionTracer.SpanKind.EVENT, event.getClass())) {
+                getBean(Argument.of(ApplicationEventPublisher.class, event.getClass())).publishEvent(event);
+            }
         }
     }
 
@@ -1892,29 +1941,81 @@ public class DefaultBeanContext implements InitializableBeanContext, Configurabl
         return Optional.empty();
     }
 
+    /**
+     * The version of the registered {@link ApplicationEventListener} beans, incremented every time a listener
+     * is registered or removed at runtime. Allows the event publishers to detect stale dispatch tables.
+     *
+     * @return The version of the event listeners
+     * @since 4.9.0
+     */
+    @Internal
+    public int getEventListenersVersion() {
+        return eventListenersVersion.get();
+    }
+
     /**
      * Invalidates the bean caches. For testing only.
      */
     @Internal
     protected void invalidateCaches() {
+        eventListenersVersion.incrementAndGet();
         beanCandidateCache.clear();
         beanConcreteCandidateCache.clear();
         singletonBeanRegistrations.clear();
     }
 
     /**
-     * Resolves the {@link BeanDefinitionReference} class instances. Default implementation uses ServiceLoader pattern.
+     * Resolves the {@link BeanDefinitionReference} class instances. Default implementation uses ServiceLoader pattern,
+     * skipping the references that the {@link StaticBeanConditions} index, if any, reports as disabled. The
+     * references covered by a generated {@link AbstractBeanDefinitionIndex} are not loaded, they are read from the
+     * index instead and only loaded once the bean is queried.
      *
      * @return The bean definition classes
      */
     @NonNull
     protected List<BeanDefinitionReference> resolveBeanDefinitionReferences() {
         if (beanDefinitionReferences == null) {
-            beanDefinitionReferences = MicronautMetaServiceLoaderUtils.findMetaMicronautServiceEntries(
-                classLoader,
-                BeanDefinitionReference.class,
-                BeanDefinitionReference::isPresent
-            );
+            StaticBeanConditions staticConditions = StaticBeanConditions.find(classLoader);
+            Map<String, IndexedBeanDefinitionReference<?>> indexedReferences = IndexedBeanDefinitionReference.find(classLoader);
+            if (indexedReferences.isEmpty()) {
+                beanDefinitionReferences = MicronautMetaServiceLoaderUtils.findMetaMicronautServiceEntries(
+                    classLoader,
+                    BeanDefinitionReference.class,
+                    staticConditions != null ? name -> !staticConditions.isDisabled(name) : null,
+                    BeanDefinitionReference::isPresent
+                );
+            } else {
+                // only use the index entries that are still registered as services, the index may be stale
+                // the names are recorded in the order of the services, so that the index doesn't change the order
+                List<String> serviceNames = Collections.synchronizedList(new ArrayList<>());
+                List<BeanDefinitionReference> references = MicronautMetaServiceLoaderUtils.findMetaMicronautServiceEntries(
+                    classLoader,
+                    BeanDefinitionReference.class,
+                    name -> {
+                        if (staticConditions != null && staticConditions.isDisabled(name)) {
+                            return false;
+                        }
+                        serviceNames.add(name);
+                        return !indexedReferences.containsKey(name);
+                    },
+                    BeanDefinitionReference::isPresent
+                );
+                Map<String, BeanDefinitionReference> loadedReferences = CollectionUtils.newHashMap(references.size());
+                for (BeanDefinitionReference reference : references) {
+                    loadedReferences.put(reference.getClass().getName(), reference);
+                }
+                List<BeanDefinitionReference> allReferences = new ArrayList<>(serviceNames.size());
+                for (String name : serviceNames) {
+                    BeanDefinitionReference reference = loadedReferences.get(name);
+                    if (reference == null) {
+                        reference = indexedReferences.get(name);
+                    }
+                    if (reference != null) {
+                        allReferences.add(reference);
+                    }
+                }
+                beanDefinitionReferences = allReferences;
+            }
         }
         return beanDefinitionReferences;
     }
@@ -2027,15 +2128,13 @@ public class DefaultBeanContext implements InitializableBeanContext, Configurabl
             }
             filterReplacedBeans(null, eagerInit);
             OrderUtil.sortOrdered(eagerInit);
-            for (BeanDefinition eagerInitDefinition : eagerInit) {
-                try {
-                    initializeEagerBean(eagerInitDefinition);
-                } catch (DisabledBeanException e) {
-                    if (AbstractBeanContextConditional.ConditionLog.LOG.isDebugEnabled()) {
-                        AbstractBeanContextConditional.ConditionLog.LOG.debug("Bean of type [{}] disabled for reason: {}", eagerInitDefinition.getBeanType().getSimpleName(), e.getMessage());
-                    }
-                } catch (Throwable e) {
-                    throw new BeanInstantiationException(MSG_BEAN_DEFINITION + eagerInitDefinition.getName() + MSG_COULD_NOT_BE_LOADED + e.getMessage(), e);
+            int parallelism = beanContextConfiguration.getEagerInitParallelism();
+            if (parallelism > 1 && eagerInit.size() > 1) {
+                new ParallelEagerInitializer(parallelism, traceMode.getTracer().orElse(null))
+                    .initialize(eagerInit, this::initializeEagerBeanOrFail);
+            } else {
+                for (BeanDefinition<Object> eagerInitDefinition : eagerInit) {
+                    initializeEagerBeanOrFail(eagerInitDefinition);
                 }
             }
         }
@@ -2075,40 +2174,43 @@ public class DefaultBeanContext implements InitializableBeanContext, Configurabl
                 List<BeanDefinitionMethodReference<?, ?>> methods = entry.getValue();
                 streamOfType(ExecutableMethodProcessor.class, Qualifiers.byTypeArguments(annotationType))
                     .forEach(processor -> {
-                        if (processor instanceof LifeCycle<?> cycle) {
-                            cycle.start();
-                        }
-                        for (BeanDefinitionMethodReference<?, ?> method : methods) {
-
-                            BeanDefinition<?> beanDefinition = method.getBeanDefinition();
-
-                            // Only process the method if the annotation is not declared at the class level
-                            // If declared at the class level it will already have been processed by AnnotationProcessorListener
-                            if (!beanDefinition.hasStereotype(annotationType)) {
-                                if (method.hasDeclaredStereotype(Parallel.class)) {
-                                    ForkJoinPool.commonPool().execute(() -> {
-                                        try {
-                                            processor.process(beanDefinition, method);
-                                        } catch (Throwable e) {
-                                            if (LOG.isErrorEnabled()) {
-                                                LOG.error("Error processing bean method {}.{} with processor ({}): {}", beanDefinition, method, processor, e.getMessage(), e);
-                                            }
-                                            Boolean shutdownOnError = method.booleanValue(Parallel.class, "shutdownOnError").orElse(true);
-                                            if (shutdownOnError) {
-                                                stop();
+                        try (BeanResolutionTracer.Span ignoredSpan = traceSpan(BeanResolutionTracer.SpanKind.PROCESSOR, processor.getClass())) {
+                            if (processor instanceof LifeCycle<?> cycle) {
+                                cycle.start();
+                            }
+                            for (BeanDefinitionMethodReference<?, ?> method : methods) {
+
+                                BeanDefinition<?> beanDefinition = method.getBeanDefinition();
+
+                                // Only process the method if the annotation is not declared at the class level
+                                // If declared at the class level it will already have been processed by AnnotationProcessorListener
+                                if (!beanDefinition.hasStereotype(annotationType)) {
+                                    if (method.hasDeclaredStereotype(Parallel.class)) {
+                                        ForkJoinPool.commonPool().execute(() -> {
+                                            try {
+                                                processor.process(beanDefinition, method);
+                                            } catch (Throwable e) {
+                                                if (LOG.isErrorEnabled()) {
+                                                    LOG.error("Error processing bean method {}.{} with processor ({}): {}", beanDefinition, method, processor, e.getMessage(), e);
+                                                }
+                                                Boolean shutdownOnError = method.booleanValue(Parallel.class, "shutdownOnError").orElse(true);
+                                                if (shutdownOnError) {
+                                                    stop();
+                                                }
                                             }
+                                        });
+                                    } else {
+                                        try (BeanResolutionTracer.Span ignored = traceSpan(BeanResolutionTracer.SpanKind.PROCESSOR, method)) {
+                                            processor.process(beanDefinition, method);
                                         }
-                                    });
-                                } else {
-                                    processor.process(beanDefinition, method);
+                                    }
                                 }
                             }
-                        }
 
-                        if (processor instanceof LifeCycle<?> cycle) {
-                            cycle.stop();
+                            if (processor instanceof LifeCycle<?> cycle) {
+                                cycle.stop();
+                            }
                         }
-
                     });
             }
         }
@@ -2324,6 +2426,7 @@ public class DefaultBeanContext implements InitializableBeanContext, Configurabl
                                        @Nullable Map<String, Object> argumentValues) {
         Qualifier<T> declaredQualifier = beanDefinition.getDeclaredQualifier();
         Qualifier<?> prevQualifier = resolutionContext.getCurrentQualifier();
+        BeanResolutionTracer.Span span = traceSpan(BeanResolutionTracer.SpanKind.BEAN, beanDefinition);
         try {
             resolutionContext.setCurrentQualifier(declaredQualifier != null && !AnyQualifier.INSTANCE.equals(declaredQualifier) ? declaredQualifier : qualifier);
             T bean;
@@ -2352,6 +2455,9 @@ public class DefaultBeanContext implements InitializableBeanContext, Configurabl
             throw new BeanInstantiationException(beanDefinition, e);
         } finally {
             resolutionContext.setCurrentQualifier(prevQualifier);
+            if (span != null) {
+                span.close();
+            }
         }
     }
 
@@ -2676,6 +2782,18 @@ public class DefaultBeanContext implements InitializableBeanContext, Configurabl
         }
     }
 
+    private void initializeEagerBeanOrFail(BeanDefinition<Object> eagerInitDefinition) {
+        try {
+            initializeEagerBean(eagerInitDefinition);
+        } catch (DisabledBeanException e) {
+            if (AbstractBeanContextConditional.ConditionLog.LOG.isDebugEnabled()) {
+                AbstractBeanContextConditional.ConditionLog.LOG.debug("Bean of type [{}] disabled for reason: {}", eagerInitDefinition.getBeanType().getSimpleName(), e.getMessage());
+            }
+        } catch (Throwable e) {
+            throw new BeanInstantiationException(MSG_BEAN_DEFINITION + eagerInitDefinition.getName() + MSG_COULD_NOT_BE_LOADED + e.getMessage(), e);
+        }
+    }
+
     private void initializeEagerBean(BeanDefinition<Object> beanDefinition) {
         if (beanDefinition.isIterable() || beanDefinition.hasStereotype(ConfigurationReader.class.getName())) {
             Set<BeanDefinition<Object>> beanCandidates = new HashSet<>(5);
@@ -3389,25 +3507,43 @@ public class DefaultBeanContext implements InitializableBeanContext, Configurabl
                     continue;
                 }
 
-                final AnnotationMetadata annotationMetadata = beanDefinitionReference.getAnnotationMetadata();
-                Class<?>[] indexes = annotationMetadata.classValues(INDEXES_TYPE);
-                if (indexes.length > 0) {
-                    //noinspection ForLoopReplaceableByForEach
-                    for (int i = 0; i < indexes.length; i++) {
-                        Class<?> indexedType = indexes[i];
-                        resolveTypeIndex(indexedType).add(beanDefinitionProducer);
+                boolean parallel;
+                if (beanDefinitionReference instanceof IndexedBeanDefinitionReference<?> indexedReference) {
+                    // answered from the index without loading the definition
+                    List<Class<?>> indexes = indexedReference.getIndexedTypes();
+                    if (!indexes.isEmpty()) {
+                        for (Class<?> indexedType : indexes) {
+                            resolveTypeIndex(indexedType).add(beanDefinitionProducer);
+                        }
+                    } else {
+                        Class<?> aClass = indexedReference.getAdapterType();
+                        if (aClass != null && indexedTypes.contains(aClass)) {
+                            resolveTypeIndex(aClass).add(beanDefinitionProducer);
+                        }
                     }
+                    parallel = indexedReference.isParallel();
                 } else {
-                    if (annotationMetadata.hasStereotype(ADAPTER_TYPE)) {
-                        final Class<?> aClass = annotationMetadata.classValue(ADAPTER_TYPE, AnnotationMetadata.VALUE_MEMBER).orElse(null);
-                        if (indexedTypes.contains(aClass)) {
-                            resolveTypeIndex(aClass).add(beanDefinitionProducer);
+                    final AnnotationMetadata annotationMetadata = beanDefinitionReference.getAnnotationMetadata();
+                    Class<?>[] indexes = annotationMetadata.classValues(INDEXES_TYPE);
+                    if (indexes.length > 0) {
+                        //noinspection ForLoopReplaceableByForEach
+                        for (int i = 0; i < indexes.length; i++) {
+                            Class<?> indexedType = indexes[i];
+                            resolveTypeIndex(indexedType).add(beanDefinitionProducer);
+                        }
+                    } else {
+                        if (annotationMetadata.hasStereotype(ADAPTER_TYPE)) {
+                            final Class<?> aClass = annotationMetadata.classValue(ADAPTER_TYPE, AnnotationMetadata.VALUE_MEMBER).orElse(null);
+                            if (indexedTypes.contains(aClass)) {
+                                resolveTypeIndex(aClass).add(beanDefinitionProducer);
+                            }
                         }
                     }
+                    parallel = annotationMetadata.hasDeclaredStereotype(PARALLEL_TYPE);
                 }
                 if (isEagerInit(beanDefinitionReference)) {
                     eagerInitBeans.add(beanDefinitionProducer);
-                } else if (annotationMetadata.hasDeclaredStereotype(PARALLEL_TYPE)) {
+                } else if (parallel) {
                     parallelBeans.add(beanDefinitionProducer);
                 }
 
@@ -4270,13 +4406,19 @@ public class DefaultBeanContext implements InitializableBeanContext, Configurabl
         }
 
         private static boolean isReferenceEnabled(BeanDefinitionReference<?> ref, DefaultBeanContext context, BeanResolutionContext resolutionContext) {
+            if (ref instanceof IndexedBeanDefinitionReference<?> indexedReference) {
+                // the conditions are only known once the generated reference is loaded
+                ref = indexedReference.resolve();
+            }
             if (ref == null) {
                 return false;
             }
-            if (ref instanceof io.micronaut.context.AbstractInitializableBeanDefinitionAndReference<?> referenceAndDefinition) {
-                return referenceAndDefinition.isEnabled(context, resolutionContext, true);
+            try (BeanResolutionTracer.Span ignored = context.traceSpan(BeanResolutionTracer.SpanKind.CONDITION, ref)) {
+                if (ref instanceof io.micronaut.context.AbstractInitializableBeanDefinitionAndReference<?> referenceAndDefinition) {
+                    return referenceAndDefinition.isEnabled(context, resolutionContext, true);
+                }
+                return ref.isEnabled(context);
             }
-            return ref.isEnabled(context);
         }
 
         private static boolean isDefinitionEnabled(@NonNull DefaultBeanContext context,
@@ -4285,10 +4427,12 @@ public class DefaultBeanContext implements InitializableBeanContext, Configurabl
             if (def == null) {
                 return false;
             }
-            if (def instanceof io.micronaut.context.AbstractInitializableBeanDefinitionAndReference<?> definitionAndReference) {
-                return definitionAndReference.isEnabled(context, resolutionContext, false);
+            try (BeanResolutionTracer.Span ignored = context.traceSpan(BeanResolutionTracer.SpanKind.CONDITION, def)) {
+                if (def instanceof io.micronaut.context.AbstractInitializableBeanDefinitionAndReference<?> definitionAndReference) {
+                    return definitionAndReference.isEnabled(context, resolutionContext, false);
+                }
+                return def.isEnabled(context, resolutionContext);
             }
-            return def.isEnabled(context, resolutionContext);
         }
 
         /**
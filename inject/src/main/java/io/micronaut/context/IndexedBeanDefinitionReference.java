@@ -0,0 +1,379 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.context;
+
+import io.micronaut.context.exceptions.BeanContextException;
+import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.io.service.MicronautMetaServiceLoaderUtils;
+import io.micronaut.core.reflect.ClassUtils;
+import io.micronaut.core.type.Argument;
+import io.micronaut.inject.BeanDefinition;
+import io.micronaut.inject.BeanDefinitionReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link BeanDefinitionReference} read from an {@link AbstractBeanDefinitionIndex}. Type queries and the scope
+ * related flags are answered from the index entry, the generated reference is only loaded once the bean is
+ * queried, its annotation metadata or conditions are needed.
+ *
+ * @param <T> The bean type
+ * @since 4.9.0
+ */
+@Internal
+final class IndexedBeanDefinitionReference<T> implements BeanDefinitionReference<T> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IndexedBeanDefinitionReference.class);
+    private static final String[] EMPTY = new String[0];
+
+    private final ClassLoader classLoader;
+    private final String definitionName;
+    private final String beanTypeName;
+    private final int flags;
+    private final String[] typeNames;
+    private final String[] qualifiers;
+    private final String[] indexedTypeNames;
+    @Nullable
+    private final String adapterTypeName;
+    @Nullable
+    @SuppressWarnings("java:S3077")
+    private volatile BeanDefinitionReference<T> reference;
+    private volatile boolean resolved;
+    @Nullable
+    private volatile Class<T> beanType;
+
+    private IndexedBeanDefinitionReference(ClassLoader classLoader,
+                                           String definitionName,
+                                           String beanTypeName,
+                                           int flags,
+                                           String[] typeNames,
+                                           String[] qualifiers,
+                                           String[] indexedTypeNames,
+                                           @Nullable String adapterTypeName) {
+        this.classLoader = classLoader;
+        this.definitionName = definitionName;
+        this.beanTypeName = beanTypeName;
+        this.flags = flags;
+        this.typeNames = typeNames;
+        this.qualifiers = qualifiers;
+        this.indexedTypeNames = indexedTypeNames;
+        this.adapterTypeName = adapterTypeName;
+    }
+
+    /**
+     * Reads the references of all the bean definition indexes on the classpath. Definitions listed by more than one
+     * index are left out, one of the entries may be stale, so the context loads their generated references instead.
+     *
+     * @param classLoader The class loader
+     * @return The references by bean definition name
+     */
+    @NonNull
+    static Map<String, IndexedBeanDefinitionReference<?>> find(@NonNull ClassLoader classLoader) {
+        List<AbstractBeanDefinitionIndex> indexes = MicronautMetaServiceLoaderUtils.findMetaMicronautServiceEntries(
+            classLoader,
+            AbstractBeanDefinitionIndex.class,
+            null
+        );
+        return find(classLoader, indexes);
+    }
+
+    /**
+     * Reads the references of the given bean definition indexes.
+     *
+     * @param classLoader The class loader
+     * @param indexes     The indexes
+     * @return The references by bean definition name
+     * @see #find(ClassLoader)
+     */
+    @NonNull
+    static Map<String, IndexedBeanDefinitionReference<?>> find(@NonNull ClassLoader classLoader,
+                                                               @NonNull Collection<AbstractBeanDefinitionIndex> indexes) {
+        if (indexes.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, IndexedBeanDefinitionReference<?>> references = new HashMap<>();
+        Set<String> duplicates = new HashSet<>();
+        for (AbstractBeanDefinitionIndex index : indexes) {
+            for (String entry : index.getEntries()) {
+                IndexedBeanDefinitionReference<?> reference = parse(classLoader, entry);
+                if (reference != null && references.putIfAbsent(reference.definitionName, reference) != null) {
+                    duplicates.add(reference.definitionName);
+                }
+            }
+        }
+        if (!duplicates.isEmpty()) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Loading the bean definitions indexed more than once: {}", duplicates);
+            }
+            references.keySet().removeAll(duplicates);
+        }
+        return references;
+    }
+
+    @Nullable
+    private static IndexedBeanDefinitionReference<?> parse(ClassLoader classLoader, String entry) {
+        String[] fields = new String[7];
+        int start = 0;
+        for (int i = 0; i < fields.length - 1; i++) {
+            int end = entry.indexOf(AbstractBeanDefinitionIndex.FIELD_SEPARATOR, start);
+            if (end < 0) {
+                LOG.warn("Ignoring malformed bean definition index entry: {}", entry);
+                return null;
+            }
+            fields[i] = entry.substring(start, end);
+            start = end + 1;
+        }
+        fields[fields.length - 1] = entry.substring(start);
+        return new IndexedBeanDefinitionReference<>(
+            classLoader,
+            fields[0],
+            fields[1],
+            Integer.parseInt(fields[2]),
+            splitValues(fields[3]),
+            splitValues(fields[4]),
+            splitValues(fields[5]),
+            fields[6].isEmpty() ? null : fields[6]
+        );
+    }
+
+    private static String[] splitValues(String values) {
+        if (values.isEmpty()) {
+            return EMPTY;
+        }
+        List<String> result = new ArrayList<>(4);
+        int start = 0;
+        int end;
+        while ((end = values.indexOf(AbstractBeanDefinitionIndex.VALUE_SEPARATOR, start)) >= 0) {
+            result.add(values.substring(start, end));
+            start = end + 1;
+        }
+        result.add(values.substring(start));
+        return result.toArray(EMPTY);
+    }
+
+    /**
+     * Loads the generated reference if it was not loaded yet.
+     *
+     * @return The generated reference or {@code null} if it is not present on the classpath
+     */
+    @Nullable
+    BeanDefinitionReference<T> resolve() {
+        if (resolved) {
+            return reference;
+        }
+        BeanDefinitionReference<T> ref = null;
+        try {
+            @SuppressWarnings("unchecked")
+            Class<BeanDefinitionReference<T>> type = (Class<BeanDefinitionReference<T>>) Class.forName(definitionName, false, classLoader);
+            BeanDefinitionReference<T> instance = type.getDeclaredConstructor().newInstance();
+            if (instance.isPresent()) {
+                ref = instance;
+                if (!beanTypeName.equals(instance.getName())) {
+                    LOG.warn("Bean definition index entry [{}] is stale, it indexes type [{}] instead of [{}]. Rebuild the application.", definitionName, beanTypeName, instance.getName());
+                }
+            }
+        } catch (ReflectiveOperationException | LinkageError e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Indexed bean definition [{}] is not present: {}", definitionName, e.getMessage());
+            }
+        }
+        reference = ref;
+        resolved = true;
+        return ref;
+    }
+
+    private BeanDefinitionReference<T> getReference() {
+        BeanDefinitionReference<T> ref = resolve();
+        if (ref == null) {
+            throw new BeanContextException("Bean definition [" + definitionName + "] is not present on the classpath");
+        }
+        return ref;
+    }
+
+    /**
+     * @return The types the bean is indexed by, the types that are not present are skipped
+     */
+    @NonNull
+    List<Class<?>> getIndexedTypes() {
+        if (indexedTypeNames.length == 0) {
+            return Collections.emptyList();
+        }
+        List<Class<?>> types = new ArrayList<>(indexedTypeNames.length);
+        for (String indexedTypeName : indexedTypeNames) {
+            ClassUtils.forName(indexedTypeName, classLoader).ifPresent(types::add);
+        }
+        return types;
+    }
+
+    /**
+     * @return The adapted type, if the bean is an adapter and the type is present
+     */
+    @Nullable
+    Class<?> getAdapterType() {
+        return adapterTypeName != null ? ClassUtils.forName(adapterTypeName, classLoader).orElse(null) : null;
+    }
+
+    /**
+     * @return Whether the bean is initialized in parallel
+     */
+    boolean isParallel() {
+        return hasFlag(AbstractBeanDefinitionIndex.PARALLEL);
+    }
+
+    private boolean hasFlag(int flag) {
+        return (flags & flag) != 0;
+    }
+
+    @Override
+    public String getBeanDefinitionName() {
+        return definitionName;
+    }
+
+    @Override
+    public String getName() {
+        return beanTypeName;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Class<T> getBeanType() {
+        Class<T> type = beanType;
+        if (type == null) {
+            type = (Class<T>) ClassUtils.forName(beanTypeName, classLoader)
+                .orElseGet(() -> getReference().getBeanType());
+            beanType = type;
+        }
+        return type;
+    }
+
+    @Override
+    public boolean isCandidateBean(@Nullable Argument<?> beanType) {
+        if (beanType == null) {
+            return false;
+        }
+        Class<?> type = beanType.getType();
+        if (type == Object.class && !hasFlag(AbstractBeanDefinitionIndex.TYPED)) {
+            return true;
+        }
+        String name = type.getName();
+        for (String typeName : typeNames) {
+            if (typeName.equals(name)) {
+                return true;
+            }
+        }
+        return !hasFlag(AbstractBeanDefinitionIndex.TYPED) && isContainerType();
+    }
+
+    @Override
+    public Set<Class<?>> getExposedTypes() {
+        return getReference().getExposedTypes();
+    }
+
+    @Override
+    public AnnotationMetadata getAnnotationMetadata() {
+        return getReference().getAnnotationMetadata();
+    }
+
+    @Override
+    @Nullable
+    public Qualifier<T> getDeclaredQualifier() {
+        return qualifiers.length == 0 ? null : getReference().getDeclaredQualifier();
+    }
+
+    @Override
+    public boolean isEnabled(@NonNull BeanContext context) {
+        BeanDefinitionReference<T> ref = resolve();
+        return ref != null && (!hasFlag(AbstractBeanDefinitionIndex.CONDITIONAL) || ref.isEnabled(context));
+    }
+
+    @Override
+    public boolean isEnabled(@NonNull BeanContext context, @Nullable BeanResolutionContext resolutionContext) {
+        BeanDefinitionReference<T> ref = resolve();
+        return ref != null && (!hasFlag(AbstractBeanDefinitionIndex.CONDITIONAL) || ref.isEnabled(context, resolutionContext));
+    }
+
+    @Override
+    public BeanDefinition<T> load() {
+        return getReference().load();
+    }
+
+    @Override
+    public BeanDefinition<T> load(BeanContext context) {
+        return getReference().load(context);
+    }
+
+    @Override
+    public boolean isPresent() {
+        return true;
+    }
+
+    @Override
+    public boolean isContextScope() {
+        return hasFlag(AbstractBeanDefinitionIndex.CONTEXT_SCOPE);
+    }
+
+    @Override
+    public boolean isSingleton() {
+        return hasFlag(AbstractBeanDefinitionIndex.SINGLETON);
+    }
+
+    @Override
+    public boolean isPrimary() {
+        return hasFlag(AbstractBeanDefinitionIndex.PRIMARY);
+    }
+
+    @Override
+    public boolean isConfigurationProperties() {
+        return hasFlag(AbstractBeanDefinitionIndex.CONFIGURATION_PROPERTIES);
+    }
+
+    @Override
+    public boolean isContainerType() {
+        return hasFlag(AbstractBeanDefinitionIndex.CONTAINER_TYPE);
+    }
+
+    @Override
+    public boolean isProxiedBean() {
+        return hasFlag(AbstractBeanDefinitionIndex.PROXIED_BEAN);
+    }
+
+    @Override
+    public boolean isProxyTarget() {
+        return hasFlag(AbstractBeanDefinitionIndex.PROXY_TARGET);
+    }
+
+    @Override
+    public boolean requiresMethodProcessing() {
+        return hasFlag(AbstractBeanDefinitionIndex.REQUIRES_METHOD_PROCESSING);
+    }
+
+    @Override
+    public String toString() {
+        return definitionName;
+    }
+}
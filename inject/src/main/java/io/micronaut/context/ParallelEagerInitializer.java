@@ -0,0 +1,309 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.context;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.inject.BeanDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Initializes eager beans concurrently while respecting the dependencies between them.
+ *
+ * <p>The dependency graph is built from the {@link BeanDefinition#getRequiredComponents() required components} of
+ * each definition: a bean depends on every other eager bean whose type satisfies one of its injection points. A bean
+ * only starts once all of its dependencies completed, so that it finds them in the singleton scope rather than
+ * racing another thread to create them. Beans with different {@link io.micronaut.core.annotation.Order} values are
+ * initialized in groups, one group after the other in order. Beans that are part of a dependency cycle, or depend on
+ * one, are initialized sequentially once the rest of their group completed.</p>
+ *
+ * @since 4.9.0
+ */
+@Internal
+final class ParallelEagerInitializer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ParallelEagerInitializer.class);
+
+    private final int parallelism;
+    @Nullable
+    private final BeanResolutionTracer tracer;
+
+    /**
+     * @param parallelism The maximum number of beans to initialize at the same time
+     * @param tracer      The tracer to report the critical path to
+     */
+    ParallelEagerInitializer(int parallelism, @Nullable BeanResolutionTracer tracer) {
+        this.parallelism = parallelism;
+        this.tracer = tracer;
+    }
+
+    /**
+     * Initialize the given beans.
+     *
+     * @param definitions The definitions, sorted by order
+     * @param initializer Initializes a single bean, failures are propagated
+     */
+    void initialize(@NonNull List<BeanDefinition<Object>> definitions, @NonNull Consumer<BeanDefinition<Object>> initializer) {
+        int n = definitions.size();
+        Node[] nodes = new Node[n];
+        for (int i = 0; i < n; i++) {
+            nodes[i] = new Node(i, definitions.get(i), definitions.get(i).getOrder());
+        }
+        long start = System.nanoTime();
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "eager-init-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, threadFactory);
+        Node previousGroupLast = null;
+        try {
+            int groupStart = 0;
+            while (groupStart < n) {
+                int groupEnd = groupStart + 1;
+                while (groupEnd < n && nodes[groupEnd].order == nodes[groupStart].order) {
+                    groupEnd++;
+                }
+                previousGroupLast = initializeGroup(nodes, groupStart, groupEnd, previousGroupLast, executor, initializer);
+                groupStart = groupEnd;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        reportCriticalPath(previousGroupLast, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    @Nullable
+    private Node initializeGroup(Node[] nodes,
+                                 int from,
+                                 int to,
+                                 @Nullable Node previousGroupLast,
+                                 ExecutorService executor,
+                                 Consumer<BeanDefinition<Object>> initializer) {
+        for (int i = from; i < to; i++) {
+            Node node = nodes[i];
+            node.groupPredecessor = previousGroupLast;
+            Collection<Class<?>> components = node.definition.getRequiredComponents();
+            if (components.isEmpty()) {
+                continue;
+            }
+            for (int j = from; j < to; j++) {
+                if (i == j) {
+                    continue;
+                }
+                Class<?> candidateType = nodes[j].definition.getBeanType();
+                for (Class<?> component : components) {
+                    if (component != Object.class && component.isAssignableFrom(candidateType)) {
+                        node.dependencies.add(nodes[j]);
+                        nodes[j].dependents.add(node);
+                        break;
+                    }
+                }
+            }
+            node.pending.set(node.dependencies.size());
+        }
+
+        // only schedule the beans that can be reached from the roots, the rest is part of a cycle
+        List<Node> roots = new ArrayList<>();
+        int schedulable = 0;
+        int[] remaining = new int[to - from];
+        Deque<Node> queue = new ArrayDeque<>();
+        for (int i = from; i < to; i++) {
+            remaining[i - from] = nodes[i].dependencies.size();
+            if (remaining[i - from] == 0) {
+                roots.add(nodes[i]);
+                queue.add(nodes[i]);
+            }
+        }
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            node.schedulable = true;
+            schedulable++;
+            for (Node dependent : node.dependents) {
+                if (--remaining[dependent.index - from] == 0) {
+                    queue.add(dependent);
+                }
+            }
+        }
+
+        Scheduler scheduler = new Scheduler(executor, initializer, schedulable);
+        for (Node root : roots) {
+            scheduler.submit(root);
+        }
+        scheduler.await();
+
+        for (int i = from; i < to; i++) {
+            Node node = nodes[i];
+            if (!node.schedulable) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Bean [{}] is part of a dependency cycle, initializing it sequentially", node.definition.getBeanType().getName());
+                }
+                node.run(initializer);
+            }
+        }
+
+        Node last = previousGroupLast;
+        for (int i = from; i < to; i++) {
+            if (last == null || nodes[i].end > last.end) {
+                last = nodes[i];
+            }
+        }
+        return last;
+    }
+
+    private void reportCriticalPath(@Nullable Node last, Duration total) {
+        if (last == null || (tracer == null && !LOG.isDebugEnabled())) {
+            return;
+        }
+        List<BeanDefinition<?>> path = new ArrayList<>();
+        List<Duration> durations = new ArrayList<>();
+        Node node = last;
+        while (node != null) {
+            path.add(0, node.definition);
+            durations.add(0, Duration.ofNanos(node.end - node.start));
+            Node predecessor = node.groupPredecessor;
+            for (Node dependency : node.dependencies) {
+                if (predecessor == null || dependency.end > predecessor.end) {
+                    predecessor = dependency;
+                }
+            }
+            node = predecessor;
+        }
+        if (LOG.isDebugEnabled()) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < path.size(); i++) {
+                sb.append(System.lineSeparator()).append("  ").append(path.get(i).getBeanType().getName())
+                    .append(' ').append(durations.get(i).toMillis()).append("ms");
+            }
+            LOG.debug("Initialized eager beans in {}ms using {} threads, critical path:{}", total.toMillis(), parallelism, sb);
+        }
+        if (tracer != null) {
+            tracer.traceEagerInitCriticalPath(path, durations, total);
+        }
+    }
+
+    /**
+     * Submits beans once their dependencies completed and waits for all of them.
+     */
+    private static final class Scheduler {
+        private final ExecutorService executor;
+        private final Consumer<BeanDefinition<Object>> initializer;
+        private final AtomicInteger outstanding;
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Scheduler(ExecutorService executor, Consumer<BeanDefinition<Object>> initializer, int count) {
+            this.executor = executor;
+            this.initializer = initializer;
+            this.outstanding = new AtomicInteger(count);
+        }
+
+        void submit(Node node) {
+            executor.execute(() -> {
+                try {
+                    if (failure.get() == null) {
+                        node.run(initializer);
+                        for (Node dependent : node.dependents) {
+                            if (dependent.schedulable && dependent.pending.decrementAndGet() == 0) {
+                                submit(dependent);
+                            }
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    if (outstanding.decrementAndGet() == 0 || failure.get() != null) {
+                        synchronized (this) {
+                            notifyAll();
+                        }
+                    }
+                }
+            });
+        }
+
+        synchronized void await() {
+            boolean interrupted = false;
+            while (outstanding.get() > 0 && failure.get() == null) {
+                try {
+                    wait(TimeUnit.SECONDS.toMillis(1));
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            Throwable e = failure.get();
+            if (e instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (e instanceof Error error) {
+                throw error;
+            } else if (e != null) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * A bean in the dependency graph.
+     */
+    private static final class Node {
+        private final int index;
+        private final BeanDefinition<Object> definition;
+        private final int order;
+        private final List<Node> dependencies = new ArrayList<>(2);
+        private final List<Node> dependents = new ArrayList<>(2);
+        private final AtomicInteger pending = new AtomicInteger();
+        private boolean schedulable;
+        @Nullable
+        private Node groupPredecessor;
+        private volatile long start;
+        private volatile long end;
+
+        Node(int index, BeanDefinition<Object> definition, int order) {
+            this.index = index;
+            this.definition = definition;
+            this.order = order;
+        }
+
+        void run(Consumer<BeanDefinition<Object>> initializer) {
+            start = System.nanoTime();
+            try {
+                initializer.accept(definition);
+            } finally {
+                end = System.nanoTime();
+            }
+        }
+    }
+}
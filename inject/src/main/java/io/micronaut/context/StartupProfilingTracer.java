@@ -0,0 +1,350 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.context;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.type.Argument;
+import io.micronaut.inject.BeanDefinition;
+import io.micronaut.inject.BeanDefinitionReference;
+import io.micronaut.inject.ExecutableMethod;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Records the start of a context as a tree of timed spans and writes it either in the
+ * Chrome trace event format, which can be opened with {@code chrome://tracing} or Perfetto, or in the collapsed stack format consumed by flame
+ * graph tools. Every span is attributed its self time, that is its duration minus the duration of the spans nested in
+ * it on the same thread.
+ *
+ * <p>Only the spans of the first start of a context are recorded, later spans are ignored so that profiling has no
+ * cost once the context is running.</p>
+ *
+ * @since 4.9.0
+ */
+@Internal
+final class StartupProfilingTracer implements BeanResolutionTracer {
+
+    /**
+     * The destination of the profile if none is configured.
+     */
+    static final String DEFAULT_DESTINATION = "micronaut-startup-profile.json";
+
+    private static final Logger LOG = LoggerFactory.getLogger(StartupProfilingTracer.class);
+    private static final String JSON_EXTENSION = ".json";
+
+    private final Map<BeanContext, Recording> recordings = new ConcurrentHashMap<>();
+
+    @Override
+    public void traceBeanCreation(BeanResolutionContext resolutionContext, BeanDefinition<?> beanDefinition, Argument<?> beanType) {
+        // bean creation is recorded as a span by the context
+    }
+
+    @Override
+    public <T> void traceBeanCreated(BeanResolutionContext resolutionContext, BeanDefinition<T> beanDefinition) {
+        // bean creation is recorded as a span by the context
+    }
+
+    @Override
+    public <B, T> void traceInjectBean(BeanResolutionContext resolutionContext, BeanResolutionContext.Segment<B, T> segment) {
+        // no-op
+    }
+
+    @Override
+    public boolean isSpanTracing() {
+        return true;
+    }
+
+    @Override
+    public void traceContextStartup(BeanContext beanContext) {
+        recordings.computeIfAbsent(beanContext, ctx -> new Recording())
+            .startup(beanContext);
+    }
+
+    @Override
+    public void traceContextStarted(BeanContext beanContext, @Nullable String destination) {
+        Recording recording = recordings.get(beanContext);
+        if (recording != null && recording.started()) {
+            recordings.remove(beanContext);
+            write(recording, destination != null ? destination : DEFAULT_DESTINATION);
+        }
+    }
+
+    @Override
+    @Nullable
+    public Span traceSpanStart(BeanContext beanContext, SpanKind kind, Object subject) {
+        Recording recording = recordings.get(beanContext);
+        if (recording == null) {
+            return null;
+        }
+        RecordedSpan span = recording.start(kind, describe(kind, subject));
+        if (kind == SpanKind.BEAN && subject instanceof BeanDefinition<?> definition) {
+            BeanCreationEvent event = new BeanCreationEvent();
+            if (event.isEnabled()) {
+                event.beanType = definition.getBeanType().getName();
+                event.beanDefinition = definition.getClass().getName();
+                event.begin();
+                span.event = event;
+            }
+        }
+        return span;
+    }
+
+    @Override
+    public void traceContextShutdown(BeanContext beanContext) {
+        recordings.remove(beanContext);
+    }
+
+    private static String describe(SpanKind kind, Object subject) {
+        if (kind == SpanKind.CONDITION && subject instanceof BeanDefinitionReference<?> reference) {
+            // avoid loading the bean type, it may be absent which is what the conditions are about
+            return reference.getBeanDefinitionName();
+        }
+        if (subject instanceof BeanDefinition<?> definition) {
+            return definition.getBeanType().getName();
+        }
+        if (subject instanceof BeanDefinitionReference<?> reference) {
+            return reference.getBeanDefinitionName();
+        }
+        if (subject instanceof ExecutableMethod<?, ?> method) {
+            return method.getDeclaringType().getName() + '#' + method.getMethodName();
+        }
+        if (subject instanceof Class<?> type) {
+            return type.getName();
+        }
+        return String.valueOf(subject);
+    }
+
+    private static void write(Recording recording, String destination) {
+        List<RecordedSpan> spans = new ArrayList<>(recording.completed);
+        Path path = Paths.get(destination);
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+                if (destination.endsWith(JSON_EXTENSION)) {
+                    writeChromeTrace(writer, recording.root.startNanos, spans);
+                } else {
+                    writeCollapsedStacks(writer, spans);
+                }
+            }
+            if (LOG.isInfoEnabled()) {
+                LOG.info("Startup profile of {} spans over {}ms written to: {}", spans.size(), recording.root.duration / 1_000_000, path.toAbsolutePath());
+            }
+        } catch (IOException e) {
+            LOG.warn("Failed to write startup profile to [{}]: {}", path, e.getMessage(), e);
+        }
+    }
+
+    private static void writeChromeTrace(Writer writer, long startNanos, List<RecordedSpan> spans) throws IOException {
+        long pid = ProcessHandle.current().pid();
+        Map<Long, String> threads = new LinkedHashMap<>();
+        StringBuilder sb = new StringBuilder(spans.size() * 128);
+        sb.append("{\"displayTimeUnit\":\"ns\",\"traceEvents\":[");
+        boolean first = true;
+        for (RecordedSpan span : spans) {
+            threads.putIfAbsent(span.threadId, span.threadName);
+            if (!first) {
+                sb.append(',');
+            }
+            first = false;
+            sb.append("\n{\"name\":");
+            appendJsonString(sb, span.name);
+            sb.append(",\"cat\":\"").append(category(span.kind)).append("\",\"ph\":\"X\",\"ts\":");
+            appendMicros(sb, span.startNanos - startNanos);
+            sb.append(",\"dur\":");
+            appendMicros(sb, span.duration);
+            sb.append(",\"pid\":").append(pid).append(",\"tid\":").append(span.threadId).append('}');
+        }
+        for (Map.Entry<Long, String> thread : threads.entrySet()) {
+            sb.append(",\n{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":").append(pid)
+                .append(",\"tid\":").append(thread.getKey()).append(",\"args\":{\"name\":");
+            appendJsonString(sb, thread.getValue());
+            sb.append("}}");
+        }
+        sb.append("\n]}\n");
+        writer.write(sb.toString());
+    }
+
+    private static void writeCollapsedStacks(Writer writer, List<RecordedSpan> spans) throws IOException {
+        Map<String, Long> selfMicros = new HashMap<>();
+        for (RecordedSpan span : spans) {
+            selfMicros.merge(span.stack, span.selfNanos() / 1000, Long::sum);
+        }
+        StringBuilder sb = new StringBuilder(selfMicros.size() * 128);
+        selfMicros.entrySet().stream()
+            .filter(e -> e.getValue() > 0)
+            .sorted(Map.Entry.comparingByKey())
+            .forEach(e -> sb.append(e.getKey()).append(' ').append(e.getValue()).append('\n'));
+        writer.write(sb.toString());
+    }
+
+    private static String category(SpanKind kind) {
+        return kind.name().toLowerCase(Locale.ENGLISH);
+    }
+
+    private static void appendMicros(StringBuilder sb, long nanos) {
+        sb.append(nanos / 1000).append('.');
+        long fraction = nanos % 1000;
+        if (fraction < 100) {
+            sb.append('0');
+        }
+        if (fraction < 10) {
+            sb.append('0');
+        }
+        sb.append(fraction);
+    }
+
+    private static void appendJsonString(StringBuilder sb, String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        sb.append('"');
+    }
+
+    /**
+     * The spans recorded for the start of a context.
+     */
+    private static final class Recording {
+        private final ThreadLocal<RecordedSpan> current = new ThreadLocal<>();
+        private final Queue<RecordedSpan> completed = new ConcurrentLinkedQueue<>();
+        // only modified by the thread starting the context, while holding the lock of the context
+        private int nesting;
+        private RecordedSpan root;
+        private volatile boolean finished;
+
+        void startup(BeanContext beanContext) {
+            if (nesting++ == 0) {
+                root = start(SpanKind.STARTUP, beanContext.getClass().getSimpleName());
+            }
+        }
+
+        boolean started() {
+            if (--nesting > 0) {
+                return false;
+            }
+            root.close();
+            finished = true;
+            return true;
+        }
+
+        RecordedSpan start(SpanKind kind, String name) {
+            RecordedSpan parent = current.get();
+            Thread thread = Thread.currentThread();
+            RecordedSpan span = new RecordedSpan(this, parent, kind, name, thread.getId(), thread.getName());
+            current.set(span);
+            return span;
+        }
+    }
+
+    /**
+     * A recorded span, closed on the thread that started it.
+     */
+    private static final class RecordedSpan implements Span {
+        private final Recording recording;
+        @Nullable
+        private final RecordedSpan parent;
+        private final SpanKind kind;
+        private final String name;
+        private final String stack;
+        private final long threadId;
+        private final String threadName;
+        private final long startNanos;
+        private long duration = -1;
+        private long childNanos;
+        @Nullable
+        private BeanCreationEvent event;
+
+        RecordedSpan(Recording recording,
+                     @Nullable RecordedSpan parent,
+                     SpanKind kind,
+                     String name,
+                     long threadId,
+                     String threadName) {
+            this.recording = recording;
+            this.parent = parent;
+            this.kind = kind;
+            this.name = name;
+            String frame = category(kind) + ' ' + name.replace(';', ',');
+            this.stack = parent == null ? frame : parent.stack + ';' + frame;
+            this.threadId = threadId;
+            this.threadName = threadName;
+            this.startNanos = System.nanoTime();
+        }
+
+        @Override
+        public void close() {
+            if (duration >= 0) {
+                return;
+            }
+            duration = System.nanoTime() - startNanos;
+            if (event != null) {
+                event.commit();
+            }
+            if (parent != null) {
+                parent.childNanos += duration;
+                recording.current.set(parent);
+            } else {
+                recording.current.remove();
+            }
+            if (!recording.finished) {
+                recording.completed.add(this);
+            }
+        }
+
+        long selfNanos() {
+            return Math.max(0, duration - childNanos);
+        }
+
+        @Override
+        public String toString() {
+            return stack;
+        }
+    }
+}
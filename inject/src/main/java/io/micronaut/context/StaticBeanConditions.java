@@ -0,0 +1,305 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.context;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.condition.Condition;
+import io.micronaut.context.condition.OperatingSystem;
+import io.micronaut.context.conditions.MatchesAbsenceOfClassNamesCondition;
+import io.micronaut.context.conditions.MatchesAbsenceOfClassesCondition;
+import io.micronaut.context.conditions.MatchesConditionUtils;
+import io.micronaut.context.conditions.MatchesCurrentNotOsCondition;
+import io.micronaut.context.conditions.MatchesCurrentOsCondition;
+import io.micronaut.context.conditions.MatchesPresenceOfClassesCondition;
+import io.micronaut.context.conditions.MatchesSdkCondition;
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.io.service.MicronautMetaServiceLoaderUtils;
+import io.micronaut.core.optim.StaticOptimizations;
+import io.micronaut.inject.BeanDefinitionReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * An index of the bean definitions that are disabled by conditions which cannot change once the application is
+ * built: the presence or absence of classes, the SDK versions and the operating system. It is computed by a build
+ * step with {@link #evaluate(ClassLoader)} and consulted by the context before loading any
+ * {@link BeanDefinitionReference}, so that statically disabled beans cost neither class loading nor condition
+ * evaluation on startup.
+ *
+ * <p>The index is a sorted table of the bean definition names it covers and a bit set of the disabled ones. It is
+ * either injected as a {@link StaticOptimizations static optimization} or read from the {@link #RESOURCE} resource.
+ * Definitions missing from the table are evaluated as usual. An index read from a resource is ignored if it was
+ * computed on another operating system family or Java feature version. Java version requirements finer than a
+ * feature version are therefore left to the runtime.</p>
+ *
+ * @since 4.9.0
+ */
+@Internal
+public final class StaticBeanConditions {
+
+    /**
+     * The resource the index is read from, if it is not injected as a static optimization.
+     */
+    public static final String RESOURCE = "META-INF/micronaut-bean-conditions.idx";
+
+    private static final Logger LOG = LoggerFactory.getLogger(StaticBeanConditions.class);
+    private static final int MAGIC = 0x4D4E4243;
+    private static final int VERSION = 1;
+
+    private final String[] names;
+    private final BitSet disabled;
+    private final String operatingSystem;
+    private final String javaVersion;
+
+    /**
+     * Creates an index for the operating system and Java feature version of the current JVM.
+     *
+     * @param names    The sorted names of the bean definitions covered by the index
+     * @param disabled The indices of the disabled bean definitions in {@code names}
+     */
+    public StaticBeanConditions(@NonNull String[] names, @NonNull BitSet disabled) {
+        this(names, disabled, currentOperatingSystem(), currentJavaVersion());
+    }
+
+    private StaticBeanConditions(String[] names, BitSet disabled, String operatingSystem, String javaVersion) {
+        this.names = names;
+        this.disabled = disabled;
+        this.operatingSystem = operatingSystem;
+        this.javaVersion = javaVersion;
+    }
+
+    /**
+     * @param beanDefinitionName The name of the bean definition, see {@link BeanDefinitionReference#getBeanDefinitionName()}
+     * @return Whether the bean definition is known to be disabled
+     */
+    public boolean isDisabled(@NonNull String beanDefinitionName) {
+        int index = Arrays.binarySearch(names, beanDefinitionName);
+        return index >= 0 && disabled.get(index);
+    }
+
+    /**
+     * @return The number of bean definitions covered by the index
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * @return The number of disabled bean definitions
+     */
+    public int getDisabledCount() {
+        return disabled.cardinality();
+    }
+
+    /**
+     * @return Whether the index was computed for the operating system and Java feature version of the current JVM
+     */
+    public boolean isApplicable() {
+        return operatingSystem.equals(currentOperatingSystem()) && javaVersion.equals(currentJavaVersion());
+    }
+
+    /**
+     * Writes the index in its binary form.
+     *
+     * @param outputStream The stream to write to, not closed
+     * @throws IOException If writing fails
+     */
+    public void writeTo(@NonNull OutputStream outputStream) throws IOException {
+        DataOutputStream out = new DataOutputStream(outputStream);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeUTF(operatingSystem);
+        out.writeUTF(javaVersion);
+        out.writeInt(names.length);
+        for (String name : names) {
+            out.writeUTF(name);
+        }
+        long[] words = disabled.toLongArray();
+        out.writeInt(words.length);
+        for (long word : words) {
+            out.writeLong(word);
+        }
+        out.flush();
+    }
+
+    /**
+     * Reads an index written with {@link #writeTo(OutputStream)}.
+     *
+     * @param inputStream The stream to read from, not closed
+     * @return The index
+     * @throws IOException If reading fails or the data is not an index
+     */
+    @NonNull
+    public static StaticBeanConditions readFrom(@NonNull InputStream inputStream) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(inputStream));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a bean conditions index");
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported bean conditions index version: " + version);
+        }
+        String operatingSystem = in.readUTF();
+        String javaVersion = in.readUTF();
+        String[] names = new String[in.readInt()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = in.readUTF();
+        }
+        long[] words = new long[in.readInt()];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = in.readLong();
+        }
+        return new StaticBeanConditions(names, BitSet.valueOf(words), operatingSystem, javaVersion);
+    }
+
+    /**
+     * Evaluates the static conditions of all the bean definitions visible to the given class loader. Definitions
+     * that cannot be loaded count as disabled, as the context would skip them too.
+     *
+     * @param classLoader The class loader of the application
+     * @return The index
+     * @throws IOException If the bean definitions cannot be listed
+     */
+    @NonNull
+    public static StaticBeanConditions evaluate(@NonNull ClassLoader classLoader) throws IOException {
+        Map<String, Boolean> results = new TreeMap<>();
+        DefaultBeanContext beanContext = new DefaultBeanContext(classLoader);
+        for (String name : MicronautMetaServiceLoaderUtils.findMicronautMetaServiceEntries(classLoader, BeanDefinitionReference.class.getName())) {
+            BeanDefinitionReference<?> reference;
+            try {
+                reference = (BeanDefinitionReference<?>) Class.forName(name, false, classLoader).getConstructor().newInstance();
+            } catch (ClassNotFoundException | LinkageError e) {
+                results.put(name, true);
+                continue;
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                // leave the decision to the runtime
+                continue;
+            }
+            results.put(name, !reference.isPresent() || isStaticallyDisabled(beanContext, reference));
+        }
+        String[] names = results.keySet().toArray(new String[0]);
+        BitSet disabled = new BitSet(names.length);
+        for (int i = 0; i < names.length; i++) {
+            if (results.get(names[i])) {
+                disabled.set(i);
+            }
+        }
+        return new StaticBeanConditions(names, disabled);
+    }
+
+    /**
+     * Finds the index to use for the given class loader.
+     *
+     * @param classLoader The class loader
+     * @return The index, or {@code null} if there is none that applies to the current JVM
+     */
+    @Nullable
+    static StaticBeanConditions find(@NonNull ClassLoader classLoader) {
+        Optional<StaticBeanConditions> optimization = StaticOptimizations.get(StaticBeanConditions.class);
+        if (optimization.isPresent()) {
+            return optimization.get();
+        }
+        try (InputStream inputStream = classLoader.getResourceAsStream(RESOURCE)) {
+            if (inputStream == null) {
+                return null;
+            }
+            StaticBeanConditions conditions = readFrom(inputStream);
+            if (!conditions.isApplicable()) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Ignoring bean conditions index computed for {} and Java {}", conditions.operatingSystem, conditions.javaVersion);
+                }
+                return null;
+            }
+            return conditions;
+        } catch (IOException e) {
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("Failed to read bean conditions index [{}]: {}", RESOURCE, e.getMessage(), e);
+            }
+            return null;
+        }
+    }
+
+    private static boolean isStaticallyDisabled(DefaultBeanContext beanContext, BeanDefinitionReference<?> reference) {
+        List<AnnotationValue<Requires>> requirements = reference.getAnnotationMetadata().getAnnotationValuesByType(Requires.class);
+        if (requirements.isEmpty()) {
+            return false;
+        }
+        DefaultConditionContext<BeanDefinitionReference<?>> conditionContext = new DefaultConditionContext<>(beanContext, reference, null);
+        List<Condition> preConditions = new ArrayList<>(5);
+        List<Condition> postConditions = new ArrayList<>(5);
+        for (AnnotationValue<Requires> requirement : requirements) {
+            if (requirement.hasEvaluatedExpressions()) {
+                continue;
+            }
+            preConditions.clear();
+            MatchesConditionUtils.createConditions(requirement, preConditions, postConditions);
+            for (Condition condition : preConditions) {
+                if (isStatic(condition) && !condition.matches(conditionContext)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isStatic(Condition condition) {
+        return condition instanceof MatchesPresenceOfClassesCondition
+            || condition instanceof MatchesAbsenceOfClassesCondition
+            || condition instanceof MatchesAbsenceOfClassNamesCondition
+            || (condition instanceof MatchesSdkCondition sdkCondition && isStatic(sdkCondition))
+            || condition instanceof MatchesCurrentOsCondition
+            || condition instanceof MatchesCurrentNotOsCondition;
+    }
+
+    private static boolean isStatic(MatchesSdkCondition condition) {
+        if (condition.sdk() != Requires.Sdk.JAVA) {
+            return true;
+        }
+        // the index is only keyed on the feature version, the update and patch versions can change
+        String version = condition.version();
+        for (int i = 0; i < version.length(); i++) {
+            if (!Character.isDigit(version.charAt(i))) {
+                return false;
+            }
+        }
+        return !version.isEmpty();
+    }
+
+    private static String currentOperatingSystem() {
+        return OperatingSystem.getCurrent().getFamily().name();
+    }
+
+    private static String currentJavaVersion() {
+        return Integer.toString(Runtime.version().feature());
+    }
+}
@@ -16,6 +16,7 @@
 package io.micronaut.context.annotation;
 
 import io.micronaut.core.annotation.Experimental;
+import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 
@@ -52,6 +53,15 @@ public @interface Mapper {
      */
     String MERGE_STRATEGY_NOT_NULL_OVERRIDE = "NOT_NULL_OVERRIDE";
 
+    /**
+     * The member set by the compiler to the {@link io.micronaut.inject.beans.GeneratedMapping} of a method, if its
+     * types are statically known.
+     *
+     * @since 4.9.0
+     */
+    @Internal
+    String MEMBER_GENERATED_MAPPING = "generatedMapping";
+
     /**
      * @return Defined mappings.
      */
@@ -21,6 +21,7 @@ import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.convert.ConversionContext;
+import io.micronaut.core.convert.DefaultMutableConversionService;
 import io.micronaut.core.convert.MutableConversionService;
 import io.micronaut.core.convert.TypeConverter;
 import io.micronaut.core.io.ResourceLoader;
@@ -64,8 +65,16 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 /**
@@ -115,6 +124,7 @@ public class DefaultEnvironment extends PropertySourcePropertyResolver implement
     private final Map<String, PropertySourceLoader> loaderByFormatMap = new ConcurrentHashMap<>();
     private final Map<String, Boolean> presenceCache = new ConcurrentHashMap<>();
     private final AtomicBoolean reading = new AtomicBoolean(false);
+    private volatile boolean refreshing;
     private final Boolean deduceEnvironments;
     private final ApplicationContextConfiguration configuration;
     private final Collection<String> configLocations;
@@ -294,16 +304,50 @@ public class DefaultEnvironment extends PropertySourcePropertyResolver implement
         this.propertySources.values().removeAll(refreshablePropertySources);
         synchronized (catalog) {
             Arrays.fill(catalog, null);
-            resetCaches();
+            if (!refreshing) {
+                resetCaches();
+            }
         }
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The cached values of the properties that did not change are kept, only the values of the changed properties
+     * are resolved again. The values resolved while the property sources are read again are not cached.</p>
+     */
     @Override
     public Map<String, Object> refreshAndDiff() {
         Map<String, DefaultPropertyEntry>[] copiedCatalog = copyCatalog();
-        refresh();
-        return diffCatalog(copiedCatalog, catalog);
+        Map<String, Object> changes;
+        refreshing = true;
+        setCacheValues(false);
+        try {
+            refresh();
+            changes = diffCatalog(copiedCatalog, catalog);
+            resetCaches(changes.keySet());
+        } catch (RuntimeException | Error e) {
+            resetCaches();
+            throw e;
+        } finally {
+            refreshing = false;
+            setCacheValues(true);
+        }
+        return changes;
+    }
+
+    /**
+     * Visits the source and target type pairs the conversion service resolved so far.
+     *
+     * @param consumer The consumer of the source and target types
+     * @since 4.9.0
+     */
+    @Internal
+    public void forEachResolvedConversion(@NonNull BiConsumer<Class<?>, Class<?>> consumer) {
+        if (mutableConversionService instanceof DefaultMutableConversionService defaultConversionService) {
+            defaultConversionService.forEachResolvedConversion(consumer);
+        }
     }
 
     @Override
@@ -506,6 +550,7 @@ public class DefaultEnvironment extends PropertySourcePropertyResolver implement
             .map(Arrays::asList)
             .map(Collections::unmodifiableList);
 
+        List<Supplier<Optional<PropertySource>>> loads = new ArrayList<>();
         filePathList.ifPresent(list -> {
             if (!list.isEmpty()) {
                 int order = AbstractPropertySourceLoader.DEFAULT_POSITION + 50;
@@ -516,10 +561,9 @@ public class DefaultEnvironment extends PropertySourcePropertyResolver implement
                         Optional<PropertySourceLoader> propertySourceLoader = Optional.ofNullable(loaderByFormatMap.get(extension));
                         if (propertySourceLoader.isPresent()) {
                             log.debug("Reading property sources from loader: {}", propertySourceLoader);
-                            Optional<Map<String, Object>> properties = readPropertiesFromLoader(fileName, filePath, propertySourceLoader.get());
-                            if (properties.isPresent()) {
-                                propertySources.add(PropertySource.of(filePath, properties.get(), order));
-                            }
+                            int fileOrder = order;
+                            loads.add(() -> readPropertiesFromLoader(fileName, filePath, propertySourceLoader.get())
+                                .map(properties -> PropertySource.of(filePath, properties, fileOrder)));
                             order++;
                         } else {
                             throw new ConfigurationException("Unsupported properties file format while reading " + fileName + "." + extension + " from " + filePath);
@@ -528,6 +572,7 @@ public class DefaultEnvironment extends PropertySourcePropertyResolver implement
                 }
             }
         });
+        loadPropertySources(loads, propertySources);
         return propertySources;
     }
 
@@ -536,7 +581,7 @@ public class DefaultEnvironment extends PropertySourcePropertyResolver implement
      * @return The list of property sources
      */
     protected List<PropertySource> readPropertySourceList(String name) {
-        List<PropertySource> propertySources = new ArrayList<>();
+        List<Supplier<Optional<PropertySource>>> loads = new ArrayList<>();
         for (String configLocation : configLocations) {
             ResourceLoader resourceLoader;
             if (configLocation.equals("classpath:/")) {
@@ -554,23 +599,73 @@ public class DefaultEnvironment extends PropertySourcePropertyResolver implement
             } else {
                 throw new ConfigurationException("Unsupported config location format: " + configLocation);
             }
-            readPropertySourceList(name, resourceLoader, propertySources);
+            readPropertySourceList(name, resourceLoader, loads);
         }
+        List<PropertySource> propertySources = new ArrayList<>(loads.size());
+        loadPropertySources(loads, propertySources);
         return propertySources;
     }
 
-    private void readPropertySourceList(String name, ResourceLoader resourceLoader, List<PropertySource> propertySources) {
+    private void readPropertySourceList(String name, ResourceLoader resourceLoader, List<Supplier<Optional<PropertySource>>> loads) {
         Collection<PropertySourceLoader> propertySourceLoaders = getPropertySourceLoaders();
         if (propertySourceLoaders.isEmpty()) {
-            loadPropertySourceFromLoader(name, new PropertiesPropertySourceLoader(), propertySources, resourceLoader);
+            loadPropertySourceFromLoader(name, new PropertiesPropertySourceLoader(), loads, resourceLoader);
         } else {
             for (PropertySourceLoader propertySourceLoader : propertySourceLoaders) {
                 log.debug("Reading property sources from loader: {}", propertySourceLoader);
-                loadPropertySourceFromLoader(name, propertySourceLoader, propertySources, resourceLoader);
+                loadPropertySourceFromLoader(name, propertySourceLoader, loads, resourceLoader);
             }
         }
     }
 
+    /**
+     * Runs the given loads, concurrently if the {@link ApplicationContextConfiguration#getPropertySourceLoadParallelism()}
+     * allows it, and adds the loaded property sources in the order of the loads.
+     *
+     * @param loads           The loads
+     * @param propertySources The list to add the property sources to
+     */
+    private void loadPropertySources(List<Supplier<Optional<PropertySource>>> loads, List<PropertySource> propertySources) {
+        int parallelism = Math.min(configuration.getPropertySourceLoadParallelism(), loads.size());
+        if (parallelism <= 1) {
+            for (Supplier<Optional<PropertySource>> load : loads) {
+                load.get().ifPresent(propertySources::add);
+            }
+            return;
+        }
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "property-source-loader-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, threadFactory);
+        try {
+            List<Future<Optional<PropertySource>>> futures = new ArrayList<>(loads.size());
+            for (Supplier<Optional<PropertySource>> load : loads) {
+                futures.add(executor.submit(load::get));
+            }
+            for (Future<Optional<PropertySource>> future : futures) {
+                future.get().ifPresent(propertySources::add);
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new ConfigurationException("Error loading property sources: " + cause.getMessage(), cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConfigurationException("Interrupted while loading property sources", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     /**
      * Adds default property sources.
      *
@@ -645,14 +740,13 @@ public class DefaultEnvironment extends PropertySourcePropertyResolver implement
         return allLoaders;
     }
 
-    private void loadPropertySourceFromLoader(String name, PropertySourceLoader propertySourceLoader, List<PropertySource> propertySources, ResourceLoader resourceLoader) {
-        Optional<PropertySource> defaultPropertySource = propertySourceLoader.load(name, resourceLoader);
-        defaultPropertySource.ifPresent(propertySources::add);
+    private void loadPropertySourceFromLoader(String name, PropertySourceLoader propertySourceLoader, List<Supplier<Optional<PropertySource>>> loads, ResourceLoader resourceLoader) {
+        loads.add(() -> propertySourceLoader.load(name, resourceLoader));
         Set<String> activeNames = getActiveNames();
         int i = 0;
         for (String activeName: activeNames) {
-            Optional<PropertySource> propertySource = propertySourceLoader.loadEnv(name, resourceLoader, ActiveEnvironment.of(activeName, i));
-            propertySource.ifPresent(propertySources::add);
+            ActiveEnvironment activeEnvironment = ActiveEnvironment.of(activeName, i);
+            loads.add(() -> propertySourceLoader.loadEnv(name, resourceLoader, activeEnvironment));
             i++;
         }
     }
@@ -902,6 +996,11 @@ public class DefaultEnvironment extends PropertySourcePropertyResolver implement
                 }
             }
         }
+        for (Map.Entry<String, DefaultPropertyEntry> entry : map.entrySet()) {
+            if (!newMap.containsKey(entry.getKey())) {
+                changes.put(entry.getKey(), entry.getValue().value());
+            }
+        }
     }
 
     private static boolean hasChanged(Object newValue, Object oldValue) {
@@ -42,6 +42,8 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
@@ -51,7 +53,9 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -78,7 +82,7 @@ public class PropertySourcePropertyResolver implements PropertyResolver, AutoClo
     protected final PropertyPlaceholderResolver propertyPlaceholderResolver;
     protected final Map<String, PropertySource> propertySources = new ConcurrentHashMap<>(10);
     // properties are stored in an array of maps organized by character in the alphabet
-    // this allows optimization of searches by prefix
+    // this allows optimization of searches by prefix, the maps also index their keys in order for prefix ranges
     @SuppressWarnings("MagicNumber")
     protected final Map<String, DefaultPropertyEntry>[] catalog = new Map[58];
     protected final Map<String, DefaultPropertyEntry>[] rawCatalog = new Map[58];
@@ -96,6 +100,15 @@ public class PropertySourcePropertyResolver implements PropertyResolver, AutoClo
      * Cache for values <i>after</i> conversion.
      */
     private final Map<ConversionCacheKey, Object> resolvedValueCache = new ConcurrentHashMap<>(20);
+    /**
+     * The names of the cached properties with placeholders, by the expressions of their placeholders, so that the
+     * cached values are reset along with the properties they refer to.
+     */
+    private final Map<String, Set<String>> placeholderDependents = new ConcurrentHashMap<>(20);
+    /**
+     * Whether resolved values are cached, which is not the case while the catalog is rebuilt by a refresh.
+     */
+    private volatile boolean cacheValues = true;
     private final EnvironmentProperties environmentProperties = EnvironmentProperties.fork(CURRENT_ENV);
 
     /**
@@ -186,7 +199,9 @@ public class PropertySourcePropertyResolver implements PropertyResolver, AutoClo
             if (result == null) {
                 result = false;
             }
-            containsCache.put(name, result);
+            if (cacheValues) {
+                containsCache.put(name, result);
+            }
         }
         return result;
     }
@@ -201,13 +216,8 @@ public class PropertySourcePropertyResolver implements PropertyResolver, AutoClo
             if (entries != null) {
                 if (entries.containsKey(name)) {
                     return true;
-                } else {
-                    String finalName = name + ".";
-                    for (String key : entries.keySet()) {
-                        if (key.startsWith(finalName)) {
-                            return true;
-                        }
-                    }
+                } else if (containsPrefix(entries, name + '.')) {
+                    return true;
                 }
             }
         }
@@ -231,9 +241,8 @@ public class PropertySourcePropertyResolver implements PropertyResolver, AutoClo
             return Collections.emptySet();
         }
         String prefix = name + '.';
-        Set<String> strings = entries.keySet();
-        Set<String> result = CollectionUtils.newHashSet(strings.size());
-        for (String k : strings) {
+        Set<String> result = new HashSet<>();
+        for (String k : keysWithPrefix(entries, prefix)) {
             if (k.startsWith(prefix)) {
                 String withoutPrefix = k.substring(prefix.length());
                 int i = withoutPrefix.indexOf('.');
@@ -268,8 +277,9 @@ public class PropertySourcePropertyResolver implements PropertyResolver, AutoClo
             resolvedPattern += "\\S*";
         }
         Pattern pattern = Pattern.compile(resolvedPattern);
-        Set<String> keys = entries.keySet();
-        Set<List<String>> results = CollectionUtils.newHashSet(keys.size());
+        int wildCard = pathPattern.indexOf('*');
+        Collection<String> keys = keysWithPrefix(entries, wildCard > -1 ? pathPattern.substring(0, wildCard) : pathPattern);
+        Set<List<String>> results = new HashSet<>();
         for (String key : keys) {
             Matcher matcher = pattern.matcher(key);
             if (matcher.matches()) {
@@ -395,8 +405,12 @@ public class PropertySourcePropertyResolver implements PropertyResolver, AutoClo
                 Optional<T> converted;
                 if (entries != null) {
                     // iff entries is null, the value is from placeholderResolutionCache and doesn't need this step
+                    Object rawValue = value;
                     value = resolvePlaceHoldersIfNecessary(value);
-                    placeholderResolutionCache.put(name, value);
+                    if (cacheValues) {
+                        recordPlaceholderDependents(name, rawValue);
+                        placeholderResolutionCache.put(name, value);
+                    }
                 }
                 if (requiredType.isInstance(value) && !CollectionUtils.isIterableOrMap(requiredType)) {
                     converted = (Optional<T>) Optional.of(value);
@@ -412,12 +426,14 @@ public class PropertySourcePropertyResolver implements PropertyResolver, AutoClo
                     }
                 }
 
-                if (cacheableType) {
+                if (cacheableType && cacheValues) {
                     resolvedValueCache.put(cacheKey, converted.orElse((T) NO_VALUE));
                 }
                 return converted;
             } else if (cacheableType) {
-                resolvedValueCache.put(cacheKey, NO_VALUE);
+                if (cacheValues) {
+                    resolvedValueCache.put(cacheKey, NO_VALUE);
+                }
                 return Optional.empty();
             } else if (Properties.class.isAssignableFrom(requiredType)) {
                 Properties properties = resolveSubProperties(name, entries, conversionContext);
@@ -501,17 +517,17 @@ public class PropertySourcePropertyResolver implements PropertyResolver, AutoClo
             entries = resolveEntriesForKey(name, false, PropertyCatalog.RAW);
         }
         String prefix = name + '.';
-        entries.entrySet().stream()
-            .filter(map -> map.getKey().startsWith(prefix))
-            .forEach(entry -> {
-                DefaultPropertyEntry propertyEntry = entry.getValue();
-                Object value = propertyEntry.value();
+        for (String entryKey : keysWithPrefix(entries, prefix)) {
+            if (entryKey.startsWith(prefix)) {
+                DefaultPropertyEntry propertyEntry = entries.get(entryKey);
+                Object value = propertyEntry != null ? propertyEntry.value() : null;
                 if (value != null) {
-                    String key = entry.getKey().substring(prefix.length());
+                    String key = entryKey.substring(prefix.length());
                     key = keyConvention != null ? keyConvention.format(key) : key;
                     properties.put(key, resolvePlaceHoldersIfNecessary(value.toString()));
                 }
-            });
+            }
+        }
 
         return properties;
     }
@@ -556,11 +572,14 @@ public class PropertySourcePropertyResolver implements PropertyResolver, AutoClo
             MapFormat.MapTransformation transformation) {
         final Argument<?> valueType = conversionContext.getTypeVariable("V").orElse(Argument.OBJECT_ARGUMENT);
         boolean valueTypeIsList = List.class.isAssignableFrom(valueType.getType());
-        Map<String, Object> subMap = CollectionUtils.newLinkedHashMap(entries.size());
+        Map<String, Object> subMap = new LinkedHashMap<>();
 
         String prefix = name + '.';
-        for (Map.Entry<String, DefaultPropertyEntry> entry : entries.entrySet()) {
-            final String key = entry.getKey();
+        for (String key : orderedKeysWithPrefix(entries, prefix)) {
+            DefaultPropertyEntry entry = entries.get(key);
+            if (entry == null) {
+                continue;
+            }
 
             if (valueTypeIsList && key.contains("[") && key.endsWith("]")) {
                 continue;
@@ -569,7 +588,7 @@ public class PropertySourcePropertyResolver implements PropertyResolver, AutoClo
             if (key.startsWith(prefix)) {
                 String subMapKey = key.substring(prefix.length());
 
-                Object value = resolvePlaceHoldersIfNecessary(entry.getValue().value());
+                Object value = resolvePlaceHoldersIfNecessary(entry.value());
 
                 if (transformation == MapFormat.MapTransformation.FLAT) {
                     subMapKey = keyConvention != null ? keyConvention.format(subMapKey) : subMapKey;
@@ -793,7 +812,7 @@ public class PropertySourcePropertyResolver implements PropertyResolver, AutoClo
             if (index < catalog.length && index >= 0) {
                 entries = catalog[index];
                 if (allowCreate && entries == null) {
-                    entries = new LinkedHashMap<>(5);
+                    entries = new CatalogEntries();
                     catalog[index] = entries;
                 }
             }
@@ -801,6 +820,49 @@ public class PropertySourcePropertyResolver implements PropertyResolver, AutoClo
         return entries;
     }
 
+    /**
+     * Narrows the keys of the entries to the keys that start with the given prefix. The entries of the catalog return a
+     * view of the matching range of their sorted keys, the keys of other maps are returned as they are and need to be
+     * filtered by the caller.
+     *
+     * @param entries The entries
+     * @param prefix  The prefix
+     * @return The keys that may start with the prefix
+     */
+    private static Collection<String> keysWithPrefix(Map<String, DefaultPropertyEntry> entries, String prefix) {
+        if (entries instanceof CatalogEntries catalogEntries) {
+            return catalogEntries.keysWithPrefix(prefix);
+        }
+        return entries.keySet();
+    }
+
+    /**
+     * Narrows the keys of the entries to the keys that start with the given prefix, in the order of the entries.
+     *
+     * @param entries The entries
+     * @param prefix  The prefix
+     * @return The keys that may start with the prefix
+     * @see #keysWithPrefix(Map, String)
+     */
+    private static Collection<String> orderedKeysWithPrefix(Map<String, DefaultPropertyEntry> entries, String prefix) {
+        if (entries instanceof CatalogEntries catalogEntries) {
+            return catalogEntries.orderedKeysWithPrefix(prefix);
+        }
+        return entries.keySet();
+    }
+
+    private static boolean containsPrefix(Map<String, DefaultPropertyEntry> entries, String prefix) {
+        if (entries instanceof CatalogEntries catalogEntries) {
+            return catalogEntries.containsPrefix(prefix);
+        }
+        for (String key : entries.keySet()) {
+            if (key.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Obtain a property catalog.
      * @param propertyCatalog The catalog
@@ -822,6 +884,106 @@ public class PropertySourcePropertyResolver implements PropertyResolver, AutoClo
         containsCache.clear();
         resolvedValueCache.clear();
         placeholderResolutionCache.clear();
+        placeholderDependents.clear();
+    }
+
+    /**
+     * Resets the cached values of the given properties only, along with the values of their parent properties, which
+     * may be resolved as maps, of their child properties and of the properties that refer to any of them with a
+     * placeholder.
+     *
+     * @param names The names of the changed properties
+     * @since 4.9.0
+     */
+    protected void resetCaches(@NonNull Collection<String> names) {
+        if (names.isEmpty()) {
+            return;
+        }
+        Set<String> changed = new HashSet<>(names);
+        Set<String> parents = new HashSet<>();
+        for (String name : names) {
+            addParents(name, parents);
+        }
+        // the caches are keyed by the requested names, which are not necessarily in the canonical form
+        Predicate<String> affected = name -> isAffected(name, changed, parents)
+            || isAffected(NameUtils.hyphenate(name, true), changed, parents);
+        // the placeholders can refer to properties with placeholders, until no more properties are affected
+        boolean added;
+        do {
+            added = false;
+            Iterator<Map.Entry<String, Set<String>>> i = placeholderDependents.entrySet().iterator();
+            while (i.hasNext()) {
+                Map.Entry<String, Set<String>> entry = i.next();
+                if (affected.test(entry.getKey())) {
+                    i.remove();
+                    for (String dependent : entry.getValue()) {
+                        if (changed.add(dependent)) {
+                            addParents(dependent, parents);
+                            added = true;
+                        }
+                    }
+                }
+            }
+        } while (added);
+        containsCache.keySet().removeIf(affected);
+        placeholderResolutionCache.keySet().removeIf(affected);
+        resolvedValueCache.keySet().removeIf(key -> affected.test(key.name()));
+    }
+
+    /**
+     * Enables or disables the caching of resolved values, so that the values resolved from a partially rebuilt
+     * catalog are not cached.
+     *
+     * @param cacheValues Whether to cache the resolved values
+     */
+    void setCacheValues(boolean cacheValues) {
+        this.cacheValues = cacheValues;
+    }
+
+    private static void addParents(String name, Set<String> parents) {
+        for (int i = 1; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == '.' || c == '[') {
+                parents.add(name.substring(0, i));
+            }
+        }
+    }
+
+    private void recordPlaceholderDependents(String name, Object value) {
+        if (value instanceof CharSequence charSequence) {
+            String str = charSequence.toString();
+            if (str.contains(DefaultPropertyPlaceholderResolver.PREFIX)
+                && propertyPlaceholderResolver instanceof DefaultPropertyPlaceholderResolver placeholderResolver) {
+                for (DefaultPropertyPlaceholderResolver.Segment segment : placeholderResolver.buildSegments(str)) {
+                    if (segment instanceof DefaultPropertyPlaceholderResolver.PlaceholderSegment placeholderSegment) {
+                        for (String expression : placeholderSegment.getExpressions()) {
+                            placeholderDependents.computeIfAbsent(expression, key -> ConcurrentHashMap.newKeySet()).add(name);
+                        }
+                    }
+                }
+            }
+        } else if (value instanceof List<?> list) {
+            for (Object o : list) {
+                recordPlaceholderDependents(name, o);
+            }
+        } else if (value instanceof Map<?, ?> map) {
+            for (Object o : map.values()) {
+                recordPlaceholderDependents(name, o);
+            }
+        }
+    }
+
+    private static boolean isAffected(String name, Set<String> changed, Set<String> parents) {
+        if (changed.contains(name) || parents.contains(name)) {
+            return true;
+        }
+        for (int i = 1; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if ((c == '.' || c == '[') && changed.contains(name.substring(0, i))) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private void processSubmapKey(Map<String, Object> map, String key, Object value, @Nullable StringConvention keyConvention) {
@@ -901,6 +1063,180 @@ public class PropertySourcePropertyResolver implements PropertyResolver, AutoClo
         }
     }
 
+    /**
+     * The entries of a catalog bucket, in insertion order, with the sorted array of their keys for the prefix searches.
+     * The array is only sorted when a prefix is searched after the entries changed, which happens once the property
+     * sources are processed, and a prefix search returns a view of a range of the array. The positions of the keys in
+     * the insertion order are kept next to them, for the searches that need that order.
+     *
+     * <p>Every change of the keys discards the array: the insertions through {@link #removeEldestEntry}, which the map
+     * calls for every new key, the removals through the overridden methods. The views of the map are unmodifiable.</p>
+     */
+    private static final class CatalogEntries extends LinkedHashMap<String, DefaultPropertyEntry> {
+
+        @Nullable
+        private volatile SortedKeys sortedKeys;
+
+        CatalogEntries() {
+            super(5);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, DefaultPropertyEntry> eldest) {
+            // called after a key was added
+            sortedKeys = null;
+            return false;
+        }
+
+        @Override
+        public DefaultPropertyEntry remove(Object key) {
+            DefaultPropertyEntry removed = super.remove(key);
+            sortedKeys = null;
+            return removed;
+        }
+
+        @Override
+        public boolean remove(Object key, Object value) {
+            boolean removed = super.remove(key, value);
+            sortedKeys = null;
+            return removed;
+        }
+
+        @Override
+        public DefaultPropertyEntry compute(String key, BiFunction<? super String, ? super DefaultPropertyEntry, ? extends DefaultPropertyEntry> remappingFunction) {
+            DefaultPropertyEntry entry = super.compute(key, remappingFunction);
+            sortedKeys = null;
+            return entry;
+        }
+
+        @Override
+        public DefaultPropertyEntry computeIfPresent(String key, BiFunction<? super String, ? super DefaultPropertyEntry, ? extends DefaultPropertyEntry> remappingFunction) {
+            DefaultPropertyEntry entry = super.computeIfPresent(key, remappingFunction);
+            sortedKeys = null;
+            return entry;
+        }
+
+        @Override
+        public DefaultPropertyEntry merge(String key, DefaultPropertyEntry value, BiFunction<? super DefaultPropertyEntry, ? super DefaultPropertyEntry, ? extends DefaultPropertyEntry> remappingFunction) {
+            DefaultPropertyEntry entry = super.merge(key, value, remappingFunction);
+            sortedKeys = null;
+            return entry;
+        }
+
+        @Override
+        public void clear() {
+            super.clear();
+            sortedKeys = null;
+        }
+
+        @Override
+        public Set<String> keySet() {
+            return Collections.unmodifiableSet(super.keySet());
+        }
+
+        @Override
+        public Collection<DefaultPropertyEntry> values() {
+            return Collections.unmodifiableCollection(super.values());
+        }
+
+        @Override
+        public Set<Map.Entry<String, DefaultPropertyEntry>> entrySet() {
+            return Collections.unmodifiableSet(super.entrySet());
+        }
+
+        /**
+         * @param prefix The prefix
+         * @return Whether a key starts with the prefix
+         */
+        boolean containsPrefix(String prefix) {
+            String[] keys = sortedKeys().keys;
+            int from = firstIndex(keys, prefix);
+            return from < keys.length && keys[from].startsWith(prefix);
+        }
+
+        /**
+         * @param prefix The prefix
+         * @return The sorted view of the keys that start with the prefix
+         */
+        List<String> keysWithPrefix(String prefix) {
+            String[] keys = sortedKeys().keys;
+            int from = firstIndex(keys, prefix);
+            int to = lastIndex(keys, from, prefix);
+            return from == to ? Collections.emptyList() : Arrays.asList(keys).subList(from, to);
+        }
+
+        /**
+         * @param prefix The prefix
+         * @return The keys that start with the prefix, in insertion order
+         */
+        List<String> orderedKeysWithPrefix(String prefix) {
+            SortedKeys sorted = sortedKeys();
+            String[] keys = sorted.keys;
+            int from = firstIndex(keys, prefix);
+            int to = lastIndex(keys, from, prefix);
+            if (to - from < 2) {
+                return from == to ? Collections.emptyList() : Collections.singletonList(keys[from]);
+            }
+            // sorts the range by position, with the index in the range in the lower bits
+            long[] range = new long[to - from];
+            for (int i = from; i < to; i++) {
+                range[i - from] = ((long) sorted.positions[i] << 32) | i;
+            }
+            Arrays.sort(range);
+            String[] ordered = new String[range.length];
+            for (int i = 0; i < range.length; i++) {
+                ordered[i] = keys[(int) range[i]];
+            }
+            return Arrays.asList(ordered);
+        }
+
+        private SortedKeys sortedKeys() {
+            SortedKeys sorted = sortedKeys;
+            if (sorted == null) {
+                sorted = new SortedKeys(super.keySet());
+                sortedKeys = sorted;
+            }
+            return sorted;
+        }
+
+        private static int firstIndex(String[] keys, String prefix) {
+            int index = Arrays.binarySearch(keys, prefix);
+            return index < 0 ? -index - 1 : index;
+        }
+
+        private static int lastIndex(String[] keys, int from, String prefix) {
+            int to = from;
+            while (to < keys.length && keys[to].startsWith(prefix)) {
+                to++;
+            }
+            return to;
+        }
+    }
+
+    /**
+     * The sorted keys of a catalog bucket, along with their positions in the insertion order.
+     */
+    private static final class SortedKeys {
+
+        private final String[] keys;
+        private final int[] positions;
+
+        SortedKeys(Set<String> insertionOrder) {
+            String[] inserted = insertionOrder.toArray(StringUtils.EMPTY_STRING_ARRAY);
+            Integer[] order = new Integer[inserted.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> inserted[a].compareTo(inserted[b]));
+            keys = new String[inserted.length];
+            positions = new int[inserted.length];
+            for (int i = 0; i < order.length; i++) {
+                positions[i] = order[i];
+                keys[i] = inserted[order[i]];
+            }
+        }
+    }
+
     private record ConversionCacheKey(@NonNull String name, Class<?> requiredType) {
 
         @Override
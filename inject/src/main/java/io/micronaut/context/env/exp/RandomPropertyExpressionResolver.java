@@ -52,6 +52,15 @@ public final class RandomPropertyExpressionResolver implements PropertyExpressio
         return Optional.of(conversionService.convertRequired(resolveRandomValue(value, expression), requiredType));
     }
 
+    /**
+     * Supplements the seed of the random generator, for example after the JVM was restored from a checkpoint.
+     *
+     * @since 4.9.0
+     */
+    public static void reseed() {
+        LazyInit.RANDOM.setSeed(System.nanoTime());
+    }
+
     private Object resolveRandomValue(String value, String expression) {
         switch (value) {
             case "port" -> {
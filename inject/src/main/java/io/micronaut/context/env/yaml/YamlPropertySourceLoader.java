@@ -19,19 +19,28 @@ import io.micronaut.context.env.AbstractPropertySourceLoader;
 import io.micronaut.core.util.CollectionUtils;
 import org.yaml.snakeyaml.Yaml;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
 /**
  * Loads properties from a YML file.
  *
+ * <p>If the {@code micronaut.config.snapshots} system property or the {@code MICRONAUT_CONFIG_SNAPSHOTS} environment
+ * variable is set to a directory, the parsed properties are cached there as binary snapshots keyed by the hash of the
+ * file, so that files that did not change are not parsed again on the next start.</p>
+ *
  * @author Graeme Rocher
  * @since 1.0
  */
 public class YamlPropertySourceLoader extends AbstractPropertySourceLoader {
 
+    private final YamlSnapshotCache snapshotCache = YamlSnapshotCache.fromEnvironment();
+
     public YamlPropertySourceLoader() {
     }
 
@@ -50,7 +59,25 @@ public class YamlPropertySourceLoader extends AbstractPropertySourceLoader {
     }
 
     @Override
-    protected void processInput(String name, InputStream input, Map<String, Object> finalMap) {
+    protected void processInput(String name, InputStream input, Map<String, Object> finalMap) throws IOException {
+        if (snapshotCache == null) {
+            processYaml(name, input, finalMap);
+            return;
+        }
+        byte[] content = input.readAllBytes();
+        String key = snapshotCache.key(content);
+        Map<String, Object> properties = snapshotCache.read(key);
+        if (properties != null) {
+            log.trace("PropertySource [{}] read from snapshot {}", name, key);
+        } else {
+            properties = new LinkedHashMap<>();
+            processYaml(name, new ByteArrayInputStream(content), properties);
+            snapshotCache.write(key, properties);
+        }
+        finalMap.putAll(properties);
+    }
+
+    private void processYaml(String name, InputStream input, Map<String, Object> finalMap) {
         // workaround for Graal which returns null
         if (System.getProperty("java.runtime.name") == null) {
             System.setProperty("java.runtime.name", "Unknown");
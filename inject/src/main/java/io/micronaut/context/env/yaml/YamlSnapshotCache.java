@@ -0,0 +1,313 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.context.env.yaml;
+
+import io.micronaut.context.env.CachedEnvironment;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Caches the properties parsed from YAML files as compact binary snapshots in a directory, keyed by the SHA-256 hash
+ * of the content of the file. A file that did not change since a previous start is read from its snapshot, without
+ * parsing the YAML.
+ *
+ * <p>The cache is enabled by setting the {@value #SNAPSHOT_DIRECTORY_PROPERTY} system property, or the matching
+ * environment variable, to the directory of the snapshots. Only the value types created by the YAML constructor are
+ * supported, the properties of a file with other values are not cached. Snapshots that cannot be read are ignored
+ * and replaced.</p>
+ *
+ * @since 4.9.0
+ */
+@Internal
+final class YamlSnapshotCache {
+
+    /**
+     * The system property with the directory of the snapshots.
+     */
+    static final String SNAPSHOT_DIRECTORY_PROPERTY = "micronaut.config.snapshots";
+
+    private static final Logger LOG = LoggerFactory.getLogger(YamlSnapshotCache.class);
+    private static final int MAGIC = 0x4D4E5953;
+    private static final int VERSION = 1;
+    private static final String SUFFIX = ".snapshot";
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte TRUE = 2;
+    private static final byte FALSE = 3;
+    private static final byte INTEGER = 4;
+    private static final byte LONG = 5;
+    private static final byte DOUBLE = 6;
+    private static final byte BIG_INTEGER = 7;
+    private static final byte BYTES = 8;
+    private static final byte LIST = 9;
+    private static final byte SET = 10;
+    private static final byte MAP = 11;
+
+    private final Path directory;
+
+    /**
+     * @param directory The directory of the snapshots
+     */
+    YamlSnapshotCache(@NonNull Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * @return The cache of the configured directory, or {@code null} if the cache is not enabled
+     */
+    @Nullable
+    static YamlSnapshotCache fromEnvironment() {
+        String directory = CachedEnvironment.getProperty(SNAPSHOT_DIRECTORY_PROPERTY);
+        if (StringUtils.isEmpty(directory)) {
+            directory = CachedEnvironment.getenv(StringUtils.convertDotToUnderscore(SNAPSHOT_DIRECTORY_PROPERTY));
+        }
+        return StringUtils.isEmpty(directory) ? null : new YamlSnapshotCache(Paths.get(directory));
+    }
+
+    /**
+     * @param content The content of a YAML file
+     * @return The key of the snapshot of the content
+     */
+    @NonNull
+    String key(@NonNull byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Reads a snapshot.
+     *
+     * @param key The key of the snapshot
+     * @return The properties or {@code null} if there is no valid snapshot
+     */
+    @Nullable
+    Map<String, Object> read(@NonNull String key) {
+        Path file = directory.resolve(key + SUFFIX);
+        try {
+            byte[] bytes = Files.readAllBytes(file);
+            DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes));
+            if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+                return null;
+            }
+            int size = input.readInt();
+            Map<String, Object> properties = new LinkedHashMap<>(size * 4 / 3 + 1);
+            for (int i = 0; i < size; i++) {
+                properties.put(readString(input), readValue(input));
+            }
+            return properties;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Ignoring invalid YAML snapshot {}: {}", file, e.getMessage());
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Writes a snapshot, unless the properties contain values that are not supported.
+     *
+     * @param key        The key of the snapshot
+     * @param properties The properties
+     */
+    void write(@NonNull String key, @NonNull Map<String, Object> properties) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256 + properties.size() * 64);
+        try {
+            DataOutputStream output = new DataOutputStream(bytes);
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeInt(properties.size());
+            for (Map.Entry<String, Object> entry : properties.entrySet()) {
+                writeString(output, entry.getKey());
+                writeValue(output, entry.getValue());
+            }
+            output.flush();
+        } catch (IOException | IllegalArgumentException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Not writing a YAML snapshot: {}", e.getMessage());
+            }
+            return;
+        }
+        Path temp = null;
+        try {
+            Files.createDirectories(directory);
+            temp = Files.createTempFile(directory, key, ".tmp");
+            Files.write(temp, bytes.toByteArray());
+            Path file = directory.resolve(key + SUFFIX);
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Error writing YAML snapshot to {}: {}", directory, e.getMessage());
+            }
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // best effort
+                }
+            }
+        }
+    }
+
+    private static void writeValue(DataOutputStream output, @Nullable Object value) throws IOException {
+        if (value == null) {
+            output.writeByte(NULL);
+        } else if (value instanceof String string) {
+            output.writeByte(STRING);
+            writeString(output, string);
+        } else if (value instanceof Boolean bool) {
+            output.writeByte(bool ? TRUE : FALSE);
+        } else if (value instanceof Integer integer) {
+            output.writeByte(INTEGER);
+            output.writeInt(integer);
+        } else if (value instanceof Long longValue) {
+            output.writeByte(LONG);
+            output.writeLong(longValue);
+        } else if (value instanceof Double doubleValue) {
+            output.writeByte(DOUBLE);
+            output.writeDouble(doubleValue);
+        } else if (value instanceof BigInteger bigInteger) {
+            output.writeByte(BIG_INTEGER);
+            writeBytes(output, bigInteger.toByteArray());
+        } else if (value instanceof byte[] byteArray) {
+            output.writeByte(BYTES);
+            writeBytes(output, byteArray);
+        } else if (value instanceof List<?> list) {
+            output.writeByte(LIST);
+            writeElements(output, list);
+        } else if (value instanceof Set<?> set) {
+            output.writeByte(SET);
+            writeElements(output, set);
+        } else if (value instanceof Map<?, ?> map) {
+            output.writeByte(MAP);
+            output.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeValue(output, entry.getKey());
+                writeValue(output, entry.getValue());
+            }
+        } else {
+            throw new IllegalArgumentException("Unsupported value type " + value.getClass().getName());
+        }
+    }
+
+    private static void writeElements(DataOutputStream output, Collection<?> elements) throws IOException {
+        output.writeInt(elements.size());
+        for (Object element : elements) {
+            writeValue(output, element);
+        }
+    }
+
+    private static void writeString(DataOutputStream output, String string) throws IOException {
+        writeBytes(output, string.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void writeBytes(DataOutputStream output, byte[] bytes) throws IOException {
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    @Nullable
+    private static Object readValue(DataInputStream input) throws IOException {
+        byte type = input.readByte();
+        return switch (type) {
+            case NULL -> null;
+            case STRING -> readString(input);
+            case TRUE -> Boolean.TRUE;
+            case FALSE -> Boolean.FALSE;
+            case INTEGER -> input.readInt();
+            case LONG -> input.readLong();
+            case DOUBLE -> input.readDouble();
+            case BIG_INTEGER -> new BigInteger(readBytes(input));
+            case BYTES -> readBytes(input);
+            case LIST -> {
+                int size = input.readInt();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(input));
+                }
+                yield list;
+            }
+            case SET -> {
+                int size = input.readInt();
+                Set<Object> set = new LinkedHashSet<>(size * 4 / 3 + 1);
+                for (int i = 0; i < size; i++) {
+                    set.add(readValue(input));
+                }
+                yield set;
+            }
+            case MAP -> {
+                int size = input.readInt();
+                Map<Object, Object> map = new LinkedHashMap<>(size * 4 / 3 + 1);
+                for (int i = 0; i < size; i++) {
+                    map.put(readValue(input), readValue(input));
+                }
+                yield map;
+            }
+            default -> throw new IOException("Unknown value type " + type);
+        };
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        return new String(readBytes(input), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readBytes(DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if (length < 0 || length > input.available()) {
+            throw new IOException("Invalid length " + length);
+        }
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return bytes;
+    }
+}
@@ -17,6 +17,7 @@ package io.micronaut.context.event;
 
 import io.micronaut.core.annotation.NonNull;
 
+import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 
@@ -64,6 +65,21 @@ public interface ApplicationEventPublisher<T> {
         return future;
     }
 
+    /**
+     * Publish the given events asynchronously as a single batch. The events are delivered in order by one task, which
+     * avoids scheduling a task per event for high-frequency events. A future is returned that completes once all the
+     * events were consumed.
+     *
+     * @param events The events to publish
+     * @return A future that completes when the events are published
+     * @since 4.9.0
+     */
+    default @NonNull Future<Void> publishEventsAsync(@NonNull Collection<? extends T> events) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        future.completeExceptionally(new UnsupportedOperationException("Asynchronous event publishing is not supported by this implementation"));
+        return future;
+    }
+
     /**
      * Check whether this publisher is empty (i.e. has no listeners). If this method returns
      * {@code true}, {@link #publishEvent(Object)} does not need to be called.
@@ -17,6 +17,7 @@ package io.micronaut.context.event;
 
 import io.micronaut.context.BeanContext;
 import io.micronaut.context.BeanResolutionContext;
+import io.micronaut.context.DefaultBeanContext;
 import io.micronaut.context.annotation.BootstrapContextCompatible;
 import io.micronaut.context.exceptions.BeanInstantiationException;
 import io.micronaut.core.annotation.AnnotationMetadata;
@@ -36,6 +37,7 @@ import io.micronaut.inject.qualifiers.Qualifiers;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -63,6 +65,7 @@ public final class ApplicationEventPublisherFactory<T>
     private final AnnotationMetadata annotationMetadata;
     private ApplicationEventPublisher applicationObjectEventPublisher;
     private final Map<Argument, Supplier<ApplicationEventPublisher>> publishers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ApplicationEventPublisher> publishersByClass = new ConcurrentHashMap<>();
     private Supplier<Executor> executorSupplier;
 
     public ApplicationEventPublisherFactory() {
@@ -195,59 +198,52 @@ public final class ApplicationEventPublisherFactory<T>
         return new ApplicationEventPublisher<>() {
             @Override
             public void publishEvent(Object event) {
-                getTypedEventPublisher(Argument.of(event.getClass()), beanContext).publishEvent(event);
+                getTypedEventPublisher(event.getClass(), beanContext).publishEvent(event);
             }
 
             @Override
             public Future<Void> publishEventAsync(Object event) {
-                return getTypedEventPublisher(Argument.of(event.getClass()), beanContext).publishEventAsync(event);
+                return getTypedEventPublisher(event.getClass(), beanContext).publishEventAsync(event);
             }
-        };
-    }
-
-    private ApplicationEventPublisher getTypedEventPublisher(Argument eventType, BeanContext beanContext) {
-        return publishers.computeIfAbsent(eventType, argument -> SupplierUtil.memoized(() -> createEventPublisher(argument, beanContext))).get();
-    }
-
-    private ApplicationEventPublisher<Object> createEventPublisher(Argument<?> eventType, BeanContext beanContext) {
-        return new ApplicationEventPublisher<>() {
-
-            private final Supplier<ApplicationEventListener[]> lazyListeners = SupplierUtil.memoized(() -> beanContext.getBeansOfType(ApplicationEventListener.class, Qualifiers.byTypeArguments(eventType.getType()))
-                .stream()
-                .sorted(OrderUtil.COMPARATOR)
-                .toArray(ApplicationEventListener[]::new));
 
             @Override
-            public void publishEvent(Object event) {
-                if (event != null) {
-                    if (EventLogger.LOG.isDebugEnabled()) {
-                        EventLogger.LOG.debug("Publishing event: {}", event);
-                    }
-                    notifyEventListeners(event, lazyListeners.get());
+            public Future<Void> publishEventsAsync(Collection<?> events) {
+                List<?> batch = List.copyOf(events);
+                if (batch.isEmpty()) {
+                    return CompletableFuture.completedFuture(null);
                 }
-            }
-
-            @Override
-            public Future<Void> publishEventAsync(Object event) {
-                Objects.requireNonNull(event, "Event cannot be null");
-                CompletableFuture<Void> future = new CompletableFuture<>();
-                ApplicationEventListener[] eventListeners = lazyListeners.get();
-                executorSupplier.get().execute(() -> {
-                    try {
-                        notifyEventListeners(event, eventListeners);
-                        future.complete(null);
-                    } catch (Exception e) {
-                        future.completeExceptionally(e);
+                return dispatchAsync(() -> {
+                    for (Object event : batch) {
+                        getTypedEventPublisher(event.getClass(), beanContext).publishEvent(event);
                     }
                 });
-                return future;
             }
+        };
+    }
 
-            @Override
-            public boolean isEmpty() {
-                return lazyListeners.get().length == 0;
+    private ApplicationEventPublisher getTypedEventPublisher(Class<?> eventClass, BeanContext beanContext) {
+        ApplicationEventPublisher publisher = publishersByClass.get(eventClass);
+        if (publisher == null) {
+            publisher = publishersByClass.computeIfAbsent(eventClass, type -> getTypedEventPublisher(Argument.of(type), beanContext));
+        }
+        return publisher;
+    }
+
+    private ApplicationEventPublisher getTypedEventPublisher(Argument eventType, BeanContext beanContext) {
+        return publishers.computeIfAbsent(eventType, argument -> SupplierUtil.memoized(() -> new TypedEventPublisher(argument, beanContext))).get();
+    }
+
+    private Future<Void> dispatchAsync(Runnable dispatch) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        executorSupplier.get().execute(() -> {
+            try {
+                dispatch.run();
+                future.complete(null);
+            } catch (Exception e) {
+                future.completeExceptionally(e);
             }
-        };
+        });
+        return future;
     }
 
     private void notifyEventListeners(@NonNull Object event, ApplicationEventListener[] eventListeners) {
@@ -278,6 +274,84 @@ public final class ApplicationEventPublisherFactory<T>
         }
     }
 
+    /**
+     * The publisher of a single event type. The listeners are resolved on the first publish and kept in a dispatch
+     * table that is rebuilt when the event listeners registered in the context change.
+     */
+    private final class TypedEventPublisher implements ApplicationEventPublisher<Object> {
+
+        private final Argument<?> eventType;
+        private final BeanContext beanContext;
+        private volatile DispatchTable dispatchTable;
+
+        private TypedEventPublisher(Argument<?> eventType, BeanContext beanContext) {
+            this.eventType = eventType;
+            this.beanContext = beanContext;
+        }
+
+        @Override
+        public void publishEvent(Object event) {
+            if (event != null) {
+                if (EventLogger.LOG.isDebugEnabled()) {
+                    EventLogger.LOG.debug("Publishing event: {}", event);
+                }
+                notifyEventListeners(event, getListeners());
+            }
+        }
+
+        @Override
+        public Future<Void> publishEventAsync(Object event) {
+            Objects.requireNonNull(event, "Event cannot be null");
+            ApplicationEventListener[] eventListeners = getListeners();
+            if (eventListeners.length == 0) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return dispatchAsync(() -> notifyEventListeners(event, eventListeners));
+        }
+
+        @Override
+        public Future<Void> publishEventsAsync(Collection<?> events) {
+            List<?> batch = List.copyOf(events);
+            ApplicationEventListener[] eventListeners = getListeners();
+            if (batch.isEmpty() || eventListeners.length == 0) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return dispatchAsync(() -> {
+                for (Object event : batch) {
+                    notifyEventListeners(event, eventListeners);
+                }
+            });
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return getListeners().length == 0;
+        }
+
+        private ApplicationEventListener[] getListeners() {
+            int version = beanContext instanceof DefaultBeanContext defaultBeanContext ? defaultBeanContext.getEventListenersVersion() : 0;
+            DispatchTable table = dispatchTable;
+            if (table == null || table.version != version) {
+                ApplicationEventListener[] listeners = beanContext.getBeansOfType(ApplicationEventListener.class, Qualifiers.byTypeArguments(eventType.getType()))
+                    .stream()
+                    .sorted(OrderUtil.COMPARATOR)
+                    .toArray(ApplicationEventListener[]::new);
+                table = new DispatchTable(version, listeners);
+                dispatchTable = table;
+            }
+            return table.listeners;
+        }
+    }
+
+    /**
+     * The listeners of an event type resolved for a version of the registered event listeners.
+     *
+     * @param version   The version of the event listeners
+     * @param listeners The ordered listeners
+     */
+    private record DispatchTable(int version, ApplicationEventListener[] listeners) {
+    }
+
     private static final class EventLogger {
         private static final Logger LOG = LoggerFactory.getLogger(ApplicationEventPublisher.class);
 
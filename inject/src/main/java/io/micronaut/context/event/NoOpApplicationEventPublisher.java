@@ -15,6 +15,7 @@
  */
 package io.micronaut.context.event;
 
+import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 
@@ -35,6 +36,11 @@ final class NoOpApplicationEventPublisher implements ApplicationEventPublisher<O
         return CompletableFuture.completedFuture(null);
     }
 
+    @Override
+    public Future<Void> publishEventsAsync(Collection<?> events) {
+        return CompletableFuture.completedFuture(null);
+    }
+
     @Override
     public boolean isEmpty() {
         return true;
@@ -283,6 +283,118 @@ public abstract class AbstractInitializableBeanIntrospection<B> implements Unsaf
         throw unknownDispatchAtIndexException(index);
     }
 
+    /**
+     * Triggers the read of the {@code int} property at index without boxing the value.
+     * The generated introspection overrides it for the properties that are read by a method or a field of that type.
+     *
+     * @param index  The method index
+     * @param target The target
+     * @return The value
+     * @since 4.9.0
+     */
+    @UsedByGeneratedCode
+    protected int dispatchGetInt(int index, @NonNull Object target) {
+        return this.<Integer>dispatchOne(index, target, null);
+    }
+
+    /**
+     * Triggers the write of the {@code int} property at index without boxing the value.
+     * The generated introspection overrides it for the properties that are written by a method or a field of that type.
+     *
+     * @param index  The method index
+     * @param target The target
+     * @param value  The value
+     * @since 4.9.0
+     */
+    @UsedByGeneratedCode
+    protected void dispatchSetInt(int index, @NonNull Object target, int value) {
+        dispatchOne(index, target, value);
+    }
+
+    /**
+     * Triggers the read of the {@code long} property at index without boxing the value.
+     * The generated introspection overrides it for the properties that are read by a method or a field of that type.
+     *
+     * @param index  The method index
+     * @param target The target
+     * @return The value
+     * @since 4.9.0
+     */
+    @UsedByGeneratedCode
+    protected long dispatchGetLong(int index, @NonNull Object target) {
+        return this.<Long>dispatchOne(index, target, null);
+    }
+
+    /**
+     * Triggers the write of the {@code long} property at index without boxing the value.
+     * The generated introspection overrides it for the properties that are written by a method or a field of that type.
+     *
+     * @param index  The method index
+     * @param target The target
+     * @param value  The value
+     * @since 4.9.0
+     */
+    @UsedByGeneratedCode
+    protected void dispatchSetLong(int index, @NonNull Object target, long value) {
+        dispatchOne(index, target, value);
+    }
+
+    /**
+     * Triggers the read of the {@code double} property at index without boxing the value.
+     * The generated introspection overrides it for the properties that are read by a method or a field of that type.
+     *
+     * @param index  The method index
+     * @param target The target
+     * @return The value
+     * @since 4.9.0
+     */
+    @UsedByGeneratedCode
+    protected double dispatchGetDouble(int index, @NonNull Object target) {
+        return this.<Double>dispatchOne(index, target, null);
+    }
+
+    /**
+     * Triggers the write of the {@code double} property at index without boxing the value.
+     * The generated introspection overrides it for the properties that are written by a method or a field of that type.
+     *
+     * @param index  The method index
+     * @param target The target
+     * @param value  The value
+     * @since 4.9.0
+     */
+    @UsedByGeneratedCode
+    protected void dispatchSetDouble(int index, @NonNull Object target, double value) {
+        dispatchOne(index, target, value);
+    }
+
+    /**
+     * Triggers the read of the {@code boolean} property at index without boxing the value.
+     * The generated introspection overrides it for the properties that are read by a method or a field of that type.
+     *
+     * @param index  The method index
+     * @param target The target
+     * @return The value
+     * @since 4.9.0
+     */
+    @UsedByGeneratedCode
+    protected boolean dispatchGetBoolean(int index, @NonNull Object target) {
+        return this.<Boolean>dispatchOne(index, target, null);
+    }
+
+    /**
+     * Triggers the write of the {@code boolean} property at index without boxing the value.
+     * The generated introspection overrides it for the properties that are written by a method or a field of that type.
+     *
+     * @param index  The method index
+     * @param target The target
+     * @param value  The value
+     * @since 4.9.0
+     */
+    @UsedByGeneratedCode
+    protected void dispatchSetBoolean(int index, @NonNull Object target, boolean value) {
+        dispatchOne(index, target, value);
+    }
+
     /**
      * Creates a new exception when the dispatch at index is not found.
      *
@@ -942,6 +1054,26 @@ public abstract class AbstractInitializableBeanIntrospection<B> implements Unsaf
             return dispatchOne(ref.getMethodIndex, bean, null);
         }
 
+        @Override
+        public int getIntUnsafe(B bean) {
+            return dispatchGetInt(ref.getMethodIndex, bean);
+        }
+
+        @Override
+        public long getLongUnsafe(B bean) {
+            return dispatchGetLong(ref.getMethodIndex, bean);
+        }
+
+        @Override
+        public double getDoubleUnsafe(B bean) {
+            return dispatchGetDouble(ref.getMethodIndex, bean);
+        }
+
+        @Override
+        public boolean getBooleanUnsafe(B bean) {
+            return dispatchGetBoolean(ref.getMethodIndex, bean);
+        }
+
         @Override
         public void set(@NonNull B bean, @Nullable P value) {
             ArgumentUtils.requireNonNull("bean", bean);
@@ -963,6 +1095,26 @@ public abstract class AbstractInitializableBeanIntrospection<B> implements Unsaf
             dispatchOne(ref.setMethodIndex, bean, value);
         }
 
+        @Override
+        public void setIntUnsafe(B bean, int value) {
+            dispatchSetInt(ref.setMethodIndex, bean, value);
+        }
+
+        @Override
+        public void setLongUnsafe(B bean, long value) {
+            dispatchSetLong(ref.setMethodIndex, bean, value);
+        }
+
+        @Override
+        public void setDoubleUnsafe(B bean, double value) {
+            dispatchSetDouble(ref.setMethodIndex, bean, value);
+        }
+
+        @Override
+        public void setBooleanUnsafe(B bean, boolean value) {
+            dispatchSetBoolean(ref.setMethodIndex, bean, value);
+        }
+
         @Override
         public B withValue(@NonNull B bean, @Nullable P value) {
             ArgumentUtils.requireNonNull("bean", bean);
@@ -1080,6 +1232,26 @@ public abstract class AbstractInitializableBeanIntrospection<B> implements Unsaf
             dispatchOne(setMethodIndex, bean, value);
         }
 
+        @Override
+        public void setIntUnsafe(B bean, int value) {
+            dispatchSetInt(setMethodIndex, bean, value);
+        }
+
+        @Override
+        public void setLongUnsafe(B bean, long value) {
+            dispatchSetLong(setMethodIndex, bean, value);
+        }
+
+        @Override
+        public void setDoubleUnsafe(B bean, double value) {
+            dispatchSetDouble(setMethodIndex, bean, value);
+        }
+
+        @Override
+        public void setBooleanUnsafe(B bean, boolean value) {
+            dispatchSetBoolean(setMethodIndex, bean, value);
+        }
+
         @Override
         public B withValue(@NonNull B bean, @Nullable P value) {
             ArgumentUtils.requireNonNull("bean", bean);
@@ -1170,6 +1342,26 @@ public abstract class AbstractInitializableBeanIntrospection<B> implements Unsaf
             return dispatchOne(getMethodIndex, bean, null);
         }
 
+        @Override
+        public int getIntUnsafe(B bean) {
+            return dispatchGetInt(getMethodIndex, bean);
+        }
+
+        @Override
+        public long getLongUnsafe(B bean) {
+            return dispatchGetLong(getMethodIndex, bean);
+        }
+
+        @Override
+        public double getDoubleUnsafe(B bean) {
+            return dispatchGetDouble(getMethodIndex, bean);
+        }
+
+        @Override
+        public boolean getBooleanUnsafe(B bean) {
+            return dispatchGetBoolean(getMethodIndex, bean);
+        }
+
         @Override
         public String toString() {
             return "BeanReadProperty{" +
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.inject.beans;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+
+/**
+ * The implementation of a single argument {@link io.micronaut.context.annotation.Mapper} method generated at
+ * compile time. Not typically used directly from user code, the annotation processor generates an implementation
+ * for the mapper methods that map between introspected types without conversions, expressions or conditions, and
+ * records it in the {@value io.micronaut.context.annotation.Mapper#MEMBER_GENERATED_MAPPING} member of the
+ * {@link io.micronaut.context.annotation.Mapper} annotation of the method.
+ *
+ * <p>The generated implementation invokes the getters, the constructor and the setters of the types directly, the
+ * other mapper methods are implemented with the {@link io.micronaut.core.beans.BeanIntrospection} model at
+ * runtime.</p>
+ *
+ * @since 4.9.0
+ */
+@Internal
+public interface GeneratedMapping {
+
+    /**
+     * Maps the given source object.
+     *
+     * @param source The source object
+     * @return The mapped object
+     */
+    @NonNull
+    Object map(@NonNull Object source);
+}
@@ -85,6 +85,77 @@ class DefaultEnvironmentSpec extends Specification {
         env.getProperty("test.foo.bar", Integer, 20) == 30
     }
 
+    void "test refresh and diff only resets the values of the changed properties"() {
+        given:
+        System.setProperty("test.refresh.port", '${random.port}')
+        System.setProperty("test.refresh.foo.bar", "10")
+        System.setProperty("test.refresh.removed", "true")
+        Environment env = new DefaultEnvironment({ ["test"] }).start()
+        Integer port = env.getRequiredProperty("test.refresh.port", Integer)
+
+        expect:
+        env.getRequiredProperty("test.refresh.foo.bar", Integer) == 10
+        env.getProperty("test.refresh.foo", Map).get() == [bar: "10"]
+        env.containsProperty("test.refresh.removed")
+
+        when:
+        System.setProperty("test.refresh.foo.bar", "30")
+        System.clearProperty("test.refresh.removed")
+        Map<String, Object> changes = env.refreshAndDiff()
+
+        then:
+        changes.keySet() == ["test.refresh.foo.bar", "test.refresh.removed"] as Set
+        env.getRequiredProperty("test.refresh.foo.bar", Integer) == 30
+        env.getProperty("test.refresh.foo", Map).get() == [bar: "30"]
+        !env.containsProperty("test.refresh.removed")
+        env.getRequiredProperty("test.refresh.port", Integer) == port
+
+        cleanup:
+        System.clearProperty("test.refresh.port")
+        System.clearProperty("test.refresh.foo.bar")
+        System.clearProperty("test.refresh.removed")
+    }
+
+    void "test refresh and diff resets the values of the properties with placeholders to the changed properties"() {
+        given:
+        System.setProperty("test.placeholder.b", "10")
+        System.setProperty("test.placeholder.a", '${test.placeholder.b}')
+        System.setProperty("test.placeholder.c", 'value-${test.placeholder.a}')
+        System.setProperty("test.placeholder.d", '${test.placeholder.missing:20}')
+        Environment env = new DefaultEnvironment({ ["test"] }).start()
+
+        expect:
+        env.getRequiredProperty("test.placeholder.a", Integer) == 10
+        env.getRequiredProperty("test.placeholder.a", String) == "10"
+        env.getRequiredProperty("test.placeholder.c", String) == "value-10"
+        env.getRequiredProperty("test.placeholder.d", Integer) == 20
+
+        when:
+        System.setProperty("test.placeholder.b", "30")
+        Map<String, Object> changes = env.refreshAndDiff()
+
+        then:
+        changes.containsKey("test.placeholder.b")
+        env.getRequiredProperty("test.placeholder.a", Integer) == 30
+        env.getRequiredProperty("test.placeholder.a", String) == "30"
+        env.getRequiredProperty("test.placeholder.c", String) == "value-30"
+        env.getRequiredProperty("test.placeholder.d", Integer) == 20
+
+        when:
+        System.setProperty("test.placeholder.missing", "40")
+        env.refreshAndDiff()
+
+        then:
+        env.getRequiredProperty("test.placeholder.d", Integer) == 40
+
+        cleanup:
+        System.clearProperty("test.placeholder.a")
+        System.clearProperty("test.placeholder.b")
+        System.clearProperty("test.placeholder.c")
+        System.clearProperty("test.placeholder.d")
+        System.clearProperty("test.placeholder.missing")
+    }
+
     void "test getting environments from a system property"() {
         when:
         System.setProperty(Environment.ENVIRONMENTS_PROPERTY, "foo ,x")
@@ -515,6 +586,29 @@ class DefaultEnvironmentSpec extends Specification {
             applicationContext.stop()
     }
 
+    void "test property sources loaded in parallel respect the environment order"() {
+        when:
+            ApplicationContext applicationContext = ApplicationContext.builder()
+                    .overrideConfigLocations("file:./custom-config/", "classpath:custom-config/")
+                    .environments(environments as String[])
+                    .propertySourceLoadParallelism(4)
+                    .build()
+                    .start()
+
+        then:
+            applicationContext.getRequiredProperty("config.prop", String.class) == "file:./custom-config/application-${last}.yml"
+            applicationContext.getRequiredProperty("custom-config-classpath", String.class) == "xyz"
+            applicationContext.getRequiredProperty("custom-config-file", String.class) == last
+
+        cleanup:
+            applicationContext.stop()
+
+        where:
+            environments     | last
+            ["env1", "env2"] | "env2"
+            ["env2", "env1"] | "env1"
+    }
+
     void "test custom config locations respect environment order - reversed"() {
         when:
             ApplicationContext applicationContext = ApplicationContext.builder()
@@ -672,6 +672,72 @@ class PropertySourcePropertyResolverSpec extends Specification {
         resolver.containsProperty("extra.listval")
     }
 
+    void "test prefix lookups only match the properties under the prefix"() {
+        given:
+        PropertySourcePropertyResolver resolver = new PropertySourcePropertyResolver(
+                PropertySource.of("test", [
+                        'services.foo.url'       : 'http://foo',
+                        'services.foo.read-idle' : '10s',
+                        'services.foo-bar.url'   : 'http://foo-bar',
+                        'services.foobar.url'    : 'http://foobar',
+                        'services.zoo.url'       : 'http://zoo',
+                        'servicesx.foo.url'      : 'http://x'
+                ])
+        )
+
+        expect:
+        resolver.getProperties('services.foo') == [url: 'http://foo', 'read-idle': '10s']
+        resolver.getPropertyEntries('services') == ['foo', 'foo-bar', 'foobar', 'zoo'] as Set
+        resolver.getPropertyPathMatches('services.*.url') == [['foo'], ['foo-bar'], ['foobar'], ['zoo']] as Set
+        resolver.containsProperties('services.foo')
+        !resolver.containsProperties('services.fo')
+        !resolver.containsProperties('services.foo.url.x')
+    }
+
+    void "test prefix lookups keep the order of the properties"() {
+        given:
+        PropertySourcePropertyResolver resolver = new PropertySourcePropertyResolver(
+                PropertySource.of("test", [
+                        'services.zoo.url'       : 'http://zoo',
+                        'services.foo.url'       : 'http://foo',
+                        'services.bar.url'       : 'http://bar',
+                        'services.foo.read-idle' : '10s',
+                        'servers.one'            : 'one'
+                ])
+        )
+
+        expect:
+        resolver.getProperty('services', Map).get().keySet() as List == ['zoo', 'foo', 'bar']
+        resolver.getProperties('services.foo').keySet() as List == ['url', 'read-idle']
+        resolver.getProperty('services.foo', Map).get() == [url: 'http://foo', 'read-idle': '10s']
+    }
+
+    void "test prefix lookups see the properties of a property source added after a lookup"() {
+        given:
+        PropertySourcePropertyResolver resolver = new PropertySourcePropertyResolver(
+                PropertySource.of("test", [
+                        'services.zoo.url' : 'http://zoo',
+                        'services.foo.url' : 'http://foo'
+                ])
+        )
+
+        expect:
+        !resolver.containsProperties('services.bar')
+        resolver.getPropertyEntries('services') == ['zoo', 'foo'] as Set
+
+        when:
+        resolver.addPropertySource(PropertySource.of("other", [
+                'services.bar.url'      : 'http://bar',
+                'services.foo.read-idle': '10s'
+        ]))
+
+        then:
+        resolver.containsProperties('services.bar')
+        resolver.getPropertyEntries('services') == ['zoo', 'foo', 'bar'] as Set
+        resolver.getProperty('services', Map).get().keySet() as List == ['zoo', 'foo', 'bar']
+        resolver.getProperties('services.foo') == [url: 'http://foo', 'read-idle': '10s']
+    }
+
     void "test expression resolver"() {
         given:
         Map<String, Object> parameters = [foo: "bar"]
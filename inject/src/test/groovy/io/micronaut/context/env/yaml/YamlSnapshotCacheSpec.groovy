@@ -0,0 +1,91 @@
+package io.micronaut.context.env.yaml
+
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+class YamlSnapshotCacheSpec extends Specification {
+
+    @TempDir
+    Path tempDir
+
+    void "test the parsed properties are read back from the snapshot"() {
+        given:
+        System.setProperty(YamlSnapshotCache.SNAPSHOT_DIRECTORY_PROPERTY, tempDir.toString())
+        byte[] yaml = '''\
+micronaut:
+    application:
+        name: snapshot
+    server:
+        port: 8080
+        max: 9999999999
+        ratio: 0.5
+        enabled: true
+list:
+    - one
+    - key: value
+      other: 2
+empty:
+'''.bytes
+
+        when:
+        Map<String, Object> parsed = new YamlPropertySourceLoader().read("application", new ByteArrayInputStream(yaml))
+
+        then:
+        Files.list(tempDir).count() == 1
+
+        when:
+        Map<String, Object> snapshot = new YamlPropertySourceLoader().read("application", new ByteArrayInputStream(yaml))
+
+        then:
+        snapshot == parsed
+        snapshot.keySet().toList() == parsed.keySet().toList()
+        snapshot['micronaut.server.port'] == 8080
+        snapshot['micronaut.server.max'] == 9999999999L
+        snapshot['micronaut.server.ratio'] == 0.5d
+        snapshot['list'] == ['one', [key: 'value', other: 2]]
+        snapshot.containsKey('empty')
+        snapshot['empty'] == null
+
+        cleanup:
+        System.clearProperty(YamlSnapshotCache.SNAPSHOT_DIRECTORY_PROPERTY)
+    }
+
+    void "test changed content gets a new snapshot"() {
+        given:
+        YamlSnapshotCache cache = new YamlSnapshotCache(tempDir)
+
+        expect:
+        cache.key('a: 1'.bytes) != cache.key('a: 2'.bytes)
+        cache.read(cache.key('a: 1'.bytes)) == null
+    }
+
+    void "test invalid snapshots are ignored"() {
+        given:
+        YamlSnapshotCache cache = new YamlSnapshotCache(tempDir)
+        String key = cache.key('a: 1'.bytes)
+        Files.write(tempDir.resolve(key + '.snapshot'), 'garbage'.bytes)
+
+        expect:
+        cache.read(key) == null
+
+        when:
+        cache.write(key, [a: 1])
+
+        then:
+        cache.read(key) == [a: 1]
+    }
+
+    void "test unsupported values are not snapshotted"() {
+        given:
+        YamlSnapshotCache cache = new YamlSnapshotCache(tempDir)
+
+        when:
+        cache.write('key', [a: new Object()])
+
+        then:
+        cache.read('key') == null
+    }
+}
@@ -19,6 +19,7 @@ import com.fasterxml.jackson.annotation.JsonView;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
@@ -32,6 +33,7 @@ import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.io.buffer.ByteBuffer;
 import io.micronaut.core.reflect.InstantiationUtils;
 import io.micronaut.core.type.Argument;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
 import io.micronaut.jackson.JacksonConfiguration;
 import io.micronaut.jackson.ObjectMapperFactory;
 import io.micronaut.jackson.codec.JacksonFeatures;
@@ -54,6 +56,7 @@ import org.reactivestreams.Subscriber;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
 
@@ -73,6 +76,8 @@ public final class JacksonDatabindMapper implements JsonMapper {
      */
     public static final String PROPERTY_JSON_VIEW_ENABLED = "jackson.json-view.enabled";
 
+    private static final long CACHE_MAX_SIZE = 100;
+
     private final ObjectMapper objectMapper;
     private final JsonStreamConfig config;
     private final JsonNodeTreeCodec treeCodec;
@@ -80,6 +85,11 @@ public final class JacksonDatabindMapper implements JsonMapper {
     private final ObjectWriter specializedWriter;
     private final boolean allowViews;
 
+    @Nullable
+    private final Map<TypeKey, ObjectReader> readers;
+    @Nullable
+    private final Map<TypeKey, ObjectWriter> writers;
+
     private TypeCache<ObjectReader> cachedReader;
     private TypeCache<ObjectWriter> cachedWriter;
 
@@ -99,6 +109,8 @@ public final class JacksonDatabindMapper implements JsonMapper {
         this.treeCodec = JsonNodeTreeCodec.getInstance().withConfig(config);
         this.specializedReader = null;
         this.specializedWriter = null;
+        this.readers = new ConcurrentLinkedHashMap.Builder<TypeKey, ObjectReader>().maximumWeightedCapacity(CACHE_MAX_SIZE).build();
+        this.writers = new ConcurrentLinkedHashMap.Builder<TypeKey, ObjectWriter>().maximumWeightedCapacity(CACHE_MAX_SIZE).build();
     }
 
     @Internal
@@ -113,6 +125,8 @@ public final class JacksonDatabindMapper implements JsonMapper {
         this.specializedReader = from.createReader(type);
         this.specializedWriter = from.createWriter(type);
         this.allowViews = allowViews;
+        this.readers = null;
+        this.writers = null;
     }
 
     private static ObjectMapper createDefaultMapper() {
@@ -147,11 +161,16 @@ public final class JacksonDatabindMapper implements JsonMapper {
         if (cachedReader != null && cachedReader.type == type) {
             return cachedReader.cachedValue;
         }
-        ObjectReader reader = objectMapper.readerFor(JacksonConfiguration.constructType(type, objectMapper.getTypeFactory()));
-        @SuppressWarnings("rawtypes")
-        Optional<Class> view = type.getAnnotationMetadata().classValue(JsonView.class);
-        if (view.isPresent()) {
-            reader = reader.withView(view.get());
+        Class<?> view = findView(type);
+        JavaType javaType = type.hasTypeVariables() ? constructType(type) : null;
+        TypeKey key = new TypeKey(javaType == null ? type.getType() : javaType, view);
+        ObjectReader reader = readers.get(key);
+        if (reader == null) {
+            reader = objectMapper.readerFor(javaType == null ? constructType(type) : javaType);
+            if (view != null) {
+                reader = reader.withView(view);
+            }
+            readers.put(key, reader);
         }
         this.cachedReader = new TypeCache<>(type, reader);
         return reader;
@@ -165,16 +184,30 @@ public final class JacksonDatabindMapper implements JsonMapper {
         if (cachedWriter != null && cachedWriter.type == type) {
             return cachedWriter.cachedValue;
         }
-        ObjectWriter writer = objectMapper.writerFor(JacksonConfiguration.constructType(type, objectMapper.getTypeFactory()));
-        @SuppressWarnings("rawtypes")
-        Optional<Class> view = type.getAnnotationMetadata().classValue(JsonView.class);
-        if (view.isPresent()) {
-            writer = writer.withView(view.get());
+        Class<?> view = findView(type);
+        JavaType javaType = type.hasTypeVariables() ? constructType(type) : null;
+        TypeKey key = new TypeKey(javaType == null ? type.getType() : javaType, view);
+        ObjectWriter writer = writers.get(key);
+        if (writer == null) {
+            writer = objectMapper.writerFor(javaType == null ? constructType(type) : javaType);
+            if (view != null) {
+                writer = writer.withView(view);
+            }
+            writers.put(key, writer);
         }
         this.cachedWriter = new TypeCache<>(type, writer);
         return writer;
     }
 
+    private JavaType constructType(@NonNull Argument<?> type) {
+        return JacksonConfiguration.constructType(type, objectMapper.getTypeFactory());
+    }
+
+    @Nullable
+    private static Class<?> findView(@NonNull Argument<?> type) {
+        return type.getAnnotationMetadata().classValue(JsonView.class).orElse(null);
+    }
+
     @Override
     public <T> T readValueFromTree(@NonNull JsonNode tree, @NonNull Argument<T> type) throws IOException {
         return createReader(type).readValue(treeAsTokens(tree));
@@ -305,4 +338,13 @@ public final class JacksonDatabindMapper implements JsonMapper {
 
     private record TypeCache<T>(Argument<?> type, T cachedValue) {
     }
+
+    /**
+     * The key of the shared readers and writers cache.
+     *
+     * @param type The raw class, or the {@link JavaType} if the argument has type variables
+     * @param view The JSON view or null
+     */
+    private record TypeKey(Object type, @Nullable Class<?> view) {
+    }
 }
@@ -1,13 +1,19 @@
 package io.micronaut.jackson.databind
 
+import com.fasterxml.jackson.annotation.JsonView
 import com.fasterxml.jackson.core.JsonParser
 import com.fasterxml.jackson.core.JsonProcessingException
 import com.fasterxml.jackson.databind.DeserializationContext
+import com.fasterxml.jackson.databind.JavaType
 import com.fasterxml.jackson.databind.JsonDeserializer
 import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.databind.ObjectReader
+import com.fasterxml.jackson.databind.ObjectWriter
 import com.fasterxml.jackson.databind.module.SimpleModule
 import io.micronaut.context.ApplicationContext
+import io.micronaut.core.annotation.AnnotationClassValue
 import io.micronaut.core.type.Argument
+import io.micronaut.inject.annotation.MutableAnnotationMetadata
 import io.micronaut.json.JsonMapper
 import io.micronaut.json.tree.JsonNode
 import spock.lang.Specification
@@ -53,6 +59,78 @@ class JacksonDatabindMapperSpec extends Specification {
         testBean.value == BigInteger.valueOf(42)
     }
 
+    def 'reading and writing alternating types'() {
+        given:
+        def objectMapper = new CountingObjectMapper()
+        def mapper = new JacksonDatabindMapper(objectMapper)
+
+        expect:
+        3.times {
+            assert mapper.readValue('["1"]', Argument.listOf(Integer)) == [1]
+            assert mapper.readValue('["1"]', Argument.listOf(String)) == ['1']
+            assert mapper.readValue('{"a":"1"}', Argument.mapOf(String, Integer)) == [a: 1]
+            assert new String(mapper.writeValueAsBytes(Argument.listOf(String), ['a'])) == '["a"]'
+            assert new String(mapper.writeValueAsBytes(Argument.of(Integer), 1)) == '1'
+        }
+
+        and:"the readers and writers are reused across the types"
+        objectMapper.readers == 3
+        objectMapper.writers == 2
+    }
+
+    def 'reading and writing the same type with and without a view'() {
+        given:
+        def objectMapper = new CountingObjectMapper()
+        def mapper = new JacksonDatabindMapper(objectMapper)
+        def metadata = new MutableAnnotationMetadata()
+        metadata.addDeclaredAnnotation(JsonView.name, [value: new AnnotationClassValue(PublicView)])
+        def withView = Argument.of(ViewBean, metadata, (Class<?>[]) null)
+        def bean = new ViewBean(title: 'The Stand', secret: 'hidden')
+
+        expect:
+        3.times {
+            assert new String(mapper.writeValueAsBytes(withView, bean)) == '{"title":"The Stand"}'
+            assert new String(mapper.writeValueAsBytes(Argument.of(ViewBean), bean)) == '{"title":"The Stand","secret":"hidden"}'
+            assert mapper.readValue('{"title":"a","secret":"b"}', withView).secret == null
+            assert mapper.readValue('{"title":"a","secret":"b"}', Argument.of(ViewBean)).secret == 'b'
+            assert new String(mapper.writeValueAsBytes(withView, bean)) == '{"title":"The Stand"}'
+        }
+
+        and:"a reader and a writer are created for the type with and without the view"
+        objectMapper.readers == 2
+        objectMapper.writers == 2
+    }
+
+    static class CountingObjectMapper extends ObjectMapper {
+        int readers
+        int writers
+
+        @Override
+        ObjectReader readerFor(JavaType type) {
+            readers++
+            return super.readerFor(type)
+        }
+
+        @Override
+        ObjectWriter writerFor(JavaType type) {
+            writers++
+            return super.writerFor(type)
+        }
+    }
+
+    static class PublicView {
+    }
+
+    static class InternalView {
+    }
+
+    static class ViewBean {
+        @JsonView(PublicView)
+        String title
+        @JsonView(InternalView)
+        String secret
+    }
+
     private static class TestBean {
         BigInteger value
     }
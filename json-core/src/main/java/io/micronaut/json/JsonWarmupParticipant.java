@@ -0,0 +1,86 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.json;
+
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.reflect.ClassUtils;
+import io.micronaut.core.type.Argument;
+import io.micronaut.runtime.warmup.WarmupParticipant;
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Warms up the deserializers and serializers of the JSON types recorded during the training run. Each type is read
+ * from an empty JSON object, or an empty array for collections, and the value read is written back. Types that cannot
+ * be read from an empty value still get their serializer resolved by writing {@code null}.
+ *
+ * @since 4.9.0
+ */
+@Internal
+@Singleton
+@Requires(beans = JsonMapper.class)
+public final class JsonWarmupParticipant implements WarmupParticipant {
+
+    /**
+     * The kind of the entries, the names of the JSON types.
+     */
+    public static final String KIND = "json";
+
+    private static final byte[] EMPTY_OBJECT = "{}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] EMPTY_ARRAY = "[]".getBytes(StandardCharsets.UTF_8);
+
+    private final JsonMapper jsonMapper;
+    private final BeanContext beanContext;
+
+    /**
+     * @param jsonMapper  The JSON mapper
+     * @param beanContext The bean context
+     */
+    JsonWarmupParticipant(JsonMapper jsonMapper, BeanContext beanContext) {
+        this.jsonMapper = jsonMapper;
+        this.beanContext = beanContext;
+    }
+
+    @Override
+    @NonNull
+    public String getKind() {
+        return KIND;
+    }
+
+    @Override
+    public void replay(@NonNull String entry) throws ClassNotFoundException, IOException {
+        Argument<?> type = Argument.of(ClassUtils.forName(entry, beanContext.getClassLoader())
+            .orElseThrow(() -> new ClassNotFoundException(entry)));
+        replay(type);
+    }
+
+    private <T> void replay(Argument<T> type) throws IOException {
+        byte[] empty = Iterable.class.isAssignableFrom(type.getType()) ? EMPTY_ARRAY : EMPTY_OBJECT;
+        T value;
+        try {
+            value = jsonMapper.readValue(empty, type);
+        } catch (IOException | RuntimeException e) {
+            // the deserializer is resolved before the content is rejected
+            value = null;
+        }
+        jsonMapper.writeValueAsBytes(type, value);
+    }
+}
@@ -0,0 +1,59 @@
+package io.micronaut.json
+
+import io.micronaut.context.BeanContext
+import io.micronaut.core.type.Argument
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+class JsonWarmupParticipantSpec extends Specification {
+
+    JsonMapper jsonMapper = Mock()
+    BeanContext beanContext = Mock() {
+        getClassLoader() >> JsonWarmupParticipantSpec.classLoader
+    }
+    JsonWarmupParticipant participant = new JsonWarmupParticipant(jsonMapper, beanContext)
+
+    void "test a type is read from an empty object and the value read is written back"() {
+        given:
+        Book book = new Book()
+
+        when:
+        participant.replay(Book.name)
+
+        then:
+        1 * jsonMapper.readValue({ new String(it, StandardCharsets.UTF_8) == '{}' }, Argument.of(Book)) >> book
+        1 * jsonMapper.writeValueAsBytes(Argument.of(Book), book) >> new byte[0]
+    }
+
+    void "test a collection is read from an empty array"() {
+        when:
+        participant.replay(List.name)
+
+        then:
+        1 * jsonMapper.readValue({ new String(it, StandardCharsets.UTF_8) == '[]' }, Argument.of(List)) >> []
+        1 * jsonMapper.writeValueAsBytes(Argument.of(List), [])
+    }
+
+    void "test the serializer is still resolved if the type cannot be read from an empty value"() {
+        when:
+        participant.replay(Book.name)
+
+        then:
+        1 * jsonMapper.readValue(_ as byte[], Argument.of(Book)) >> { throw new IOException('missing creator property') }
+        1 * jsonMapper.writeValueAsBytes(Argument.of(Book), null)
+    }
+
+    void "test a missing type is reported"() {
+        when:
+        participant.replay('io.micronaut.json.MissingType')
+
+        then:
+        thrown(ClassNotFoundException)
+        0 * jsonMapper._
+    }
+
+    static class Book {
+        String title
+    }
+}
@@ -17,6 +17,7 @@ package io.micronaut.management.health.indicator.service;
 
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.order.Ordered;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.discovery.event.ServiceReadyEvent;
@@ -28,6 +29,8 @@ import io.micronaut.management.health.indicator.annotation.Readiness;
 import io.micronaut.runtime.ApplicationConfiguration;
 import io.micronaut.runtime.event.annotation.EventListener;
 import io.micronaut.runtime.server.event.ServerStartupEvent;
+import io.micronaut.runtime.warmup.WarmupRunner;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
@@ -36,6 +39,8 @@ import reactor.core.publisher.Flux;
  * <p>A {@link io.micronaut.management.health.indicator.HealthIndicator} that signals when the service is ready to
  * service requests.</p>
  *
+ * <p>If the warm-up is enabled, the service is only reported ready once the {@link WarmupRunner} completed.</p>
+ *
  * @author Pavol Gressa
  * @since 2.1
  */
@@ -48,6 +53,8 @@ public class ServiceReadyHealthIndicator implements HealthIndicator {
     public static final String ENABLED = HealthEndpoint.PREFIX + ".service-ready-indicator-enabled";
     private static final String NAME = "service";
     private final boolean isService;
+    @Nullable
+    private final WarmupRunner warmupRunner;
 
     private boolean serviceReady = false;
 
@@ -58,7 +65,19 @@ public class ServiceReadyHealthIndicator implements HealthIndicator {
      */
     @Internal
     protected ServiceReadyHealthIndicator(ApplicationConfiguration applicationConfiguration) {
+        this(applicationConfiguration, null);
+    }
+
+    /**
+     * @param applicationConfiguration The application configuration.
+     * @param warmupRunner             The warm-up runner, if the warm-up is enabled
+     * @since 4.9.0
+     */
+    @Inject
+    @Internal
+    protected ServiceReadyHealthIndicator(ApplicationConfiguration applicationConfiguration, @Nullable WarmupRunner warmupRunner) {
         this.isService = applicationConfiguration.getName().isPresent();
+        this.warmupRunner = warmupRunner;
     }
 
     @Override
@@ -69,7 +88,7 @@ public class ServiceReadyHealthIndicator implements HealthIndicator {
     @Override
     public Publisher<HealthResult> getResult() {
         HealthResult.Builder builder = HealthResult.builder(NAME);
-        if (serviceReady) {
+        if (serviceReady && (warmupRunner == null || warmupRunner.isComplete())) {
             builder.status(HealthStatus.UP);
         } else {
             builder.status(HealthStatus.DOWN);
@@ -1,10 +1,28 @@
 package io.micronaut.management.health.indicator.service
 
 import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.health.HealthStatus
 import io.micronaut.management.endpoint.health.HealthEndpoint
+import io.micronaut.runtime.server.EmbeddedServer
+import io.micronaut.runtime.warmup.WarmupConfiguration
+import io.micronaut.runtime.warmup.WarmupParticipant
+import io.micronaut.runtime.warmup.WarmupProfile
+import jakarta.inject.Singleton
+import reactor.core.publisher.Mono
 import spock.lang.Specification
+import spock.lang.TempDir
+import spock.util.concurrent.PollingConditions
+
+import java.nio.file.Path
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
 
 class ServiceReadyHealthIndicatorSpec extends Specification {
+
+    @TempDir
+    Path tempDir
+
     void "bean of type ServiceReadyHealthIndicatorConfiguration does not exist if you set endpoints.health.service.enabled=false"() {
         given:
         ApplicationContext applicationContext = ApplicationContext.run([(ServiceReadyHealthIndicator.ENABLED): 'false'])
@@ -26,4 +44,57 @@ class ServiceReadyHealthIndicatorSpec extends Specification {
         cleanup:
         applicationContext.close()
     }
+
+    void "the service is only reported up once the warm-up completed"() {
+        given:
+        Path file = tempDir.resolve('profile.txt')
+        WarmupProfile profile = new WarmupProfile()
+        profile.add(BlockingParticipant.KIND, 'entry', 10)
+        profile.write(file)
+        EmbeddedServer server = ApplicationContext.run(EmbeddedServer, [
+                'spec.name'                  : 'ServiceReadyHealthIndicatorSpec',
+                (WarmupConfiguration.ENABLED): true,
+                'micronaut.warmup.file'      : file.toString(),
+                'micronaut.warmup.iterations': 1
+        ])
+        ServiceReadyHealthIndicator indicator = server.applicationContext.getBean(ServiceReadyHealthIndicator)
+        BlockingParticipant participant = server.applicationContext.getBean(BlockingParticipant)
+
+        expect:
+        participant.started.await(10, TimeUnit.SECONDS)
+        Mono.from(indicator.result).block().status == HealthStatus.DOWN
+
+        when:
+        participant.release.countDown()
+
+        then:
+        new PollingConditions(timeout: 10).eventually {
+            assert Mono.from(indicator.result).block().status == HealthStatus.UP
+        }
+
+        cleanup:
+        participant?.release?.countDown()
+        server.close()
+    }
+
+    @Singleton
+    @Requires(property = 'spec.name', value = 'ServiceReadyHealthIndicatorSpec')
+    static class BlockingParticipant implements WarmupParticipant {
+
+        static final String KIND = 'blocking'
+
+        final CountDownLatch started = new CountDownLatch(1)
+        final CountDownLatch release = new CountDownLatch(1)
+
+        @Override
+        String getKind() {
+            return KIND
+        }
+
+        @Override
+        void replay(String entry) throws Exception {
+            started.countDown()
+            release.await(10, TimeUnit.SECONDS)
+        }
+    }
 }
@@ -73,6 +73,13 @@ public class MacOsWatchThread extends DefaultWatchThread {
         );
     }
 
+    @Override
+    protected @NonNull WatchService newWatchService() throws IOException {
+        // the watch service is left open when the thread stops, release it now that the watch thread has completed
+        getWatchService().close();
+        return new MacOSXListeningWatchService();
+    }
+
     @Override
     protected void closeWatchService() {
         // no-op - for some reason this causes a JVM crash if not overridden
@@ -20,6 +20,8 @@ import io.micronaut.context.annotation.Executable
 import io.micronaut.core.annotation.Blocking
 import io.micronaut.core.annotation.NonBlocking
 import io.micronaut.inject.ExecutableMethod
+import io.micronaut.scheduling.TaskExecutors
+import io.micronaut.scheduling.annotation.ExecuteOn
 import io.micronaut.scheduling.executor.ExecutorSelector
 import io.micronaut.scheduling.executor.ThreadSelection
 import jakarta.inject.Singleton
@@ -30,6 +32,9 @@ import spock.lang.Unroll
 import java.util.concurrent.CompletableFuture
 import java.util.concurrent.CompletionStage
 import java.util.concurrent.ExecutorService
+import java.util.concurrent.Future
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
 
 /**
  * @author Graeme Rocher
@@ -44,10 +49,9 @@ class ExecutorSelectorSpec extends Specification {
         ExecutorSelector selector = applicationContext.getBean(ExecutorSelector)
         Optional<ExecutableMethod> method = applicationContext.findExecutableMethod(MyService, methodName)
 
-        Optional<ExecutorService> executorService = selector.select(method.get(), ThreadSelection.AUTO)
-
         expect:
-        executorService.isPresent() == present
+        selector.select(method.get(), ThreadSelection.AUTO).isPresent() == present
+        selector.select(method.get(), ThreadSelection.VIRTUAL).isPresent() == present
 
         cleanup:
         applicationContext.stop()
@@ -62,6 +66,36 @@ class ExecutorSelectorSpec extends Specification {
         "someStageMethod"            | false
     }
 
+    @Unroll
+    void "test executor selector limits the concurrency of a method with #threadSelection"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run("test")
+        ExecutorSelector selector = applicationContext.getBean(ExecutorSelector)
+        ExecutableMethod method = applicationContext.findExecutableMethod(MyService, "someLimitedMethod").get()
+
+        when:
+        ExecutorService executorService = selector.select(method, threadSelection).get()
+        AtomicInteger running = new AtomicInteger()
+        AtomicInteger maxRunning = new AtomicInteger()
+        List<Future> futures = (1..20).collect {
+            executorService.submit {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max)
+                Thread.sleep(5)
+                running.decrementAndGet()
+            }
+        }
+        futures*.get(10, TimeUnit.SECONDS)
+
+        then:
+        selector.select(method, threadSelection).get().is(executorService)
+        maxRunning.get() <= 2
+
+        cleanup:
+        applicationContext.stop()
+
+        where:
+        threadSelection << ThreadSelection.values()
+    }
 
 }
 
@@ -86,5 +120,10 @@ class MyService {
     CompletableFuture someFutureMethod() {}
 
     CompletionStage someStageMethod() {}
+
+    @ExecuteOn(value = TaskExecutors.IO, maxConcurrency = 2)
+    void someLimitedMethod() {
+
+    }
 }
 